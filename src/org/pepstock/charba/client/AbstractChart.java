@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.pepstock.charba.client.callbacks.ScriptableResultsCache;
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.configuration.ConfigurationOptions;
@@ -92,6 +93,8 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 	private final DatasetItemFactory datasetItemFactory = new DatasetItemFactory();
 	// cursor defined when chart is created
 	private final Cursor initialCursor;
+	// chart node, cached until the next update or resize of the chart
+	private ChartNode node = null;
 
 	/**
 	 * Initializes simple panel and canvas which are used by CHART.JS.<br>
@@ -220,7 +223,23 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 	 */
 	@Override
 	public final ChartNode getNode() {
-		return new ChartNode(chart);
+		// checks if the node is already created
+		// the node is cached until the next update, layout or resize of the chart
+		// or until the options are replaced by CHART.JS, because the global plugins
+		// are invoked before the handler of the node, at the update of the chart
+		// a node created while the CHART.JS chart is not assigned yet is never kept
+		if (node == null || !node.isCurrent()) {
+			node = new ChartNode(chart);
+		}
+		return node;
+	}
+
+	/**
+	 * Resets the cached chart node, because CHART.JS could have replaced the objects wrapped by the node.<br>
+	 * This is called by {@link ChartNodeHandler}.
+	 */
+	final void resetNode() {
+		node = null;
 	}
 
 	/**
@@ -361,7 +380,13 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 		if (chart != null) {
 			// then destroy
 			chart.destroy();
+			// clears the back reference
+			// after destroy because the plugins must get the chart
+			// on destroy hook
+			chart.setCharbaChart(null);
 		}
+		// resets the chart node
+		resetNode();
 		// remove handler of mouse event handler
 		removeCanvasPreventDefault();
 		// removes all handlers created to add
@@ -371,6 +396,8 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 		}
 		// clears the cache of handler registrations.
 		handlerRegistrations.clear();
+		// clears the results of pure scriptable callbacks
+		ScriptableResultsCache.get().invalidate(this);
 		// removes chart instance from collection
 		Charts.remove(getId());
 	}
@@ -480,6 +507,12 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 	public final void update(UpdateConfiguration configuration) {
 		// checks if chart is created
 		if (chart != null) {
+			// the results of pure scriptable callbacks
+			// must be recalculated because data could be changed
+			ScriptableResultsCache.get().invalidate(this);
+			// the hooks of plugins could be changed
+			// because datasets could be changed
+			plugins.onChartUpdate(this.configuration);
 			// if config is not passed..
 			if (configuration == null) {
 				// .. calls the update
@@ -650,6 +683,11 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 			configuration.setType(getType());
 			configuration.setOptions(this, internalOptions);
 			configuration.setData(this, internalData);
+			// checks if the plugin to reset the chart node is already added
+			if (!plugins.has(ChartNodeHandler.ID)) {
+				// adds plugin
+				plugins.add(new ChartNodeHandler());
+			}
 			// sets plugins
 			configuration.setPlugins(this, plugins);
 			// destroy chart if chart is already instantiated
@@ -657,11 +695,19 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 			if (chart != null) {
 				// then destroy
 				chart.destroy();
+				// clears the back reference
+				chart.setCharbaChart(null);
 			}
+			// resets the chart node
+			resetNode();
 			// stores the chart instance into collection
 			Charts.add(this);
 			// draws chart with configuration
 			chart = new Chart(canvas.getContext2d(), configuration);
+			// stores the back reference into native chart
+			// the hooks invoked while creating the native chart
+			// get this chart by its id
+			chart.setCharbaChart(this);
 			// notify after destroy
 			Charts.fireAfterInit(this);
 		}
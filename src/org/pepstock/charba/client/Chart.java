@@ -369,17 +369,49 @@ public final class Chart {
 	}
 
 	/**
-	 * Returns the CHARBA chart or <code>null</code> if CHARBA id is not present into CAHRT.JS chart options.
+	 * Returns the CHARBA chart stored as back reference into CHART.JS chart, or <code>null</code> if not set.
+	 * 
+	 * @return the CHARBA chart stored as back reference into CHART.JS chart, or <code>null</code> if not set
+	 */
+	@JsProperty(name = "charbaChart")
+	native IsChart getCharbaChart();
+
+	/**
+	 * Sets the CHARBA chart as back reference into CHART.JS chart, in order to get it without any lookup.<br>
+	 * Setting <code>null</code>, the back reference is cleared.
+	 * 
+	 * @param chart the CHARBA chart to store as back reference
+	 */
+	@JsProperty(name = "charbaChart")
+	native void setCharbaChart(IsChart chart);
+
+	/**
+	 * Returns the CHARBA chart or <code>null</code> if CHARBA id is not present into CAHRT.JS chart options.<br>
+	 * The CHARBA chart is read by the back reference stored into CHART.JS chart. If not set yet (i.e. while the CHART.JS
+	 * chart is being created), it is searched by CHARBA id and then stored as back reference.
 	 * 
 	 * @return the CHARBA chart or <code>null</code> if CHARBA id is not present into CAHRT.JS chart options
 	 */
 	@JsOverlay
 	public IsChart getChart() {
+		// gets the back reference
+		IsChart chart = getCharbaChart();
+		// checks if already set
+		if (chart != null) {
+			return chart;
+		}
 		// gets charba id
 		String charbaId = getCharbaId();
 		// checks if not null
 		if (charbaId != null) {
-			return Charts.get(Id.get(getOptions()));
+			chart = Charts.get(charbaId);
+			// checks if chart is found
+			if (chart != null) {
+				// stores the back reference
+				// for next invocations
+				setCharbaChart(chart);
+			}
+			return chart;
 		}
 		// if here, charba id is null
 		return null;
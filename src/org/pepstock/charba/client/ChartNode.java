@@ -15,6 +15,7 @@
 */
 package org.pepstock.charba.client;
 
+import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.commons.ObjectType;
 import org.pepstock.charba.client.items.ChartAreaNode;
 import org.pepstock.charba.client.items.LegendNode;
@@ -34,19 +35,23 @@ import org.pepstock.charba.client.utils.JSON;
 public final class ChartNode {
 
 	// all sub elements
+	// they are created only when requested
 	private final Chart chart;
 
-	private final OptionsNode options;
+	// options object of CHART.JS chart when the node has been created
+	private final NativeObject nativeOptions;
 
-	private final LegendNode legend;
+	private OptionsNode options = null;
 
-	private final ScalesNode scales;
+	private LegendNode legend = null;
 
-	private final ChartAreaNode chartArea;
+	private ScalesNode scales = null;
 
-	private final TitleNode title;
+	private ChartAreaNode chartArea = null;
 
-	private final TooltipNode tooltip;
+	private TitleNode title = null;
+
+	private TooltipNode tooltip = null;
 
 	private final boolean initialized;
 
@@ -59,13 +64,22 @@ public final class ChartNode {
 		this.chart = chart;
 		// sets if is initialized checking the CHART instance
 		initialized = chart != null;
-		// creates all sub elements
-		options = new OptionsNode(initialized ? chart.getOptions() : null);
-		legend = new LegendNode(initialized ? chart.getLegend() : null);
-		scales = new ScalesNode(initialized ? chart.getScales() : null);
-		chartArea = new ChartAreaNode(initialized ? chart.getChartArea() : null);
-		title = new TitleNode(initialized ? chart.getTitleBlock() : null);
-		tooltip = new TooltipNode(initialized ? chart.getTooltip() : null);
+		// stores the current options, to check if they are replaced
+		nativeOptions = initialized ? chart.getOptions() : null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the node wraps an initialized CHART.JS chart and its options object is still the one which
+	 * was set when the node has been created.<br>
+	 * CHART.JS replaces the options object at every update, before invoking the plugins, therefore when it returns
+	 * <code>false</code>, the node is wrapping old objects and must be recreated.<br>
+	 * A node without chart is never current, because it is created while the CHART.JS chart is drawing for the first time
+	 * (i.e. without animation), when it is not assigned yet.
+	 * 
+	 * @return <code>true</code> if the node is wrapping the current options of the chart
+	 */
+	boolean isCurrent() {
+		return initialized && nativeOptions == chart.getOptions();
 	}
 
 	/**
@@ -83,6 +97,10 @@ public final class ChartNode {
 	 * @return the options item.
 	 */
 	public OptionsNode getOptions() {
+		// checks if the sub element is already created
+		if (options == null) {
+			options = new OptionsNode(initialized ? chart.getOptions() : null);
+		}
 		return options;
 	}
 
@@ -92,6 +110,10 @@ public final class ChartNode {
 	 * @return the legend item.
 	 */
 	public LegendNode getLegend() {
+		// checks if the sub element is already created
+		if (legend == null) {
+			legend = new LegendNode(initialized ? chart.getLegend() : null);
+		}
 		return legend;
 	}
 
@@ -101,6 +123,10 @@ public final class ChartNode {
 	 * @return the scales item.
 	 */
 	public ScalesNode getScales() {
+		// checks if the sub element is already created
+		if (scales == null) {
+			scales = new ScalesNode(initialized ? chart.getScales() : null);
+		}
 		return scales;
 	}
 
@@ -110,6 +136,10 @@ public final class ChartNode {
 	 * @return the chart area item.
 	 */
 	public ChartAreaNode getChartArea() {
+		// checks if the sub element is already created
+		if (chartArea == null) {
+			chartArea = new ChartAreaNode(initialized ? chart.getChartArea() : null);
+		}
 		return chartArea;
 	}
 
@@ -119,6 +149,10 @@ public final class ChartNode {
 	 * @return the title item.
 	 */
 	public TitleNode getTitle() {
+		// checks if the sub element is already created
+		if (title == null) {
+			title = new TitleNode(initialized ? chart.getTitleBlock() : null);
+		}
 		return title;
 	}
 
@@ -128,6 +162,10 @@ public final class ChartNode {
 	 * @return the tooltip item.
 	 */
 	public TooltipNode getTooltip() {
+		// checks if the sub element is already created
+		if (tooltip == null) {
+			tooltip = new TooltipNode(initialized ? chart.getTooltip() : null);
+		}
 		return tooltip;
 	}
 
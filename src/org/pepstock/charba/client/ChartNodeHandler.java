@@ -0,0 +1,124 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.pepstock.charba.client.enums.PluginHook;
+import org.pepstock.charba.client.items.SizeItem;
+import org.pepstock.charba.client.plugins.AbstractPlugin;
+
+/**
+ * Internal plugin, added by the chart before it is drawn.<br>
+ * It resets the chart node cached by the chart every time CHART.JS could replace the objects wrapped by the node, i.e. when
+ * the chart is updated, laid out or resized.<br>
+ * In this way, the chart node is created once for all reads in the same render cycle.<br>
+ * The global plugins are invoked before this handler, therefore at <code>beforeUpdate</code> hook the chart checks also if
+ * the options object has been replaced by CHART.JS, in order not to return a node wrapping the old options.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class ChartNodeHandler extends AbstractPlugin {
+
+	// plugin ID
+	static final String ID = "chartnodehandler";
+
+	/**
+	 * To avoid any instantiation
+	 */
+	ChartNodeHandler() {
+		// do nothing
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.AFTER_LAYOUT, PluginHook.AFTER_UPDATE, PluginHook.RESIZE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onBeforeUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public boolean onBeforeUpdate(IsChart chart) {
+		// options could be replaced by CHART.JS
+		resetNode(chart);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterLayout(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterLayout(IsChart chart) {
+		// chart area and boxes could be replaced by CHART.JS
+		resetNode(chart);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterUpdate(IsChart chart) {
+		resetNode(chart);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onResize(org.pepstock.charba.client.IsChart,
+	 * org.pepstock.charba.client.items.SizeItem)
+	 */
+	@Override
+	public void onResize(IsChart chart, SizeItem size) {
+		resetNode(chart);
+	}
+
+	/**
+	 * Resets the chart node cached by the chart.
+	 * 
+	 * @param chart chart instance
+	 */
+	private void resetNode(IsChart chart) {
+		// checks if the chart is a CHARBA chart
+		if (chart instanceof AbstractChart) {
+			((AbstractChart<?>) chart).resetNode();
+		}
+	}
+
+}
@@ -36,7 +36,7 @@ public final class Defaults {
 
 	// singleton instance
 	private static final Defaults INSTANCE = new Defaults();
-	// native defaults java script object
+	// wrapper of native defaults java script object
 	private final WrapperDefaults wrapperDefaults;
 	// global options
 	private final GlobalOptions options;
@@ -46,6 +46,10 @@ public final class Defaults {
 	private final GlobalPlugins plugins;
 	// cache for chart options already implemented to improve performance
 	private final Map<String, ChartOptions> chartOptions = new HashMap<>();
+	// cache for merged options (chart type, scale and global ones) to improve performance of chart creation
+	private final Map<String, NativeObject> mergedOptions = new HashMap<>();
+	// version of defaults when the merged options have been cached
+	private int mergedVersion = 0;
 	// controllers
 	private final Controllers controllers;
 
@@ -59,9 +63,9 @@ public final class Defaults {
 		// gets defaults from CHART.JS
 		wrapperDefaults = new WrapperDefaults(Chart.getDefaults());
 		// creates global options wrapping the global property of CHART
-		this.options = new GlobalOptions(wrapperDefaults.getGlobal());
+		this.options = wrapperDefaults.track(new GlobalOptions(wrapperDefaults.getGlobal()));
 		// creates global scale wrapping the scale property of CHART
-		this.scale = new GlobalScale(wrapperDefaults.getScale());
+		this.scale = wrapperDefaults.track(new GlobalScale(wrapperDefaults.getScale()));
 		// creates global plugins wrapping the plugins property of CHART
 		this.plugins = new GlobalPlugins(Chart.getPlugins());
 		// creates the controller object
@@ -114,13 +118,35 @@ public final class Defaults {
 	}
 
 	/**
-	 * Returns the default options by a chart type, for a existing chart instance
+	 * Returns the default options by a chart type, for a existing chart instance.<br>
+	 * The merge of chart type, scale and global options is performed once for chart type and kept until one of them is
+	 * changed. Every chart receives its own copy of merged options, in order that its changes are not shared with other charts.
+	 * <br>
+	 * The changes are detected by the version of defaults, incremented by the setters of global options, global scale, options
+	 * of chart types and plugins options.
 	 * 
 	 * @param type chart type.
 	 * @return the default options
 	 */
 	ChartOptions getChartOptions(Type type) {
-		return new ChartOptions(type, Merger.get().get(type));
+		// gets the current version of defaults
+		int currentVersion = wrapperDefaults.getVersion();
+		// checks if the defaults have been changed
+		if (currentVersion != mergedVersion) {
+			// clears the merged options
+			mergedOptions.clear();
+			mergedVersion = currentVersion;
+		}
+		// gets the merged options from cache
+		NativeObject merged = mergedOptions.get(type.value());
+		// checks if the options have already merged
+		if (merged == null) {
+			// if not, merges and stores the options by chart type
+			merged = Merger.get().get(type);
+			mergedOptions.put(type.value(), merged);
+		}
+		// returns a copy of merged options
+		return new ChartOptions(type, Helpers.get().clone(merged));
 	}
 
 	/**
@@ -135,7 +161,7 @@ public final class Defaults {
 		// checks if the options have already stored
 		if (!chartOptions.containsKey(type.value())) {
 			// if not, creates and stores new options by chart type
-			chartOptions.put(type.value(), wrapperDefaults.chart(type));
+			chartOptions.put(type.value(), wrapperDefaults.track(wrapperDefaults.chart(type)));
 		}
 		// returns the existing options
 		return chartOptions.get(type.value());
@@ -190,6 +216,28 @@ public final class Defaults {
 			super(nativeObject);
 		}
 
+		/**
+		 * Returns the version of defaults, incremented every time the global options, the global scale, the options of a chart
+		 * type or the plugins options are changed by their setters.
+		 * 
+		 * @return the version of defaults
+		 */
+		int getVersion() {
+			return getModificationCount();
+		}
+
+		/**
+		 * Tracks the changes of the passed options, in order to increment the version of defaults every time they are changed.
+		 * 
+		 * @param options global options, global scale or options of a chart type
+		 * @param <T> type of options
+		 * @return the passed options
+		 */
+		<T extends NativeObjectContainer> T track(T options) {
+			trackChanges(options);
+			return options;
+		}
+
 		/**
 		 * Returns the GLOBAL options of chart as native object.
 		 * 
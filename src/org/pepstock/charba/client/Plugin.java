@@ -15,6 +15,10 @@
 */
 package org.pepstock.charba.client;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.items.DatasetPluginItem;
 import org.pepstock.charba.client.items.SizeItem;
@@ -43,6 +47,20 @@ public interface Plugin {
 	 */
 	String getId();
 
+	/**
+	 * Returns the hooks implemented by the plugin. Only these hooks are registered to CHART.JS, therefore the plugin is not
+	 * invoked at all for the other ones.<br>
+	 * {@link #onConfigure(IsChart)} is always invoked, not being a CHART.JS hook.<br>
+	 * The hooks are read when the chart is drawn and before every update of the chart, therefore a plugin can register its
+	 * hooks only when it needs them.<br>
+	 * By default, all hooks are registered.
+	 * 
+	 * @return the hooks implemented by the plugin.
+	 */
+	default Set<PluginHook> getHooks() {
+		return EnumSet.allOf(PluginHook.class);
+	}
+
 	/**
 	 * Called before initializing configuration of 'chart'.
 	 * 
@@ -0,0 +1,42 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.callbacks;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.data.Dataset;
+
+/**
+ * Interface to map a <b>batch</b> scriptable option, which computes the values of a property for all elements of a dataset
+ * in a single invocation.<br>
+ * Unlike {@link Scriptable}, which is invoked by CHART.JS for every element (and for every draw), it is invoked once before
+ * every update of the datasets and the returned array is passed to CHART.JS as array option of the dataset.<br>
+ * The value at index <code>i</code> of the returned array is applied to the element at data index <code>i</code>.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @param <T> type of result of invocation method, an array with a value for each element of the dataset.
+ */
+public interface BatchScriptable<T> {
+
+	/**
+	 * Returns the values of property for all elements of the dataset, using the chart instance and the dataset.
+	 * 
+	 * @param chart chart instance
+	 * @param dataset dataset instance
+	 * @return values of property to be applied to the elements of the dataset, by data index
+	 */
+	T invoke(IsChart chart, Dataset dataset);
+
+}
@@ -0,0 +1,30 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.callbacks;
+
+/**
+ * Marker interface for {@link Scriptable} callbacks which are <b>pure</b>, i.e. whose result depends only on dataset index,
+ * data index, active status and the data of the dataset.<br>
+ * The converted results of these callbacks are cached by chart and they are invoked again only after a chart update.<br>
+ * It can be applied to a lambda by an intersection cast, i.e.
+ * <code>(BackgroundColorCallback&lt;IsColor&gt; &amp; PureScriptable) (chart, context) -&gt; ...</code>.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see ScriptableResultsCache
+ */
+public interface PureScriptable {
+
+}
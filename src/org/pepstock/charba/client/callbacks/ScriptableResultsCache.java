@@ -0,0 +1,233 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.callbacks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pepstock.charba.client.IsChart;
+
+/**
+ * Singleton which caches the results of {@link PureScriptable} callbacks, already converted to be passed to CHART.JS, by chart,
+ * callback, dataset index, data index and active status.<br>
+ * The results of a chart are invalidated when the chart is updated or destroyed.<br>
+ * It maintains the counters of hits and misses, to check the effectiveness of the cache.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class ScriptableResultsCache {
+
+	// singleton instance
+	private static final ScriptableResultsCache INSTANCE = new ScriptableResultsCache();
+	// cache of results by chart id and then by callback
+	private final Map<String, Map<Object, Results>> cache = new HashMap<>();
+	// amount of results found into cache
+	private int hits = 0;
+	// amount of results not found into cache
+	private int misses = 0;
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private ScriptableResultsCache() {
+		// do nothing
+	}
+
+	/**
+	 * Singleton method to get the instance
+	 * 
+	 * @return scriptable results cache instance
+	 */
+	public static ScriptableResultsCache get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the amount of results found into cache.
+	 * 
+	 * @return the amount of results found into cache
+	 */
+	public int getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the amount of results not found into cache, for which the callbacks have been invoked.
+	 * 
+	 * @return the amount of results not found into cache
+	 */
+	public int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Resets the counters of hits and misses.
+	 */
+	public void resetCounters() {
+		hits = 0;
+		misses = 0;
+	}
+
+	/**
+	 * Invalidates all results of a chart.<br>
+	 * This is called when the chart is updated or destroyed.
+	 * 
+	 * @param chart chart instance
+	 */
+	public void invalidate(IsChart chart) {
+		// checks if chart is consistent
+		if (chart != null) {
+			cache.remove(chart.getId());
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the callback is a pure one and the context can be used as key of the cache.
+	 * 
+	 * @param context scriptable context
+	 * @param callback callback instance
+	 * @return <code>true</code> if the result of callback can be cached
+	 */
+	boolean isCacheable(ScriptableContext context, Object callback) {
+		return callback instanceof PureScriptable && context.getDatasetIndex() >= 0 && context.getIndex() >= 0;
+	}
+
+	/**
+	 * Returns the cached result of a callback for the context or <code>null</code> if not cached, updating the counters.
+	 * 
+	 * @param chart chart instance
+	 * @param context scriptable context
+	 * @param callback callback instance
+	 * @return the cached result or <code>null</code> if not cached
+	 */
+	Object getResult(IsChart chart, ScriptableContext context, Object callback) {
+		// gets the results of the chart
+		Map<Object, Results> chartResults = cache.get(chart.getId());
+		// gets the results of callback
+		Results results = chartResults != null ? chartResults.get(callback) : null;
+		// gets the result
+		Object result = results != null ? results.get(context.getDatasetIndex(), context.getIndex(), context.isActive()) : null;
+		// updates counters
+		if (result != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return result;
+	}
+
+	/**
+	 * Stores the result of a callback for the context.
+	 * 
+	 * @param chart chart instance
+	 * @param context scriptable context
+	 * @param callback callback instance
+	 * @param result result to store
+	 */
+	void setResult(IsChart chart, ScriptableContext context, Object callback, Object result) {
+		// checks if result is consistent
+		if (result == null) {
+			return;
+		}
+		// gets the results of the chart
+		Map<Object, Results> chartResults = cache.get(chart.getId());
+		if (chartResults == null) {
+			chartResults = new HashMap<>();
+			cache.put(chart.getId(), chartResults);
+		}
+		// gets the results of callback
+		Results results = chartResults.get(callback);
+		if (results == null) {
+			results = new Results();
+			chartResults.put(callback, results);
+		}
+		// stores the result
+		results.set(context.getDatasetIndex(), context.getIndex(), context.isActive(), result);
+	}
+
+	/**
+	 * Results of a callback, stored by dataset index and then by data index and active status, without creating any key object.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Results {
+
+		// results by dataset index
+		private Object[][] datasets = new Object[0][];
+
+		/**
+		 * Returns the result for the passed keys or <code>null</code> if not stored.
+		 * 
+		 * @param datasetIndex dataset index
+		 * @param index data index
+		 * @param active active status
+		 * @return the result or <code>null</code> if not stored
+		 */
+		Object get(int datasetIndex, int index, boolean active) {
+			// checks if dataset index is in range
+			if (datasetIndex < datasets.length && datasets[datasetIndex] != null) {
+				Object[] values = datasets[datasetIndex];
+				int slot = getSlot(index, active);
+				// checks if slot is in range
+				return slot < values.length ? values[slot] : null;
+			}
+			return null;
+		}
+
+		/**
+		 * Stores the result for the passed keys.
+		 * 
+		 * @param datasetIndex dataset index
+		 * @param index data index
+		 * @param active active status
+		 * @param result result to store
+		 */
+		void set(int datasetIndex, int index, boolean active, Object result) {
+			// checks if the datasets array must be enlarged
+			if (datasetIndex >= datasets.length) {
+				Object[][] newDatasets = new Object[datasetIndex + 1][];
+				System.arraycopy(datasets, 0, newDatasets, 0, datasets.length);
+				datasets = newDatasets;
+			}
+			int slot = getSlot(index, active);
+			Object[] values = datasets[datasetIndex];
+			// checks if the values array must be enlarged
+			if (values == null || slot >= values.length) {
+				Object[] newValues = new Object[Math.max(slot + 1, values == null ? 0 : values.length * 2)];
+				if (values != null) {
+					System.arraycopy(values, 0, newValues, 0, values.length);
+				}
+				values = newValues;
+				datasets[datasetIndex] = values;
+			}
+			values[slot] = result;
+		}
+
+		/**
+		 * Returns the slot of values array for data index and active status.
+		 * 
+		 * @param index data index
+		 * @param active active status
+		 * @return the slot of values array
+		 */
+		private int getSlot(int index, boolean active) {
+			return index * 2 + (active ? 1 : 0);
+		}
+	}
+
+}
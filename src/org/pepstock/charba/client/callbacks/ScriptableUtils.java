@@ -150,7 +150,8 @@ public final class ScriptableUtils {
 
 	/**
 	 * Returns a color value of property by a callback, checking all different types of object which can be used as value of the
-	 * property in color ones.
+	 * property in color ones.<br>
+	 * If the callback is a {@link PureScriptable}, the result is cached by {@link ScriptableResultsCache}.
 	 * 
 	 * @param context scriptable context
 	 * @param callback callback to invoke
@@ -164,8 +165,22 @@ public final class ScriptableUtils {
 		IsChart chart = retrieveChart(context, callback);
 		// checks if the chart is correct
 		if (chart != null) {
-			// calls callback
-			Object result = callback.invoke(chart, context);
+			// checks if the result of callback can be cached
+			boolean cacheable = ScriptableResultsCache.get().isCacheable(context, callback);
+			// gets the cached result, if pure callback
+			Object result = cacheable ? ScriptableResultsCache.get().getResult(chart, context, callback) : null;
+			// checks if the result has been cached
+			if (result == null) {
+				// calls callback
+				result = callback.invoke(chart, context);
+				// checks if the result can be cached
+				if (cacheable) {
+					// colors are converted before storing them into cache
+					// in order to avoid to build the string every time
+					result = result instanceof IsColor ? ((IsColor) result).toRGBA() : result;
+					ScriptableResultsCache.get().setResult(chart, context, callback, result);
+				}
+			}
 			// checks result
 			if (result instanceof IsColor) {
 				// is color instance
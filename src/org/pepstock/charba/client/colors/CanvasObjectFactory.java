@@ -16,9 +16,13 @@
 package org.pepstock.charba.client.colors;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.items.ChartAreaNode;
+import org.pepstock.charba.client.items.UndefinedValues;
 
 import com.google.gwt.canvas.client.Canvas;
 import com.google.gwt.canvas.dom.client.CanvasGradient;
@@ -28,7 +32,11 @@ import com.google.gwt.canvas.dom.client.Context2d;
 /**
  * Abstract utility class which creates a canvas gradient and pattern java script objects using a Charba gradient or
  * pattern.<br>
- * A Charba gradient or pattern describes how a GWT canvas gradient or pattern must be created.
+ * A Charba gradient or pattern describes how a GWT canvas gradient or pattern must be created.<br>
+ * The created canvas objects are cached by chart, with a bounded size and a least recently used eviction. The gradients are
+ * cached by gradient id, dataset index and data index (the last ones only for radial gradients) and they are invalidated
+ * automatically when the size of canvas or the chart area are changed.<br>
+ * It maintains the counters of hits, misses and evictions, to check the effectiveness of the cache.
  * 
  * @author Andrea "Stock" Stocchero
  * 
@@ -39,13 +47,23 @@ import com.google.gwt.canvas.dom.client.Context2d;
  */
 public abstract class CanvasObjectFactory {
 
-	// cache for canvas gradients already created
-	// K = chart id, K = gradient id, V = canvas gradient
-	private static final Map<String, Map<Integer, CanvasGradient>> GRADIENTS = new HashMap<>();
+	/**
+	 * Maximum amount of gradients and of patterns cached for each chart, <b>{@value MAX_CACHED_OBJECTS}</b>.
+	 */
+	public static final int MAX_CACHED_OBJECTS = 256;
+
+	// amount of values of the geometry (canvas width and height, chart area top, left, bottom and right)
+	private static final int GEOMETRY_ITEMS = 6;
 
-	// cache for canvas patterns already created
-	// K = chart id, K = pattern id, V = canvas pattern
-	private static final Map<String, Map<Integer, CanvasPattern>> PATTERNS = new HashMap<>();
+	// cache for canvas gradients and patterns already created
+	// K = chart id, V = canvas objects of the chart
+	private final Map<String, ChartCanvasObjects> cache = new HashMap<>();
+	// amount of canvas objects found into cache
+	private int hits = 0;
+	// amount of canvas objects not found into cache
+	private int misses = 0;
+	// amount of canvas objects removed from cache because the max size has been reached
+	private int evictions = 0;
 
 	/**
 	 * To avoid any instantiation
@@ -65,21 +83,16 @@ public abstract class CanvasObjectFactory {
 	public final CanvasPattern createPattern(IsChart chart, Pattern pattern) {
 		// checks if arguments are consistent
 		checkArgumentsConsistency(chart, pattern);
-		// map instance
-		final Map<Integer, CanvasPattern> patternsMap;
+		// gets the cache of the chart
+		final Map<Integer, CanvasPattern> patternsMap = getCanvasObjects(chart).patterns;
 		// checks if the pattern is already created
-		if (PATTERNS.containsKey(chart.getId())) {
-			patternsMap = PATTERNS.get(chart.getId());
-			if (patternsMap.containsKey(pattern.getId())) {
-				// returns the existing canvas pattern
-				return patternsMap.get(pattern.getId());
-			}
-		} else {
-			// new chart!
-			// creates the cache for the chart
-			patternsMap = new HashMap<>();
-			PATTERNS.put(chart.getId(), patternsMap);
+		CanvasPattern cachedResult = patternsMap.get(pattern.getId());
+		if (cachedResult != null) {
+			hits++;
+			// returns the existing canvas pattern
+			return cachedResult;
 		}
+		misses++;
 		// checks if canvas pattern already loaded
 		if (pattern.getCanvasPattern() != null) {
 			CanvasPattern result = pattern.getCanvasPattern();
@@ -105,8 +118,8 @@ public abstract class CanvasObjectFactory {
 	 */
 	public final void resetGradients(IsChart chart) {
 		// checks if chart is consistent
-		if (chart != null) {
-			GRADIENTS.remove(chart.getId());
+		if (chart != null && cache.containsKey(chart.getId())) {
+			cache.get(chart.getId()).gradients.clear();
 		}
 	}
 
@@ -118,11 +131,46 @@ public abstract class CanvasObjectFactory {
 	public final void clear(IsChart chart) {
 		// checks if chart is consistent
 		if (chart != null) {
-			PATTERNS.remove(chart.getId());
-			GRADIENTS.remove(chart.getId());
+			cache.remove(chart.getId());
 		}
 	}
 
+	/**
+	 * Returns the amount of canvas objects found into cache.
+	 * 
+	 * @return the amount of canvas objects found into cache
+	 */
+	public final int getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the amount of canvas objects not found into cache, which have been created.
+	 * 
+	 * @return the amount of canvas objects not found into cache
+	 */
+	public final int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the amount of canvas objects removed from cache because the maximum size of cache of a chart has been reached.
+	 * 
+	 * @return the amount of canvas objects removed from cache because the maximum size has been reached
+	 */
+	public final int getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Resets the counters of hits, misses and evictions.
+	 */
+	public final void resetCounters() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
 	/**
 	 * Creates a GWT canvas gradient java script object using a Charba gradient and a chart instance which must provide a canvas
 	 * instance and its context.
@@ -136,23 +184,29 @@ public abstract class CanvasObjectFactory {
 	public final CanvasGradient createGradient(IsChart chart, Gradient gradient, int datasetIndex, int index) {
 		// checks if arguments are consistent
 		checkArgumentsConsistency(chart, gradient);
-		// checks if the gradient is already created
-		final Map<Integer, CanvasGradient> gradientsMap;
-		// checks if the gradient is already created
-		if (GRADIENTS.containsKey(chart.getId())) {
-			gradientsMap = GRADIENTS.get(chart.getId());
-			if (gradientsMap.containsKey(gradient.getId())) {
-				// returns the existing canvas gradient
-				return gradientsMap.get(gradient.getId());
-			}
-		} else {
-			// new chart!
-			// creates the cache for the chart
-			gradientsMap = new HashMap<>();
-			GRADIENTS.put(chart.getId(), gradientsMap);
-		}
 		// checks if chart is initialized
 		if (chart.isInitialized()) {
+			// gets the cache of the chart
+			ChartCanvasObjects canvasObjects = getCanvasObjects(chart);
+			// checks if the canvas or chart area are changed
+			// because the cached gradients have been created for a different geometry
+			canvasObjects.checkGeometry(chart);
+			// creates the key of gradient
+			// linear gradients don't depend on dataset and data
+			final GradientKey key;
+			if (GradientType.LINEAR.equals(gradient.getType())) {
+				key = new GradientKey(gradient.getId(), UndefinedValues.INTEGER, UndefinedValues.INTEGER);
+			} else {
+				key = new GradientKey(gradient.getId(), datasetIndex, index);
+			}
+			// checks if the gradient is already created
+			CanvasGradient cachedResult = canvasObjects.gradients.get(key);
+			if (cachedResult != null) {
+				hits++;
+				// returns the existing canvas gradient
+				return cachedResult;
+			}
+			misses++;
 			// creates the result instance
 			CanvasGradient result = null;
 			// checks if the gradient must be linear oe radial
@@ -172,7 +226,7 @@ public abstract class CanvasObjectFactory {
 				}
 			}
 			// stores canvas gradient into cache
-			gradientsMap.put(gradient.getId(), result);
+			canvasObjects.gradients.put(key, result);
 			// returns result
 			return result;
 		} else {
@@ -183,6 +237,25 @@ public abstract class CanvasObjectFactory {
 		}
 	}
 
+	/**
+	 * Returns the cache of canvas objects of the chart, creating it if not exist.
+	 * 
+	 * @param chart chart instance
+	 * @return the cache of canvas objects of the chart
+	 */
+	private ChartCanvasObjects getCanvasObjects(IsChart chart) {
+		// gets the cache of the chart
+		ChartCanvasObjects canvasObjects = cache.get(chart.getId());
+		// checks if the cache exists
+		if (canvasObjects == null) {
+			// new chart!
+			// creates the cache for the chart
+			canvasObjects = new ChartCanvasObjects();
+			cache.put(chart.getId(), canvasObjects);
+		}
+		return canvasObjects;
+	}
+
 	/**
 	 * Creates a linear gradient, an image consisting of a progressive transition between two or more colors along a straight
 	 * line.
@@ -408,4 +481,154 @@ public abstract class CanvasObjectFactory {
 	 */
 	protected abstract Radius getRadius(IsChart chart, Gradient gradient, int datasetIndex, int index);
 
+	/**
+	 * Bounded cache, with a least recently used eviction, of the canvas objects of a chart.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 * @param <K> type of the key of cache
+	 * @param <V> type of the canvas objects
+	 */
+	private final class LeastRecentlyUsedCache<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Creates the cache ordered by access.
+		 */
+		LeastRecentlyUsedCache() {
+			super(16, 0.75F, true);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Entry<K, V> eldest) {
+			// checks if the max size has been reached
+			boolean mustBeRemoved = size() > MAX_CACHED_OBJECTS;
+			if (mustBeRemoved) {
+				evictions++;
+			}
+			return mustBeRemoved;
+		}
+	}
+
+	/**
+	 * Canvas gradients and patterns created for a chart, with the geometry (canvas size and chart area) used to create the
+	 * gradients.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private final class ChartCanvasObjects {
+
+		// cache for canvas gradients already created
+		private final Map<GradientKey, CanvasGradient> gradients = new LeastRecentlyUsedCache<>();
+		// cache for canvas patterns already created, by pattern id
+		private final Map<Integer, CanvasPattern> patterns = new LeastRecentlyUsedCache<>();
+		// geometry used to create the cached gradients
+		private final double[] geometry = new double[GEOMETRY_ITEMS];
+
+		/**
+		 * Checks if the canvas size or the chart area are changed since the gradients have been created and, if so, it removes
+		 * all cached gradients.
+		 * 
+		 * @param chart chart instance
+		 */
+		void checkGeometry(IsChart chart) {
+			// gets canvas and chart area
+			Canvas canvas = chart.getCanvas();
+			ChartAreaNode chartArea = chart.getNode().getChartArea();
+			// flag to know if the geometry is changed
+			boolean changed = false;
+			changed = update(0, canvas.getOffsetWidth()) || changed;
+			changed = update(1, canvas.getOffsetHeight()) || changed;
+			changed = update(2, chartArea.getTop()) || changed;
+			changed = update(3, chartArea.getLeft()) || changed;
+			changed = update(4, chartArea.getBottom()) || changed;
+			changed = update(5, chartArea.getRight()) || changed;
+			// checks if the geometry is changed
+			if (changed) {
+				// the gradients must be recreated
+				gradients.clear();
+			}
+		}
+
+		/**
+		 * Stores a value of geometry, returning <code>true</code> if different from the previous one.
+		 * 
+		 * @param index index of the value into geometry
+		 * @param value value to store
+		 * @return <code>true</code> if the value is different from the previous one
+		 */
+		private boolean update(int index, double value) {
+			// checks if the value is changed
+			if (Double.compare(geometry[index], value) != 0) {
+				geometry[index] = value;
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Key of a cached gradient, made by gradient id, dataset index and data index.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class GradientKey {
+
+		private final int gradientId;
+
+		private final int datasetIndex;
+
+		private final int index;
+
+		/**
+		 * Creates the key with all values.
+		 * 
+		 * @param gradientId gradient id
+		 * @param datasetIndex dataset index
+		 * @param index data index
+		 */
+		GradientKey(int gradientId, int datasetIndex, int index) {
+			this.gradientId = gradientId;
+			this.datasetIndex = datasetIndex;
+			this.index = index;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return (gradientId * 31 + datasetIndex) * 31 + index;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			// checks if the same instance
+			if (this == obj) {
+				return true;
+			}
+			// checks if a key
+			if (obj instanceof GradientKey) {
+				GradientKey other = (GradientKey) obj;
+				return gradientId == other.gradientId && datasetIndex == other.datasetIndex && index == other.index;
+			}
+			return false;
+		}
+	}
+
 }
@@ -17,7 +17,8 @@ package org.pepstock.charba.client.colors;
 
 /**
  * This class contains information about a color.<br>
- * You can requests a specific alpha (starting form source color and cloning it).
+ * You can requests a specific alpha (starting form source color and cloning it).<br>
+ * The color is immutable, therefore its string representations are created once, at first request.
  * 
  * @author Andrea "Stock" Stocchero
  *
@@ -34,9 +35,19 @@ public final class Color implements IsColor {
 	private final int green;
 	private final int blue;
 	// alpha
-	private double alpha = DEFAULT_ALPHA;
+	private final double alpha;
 	// srgb
 	private final int srgb;
+	// string representations, created at first request
+	private String rgba = null;
+
+	private String rgb = null;
+
+	private String hex = null;
+
+	private String hsla = null;
+
+	private String hsl = null;
 
 	/**
 	 * Creates the color with RGB values.
@@ -119,8 +130,14 @@ public final class Color implements IsColor {
 	@Override
 	public IsColor alpha(double alpha) {
 		checkAlphaWithinBounds(alpha);
-		// clones the color
-		return new Color(getRed(), getGreen(), getBlue(), alpha);
+		// checks if the alpha is the same
+		if (Double.compare(this.alpha, alpha) == 0) {
+			// the color is immutable
+			// then returns this instance
+			return this;
+		}
+		// gets the canonical instance with the requested alpha
+		return ColorBuilder.build(red, green, blue, alpha);
 	}
 
 	/*
@@ -130,7 +147,11 @@ public final class Color implements IsColor {
 	 */
 	@Override
 	public String toRGBA() {
-		return ColorBuilder.RGBA_STARTING_CHARS + "(" + red + "," + green + "," + blue + "," + alpha + ")";
+		// checks if already created
+		if (rgba == null) {
+			rgba = ColorBuilder.RGBA_STARTING_CHARS + "(" + red + "," + green + "," + blue + "," + alpha + ")";
+		}
+		return rgba;
 	}
 
 	/*
@@ -140,7 +161,11 @@ public final class Color implements IsColor {
 	 */
 	@Override
 	public String toRGB() {
-		return ColorBuilder.RGB_STARTING_CHARS + "(" + red + "," + green + "," + blue + ")";
+		// checks if already created
+		if (rgb == null) {
+			rgb = ColorBuilder.RGB_STARTING_CHARS + "(" + red + "," + green + "," + blue + ")";
+		}
+		return rgb;
 	}
 
 	/*
@@ -150,7 +175,11 @@ public final class Color implements IsColor {
 	 */
 	@Override
 	public String toHex() {
-		return ColorBuilder.HEX_STARTING_CHAR + pad(Integer.toHexString(red)) + pad(Integer.toHexString(green)) + pad(Integer.toHexString(blue));
+		// checks if already created
+		if (hex == null) {
+			hex = ColorBuilder.HEX_STARTING_CHAR + pad(Integer.toHexString(red)) + pad(Integer.toHexString(green)) + pad(Integer.toHexString(blue));
+		}
+		return hex;
 	}
 
 	/*
@@ -160,7 +189,11 @@ public final class Color implements IsColor {
 	 */
 	@Override
 	public String toHSLA() {
-		return ColorBuilder.HSLA_STARTING_CHARS + "(" + createHSLAsString(red, green, blue) + "," + alpha + ")";
+		// checks if already created
+		if (hsla == null) {
+			hsla = ColorBuilder.HSLA_STARTING_CHARS + "(" + createHSLAsString(red, green, blue) + "," + alpha + ")";
+		}
+		return hsla;
 	}
 
 	/*
@@ -170,7 +203,11 @@ public final class Color implements IsColor {
 	 */
 	@Override
 	public String toHSL() {
-		return ColorBuilder.HSL_STARTING_CHARS + "(" + createHSLAsString(red, green, blue) + ")";
+		// checks if already created
+		if (hsl == null) {
+			hsl = ColorBuilder.HSL_STARTING_CHARS + "(" + createHSLAsString(red, green, blue) + ")";
+		}
+		return hsl;
 	}
 
 	/*
@@ -183,6 +220,21 @@ public final class Color implements IsColor {
 		return srgb;
 	}
 
+	/**
+	 * Creates all string representations of the color.<br>
+	 * It is used by enumerated colors, in order to create them at class initialization.
+	 * 
+	 * @return this color instance
+	 */
+	Color computeStrings() {
+		toRGBA();
+		toRGB();
+		toHex();
+		toHSLA();
+		toHSL();
+		return this;
+	}
+
 	/**
 	 * Applies the padding to a string to 2 chars.
 	 * 
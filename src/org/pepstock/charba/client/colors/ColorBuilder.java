@@ -15,15 +15,20 @@
 */
 package org.pepstock.charba.client.colors;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.gwt.regexp.shared.MatchResult;
 import com.google.gwt.regexp.shared.RegExp;
 
 /**
  * Utility to create colors by red, green and blue values, HEX value and RGB and RGBA strings.<br>
- * It checks if the requested color is already dfined int HTML colors.
+ * It checks if the requested color is already dfined int HTML colors.<br>
+ * The enumerated colors are indexed by their packed RGB value and the parsed strings are cached (LRU, bounded), therefore
+ * parsing the same color many times costs a map lookup.
  * 
  * @author Andrea "Stock" Stocchero
  *
@@ -60,6 +65,36 @@ public final class ColorBuilder {
 	// chars to identify if is a HSLA color
 	static final String HSLA_STARTING_CHARS = "hsla";
 
+	// max amount of parsed colors to cache
+	private static final int MAX_PARSED_COLORS = 512;
+	// size of the table of canonical colors with alpha, must be a power of 2
+	private static final int INTERNED_COLORS_SIZE = 256;
+	// table of canonical colors with alpha, indexed by the hash of red, green, blue and alpha.
+	// a new color replaces the one with the same hash, keeping the table bounded
+	private static final Color[] INTERNED_COLORS = new Color[INTERNED_COLORS_SIZE];
+	// index of enumerated colors, by packed RGB value
+	// HTML colors have got the precedence on GWT material ones
+	private static final Map<Integer, IsColor> ENUM_COLORS = new HashMap<>();
+	// index of HTML colors, by lower case name
+	private static final Map<String, HtmlColor> NAMED_COLORS = new HashMap<>();
+	// LRU cache of parsed colors, by string value
+	private static final Map<String, IsColor> PARSED_COLORS = new LinkedHashMap<String, IsColor>(16, 0.75F, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, IsColor> eldest) {
+			// removes the least recently used color when the cache is full
+			return size() > MAX_PARSED_COLORS;
+		}
+
+	};
+
 	/**
 	 * To avoid any instantiation
 	 */
@@ -67,6 +102,34 @@ public final class ColorBuilder {
 		// nothing
 	}
 
+	/**
+	 * Loads the indexes of enumerated colors, only if not already loaded.<br>
+	 * It can not be done in a static initializer because the enumerated colors use this class during their initialization.
+	 */
+	private static void loadEnumColors() {
+		// checks if already loaded
+		if (!ENUM_COLORS.isEmpty()) {
+			return;
+		}
+		// loads HTML colors
+		for (HtmlColor color : HtmlColor.values()) {
+			// the first color with the same RGB value wins
+			// like the sequential scan of enumeration
+			Integer key = pack(color.getRed(), color.getGreen(), color.getBlue());
+			if (!ENUM_COLORS.containsKey(key)) {
+				ENUM_COLORS.put(key, color);
+			}
+			NAMED_COLORS.put(color.name().toLowerCase(), color);
+		}
+		// loads GWT material colors
+		for (GwtMaterialColor color : GwtMaterialColor.values()) {
+			Integer key = pack(color.getRed(), color.getGreen(), color.getBlue());
+			if (!ENUM_COLORS.containsKey(key)) {
+				ENUM_COLORS.put(key, color);
+			}
+		}
+	}
+
 	/**
 	 * Builds a list of colors starting from a list of strings which represent colors.
 	 * 
@@ -75,7 +138,7 @@ public final class ColorBuilder {
 	 */
 	public static List<IsColor> parse(List<String> colorsAsString) {
 		// creates result
-		final List<IsColor> colors = new LinkedList<>();
+		final List<IsColor> colors = new ArrayList<>(colorsAsString != null ? colorsAsString.size() : 0);
 		// checks if argument is consistent
 		if (colorsAsString != null) {
 			// scans all colors as strings
@@ -97,18 +160,11 @@ public final class ColorBuilder {
 	 */
 	public static IsColor build(int r, int g, int b) {
 		// checks if already exists the required color
-		// into enum HTML color
-		for (HtmlColor color : HtmlColor.values()) {
-			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color;
-			}
-		}
-		for (GwtMaterialColor color : GwtMaterialColor.values()) {
-			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color;
-			}
+		// into enum HTML color or GWT material color
+		IsColor color = getEnumColor(r, g, b);
+		// if exists returns the enum item
+		if (color != null) {
+			return color;
 		}
 		// if here, the required color doesn't exist
 		// creates new color
@@ -123,6 +179,30 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	public static IsColor parse(String value) {
+		// checks if the value is consistent
+		if (value != null) {
+			// checks if the value has been already parsed
+			IsColor result = PARSED_COLORS.get(value);
+			if (result == null) {
+				// parses the value
+				result = parseValue(value);
+				// stores into cache
+				PARSED_COLORS.put(value, result);
+			}
+			return result;
+		}
+		// if here, the string argument is not valid
+		throw new IllegalArgumentException("Value is invalid");
+	}
+
+	/**
+	 * Returns a color parsing the string value passed as argument, without using the cache.<br>
+	 * It's able to parse HEX, RGB, RGBA and named color representation.
+	 * 
+	 * @param value value to parse, not <code>null</code>
+	 * @return color instance
+	 */
+	private static IsColor parseValue(String value) {
 		// checks if the value is consistent
 		if (value != null) {
 			// removes blanks to be able to check
@@ -146,10 +226,10 @@ public final class ColorBuilder {
 				return buildByHSLValue(newValue);
 			} else {
 				// search by color name
-				for (HtmlColor color : HtmlColor.values()) {
-					if (color.name().equalsIgnoreCase(newValue)) {
-						return color;
-					}
+				loadEnumColors();
+				HtmlColor color = NAMED_COLORS.get(newValue.toLowerCase());
+				if (color != null) {
+					return color;
 				}
 			}
 		}
@@ -158,7 +238,9 @@ public final class ColorBuilder {
 	}
 
 	/**
-	 * Creates a color by red, green, blue and alpha
+	 * Creates a color using red, green, blue and alpha channels.<br>
+	 * The colors with alpha are interned, therefore requesting the same red, green, blue and alpha values many times returns the
+	 * same instance, without creating it again.
 	 * 
 	 * @param r red value
 	 * @param g green value
@@ -166,22 +248,82 @@ public final class ColorBuilder {
 	 * @param alpha alpha value
 	 * @return color instance
 	 */
-	private static IsColor build(int r, int g, int b, double alpha) {
-		// checks if already exists the required color
-		// into enum HTML color with alpha
-		for (HtmlColor color : HtmlColor.values()) {
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color.alpha(alpha);
+	public static IsColor build(int r, int g, int b, double alpha) {
+		// checks if the alpha is the default one
+		if (Double.compare(alpha, Color.DEFAULT_ALPHA) == 0) {
+			// checks if already exists the required color
+			// into enum HTML color or GWT material color
+			IsColor color = getEnumColor(r, g, b);
+			// if exists returns the enum item
+			if (color != null) {
+				return color;
 			}
 		}
-		for (GwtMaterialColor color : GwtMaterialColor.values()) {
-			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color.alpha(alpha);
-			}
+		// calculates the index into table of canonical colors
+		int index = (((r * 31 + g) * 31 + b) * 31 + (int) (alpha * 1000D)) & (INTERNED_COLORS_SIZE - 1);
+		// gets the canonical color
+		Color color = INTERNED_COLORS[index];
+		// checks if it is the requested one
+		if (color != null && color.getRed() == r && color.getGreen() == g && color.getBlue() == b && Double.compare(color.getAlpha(), alpha) == 0) {
+			return color;
 		}
 		// creates a new color
-		return new Color(r, g, b, alpha);
+		// which replaces the previous one
+		color = new Color(r, g, b, alpha);
+		INTERNED_COLORS[index] = color;
+		return color;
+	}
+
+	/**
+	 * Returns the enumerated color (HTML or GWT material) with the passed red, green and blue values, otherwise
+	 * <code>null</code>.
+	 * 
+	 * @param r red value
+	 * @param g green value
+	 * @param b blue value
+	 * @return the enumerated color or <code>null</code> if not exists
+	 */
+	private static IsColor getEnumColor(int r, int g, int b) {
+		// checks if the channels are in range
+		// otherwise the packed value could match a wrong color
+		if ((r | g | b) >= 0 && r <= 255 && g <= 255 && b <= 255) {
+			// loads the index if needed
+			loadEnumColors();
+			return ENUM_COLORS.get(pack(r, g, b));
+		}
+		// if here, the channels are not in range
+		return null;
+	}
+
+	/**
+	 * Packs red, green and blue values in a single integer.
+	 * 
+	 * @param r red value
+	 * @param g green value
+	 * @param b blue value
+	 * @return the packed RGB value
+	 */
+	private static int pack(int r, int g, int b) {
+		return (r << 16) | (g << 8) | b;
+	}
+
+	/**
+	 * Creates the color of an enumerated color (HTML or GWT material color) by its HEX value, creating all its string
+	 * representations at class initialization.
+	 * 
+	 * @param hexvalue hex color.
+	 * @return color instance
+	 */
+	static IsColor buildEnumeratedColor(String hexvalue) {
+		// parses the value without searching into enumerated colors
+		// because they are initializing
+		IsColor color = buildByHexValue(hexvalue, false);
+		// checks if is a color
+		if (color instanceof Color) {
+			// creates all string representations
+			return ((Color) color).computeStrings();
+		}
+		return color;
 	}
 
 	/**
@@ -202,28 +344,23 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	static IsColor buildByHexValue(String hexvalue, boolean searchOnEnum) {
-		// removes the pound
-		String newHexvalue = hexvalue.substring(1);
+		// gets the length without the pound
+		int length = hexvalue.length() - 1;
 		// checks if the HEX value is the short one
-		if (newHexvalue.length() == 3) {
-			// reads colors
-			String redValue = newHexvalue.substring(0, 1) + newHexvalue.substring(0, 1);
-			int red = Integer.parseInt(redValue, 16);
-			String greenValue = newHexvalue.substring(1, 2) + newHexvalue.substring(1, 2);
-			int green = Integer.parseInt(greenValue, 16);
-			String blueValue = newHexvalue.substring(2) + newHexvalue.substring(2);
-			int blue = Integer.parseInt(blueValue, 16);
+		if (length == 3) {
+			// reads colors, char by char
+			// each char is duplicated
+			int red = hexDigit(hexvalue, 1) * 17;
+			int green = hexDigit(hexvalue, 2) * 17;
+			int blue = hexDigit(hexvalue, 3) * 17;
 			// builds color
 			return build(red, green, blue);
-		} else if (newHexvalue.length() == 6) {
+		} else if (length == 6) {
 			// checks if the HEX value
-			// reads colors
-			String redValue = newHexvalue.substring(0, 2);
-			int red = Integer.parseInt(redValue, 16);
-			String greenValue = newHexvalue.substring(2, 4);
-			int green = Integer.parseInt(greenValue, 16);
-			String blueValue = newHexvalue.substring(4);
-			int blue = Integer.parseInt(blueValue, 16);
+			// reads colors, 2 chars for each channel
+			int red = hexDigit(hexvalue, 1) * 16 + hexDigit(hexvalue, 2);
+			int green = hexDigit(hexvalue, 3) * 16 + hexDigit(hexvalue, 4);
+			int blue = hexDigit(hexvalue, 5) * 16 + hexDigit(hexvalue, 6);
 			// builds color
 			return searchOnEnum ? build(red, green, blue) : new Color(red, green, blue, Color.DEFAULT_ALPHA);
 		} else {
@@ -232,6 +369,24 @@ public final class ColorBuilder {
 		}
 	}
 
+	/**
+	 * Returns the value of the HEX char at the passed index.
+	 * 
+	 * @param hexvalue hex color
+	 * @param index index of char to read
+	 * @return the value of the HEX char, between 0 and 15
+	 */
+	private static int hexDigit(String hexvalue, int index) {
+		// gets the value of char
+		int value = Character.digit(hexvalue.charAt(index), 16);
+		// checks if is a HEX char
+		if (value < 0) {
+			// if here the hex value is not valid
+			throw new IllegalArgumentException("Hex value is invalid. Must contain only hexadecimal chars");
+		}
+		return value;
+	}
+
 	/**
 	 * Parses RGB value translating into a color. RGB format: <code>rgb(r, g, b)</code>
 	 * 
@@ -239,6 +394,14 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	private static IsColor buildByRGBValue(String rgbvalue) {
+		// parses the value without regular expression
+		ChannelsParser parser = new ChannelsParser(rgbvalue, RGB_STARTING_CHARS.length());
+		// checks if the value has been parsed
+		if (parser.parse(false)) {
+			// builds color
+			return build(parser.red, parser.green, parser.blue);
+		}
+		// if here, the value has got a format not managed by parser
 		// executes regular expression
 		MatchResult matcher = REGEXP_RGB.exec(rgbvalue);
 		boolean matchFound = matcher != null;
@@ -280,6 +443,14 @@ public final class ColorBuilder {
 	 * @return color instance
 	 */
 	private static IsColor buildByRGBAValue(String rgbavalue) {
+		// parses the value without regular expression
+		ChannelsParser parser = new ChannelsParser(rgbavalue, RGBA_STARTING_CHARS.length());
+		// checks if the value has been parsed
+		if (parser.parse(true)) {
+			// builds color
+			return build(parser.red, parser.green, parser.blue, parser.alpha);
+		}
+		// if here, the value has got a format not managed by parser
 		// executes regular expression
 		MatchResult matcher = REGEXP_RGBA.exec(rgbavalue);
 		boolean matchFound = matcher != null;
@@ -498,4 +669,160 @@ public final class ColorBuilder {
 		}
 		return temporary2;
 	}
+
+	/**
+	 * Parser of RGB and RGBA values, by a single scan of the chars, without any regular expression.<br>
+	 * It manages the format <code>rgb(r, g, b)</code> and <code>rgba(r, g, b, a)</code>, with optional blanks. If the value
+	 * has got another format, the parsing fails and the regular expressions are used.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class ChannelsParser {
+
+		// value to parse
+		private final String value;
+		// current position
+		private int position;
+		// parsed values
+		private int red = 0;
+
+		private int green = 0;
+
+		private int blue = 0;
+
+		private double alpha = Color.DEFAULT_ALPHA;
+
+		/**
+		 * Creates the parser by the value to parse and the position of open parenthesis.
+		 * 
+		 * @param value value to parse
+		 * @param position position of open parenthesis
+		 */
+		ChannelsParser(String value, int position) {
+			this.value = value;
+			this.position = position;
+		}
+
+		/**
+		 * Parses the value.
+		 * 
+		 * @param hasAlpha if <code>true</code> the alpha channel is parsed
+		 * @return <code>true</code> if the value has been parsed
+		 */
+		boolean parse(boolean hasAlpha) {
+			// checks the open parenthesis
+			if (!consume('(')) {
+				return false;
+			}
+			// reads red, green and blue
+			red = readChannel();
+			if (red < 0 || !consume(',')) {
+				return false;
+			}
+			green = readChannel();
+			if (green < 0 || !consume(',')) {
+				return false;
+			}
+			blue = readChannel();
+			if (blue < 0) {
+				return false;
+			}
+			// checks if alpha must be read
+			if (hasAlpha) {
+				if (!consume(',')) {
+					return false;
+				}
+				alpha = readAlpha();
+				if (Double.isNaN(alpha)) {
+					return false;
+				}
+			}
+			// checks the close parenthesis
+			return consume(')');
+		}
+
+		/**
+		 * Skips the blanks and consumes the passed char, if it is the next one.
+		 * 
+		 * @param expected expected char
+		 * @return <code>true</code> if the char has been consumed
+		 */
+		private boolean consume(char expected) {
+			skipBlanks();
+			// checks if the next char is the expected one
+			if (position < value.length() && value.charAt(position) == expected) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Skips the blanks from current position.
+		 */
+		private void skipBlanks() {
+			while (position < value.length() && Character.isWhitespace(value.charAt(position))) {
+				position++;
+			}
+		}
+
+		/**
+		 * Reads a channel value, from 1 to 3 digits.
+		 * 
+		 * @return the channel value or <code>-1</code> if not consistent
+		 */
+		private int readChannel() {
+			skipBlanks();
+			// channel value
+			int result = 0;
+			// amount of digits
+			int digits = 0;
+			// reads the digits
+			while (position < value.length() && digits < 3 && isDigit(value.charAt(position))) {
+				result = result * 10 + (value.charAt(position) - '0');
+				position++;
+				digits++;
+			}
+			return digits > 0 ? result : -1;
+		}
+
+		/**
+		 * Reads a alpha value, made of digits and a optional dot.
+		 * 
+		 * @return the alpha value or {@link Double#NaN} if not consistent
+		 */
+		private double readAlpha() {
+			skipBlanks();
+			// stores the starting position
+			int start = position;
+			// amount of digits
+			int digits = 0;
+			// reads the integer digits
+			while (position < value.length() && isDigit(value.charAt(position))) {
+				position++;
+				digits++;
+			}
+			// reads the dot and decimal digits
+			if (position < value.length() && value.charAt(position) == '.') {
+				position++;
+				while (position < value.length() && isDigit(value.charAt(position))) {
+					position++;
+					digits++;
+				}
+			}
+			return digits > 0 ? Double.parseDouble(value.substring(start, position)) : Double.NaN;
+		}
+
+		/**
+		 * Returns <code>true</code> if the char is a decimal digit.
+		 * 
+		 * @param ch char to check
+		 * @return <code>true</code> if the char is a decimal digit
+		 */
+		private boolean isDigit(char ch) {
+			return ch >= '0' && ch <= '9';
+		}
+	}
+
 }
\ No newline at end of file
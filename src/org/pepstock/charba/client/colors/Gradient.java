@@ -332,7 +332,7 @@ public final class Gradient extends CanvasObject {
 		int g = (int) Math.round(toRGBs(startG + offset * (endG - startG)) * 255.0D);
 		int b = (int) Math.round(toRGBs(startB + offset * (endB - startB)) * 255.0D);
 		// creates and return color
-		return new Color(r, g, b, a);
+		return ColorBuilder.build(r, g, b, a);
 	}
 
 	/**
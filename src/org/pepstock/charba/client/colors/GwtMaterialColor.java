@@ -1359,7 +1359,7 @@ public enum GwtMaterialColor implements IsEnumeratedColor
 	 * @param hexValue color string representation in HEX
 	 */
 	private GwtMaterialColor(String hexValue) {
-		color = ColorBuilder.buildByHexValue(hexValue, false);
+		color = ColorBuilder.buildEnumeratedColor(hexValue);
 	}
 
 	/*
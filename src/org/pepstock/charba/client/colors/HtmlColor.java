@@ -776,7 +776,7 @@ public enum HtmlColor implements IsEnumeratedColor
 	 * @param hexValue color string representation in hex mode
 	 */
 	private HtmlColor(String hexValue) {
-		color = ColorBuilder.buildByHexValue(hexValue, false);
+		color = ColorBuilder.buildEnumeratedColor(hexValue);
 	}
 
 	/*
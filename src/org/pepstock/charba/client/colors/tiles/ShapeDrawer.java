@@ -63,9 +63,9 @@ public abstract class ShapeDrawer {
 	 * @return a canvas pattern which represents a tile.
 	 */
 	final CanvasPattern createTile(CanvasElement outerCanvas, String backgroundColor, String shapeColor, int size) {
-		// changes dimensions of outer canvas
-		outerCanvas.setWidth(size);
-		outerCanvas.setHeight(size);
+		// the outer canvas is used only to get a context to create the pattern
+		// and the pattern copies the image of canvas when created,
+		// therefore its dimensions don't need to be changed
 		// checks if canvas already created
 		// this is to avoid to create canvas objects is not required
 		if (canvas == null) {
@@ -15,38 +15,53 @@
 */
 package org.pepstock.charba.client.colors.tiles;
 
-import java.util.HashMap;
-import java.util.Locale;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.pepstock.charba.client.colors.ColorBuilder;
 import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.colors.Pattern;
-import org.pepstock.charba.client.utils.Utilities;
 
 import com.google.gwt.canvas.client.Canvas;
 import com.google.gwt.canvas.dom.client.CanvasPattern;
 import com.google.gwt.dom.client.CanvasElement;
 import com.google.gwt.dom.client.Document;
-import com.google.gwt.regexp.shared.RegExp;
 
 /**
- * Builds tiles creating a CHARBA pattern or canvas pattern passing all needed arguments and leveraging on tiles factory defaults.
+ * Builds tiles creating a CHARBA pattern or canvas pattern passing all needed arguments and leveraging on tiles factory defaults.<br>
+ * The created tiles are cached by shape, colors and size, with a bounded size and a least recently used eviction.
  * 
  * @author Andrea "Stock" Stocchero
  *
  */
 public final class TilesFactory {
 
+	/**
+	 * Maximum amount of tiles stored into cache, <b>{@value MAX_CACHED_TILES}</b>.
+	 */
+	public static final int MAX_CACHED_TILES = 512;
+	// cache of canvas patterns to avoid to create the same canvas pattern if already used
+	// ordered by access to remove the least recently used when the max size is reached
+	private static final Map<TileKey, CanvasPattern> CANVAS_PATTERNS = new LinkedHashMap<TileKey, CanvasPattern>(16, 0.75F, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TileKey, CanvasPattern> eldest) {
+			return size() > MAX_CACHED_TILES;
+		}
+
+	};
 	// static instance for singleton
 	private static final TilesFactory INSTANCE = new TilesFactory();
-	// cache of canvas patterns to avoid to create the same canvas pattern if already used
-	private static final Map<String, CanvasPattern> CANVAS_PATTERNS = new HashMap<>();
 	// message to show when the browser can't support canvas
 	private static final String CANVAS_NOT_SUPPORTED_MESSAGE = "Ops... Canvas element is not supported...";
-	// string format to trim blanks
-	private static final String REGEXP_TRIM_SPACES_PATTERN = "\\s+";
-	// regexp instance to trim blanks
-	private static final RegExp REGEXP_TRIM_SPACES = RegExp.compile(REGEXP_TRIM_SPACES_PATTERN);
 
 	// gets if Canvas is supported
 	private final boolean isCanvasSupported = Canvas.isSupported();
@@ -159,7 +174,24 @@ public final class TilesFactory {
 	 * @return a tile as canvas pattern
 	 */
 	public static CanvasPattern createTile(IsShape shape, IsColor backgroundColor, IsColor shapeColor, int size) {
-		return createTile(shape, backgroundColor != null ? backgroundColor.toRGBA() : INSTANCE.defaults.getBackgroundColorAsString(), shapeColor != null ? shapeColor.toRGBA() : INSTANCE.defaults.getShapeColorAsString(), size);
+		// checks consistency of all parameters
+		// if not consistent, it applies the default value
+		IsShape shapeParam = shape != null ? shape : INSTANCE.defaults.getShape();
+		IsColor backgroundColorParam = backgroundColor != null ? backgroundColor : INSTANCE.defaults.getBackgroundColor();
+		IsColor shapeColorParam = shapeColor != null ? shapeColor : INSTANCE.defaults.getShapeColor();
+		// checks the minimum size of canvas pattern
+		int sizeParam = Math.max(size, TilesFactoryDefaults.MINIMUM_SIZE);
+		// creates a key based on arguments, packing the colors
+		TileKey key = new TileKey(shapeParam.getKeyPrefix(), pack(backgroundColorParam), pack(shapeColorParam), sizeParam, null);
+		// checks if the canvas pattern is already created with those parameters
+		CanvasPattern pattern = CANVAS_PATTERNS.get(key);
+		if (pattern == null) {
+			// creates a canvas
+			pattern = shapeParam.getDrawer().createTile(INSTANCE.canvas, backgroundColorParam.toRGBA(), shapeColorParam.toRGBA(), sizeParam);
+			// stores it into cache
+			CANVAS_PATTERNS.put(key, pattern);
+		}
+		return pattern;
 	}
 
 	/**
@@ -177,26 +209,97 @@ public final class TilesFactory {
 		IsShape shapeParam = shape != null ? shape : INSTANCE.defaults.getShape();
 		String backgroundColorParam = backgroundColor != null ? backgroundColor : TilesFactoryDefaults.DEFAULT_BACKGROUND_COLOR_AS_STRING;
 		String shapeColorParam = shapeColor != null ? shapeColor : TilesFactoryDefaults.DEFAULT_SHAPE_COLOR_AS_STRING;
+		// parses the colors in order to use the same tiles
+		// of the colors passed as instances
+		// the parsed colors are cached therefore no parsing is performed
+		// if the same colors are requested
+		IsColor backgroundColorAsColor = toColor(backgroundColorParam);
+		IsColor shapeColorAsColor = toColor(shapeColorParam);
+		// checks if the colors are parsed
+		if (backgroundColorAsColor != null && shapeColorAsColor != null) {
+			return createTile(shapeParam, backgroundColorAsColor, shapeColorAsColor, size);
+		}
+		// if here, at least a color is not parsable
+		// then the colors are stored into key as they are
 		// checks the minimum size of canvas pattern
 		int sizeParam = Math.max(size, TilesFactoryDefaults.MINIMUM_SIZE);
-		// creates a unique key based on arguments
-		// in order to store the canvas pattern when created and
-		// if all further requests for the same canvas pattern, returns the cached one
-		StringBuilder keyBuilder = new StringBuilder(shapeParam.getKeyPrefix());
-		keyBuilder.append(backgroundColorParam).append(shapeColorParam).append(sizeParam);
-		String key = REGEXP_TRIM_SPACES.replace(keyBuilder.toString(), Utilities.EMPTY_STRING).toLowerCase(Locale.getDefault());
+		// creates a key based on arguments
+		TileKey key = new TileKey(shapeParam.getKeyPrefix(), 0, 0, sizeParam, backgroundColorParam + shapeColorParam);
 		// checks if the canvas pattern is already created with those parameters
-		if (CANVAS_PATTERNS.containsKey(key)) {
-			// if yes returns the cached one
-			return CANVAS_PATTERNS.get(key);
+		CanvasPattern pattern = CANVAS_PATTERNS.get(key);
+		if (pattern == null) {
+			// creates a canvas
+			pattern = shapeParam.getDrawer().createTile(INSTANCE.canvas, backgroundColorParam, shapeColorParam, sizeParam);
+			// stores it into cache
+			CANVAS_PATTERNS.put(key, pattern);
 		}
-		// creates a canvas
-		CanvasPattern pattern = shapeParam.getDrawer().createTile(INSTANCE.canvas, backgroundColorParam, shapeColorParam, sizeParam);
-		// stores it into cache
-		CANVAS_PATTERNS.put(key, pattern);
 		return pattern;
 	}
 
+	/**
+	 * Creates and caches the tiles for all combinations of the shapes and background colors passed as arguments, using the
+	 * default shape color and size.<br>
+	 * It can be used to prepare all tiles of a palette before drawing the charts.
+	 * 
+	 * @param shapes list of shapes to apply to canvas patterns
+	 * @param backgroundColors list of background colors of canvas patterns
+	 */
+	public static void preloadTiles(List<IsShape> shapes, List<IsColor> backgroundColors) {
+		preloadTiles(shapes, backgroundColors, INSTANCE.defaults.getShapeColor(), INSTANCE.defaults.getSize());
+	}
+
+	/**
+	 * Creates and caches the tiles for all combinations of the shapes and background colors passed as arguments.<br>
+	 * It can be used to prepare all tiles of a palette before drawing the charts.
+	 * 
+	 * @param shapes list of shapes to apply to canvas patterns
+	 * @param backgroundColors list of background colors of canvas patterns
+	 * @param shapeColor shape color
+	 * @param size size of canvas patterns
+	 */
+	public static void preloadTiles(List<IsShape> shapes, List<IsColor> backgroundColors, IsColor shapeColor, int size) {
+		// checks if arguments are consistent
+		if (shapes != null && backgroundColors != null) {
+			// scans all shapes
+			for (IsShape shape : shapes) {
+				// scans all colors
+				for (IsColor backgroundColor : backgroundColors) {
+					// creates the tile which is stored into cache
+					createTile(shape, backgroundColor, shapeColor, size);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Packs the red, green, blue and alpha values of a color into an integer, used as key of cache.<br>
+	 * The alpha is stored with a precision of 1/255, as for the canvas.
+	 * 
+	 * @param color color to pack
+	 * @return an integer with the red, green, blue and alpha values of the color
+	 */
+	private static int pack(IsColor color) {
+		// alpha from 0 to 255
+		int alpha = (int) Math.round(color.getAlpha() * 255D);
+		return ((color.getRed() & 0xFF) << 24) | ((color.getGreen() & 0xFF) << 16) | ((color.getBlue() & 0xFF) << 8) | (alpha & 0xFF);
+	}
+
+	/**
+	 * Returns the color parsing the string passed as argument or <code>null</code> if the string is not parsable.
+	 * 
+	 * @param color color as string
+	 * @return the color instance or <code>null</code> if the string is not parsable
+	 */
+	private static IsColor toColor(String color) {
+		try {
+			return ColorBuilder.parse(color);
+		} catch (IllegalArgumentException e) {
+			// if here the string is not a color
+			// which can be parsed
+			return null;
+		}
+	}
+
 	/**
 	 * Returns a CHARBA pattern, using default values, shape is <code>square</code>, background color, shape color and size.
 	 * 
@@ -291,4 +394,89 @@ public final class TilesFactory {
 		return new Pattern(createTile(shape, backgroundColor, shapeColor, size));
 	}
 
+	/**
+	 * Key of a cached tile, made by shape key prefix, packed colors and size.<br>
+	 * If the colors are not parsable, they are stored as string.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class TileKey {
+
+		private final String shape;
+
+		private final int backgroundColor;
+
+		private final int shapeColor;
+
+		private final int size;
+
+		private final String colors;
+
+		private final int hashCode;
+
+		/**
+		 * Creates the key with all values.
+		 * 
+		 * @param shape key prefix of shape
+		 * @param backgroundColor packed background color
+		 * @param shapeColor packed shape color
+		 * @param size size of tile
+		 * @param colors colors as string when they are not parsable, otherwise <code>null</code>
+		 */
+		TileKey(String shape, int backgroundColor, int shapeColor, int size, String colors) {
+			this.shape = shape;
+			this.backgroundColor = backgroundColor;
+			this.shapeColor = shapeColor;
+			this.size = size;
+			this.colors = colors;
+			// calculates the hash code once
+			int result = shape != null ? shape.hashCode() : 0;
+			result = 31 * result + backgroundColor;
+			result = 31 * result + shapeColor;
+			result = 31 * result + size;
+			this.hashCode = 31 * result + (colors != null ? colors.hashCode() : 0);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			// checks if the same instance
+			if (this == obj) {
+				return true;
+			}
+			// checks if a key
+			if (obj instanceof TileKey) {
+				TileKey other = (TileKey) obj;
+				return backgroundColor == other.backgroundColor && shapeColor == other.shapeColor && size == other.size && equals(shape, other.shape) && equals(colors, other.colors);
+			}
+			return false;
+		}
+
+		/**
+		 * Returns <code>true</code> if the strings are both <code>null</code> or equals.
+		 * 
+		 * @param value first string to compare
+		 * @param other second string to compare
+		 * @return <code>true</code> if the strings are both <code>null</code> or equals
+		 */
+		private static boolean equals(String value, String other) {
+			return value == null ? other == null : value.equals(other);
+		}
+	}
+
 }
@@ -32,6 +32,8 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 
 	// delegated array to store objects
 	private final ArrayDouble array;
+	// container which owns the array, notified of every change, can be null
+	private NativeObjectContainer owner = null;
 
 	/**
 	 * Internal constructor used to set an array instance as back-end of the list.
@@ -65,6 +67,25 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 		this(null);
 	}
 
+	/**
+	 * Sets the container which owns the array, notified of every change of the list.
+	 * 
+	 * @param owner container which owns the array
+	 */
+	void setOwner(NativeObjectContainer owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Notifies the owner, if any, that the list has been changed.
+	 */
+	private void notifyOwner() {
+		// checks if there is an owner
+		if (owner != null) {
+			owner.incrementModificationCount();
+		}
+	}
+
 	/**
 	 * Loads an array of elements into the list
 	 * 
@@ -90,6 +111,7 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 		if (element != null) {
 			// adds element to array
 			array.push(element);
+			notifyOwner();
 			return true;
 		}
 		// if here, not added
@@ -157,6 +179,7 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 	@Override
 	public void clear() {
 		array.clear();
+		notifyOwner();
 	}
 
 	/**
@@ -183,6 +206,7 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 			Double old = array.get(index);
 			// replaces with new element
 			array.set(index, element);
+			notifyOwner();
 			// returns old
 			return old;
 		}
@@ -200,6 +224,7 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 		if (element != null) {
 			// inserts into array
 			array.insertAt(index, element);
+			notifyOwner();
 		}
 	}
 
@@ -212,7 +237,10 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 	public Double remove(int index) {
 		// checks range
 		if (checkRange(index)) {
-			return array.remove(index);
+			// removes from array
+			Double old = array.remove(index);
+			notifyOwner();
+			return old;
 		}
 		return Double.NaN;
 	}
@@ -0,0 +1,188 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.commons;
+
+import com.google.gwt.typedarrays.shared.ArrayBuffer;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Typed array object which maps the java script <code>Float64Array</code> object.<br>
+ * It stores the numeric (doubles) values into a contiguous buffer, without boxing, and it can be loaded in bulk from a java
+ * array of doubles or wrap an existing array buffer without copying it.<br>
+ * Being a typed array, its length is fixed at creation time.
+ *
+ * @author Andrea "Stock" Stocchero
+ */
+@JsType(isNative = true, name = NativeName.FLOAT64_ARRAY, namespace = JsPackage.GLOBAL)
+public final class ArrayFloat64 {
+
+	/**
+	 * Creates a typed array with the given length, filled by zeros.
+	 *
+	 * @param length length of the typed array
+	 */
+	ArrayFloat64(int length) {
+	}
+
+	/**
+	 * Creates a typed array copying all values of a java array in a single native call.
+	 *
+	 * @param values values to be copied into the typed array
+	 */
+	ArrayFloat64(double[] values) {
+	}
+
+	/**
+	 * Creates a typed array as view of an existing array buffer. The buffer is not copied.
+	 *
+	 * @param buffer array buffer to be wrapped
+	 */
+	ArrayFloat64(ArrayBuffer buffer) {
+	}
+
+	/**
+	 * This method creates new typed array instance with a variable number of <code>double</code> arguments.
+	 *
+	 * @param items double items to create new typed array
+	 * @return new typed array instance of doubles or <code>null</code> if argument is <code>null</code> or length to 0.
+	 */
+	@JsOverlay
+	public static ArrayFloat64 fromOrNull(double... items) {
+		// checks if consistent
+		if (items == null || items.length == 0) {
+			// returns null
+			return null;
+		}
+		// returns typed array
+		return new ArrayFloat64(items);
+	}
+
+	/**
+	 * This method creates new typed array instance with a variable number of <code>double</code> arguments.
+	 *
+	 * @param items double items to create new typed array
+	 * @return new typed array instance of doubles or an empty typed array if argument is <code>null</code> or length to 0
+	 */
+	@JsOverlay
+	public static ArrayFloat64 fromOrEmpty(double... items) {
+		// checks if consistent
+		if (items == null || items.length == 0) {
+			// returns an empty typed array
+			return new ArrayFloat64(0);
+		}
+		// returns typed array
+		return new ArrayFloat64(items);
+	}
+
+	/**
+	 * This method creates new typed array instance as view of an existing array buffer, without copying it.
+	 *
+	 * @param buffer array buffer to be wrapped. Its length must be a multiple of 8.
+	 * @return new typed array instance of doubles or <code>null</code> if argument is <code>null</code>.
+	 */
+	@JsOverlay
+	public static ArrayFloat64 fromOrNull(ArrayBuffer buffer) {
+		// checks if consistent
+		if (buffer == null) {
+			// returns null
+			return null;
+		}
+		// returns typed array
+		return new ArrayFloat64(buffer);
+	}
+
+	/**
+	 * This method creates new typed array instance with the given length, filled by zeros.
+	 *
+	 * @param length length of the typed array
+	 * @return new typed array instance of doubles
+	 */
+	@JsOverlay
+	public static ArrayFloat64 create(int length) {
+		return new ArrayFloat64(Math.max(0, length));
+	}
+
+	/**
+	 * Returns the number of elements in this typed array.
+	 *
+	 * @return the number of elements in this typed array.
+	 */
+	@JsProperty(name = "length")
+	public native int length();
+
+	/**
+	 * Returns the array buffer referenced by the typed array.
+	 *
+	 * @return the array buffer referenced by the typed array
+	 */
+	@JsProperty(name = "buffer")
+	public native ArrayBuffer getBuffer();
+
+	/**
+	 * Returns <code>true</code> if this typed array contains no elements.
+	 *
+	 * @return <code>true</code> if this typed array contains no elements
+	 */
+	@JsOverlay
+	public boolean isEmpty() {
+		// checks the length
+		return length() == 0;
+	}
+
+	/**
+	 * Gets the value at a given index.
+	 *
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	@JsOverlay
+	public double get(int index) {
+		return JsHelper.get().getByIndex(this, index);
+	}
+
+	/**
+	 * Sets the value at a given index.<br>
+	 * Being a typed array, if the index is out of bounds, the value is ignored.
+	 *
+	 * @param index the index to be set
+	 * @param item the value to be stored
+	 */
+	@JsOverlay
+	public void set(int index, double item) {
+		JsHelper.get().setByIndex(this, index, item);
+	}
+
+	/**
+	 * Returns a java array containing all of the elements in this typed array in proper sequence.
+	 *
+	 * @return a java array containing all of the elements in this typed array
+	 */
+	@JsOverlay
+	public double[] toArray() {
+		// creates the result
+		double[] result = new double[length()];
+		// scans all elements
+		for (int i = 0; i < result.length; i++) {
+			result[i] = get(i);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,112 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.commons;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Fixed-size list which uses a java script typed array (doubles) as back-end.<br>
+ * The elements can be read and replaced but, being a typed array with a fixed length, they can not be added or removed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class ArrayFloat64List extends AbstractList<Double> implements RandomAccess {
+
+	// delegated typed array to store objects
+	private final ArrayFloat64 array;
+	// container which owns the array, notified of every change, can be null
+	private NativeObjectContainer owner = null;
+
+	/**
+	 * Internal constructor used to set a typed array instance as back-end of the list.
+	 * 
+	 * @param array java script typed array instance. If <code>null</code>, new empty typed array has been created
+	 */
+	ArrayFloat64List(ArrayFloat64 array) {
+		// if null, creates a new typed array
+		this.array = array == null ? ArrayFloat64.create(0) : array;
+	}
+
+	/**
+	 * Sets the container which owns the array, notified of every change of the list.
+	 * 
+	 * @param owner container which owns the array
+	 */
+	void setOwner(NativeObjectContainer owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Notifies the owner, if any, that the list has been changed.
+	 */
+	private void notifyOwner() {
+		// checks if there is an owner
+		if (owner != null) {
+			owner.incrementModificationCount();
+		}
+	}
+
+	/**
+	 * Returns the typed array native object instance.
+	 * 
+	 * @return the typed array native object instance.
+	 */
+	ArrayFloat64 getArray() {
+		return array;
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return array.length();
+	}
+
+	/**
+	 * Returns the element at the specified position in this list. If index out of range, returns NaN
+	 */
+	@Override
+	public Double get(int index) {
+		// checks range
+		if (index >= 0 && index < array.length()) {
+			return array.get(index);
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Replaces the element at the specified position in this list with the specified element. If index out of range, returns
+	 * NaN
+	 */
+	@Override
+	public Double set(int index, Double element) {
+		// checks if element is consistent and in range
+		if (element != null && index >= 0 && index < array.length()) {
+			// gets current element at that index
+			double old = array.get(index);
+			// replaces with new element
+			array.set(index, element);
+			notifyOwner();
+			// returns old
+			return old;
+		}
+		return Double.NaN;
+	}
+
+}
@@ -272,7 +272,7 @@ public final class ArrayImage extends Array {
 	 */
 	@JsOverlay
 	public ImageElement get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().getByIndex(this, index);
 	}
 
 	/**
@@ -310,6 +310,6 @@ public final class ArrayImage extends Array {
 	 */
 	@JsOverlay
 	void set(int index, ImageElement item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setByIndex(this, index, item);
 	}
 }
\ No newline at end of file
@@ -49,6 +49,19 @@ public final class ArrayListHelper {
 		return new ArrayDoubleList(values);
 	}
 
+	/**
+	 * Creates a fixed-size list of doubles by a java script typed array of doubles.
+	 * 
+	 * @param values typed array of elements to be wrapped by the list.
+	 * @return a fixed-size list of doubles instance
+	 */
+	public static ArrayFloat64List list(ArrayFloat64 values) {
+		// creates the list
+		// if values not consistent
+		// creates an empty list
+		return new ArrayFloat64List(values);
+	}
+
 	/**
 	 * Creates a array list of integers by a java script array of integers.
 	 * 
@@ -160,7 +160,7 @@ public final class ArrayMixedObject extends Array {
 	 */
 	@JsOverlay
 	public Object get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().getByIndex(this, index);
 	}
 
 	/**
@@ -197,6 +197,6 @@ public final class ArrayMixedObject extends Array {
 	 */
 	@JsOverlay
 	void set(int index, Object item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setByIndex(this, index, item);
 	}
 }
\ No newline at end of file
@@ -325,7 +325,7 @@ public final class ArrayObject extends Array {
 	 */
 	@JsOverlay
 	public NativeObject get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().getByIndex(this, index);
 	}
 
 	/**
@@ -363,6 +363,6 @@ public final class ArrayObject extends Array {
 	 */
 	@JsOverlay
 	void set(int index, NativeObject item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setByIndex(this, index, item);
 	}
 }
\ No newline at end of file
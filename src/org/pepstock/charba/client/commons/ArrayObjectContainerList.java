@@ -15,30 +15,40 @@
 */
 package org.pepstock.charba.client.commons;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.RandomAccess;
 
 /**
  * An ordered collection (also known as a sequence). The user of this interface has precise control over where in the list each
  * element is inserted. <br>
  * The user can access elements by their integer index (position in the list), and search for elements in the list.<br>
  * This implementation uses a java script array as back-end to store objects (native object containers).<br>
- * Elements are instances of {@link org.pepstock.charba.client.commons.NativeObjectContainer}.
+ * Elements are instances of {@link org.pepstock.charba.client.commons.NativeObjectContainer}.<br>
+ * The elements are created by the factory only when they are accessed for the first time and then they are cached, in order
+ * to provide random access in constant time without wrapping all native objects of the array in advance.
  * 
  * @author Andrea "Stock" Stocchero
  * @param <E> extension of {@link org.pepstock.charba.client.commons.NativeObjectContainer}
  * 
  */
-public final class ArrayObjectContainerList<E extends NativeObjectContainer> extends AbstractArrayContainerList<E, ArrayObject> {
+public final class ArrayObjectContainerList<E extends NativeObjectContainer> extends AbstractArrayContainerList<E, ArrayObject> implements RandomAccess {
 
 	// delegated array to store objects
 	private final ArrayObject array;
 
-	// delegated linked list to store Java objects
-	private final List<E> delegate = new LinkedList<>();
+	// factory to create the elements on demand
+	private final NativeObjectContainerFactory<E> factory;
+
+	// cache of the Java objects, aligned to the java script array
+	// elements are null until they are accessed for the first time
+	private final List<E> cache = new ArrayList<>();
+
+	// container which owns the array, notified of every change, can be null
+	private NativeObjectContainer owner = null;
 
 	/**
 	 * Internal constructor used to set an array instance as back-end of the list.
@@ -50,6 +60,7 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 		// if null, creates a new array
 		if (array == null) {
 			this.array = new ArrayObject();
+			this.factory = factory;
 		} else if (factory == null) {
 			// factory is not consistent and array is consistent EXCEPTION
 			// factory is mandatory to initialize the list creating the elements from native object
@@ -57,10 +68,12 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 		} else {
 			// uses an existing array
 			this.array = array;
+			this.factory = factory;
 			// scans the array
 			for (int i = 0; i < array.length(); i++) {
-				// uses the factory to creates all elements
-				delegate.add(factory.create(array.get(i)));
+				// reserves the slot for the element
+				// which will be created on demand
+				cache.add(null);
 			}
 		}
 	}
@@ -72,6 +85,41 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 		this(null, null);
 	}
 
+	/**
+	 * Sets the container which owns the array, notified of every change of the list.
+	 * 
+	 * @param owner container which owns the array
+	 */
+	void setOwner(NativeObjectContainer owner) {
+		this.owner = owner;
+		// the elements already created are owned as well
+		for (E element : cache) {
+			setOwnerOf(element);
+		}
+	}
+
+	/**
+	 * Notifies the owner, if any, that the list has been changed.
+	 */
+	private void notifyOwner() {
+		// checks if there is an owner
+		if (owner != null) {
+			owner.incrementModificationCount();
+		}
+	}
+
+	/**
+	 * Sets the owner of the list as owner of the element, in order that the changes of the element are notified to it.
+	 * 
+	 * @param element element of the list
+	 */
+	private void setOwnerOf(E element) {
+		// checks if there is an owner and the element is consistent
+		if (owner != null && element != null) {
+			element.setOwner(owner);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -82,6 +130,26 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 		return array;
 	}
 
+	/**
+	 * Returns the element at the specified position, creating it by the factory if it is accessed for the first time.
+	 * 
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 */
+	private E getElement(int index) {
+		// gets the element from cache
+		E element = cache.get(index);
+		// checks if the element has been already created
+		if (element == null && factory != null) {
+			// creates the element by the native object
+			// and stores it into cache
+			element = factory.create(array.get(index));
+			cache.set(index, element);
+			setOwnerOf(element);
+		}
+		return element;
+	}
+
 	/**
 	 * Loads an array of elements into the list
 	 * 
@@ -103,7 +171,7 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	 */
 	@Override
 	public int size() {
-		return delegate.size();
+		return cache.size();
 	}
 
 	/**
@@ -111,15 +179,16 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	 */
 	@Override
 	public boolean isEmpty() {
-		return delegate.isEmpty();
+		return cache.isEmpty();
 	}
 
 	/**
-	 * Returns true if this list contains the specified element.
+	 * Returns true if this list contains the specified element.<br>
+	 * Elements which have never been accessed can not be equal to the specified element, therefore they are not created.
 	 */
 	@Override
 	public boolean contains(Object object) {
-		return delegate.contains(object);
+		return indexOf(object) != AbstractArrayList.NOT_FOUND;
 	}
 
 	/**
@@ -137,12 +206,14 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	public boolean add(E element) {
 		// checks if element is consistent
 		if (element != null) {
-			// adds to linked list
-			boolean added = delegate.add(element);
+			// adds to cache
+			boolean added = cache.add(element);
 			// if added
 			if (added) {
 				// adds to JS array
 				array.push(element.getNativeObject());
+				setOwnerOf(element);
+				notifyOwner();
 			}
 			return added;
 		}
@@ -158,7 +229,14 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	public boolean containsAll(Collection<?> collection) {
 		// checks if argument is consistent
 		if (collection != null) {
-			return delegate.containsAll(collection);
+			// scans all elements of collection
+			for (Object object : collection) {
+				// checks if contained
+				if (!contains(object)) {
+					return false;
+				}
+			}
+			return true;
 		}
 		// if here, collection is not consistent
 		return false;
@@ -169,8 +247,9 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	 */
 	@Override
 	public void clear() {
-		delegate.clear();
+		cache.clear();
 		array.clear();
+		notifyOwner();
 	}
 
 	/**
@@ -180,7 +259,7 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	public E get(int index) {
 		// checks range
 		if (checkRange(index)) {
-			return delegate.get(index);
+			return getElement(index);
 		}
 		return null;
 	}
@@ -193,10 +272,14 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	public E set(int index, E element) {
 		// checks element is consistent and in range
 		if (element != null && checkRange(index)) {
-			// sets to linked list
-			E old = delegate.set(index, element);
+			// gets the old element
+			E old = getElement(index);
+			// sets to cache
+			cache.set(index, element);
 			// sets on JS array
 			array.set(index, element.getNativeObject());
+			setOwnerOf(element);
+			notifyOwner();
 			// returns old value
 			return old;
 		}
@@ -213,8 +296,10 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 		// checks if element is consistent
 		if (element != null) {
 			// adds element
-			delegate.add(index, element);
+			cache.add(index, element);
 			array.insertAt(index, element.getNativeObject());
+			setOwnerOf(element);
+			notifyOwner();
 		}
 	}
 
@@ -227,10 +312,13 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	public E remove(int index) {
 		// checks range
 		if (checkRange(index)) {
-			// removes from LinkedList
-			E old = delegate.remove(index);
+			// gets the old element
+			E old = getElement(index);
+			// removes from cache
+			cache.remove(index);
 			// removes from JS array
 			array.remove(index);
+			notifyOwner();
 			// returns old value
 			return old;
 		}
@@ -245,7 +333,9 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	public int indexOf(Object object) {
 		// checks if argument is consistent
 		if (object != null) {
-			return delegate.indexOf(object);
+			// only the created elements can be equal to the argument
+			// therefore the search is done into cache
+			return cache.indexOf(object);
 		}
 		// if here, element is not consistent
 		return AbstractArrayList.NOT_FOUND;
@@ -259,7 +349,9 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	public int lastIndexOf(Object object) {
 		// checks if argument is consistent
 		if (object != null) {
-			return delegate.lastIndexOf(object);
+			// only the created elements can be equal to the argument
+			// therefore the search is done into cache
+			return cache.lastIndexOf(object);
 		}
 		// if here, element is not consistent
 		return AbstractArrayList.NOT_FOUND;
@@ -303,7 +395,14 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	 */
 	@Override
 	public Object[] toArray() {
-		return delegate.toArray();
+		// creates the result
+		Object[] result = new Object[size()];
+		// scans all elements
+		for (int i = 0; i < result.length; i++) {
+			// creates the element if needed
+			result[i] = getElement(i);
+		}
+		return result;
 	}
 
 }
\ No newline at end of file
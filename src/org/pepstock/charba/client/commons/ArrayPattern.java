@@ -258,7 +258,7 @@ public final class ArrayPattern extends Array {
 	 */
 	@JsOverlay
 	public CanvasPattern get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().getByIndex(this, index);
 	}
 
 	/**
@@ -296,6 +296,6 @@ public final class ArrayPattern extends Array {
 	 */
 	@JsOverlay
 	void set(int index, CanvasPattern item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setByIndex(this, index, item);
 	}
 }
\ No newline at end of file
@@ -368,7 +368,7 @@ public final class ArrayString extends Array {
 	 */
 	@JsOverlay
 	public String get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().getByIndex(this, index);
 	}
 
 	/**
@@ -406,6 +406,6 @@ public final class ArrayString extends Array {
 	 */
 	@JsOverlay
 	void set(int index, String item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setByIndex(this, index, item);
 	}
 }
\ No newline at end of file
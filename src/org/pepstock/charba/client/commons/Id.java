@@ -69,12 +69,10 @@ public enum Id implements Key
 	 * @return the property value or {@link UndefinedValues#STRING} if not exist
 	 */
 	public static String get(NativeObject nativeObject) {
-		// checks if argument is consistent and property exists
-		if (nativeObject != null && nativeObject.hasProperty(CHARBA_ID.value())) {
-			// gets descriptor
-			NativeStringDescriptor descriptor = nativeObject.getStringProperty(CHARBA_ID.value());
-			// if descriptor is consistent, return value
-			return descriptor != null ? descriptor.getValue() : UndefinedValues.STRING;
+		// checks if argument is consistent
+		if (nativeObject != null) {
+			// returns the value, checking existence and type by a single call
+			return nativeObject.getStringValue(CHARBA_ID.value(), UndefinedValues.STRING);
 		}
 		// property doesn't exist
 		return UndefinedValues.STRING;
@@ -88,12 +86,10 @@ public enum Id implements Key
 	 * @return the property value or {@link UndefinedValues#INTEGER} if not exist
 	 */
 	public static int get(Key key, NativeObject nativeObject) {
-		// checks if argument is consistent and property exists
-		if (nativeObject != null && nativeObject.hasProperty(key.value())) {
-			// gets descriptor
-			NativeIntegerDescriptor descriptor = nativeObject.getIntProperty(key.value());
-			// if descriptor is consistent, return value
-			return descriptor != null ? descriptor.getValue() : UndefinedValues.INTEGER;
+		// checks if argument is consistent
+		if (nativeObject != null) {
+			// returns the value, checking existence and type by a single call
+			return nativeObject.getIntValue(key.value(), UndefinedValues.INTEGER);
 		}
 		// property doesn't exist
 		return UndefinedValues.INTEGER;
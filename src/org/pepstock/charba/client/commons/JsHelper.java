@@ -22,8 +22,12 @@ import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.items.UndefinedValues;
 import org.pepstock.charba.client.resources.ResourcesType;
 
+import com.google.gwt.canvas.dom.client.CanvasGradient;
+import com.google.gwt.canvas.dom.client.CanvasPattern;
 import com.google.gwt.canvas.dom.client.Context2d;
+import com.google.gwt.core.client.JsDate;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.ImageElement;
 
 /**
  * This is a singleton wrapper for Java native object which is wrapping a CHARBA java script object implementation with some
@@ -35,6 +39,8 @@ import com.google.gwt.dom.client.Element;
 public final class JsHelper {
 	// static instance for singleton
 	private static final JsHelper INSTANCE = new JsHelper();
+	// type passed to the native helper to check that a property is a date
+	private static final String DATE_TYPE = "date";
 
 	/**
 	 * To avoid any instantiation
@@ -108,6 +114,61 @@ public final class JsHelper {
 		return ObjectType.UNDEFINED;
 	}
 
+	/**
+	 * Returns a typed array with the numeric values of a property of all objects of an array, in a single call.<br>
+	 * Dates are returned as epoch milliseconds and missing values as <code>NaN</code>.
+	 * 
+	 * @param array array of objects to be read
+	 * @param key the string name of the property to read
+	 * @return a typed array with the numeric values of the property or an empty typed array if arguments are not consistent
+	 */
+	public ArrayFloat64 numbers(ArrayObject array, String key) {
+		// checks consistency of arguments
+		if (array != null && key != null) {
+			return NativeJsHelper.numbers(array, key);
+		}
+		// if here the arguments are not consistent
+		return ArrayFloat64.create(0);
+	}
+
+	/**
+	 * Returns a new array with the elements of the passed array at the passed indexes, in a single call.<br>
+	 * The elements are not copied.
+	 * 
+	 * @param array array of objects to be read
+	 * @param indexes indexes of the elements to be selected
+	 * @param count amount of indexes to use, starting from the first one
+	 * @return a new array with the selected elements or an empty array if arguments are not consistent
+	 */
+	public ArrayObject select(ArrayObject array, int[] indexes, int count) {
+		// checks consistency of arguments
+		if (array != null && indexes != null) {
+			return NativeJsHelper.select(array, indexes, Math.min(Math.max(0, count), indexes.length));
+		}
+		// if here the arguments are not consistent
+		return new ArrayObject();
+	}
+
+	/**
+	 * Returns a new array of objects, one for each couple of values, in a single call.<br>
+	 * The amount of created objects is the minimum length of the passed typed arrays.
+	 * 
+	 * @param xValues values to store into the objects by the x key
+	 * @param xKey the string name of the property where to store the x values
+	 * @param yValues values to store into the objects by the y key
+	 * @param yKey the string name of the property where to store the y values
+	 * @param sort if <code>true</code>, the objects are sorted by x values
+	 * @return a new array of objects or an empty array if arguments are not consistent
+	 */
+	public ArrayObject points(ArrayFloat64 xValues, String xKey, ArrayFloat64 yValues, String yKey, boolean sort) {
+		// checks consistency of arguments
+		if (xValues != null && xKey != null && yValues != null && yKey != null) {
+			return NativeJsHelper.points(xValues, xKey, yValues, yKey, sort);
+		}
+		// if here the arguments are not consistent
+		return new ArrayObject();
+	}
+
 	/**
 	 * Creates new proxy for callback which will pass <code>this</code> environment of java script as first argument of callback
 	 * method.
@@ -119,6 +180,21 @@ public final class JsHelper {
 		return NativeJsHelper.newCallbackProxy();
 	}
 
+	/**
+	 * Creates new proxy for callback which will pass <code>this</code> environment of java script as first argument of callback
+	 * method.<br>
+	 * The arity is the amount of arguments of the {@link jsinterop.annotations.JsFunction} interface of the callback, without
+	 * the first one (<code>this</code> environment). From 0 to 4, the proxy forwards the arguments directly, without creating
+	 * any array at every call.
+	 * 
+	 * @param arity amount of arguments passed to the proxy, without <code>this</code> environment
+	 * @param <T> type of callback wrapped by proxy
+	 * @return new proxy for callback.
+	 */
+	public <T> CallbackProxy<T> newCallbackProxy(int arity) {
+		return NativeJsHelper.newCallbackProxy(arity);
+	}
+
 	/**
 	 * Removes a property from a java script object.
 	 * 
@@ -129,6 +205,96 @@ public final class JsHelper {
 		NativeJsHelper.remove(object, key);
 	}
 
+	/**
+	 * Hides a property inherited by the prototype of a java script object, setting an own property with the same name to
+	 * <code>undefined</code>.<br>
+	 * It is used to hide the methods of an exported java object.
+	 * 
+	 * @param object the object on which to hide the property.
+	 * @param key the string name of the property to hide.
+	 */
+	public void hide(Object object, String key) {
+		// checks if arguments are consistent
+		if (object != null && key != null) {
+			NativeJsHelper.hide(object, key);
+		}
+	}
+
+	/**
+	 * Shows a property inherited by the prototype of a java script object, previously hidden by
+	 * {@link #hide(Object, String)}, removing the own property with the same name.<br>
+	 * It is used to show again the methods of an exported java object.
+	 * 
+	 * @param object the object on which to show the property.
+	 * @param key the string name of the property to show.
+	 */
+	public void show(Object object, String key) {
+		// checks if arguments are consistent
+		if (object != null && key != null) {
+			NativeJsHelper.show(object, key);
+		}
+	}
+
+	/**
+	 * Sets a property (boolean) of java script object by plain assignment, as <code>object[key] = value</code>.<br>
+	 * The property is configurable, enumerable and writable, as defined by a default property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	void setProperty(NativeObject object, String key, boolean value) {
+		NativeJsHelper.setProperty(object, key, value);
+	}
+
+	/**
+	 * Sets a property (integer) of java script object by plain assignment, as <code>object[key] = value</code>.<br>
+	 * The property is configurable, enumerable and writable, as defined by a default property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	void setProperty(NativeObject object, String key, int value) {
+		NativeJsHelper.setProperty(object, key, value);
+	}
+
+	/**
+	 * Sets a property (double) of java script object by plain assignment, as <code>object[key] = value</code>.<br>
+	 * The property is configurable, enumerable and writable, as defined by a default property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	void setProperty(NativeObject object, String key, double value) {
+		NativeJsHelper.setProperty(object, key, value);
+	}
+
+	/**
+	 * Sets a property (string) of java script object by plain assignment, as <code>object[key] = value</code>.<br>
+	 * The property is configurable, enumerable and writable, as defined by a default property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	void setProperty(NativeObject object, String key, String value) {
+		NativeJsHelper.setProperty(object, key, value);
+	}
+
+	/**
+	 * Sets a property (object) of java script object by plain assignment, as <code>object[key] = value</code>.<br>
+	 * The property is configurable, enumerable and writable, as defined by a default property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	void setProperty(NativeObject object, String key, Object value) {
+		NativeJsHelper.setProperty(object, key, value);
+	}
+
 	/**
 	 * Returns a property of java script object as integer.
 	 * 
@@ -177,6 +343,160 @@ public final class JsHelper {
 		return UndefinedValues.STRING;
 	}
 
+	/**
+	 * Returns an own property (boolean) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	boolean propertyByType(NativeObject object, String key, ObjectType type, boolean defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (integer) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	int propertyByType(NativeObject object, String key, ObjectType type, int defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (double) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	double propertyByType(NativeObject object, String key, ObjectType type, double defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (string) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	String propertyByType(NativeObject object, String key, ObjectType type, String defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (date) of java script object, checking that it is an instance of <code>Date</code>, in one
+	 * single native call and without creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or is not a date.
+	 * @return the value of the property or the default value
+	 */
+	JsDate propertyByType(NativeObject object, String key, JsDate defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, DATE_TYPE, defaultValue);
+	}
+
+	/**
+	 * Returns an own property (object) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	NativeObject propertyByType(NativeObject object, String key, ObjectType type, NativeObject defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (image) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	ImageElement propertyByType(NativeObject object, String key, ObjectType type, ImageElement defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (gradient) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	CanvasGradient propertyByType(NativeObject object, String key, ObjectType type, CanvasGradient defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (pattern) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	CanvasPattern propertyByType(NativeObject object, String key, ObjectType type, CanvasPattern defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (typed array of doubles) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	ArrayFloat64 propertyByType(NativeObject object, String key, ObjectType type, ArrayFloat64 defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
+	/**
+	 * Returns an own property (array) of java script object, checking its type, in one single native call and without
+	 * creating any property descriptor.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @param <T> type of array
+	 * @return the value of the property or the default value
+	 */
+	<T extends Array> T propertyByType(NativeObject object, String key, ObjectType type, T defaultValue) {
+		return NativeJsHelper.propertyByType(object, key, type.value(), defaultValue);
+	}
+
 	/**
 	 * Sets the line dash pattern used when stroking lines. It uses an array of values that specify alternating lengths of lines
 	 * and gaps which describe the pattern.
@@ -207,4 +527,202 @@ public final class JsHelper {
 		return null;
 	}
 
+	/**
+	 * Returns the element of an array of doubles at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	double getByIndex(ArrayDouble array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of doubles at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayDouble array, int index, double value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of an array of integers at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	int getByIndex(ArrayInteger array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of integers at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayInteger array, int index, int value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of an array of strings at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	String getByIndex(ArrayString array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of strings at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayString array, int index, String value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of an array of native objects at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	NativeObject getByIndex(ArrayObject array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of native objects at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayObject array, int index, NativeObject value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of an array of mixed objects at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	Object getByIndex(ArrayMixedObject array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of mixed objects at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayMixedObject array, int index, Object value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of an array of gradients at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	CanvasGradient getByIndex(ArrayGradient array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of gradients at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayGradient array, int index, CanvasGradient value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of an array of patterns at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	CanvasPattern getByIndex(ArrayPattern array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of patterns at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayPattern array, int index, CanvasPattern value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of an array of images at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	ImageElement getByIndex(ArrayImage array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of images at the given index, without creating any temporary array.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayImage array, int index, ImageElement value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
+	/**
+	 * Returns the element of a typed array of doubles at the given index.
+	 * 
+	 * @param array typed array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	double getByIndex(ArrayFloat64 array, int index) {
+		return NativeJsHelper.getByIndex(array, index);
+	}
+
+	/**
+	 * Sets the element of a typed array of doubles at the given index.
+	 * 
+	 * @param array typed array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	void setByIndex(ArrayFloat64 array, int index, double value) {
+		NativeJsHelper.setByIndex(array, index, value);
+	}
+
 }
@@ -132,27 +132,24 @@ public final class Merger {
 	 * @param scaleOptions default scale options
 	 */
 	private void handleMultiScalesType(NativeObject chartOptions, NativeObject scaleOptions) {
+		// gets the native object for scales, checking its type
+		NativeObject scales = chartOptions.getObjectValue(Property.SCALES.value());
 		// checks if scales object is present
-		if (chartOptions.hasProperty(Property.SCALES.value())) {
+		if (scales != null) {
 			// if here, the chart has got 2 or more scales
-			// gets the native object for scales
-			NativeObjectDescriptor descriptor = chartOptions.getObjectProperty(Property.SCALES.value());
-			NativeObject scales = descriptor.getValue();
+			// gets the array about x axes
+			ArrayObject xScales = scales.getArrayValue(Property.X_AXES.value());
 			// checks if there is x axes
-			if (scales.hasProperty(Property.X_AXES.value())) {
-				// gets the array about x axes
-				NativeArrayDescriptor<ArrayObject> xScalesDescriptor = scales.getArrayProperty(Property.X_AXES.value());
-				ArrayObject xScales = xScalesDescriptor.getValue();
+			if (xScales != null) {
 				// scans all x axes applying the default scale
 				for (int i = 0; i < xScales.length(); i++) {
 					xScales.set(i, mergeNativeObjects(xScales.get(i), scaleOptions));
 				}
 			}
+			// gets the array about y axes
+			ArrayObject yScales = scales.getArrayValue(Property.Y_AXES.value());
 			// checks if there is y axes
-			if (scales.hasProperty(Property.Y_AXES.value())) {
-				// gets the array about y axes
-				NativeArrayDescriptor<ArrayObject> yScalesDescriptor = scales.getArrayProperty(Property.Y_AXES.value());
-				ArrayObject yScales = yScalesDescriptor.getValue();
+			if (yScales != null) {
 				// scans all x axes applying the default scale
 				for (int i = 0; i < yScales.length(); i++) {
 					yScales.set(i, mergeNativeObjects(yScales.get(i), scaleOptions));
@@ -168,12 +165,13 @@ public final class Merger {
 	 * @param scaleOptions default scale options
 	 */
 	private void handleSingleScalesType(NativeObject chartOptions, NativeObject scaleOptions) {
+		// gets the native object for scale, checking its type
+		NativeObject scale = chartOptions.getObjectValue(Property.SCALE.value());
 		// checks if scale object is present
-		if (chartOptions.hasProperty(Property.SCALE.value())) {
+		if (scale != null) {
 			// if has got scale
 			// apply the default scale to single scale of chart options
-			NativeObjectDescriptor descriptor = chartOptions.getObjectProperty(Property.SCALE.value());
-			chartOptions.defineObjectProperty(Property.SCALE.value(), mergeNativeObjects(descriptor.getValue(), scaleOptions));
+			chartOptions.defineObjectProperty(Property.SCALE.value(), mergeNativeObjects(scale, scaleOptions));
 		}
 	}
 
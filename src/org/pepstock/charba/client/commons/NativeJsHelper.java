@@ -17,8 +17,12 @@ package org.pepstock.charba.client.commons;
 
 import org.pepstock.charba.client.events.ChartNativeEvent;
 
+import com.google.gwt.canvas.dom.client.CanvasGradient;
+import com.google.gwt.canvas.dom.client.CanvasPattern;
 import com.google.gwt.canvas.dom.client.Context2d;
+import com.google.gwt.core.client.JsDate;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.ImageElement;
 
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
@@ -80,6 +84,16 @@ final class NativeJsHelper {
 	 */
 	static native <T> CallbackProxy<T> newCallbackProxy();
 
+	/**
+	 * Creates new proxy for callback which will pass <code>this</code> environment of java script as first argument of callback
+	 * method, forwarding the passed amount of arguments without creating any array.
+	 * 
+	 * @param arity amount of arguments passed to the proxy, without <code>this</code> environment
+	 * @param <T> type of callback wrapped by proxy
+	 * @return new proxy for callback.
+	 */
+	static native <T> CallbackProxy<T> newCallbackProxy(int arity);
+
 	/**
 	 * Removes a property from a java script object.
 	 * 
@@ -88,6 +102,69 @@ final class NativeJsHelper {
 	 */
 	static native void remove(NativeObject object, String key);
 
+	/**
+	 * Hides a property inherited by the prototype of a java script object, setting an own property with the same name to
+	 * <code>undefined</code>.
+	 * 
+	 * @param object the object on which to hide the property.
+	 * @param key the string name of the property to hide.
+	 */
+	static native void hide(Object object, String key);
+
+	/**
+	 * Shows a property inherited by the prototype of a java script object, previously hidden, removing the own property with
+	 * the same name.
+	 * 
+	 * @param object the object on which to show the property.
+	 * @param key the string name of the property to show.
+	 */
+	static native void show(Object object, String key);
+
+	/**
+	 * Sets a property (boolean) of java script object by plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	static native void setProperty(NativeObject object, String key, boolean value);
+
+	/**
+	 * Sets a property (integer) of java script object by plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	static native void setProperty(NativeObject object, String key, int value);
+
+	/**
+	 * Sets a property (double) of java script object by plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	static native void setProperty(NativeObject object, String key, double value);
+
+	/**
+	 * Sets a property (string) of java script object by plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	static native void setProperty(NativeObject object, String key, String value);
+
+	/**
+	 * Sets a property (object) of java script object by plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to be set.
+	 * @param value the value to be set.
+	 */
+	static native void setProperty(NativeObject object, String key, Object value);
+
 	/**
 	 * Returns a property of java script object as integer.
 	 * 
@@ -115,6 +192,127 @@ final class NativeJsHelper {
 	 */
 	static native String propertyAsString(Object object, String key);
 
+	/**
+	 * Returns an own property (boolean) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native boolean propertyByType(NativeObject object, String key, String type, boolean defaultValue);
+
+	/**
+	 * Returns an own property (integer) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native int propertyByType(NativeObject object, String key, String type, int defaultValue);
+
+	/**
+	 * Returns an own property (double) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native double propertyByType(NativeObject object, String key, String type, double defaultValue);
+
+	/**
+	 * Returns an own property (string) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native String propertyByType(NativeObject object, String key, String type, String defaultValue);
+
+	/**
+	 * Returns an own property (date) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have, "date" to check it is an instance of Date.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native JsDate propertyByType(NativeObject object, String key, String type, JsDate defaultValue);
+
+	/**
+	 * Returns an own property (object) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native NativeObject propertyByType(NativeObject object, String key, String type, NativeObject defaultValue);
+
+	/**
+	 * Returns an own property (image) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native ImageElement propertyByType(NativeObject object, String key, String type, ImageElement defaultValue);
+
+	/**
+	 * Returns an own property (gradient) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native CanvasGradient propertyByType(NativeObject object, String key, String type, CanvasGradient defaultValue);
+
+	/**
+	 * Returns an own property (pattern) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native CanvasPattern propertyByType(NativeObject object, String key, String type, CanvasPattern defaultValue);
+
+	/**
+	 * Returns an own property (typed array of doubles) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native ArrayFloat64 propertyByType(NativeObject object, String key, String type, ArrayFloat64 defaultValue);
+
+	/**
+	 * Returns an own property (array) of java script object, checking its type, in one single call.
+	 * 
+	 * @param object the object on which to search the property.
+	 * @param key the string name of the property to get.
+	 * @param type the java script type that the property must have.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
+	 */
+	static native <T extends Array> T propertyByType(NativeObject object, String key, String type, T defaultValue);
+
 	/**
 	 * Sets the line dash pattern used when stroking lines. It uses an array of values that specify alternating lengths of lines
 	 * and gaps which describe the pattern.
@@ -141,4 +339,198 @@ final class NativeJsHelper {
 	 */
 	static native ChartNativeEvent nativeEvent(NativeObject event, String key);
 
+	/**
+	 * Returns the element of an array of doubles at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native double getByIndex(ArrayDouble array, int index);
+
+	/**
+	 * Sets the element of an array of doubles at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayDouble array, int index, double value);
+
+	/**
+	 * Returns the element of an array of integers at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native int getByIndex(ArrayInteger array, int index);
+
+	/**
+	 * Sets the element of an array of integers at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayInteger array, int index, int value);
+
+	/**
+	 * Returns the element of an array of strings at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native String getByIndex(ArrayString array, int index);
+
+	/**
+	 * Sets the element of an array of strings at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayString array, int index, String value);
+
+	/**
+	 * Returns the element of an array of native objects at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native NativeObject getByIndex(ArrayObject array, int index);
+
+	/**
+	 * Sets the element of an array of native objects at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayObject array, int index, NativeObject value);
+
+	/**
+	 * Returns the element of an array of mixed objects at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native Object getByIndex(ArrayMixedObject array, int index);
+
+	/**
+	 * Sets the element of an array of mixed objects at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayMixedObject array, int index, Object value);
+
+	/**
+	 * Returns the element of an array of gradients at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native CanvasGradient getByIndex(ArrayGradient array, int index);
+
+	/**
+	 * Sets the element of an array of gradients at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayGradient array, int index, CanvasGradient value);
+
+	/**
+	 * Returns the element of an array of patterns at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native CanvasPattern getByIndex(ArrayPattern array, int index);
+
+	/**
+	 * Sets the element of an array of patterns at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayPattern array, int index, CanvasPattern value);
+
+	/**
+	 * Returns the element of an array of images at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native ImageElement getByIndex(ArrayImage array, int index);
+
+	/**
+	 * Sets the element of an array of images at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayImage array, int index, ImageElement value);
+
+	/**
+	 * Returns the element of a typed array of doubles at the given index, reading it directly by bracket notation.
+	 * 
+	 * @param array typed array instance to be read
+	 * @param index the index to be retrieved
+	 * @return the value at the given index
+	 */
+	static native double getByIndex(ArrayFloat64 array, int index);
+
+	/**
+	 * Sets the element of a typed array of doubles at the given index, writing it directly by bracket notation.
+	 * 
+	 * @param array typed array instance to be changed
+	 * @param index the index to be set
+	 * @param value the value to be stored
+	 */
+	static native void setByIndex(ArrayFloat64 array, int index, double value);
+
+	/**
+	 * Returns a typed array with the numeric values of a property of all objects of an array, in a single call.<br>
+	 * Dates are returned as epoch milliseconds and missing values as <code>NaN</code>.
+	 * 
+	 * @param array array of objects to be read
+	 * @param key the string name of the property to read
+	 * @return a typed array with the numeric values of the property
+	 */
+	static native ArrayFloat64 numbers(ArrayObject array, String key);
+
+	/**
+	 * Returns a new array with the elements of the passed array at the passed indexes, in a single call.
+	 * 
+	 * @param array array of objects to be read
+	 * @param indexes indexes of the elements to be selected
+	 * @param count amount of indexes to use
+	 * @return a new array with the selected elements
+	 */
+	static native ArrayObject select(ArrayObject array, int[] indexes, int count);
+
+	/**
+	 * Returns a new array of objects, one for each couple of values, in a single call.
+	 * 
+	 * @param xValues values to store into the objects by the x key
+	 * @param xKey the string name of the property where to store the x values
+	 * @param yValues values to store into the objects by the y key
+	 * @param yKey the string name of the property where to store the y values
+	 * @param sort if <code>true</code>, the objects are sorted by x values
+	 * @return a new array of objects
+	 */
+	static native ArrayObject points(ArrayFloat64 xValues, String xKey, ArrayFloat64 yValues, String yKey, boolean sort);
+
 }
@@ -32,6 +32,11 @@ public final class NativeName {
 	 */
 	public static final String ARRAY = "Array";
 
+	/**
+	 * Constant to bind java script typed array of doubles with name <b>{@value FLOAT64_ARRAY}</b>.
+	 */
+	public static final String FLOAT64_ARRAY = "Float64Array";
+
 	/**
 	 * Constant to bind java script object as JsHelper with name <b>{@value JSHELPER}</b>, (internal of Charba).
 	 */
@@ -41,25 +41,6 @@ public final class NativeObject {
 	NativeObject() {
 	}
 
-	/**
-	 * Defines a new property directly on an object, or modifies an existing property on an object.
-	 * 
-	 * @param source the object on which to define the property.
-	 * @param key the name of the property to be defined or modified.
-	 * @param descriptor the descriptor for the property being defined or modified.
-	 */
-	static native <T extends NativeAbstractDescriptor> void defineProperty(NativeObject source, String key, T descriptor);
-
-	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
-	 * 
-	 * @param source the object in which to look for the property.
-	 * @param key the name of the property whose description is to be retrieved.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
-	 */
-	static native <T extends NativeAbstractDescriptor> T getOwnPropertyDescriptor(NativeObject source, String key);
-
 	/**
 	 * Returns an array of a given object's own property names, in the same order as we get with a normal loop.
 	 * 
@@ -109,389 +90,265 @@ public final class NativeObject {
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineBooleanProperty(String key, boolean value) {
-		// creates a descriptor
-		NativeBooleanDescriptor descriptor = new NativeBooleanDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineIntProperty(String key, int value) {
-		// creates a descriptor
-		NativeIntegerDescriptor descriptor = new NativeIntegerDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineDoubleProperty(String key, double value) {
-		// creates a descriptor
-		NativeDoubleDescriptor descriptor = new NativeDoubleDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineStringProperty(String key, String value) {
-		// creates a descriptor
-		NativeStringDescriptor descriptor = new NativeStringDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineDateProperty(String key, JsDate value) {
-		// creates a descriptor
-		NativeDateDescriptor descriptor = new NativeDateDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineImageProperty(String key, ImageElement value) {
-		// creates a descriptor
-		NativeImageDescriptor descriptor = new NativeImageDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void definePatternProperty(String key, CanvasPattern value) {
-		// creates a descriptor
-		NativePatternDescriptor descriptor = new NativePatternDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineGradientProperty(String key, CanvasGradient value) {
-		// creates a descriptor
-		NativeGradientDescriptor descriptor = new NativeGradientDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineCallbackProperty(String key, CallbackProxy.Proxy value) {
-		// creates a descriptor
-		NativeCallbackProxyDescriptor descriptor = new NativeCallbackProxyDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	void defineObjectProperty(String key, NativeObject value) {
-		// creates a descriptor
-		NativeObjectDescriptor descriptor = new NativeObjectDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Defines a new property directly on this object, or modifies an existing property, by plain assignment.
 	 * 
 	 * @param key the name of the property to be defined or modified.
 	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
 	<T extends Array> void defineArrayProperty(String key, T value) {
-		// creates a descriptor
-		NativeArrayDescriptor<T> descriptor = new NativeArrayDescriptor<>();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by plain assignment
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (boolean) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	NativeBooleanDescriptor getBooleanProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.BOOLEAN.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	boolean getBooleanValue(String key, boolean defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.BOOLEAN, defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (integer) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	NativeIntegerDescriptor getIntProperty(String key) {
-		return getInternalNumberProperty(key);
+	int getIntValue(String key, int defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.NUMBER, defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (double) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	NativeDoubleDescriptor getDoubleProperty(String key) {
-		return getInternalNumberProperty(key);
+	double getDoubleValue(String key, double defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.NUMBER, defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (string) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	private <T extends NativeAbstractDescriptor> T getInternalNumberProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.NUMBER.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	String getStringValue(String key, String defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.STRING, defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (date) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property does not exist or has got a different type
 	 */
 	@JsOverlay
-	NativeStringDescriptor getStringProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.STRING.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	JsDate getDateValue(String key) {
+		return JsHelper.get().propertyByType(this, key, (JsDate) null);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (object) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property does not exist or has got a different type
 	 */
 	@JsOverlay
-	NativeDateDescriptor getDateProperty(String key) {
-		return getInternalObjectProperty(key);
+	NativeObject getObjectValue(String key) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.OBJECT, (NativeObject) null);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (image) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	NativeImageDescriptor getImageProperty(String key) {
-		return getInternalObjectProperty(key);
+	ImageElement getImageValue(String key, ImageElement defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.OBJECT, defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (gradient) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	NativePatternDescriptor getPatternProperty(String key) {
-		return getInternalObjectProperty(key);
+	CanvasGradient getGradientValue(String key, CanvasGradient defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.OBJECT, defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (pattern) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
-	 */
-	@JsOverlay
-	NativeGradientDescriptor getGradientProperty(String key) {
-		return getInternalObjectProperty(key);
-	}
-
-	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
-	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	NativeObjectDescriptor getObjectProperty(String key) {
-		return getInternalObjectProperty(key);
+	CanvasPattern getPatternValue(String key, CanvasPattern defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.OBJECT, defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value (typed array of doubles) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
-	 */
-	@JsOverlay
-	private <T extends NativeAbstractDescriptor> T getInternalObjectProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.OBJECT.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
-	}
-
-	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
-	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue the value to return if the property does not exist or has got a different type.
+	 * @return the value of the property or the default value
 	 */
 	@JsOverlay
-	<T extends Array> NativeArrayDescriptor<T> getArrayProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.ARRAY.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	ArrayFloat64 getFloat64ArrayValue(String key, ArrayFloat64 defaultValue) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.OBJECT, defaultValue);
 	}
 
 	/**
-	 * Sets the properties of a descriptor to <code>true</code>, as default in java script when you use
-	 * <code>obj[key] = value</code>
+	 * Returns the value (array) of an own property of this object, checking its type, by a single native call.
 	 * 
-	 * @param descriptor the descriptor to be set
+	 * @param key the name of the property to get.
+	 * @param <T> type of array
+	 * @return the value of the property or <code>null</code> if the property does not exist or is not an array
 	 */
 	@JsOverlay
-	private void resetPropertyDescriptor(NativeAbstractDescriptor descriptor) {
-		// configures the property
-		descriptor.setConfigurable(true);
-		descriptor.setEnumerable(true);
-		descriptor.setWritable(true);
+	<T extends Array> T getArrayValue(String key) {
+		return JsHelper.get().propertyByType(this, key, ObjectType.ARRAY, (T) null);
 	}
 
 }
@@ -36,6 +36,10 @@ public abstract class NativeObjectContainer {
 
 	// native object instance
 	private final NativeObject nativeObject;
+	// counter of the modifications done by this container
+	private int modificationCount = 0;
+	// container which owns this object, notified of every modification
+	private NativeObjectContainer owner = null;
 
 	/**
 	 * Creates the object with an empty native object instance.
@@ -65,6 +69,76 @@ public abstract class NativeObjectContainer {
 		return nativeObject;
 	}
 
+	/**
+	 * Returns a counter which is incremented every time a property is set or removed by this container.<br>
+	 * It is a cheap way to know if the object has been changed, without serializing it.<br>
+	 * Changes applied directly to the native object are not counted. Changes applied by the lists and the objects tracked by
+	 * {@link #trackChanges(List)} and {@link #trackChanges(NativeObjectContainer)} are counted.
+	 * 
+	 * @return the modification counter of the object
+	 */
+	protected final int getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Increments the modification counter and the counter of the owner, if any.
+	 */
+	final void incrementModificationCount() {
+		modificationCount++;
+		// checks if there is an owner
+		if (owner != null) {
+			// the owner is changed as well
+			owner.incrementModificationCount();
+		}
+	}
+
+	/**
+	 * Sets the container which owns this object and whose modification counter is incremented every time this object is
+	 * changed.
+	 * 
+	 * @param owner container which owns this object
+	 */
+	final void setOwner(NativeObjectContainer owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Increments the modification counter of this container every time the passed list, wrapping a java script array stored
+	 * into this container, or its elements are changed.<br>
+	 * Only the lists of doubles, typed array of doubles and native object containers are tracked, the others are returned as
+	 * they are.
+	 * 
+	 * @param list list to track
+	 * @param <L> type of list
+	 * @return the passed list
+	 */
+	protected final <L extends List<?>> L trackChanges(L list) {
+		// checks the type of list
+		if (list instanceof ArrayDoubleList) {
+			((ArrayDoubleList) list).setOwner(this);
+		} else if (list instanceof ArrayFloat64List) {
+			((ArrayFloat64List) list).setOwner(this);
+		} else if (list instanceof ArrayObjectContainerList) {
+			((ArrayObjectContainerList<?>) list).setOwner(this);
+		}
+		return list;
+	}
+
+	/**
+	 * Increments the modification counter of this container every time the passed object, stored into this container, is
+	 * changed.<br>
+	 * An object has got only one owner, the last one which tracks it.
+	 * 
+	 * @param item object to track
+	 */
+	protected final void trackChanges(NativeObjectContainer item) {
+		// checks if argument is consistent
+		if (item != null) {
+			item.setOwner(this);
+		}
+	}
+
 	/**
 	 * Returns the string JSON representation of the object.
 	 * 
@@ -164,6 +238,8 @@ public abstract class NativeObjectContainer {
 		// if not consistent, do nothing
 		if (Key.isValid(key)) {
 			nativeObject.removeProperty(key.value());
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -198,6 +274,8 @@ public abstract class NativeObjectContainer {
 		Key.checkIfValid(key);
 		// if here, key is consistent
 		nativeObject.defineIntProperty(key.value(), value);
+		// increments the modification counter
+		incrementModificationCount();
 	}
 
 	/**
@@ -208,15 +286,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final int getValue(Key key, int defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeIntegerDescriptor descriptor = nativeObject.getIntProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getIntValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -282,6 +358,8 @@ public abstract class NativeObjectContainer {
 		Key.checkIfValid(key);
 		// if here, key is consistent
 		nativeObject.defineDoubleProperty(key.value(), value);
+		// increments the modification counter
+		incrementModificationCount();
 	}
 
 	/**
@@ -292,15 +370,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final double getValue(Key key, double defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeDoubleDescriptor descriptor = nativeObject.getDoubleProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getDoubleValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -366,6 +442,8 @@ public abstract class NativeObjectContainer {
 		Key.checkIfValid(key);
 		// if here, key is consistent
 		nativeObject.defineBooleanProperty(key.value(), value);
+		// increments the modification counter
+		incrementModificationCount();
 	}
 
 	/**
@@ -376,15 +454,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final boolean getValue(Key key, boolean defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeBooleanDescriptor descriptor = nativeObject.getBooleanProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getBooleanValue(key.value(), defaultValue);
 	}
 
 	// ------------------------------------------
@@ -398,15 +474,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final String getValue(Key key, String defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeStringDescriptor descriptor = nativeObject.getStringProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getStringValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -428,6 +502,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineStringProperty(key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -491,15 +567,39 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final Date getValue(Key key, Date defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeDateDescriptor descriptor = nativeObject.getDateProperty(key.value());
+		// gets the value as epoch milliseconds
+		double millis = getTimeValue(key, Double.NaN);
 		// returns value
-		return descriptor == null ? defaultValue : new Date((long) descriptor.getValue().getTime());
+		return Double.isNaN(millis) ? defaultValue : new Date((long) millis);
+	}
+
+	/**
+	 * Returns a value (date) into embedded JavaScript object at specific property, as epoch milliseconds.<br>
+	 * The property can be stored as date or as number (epoch milliseconds).
+	 * 
+	 * @param key key of the property of JavaScript object.
+	 * @param defaultValue default value if the property is missing
+	 * @return value of the property as epoch milliseconds
+	 */
+	protected final double getTimeValue(Key key, double defaultValue) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
+			// if no, returns the default value
+			return defaultValue;
+		}
+		// gets value, checking the type, without any descriptor
+		JsDate value = nativeObject.getDateValue(key.value());
+		// checks if the value has been stored as date
+		if (value != null) {
+			return value.getTime();
+		}
+		// if here, the value could be stored as epoch milliseconds
+		return nativeObject.getDoubleValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -521,6 +621,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineDateProperty(key.value(), JsDate.create((double) value.getTime()));
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -534,15 +636,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property or <code>null</code> if not there
 	 */
 	protected final NativeObject getValue(Key key) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return null;
 		}
-		// gets descriptor
-		NativeObjectDescriptor descriptor = nativeObject.getObjectProperty(key.value());
-		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getObjectValue(key.value());
 	}
 
 	/**
@@ -564,6 +664,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineObjectProperty(key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -589,6 +691,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineObjectProperty(key.value(), value.getNativeObject());
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -611,6 +715,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineArrayProperty(key.value(), container.getArray());
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -636,6 +742,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineCallbackProperty(key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -650,15 +758,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final ImageElement getValue(Key key, ImageElement defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeImageDescriptor descriptor = nativeObject.getImageProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getImageValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -680,6 +786,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineImageProperty(key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -742,15 +850,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final CanvasGradient getValue(Key key, CanvasGradient defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeGradientDescriptor descriptor = nativeObject.getGradientProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getGradientValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -772,6 +878,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineGradientProperty(key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -834,15 +942,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property
 	 */
 	protected final CanvasPattern getValue(Key key, CanvasPattern defaultValue) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativePatternDescriptor descriptor = nativeObject.getPatternProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getPatternValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -864,6 +970,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.definePatternProperty(key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -964,6 +1072,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineStringProperty(key.value(), value.value());
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
@@ -1017,15 +1127,13 @@ public abstract class NativeObjectContainer {
 	 * @return value of the property or <code>null</code> if not exist
 	 */
 	protected final <T extends Array> T getArrayValue(Key key) {
-		// checks if the property exists
-		if (!has(key)) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
 			// if no, returns null
 			return null;
 		}
-		// gets descriptor
-		NativeArrayDescriptor<T> descriptor = nativeObject.getArrayProperty(key.value());
-		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getArrayValue(key.value());
 	}
 
 	/**
@@ -1048,6 +1156,53 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineArrayProperty(key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
+		}
+	}
+
+	// ------------------------------------------
+	// --- TYPED ARRAYS
+	// ------------------------------------------
+
+	/**
+	 * Returns a value (typed array of doubles) into embedded JavaScript object at specific property.
+	 * 
+	 * @param key key of the property of JavaScript object.
+	 * @param defaultValue default value if the property is missing
+	 * @return value of the property
+	 */
+	protected final ArrayFloat64 getValue(Key key, ArrayFloat64 defaultValue) {
+		// checks if the key is consistent
+		if (!Key.isValid(key)) {
+			// if no, returns the default value
+			return defaultValue;
+		}
+		// returns value, checking the type, without any descriptor
+		return nativeObject.getFloat64ArrayValue(key.value(), defaultValue);
+	}
+
+	/**
+	 * Sets a value (typed array of doubles) into embedded JavaScript object at specific property.
+	 * 
+	 * @param key key of the property of JavaScript object.
+	 * @param value value to be set
+	 */
+	protected final void setValue(Key key, ArrayFloat64 value) {
+		// if value is null
+		// try to remove the reference if exists
+		if (value == null) {
+			// removes property if the property exists
+			removeIfExists(key);
+		} else {
+			// checks if the key is consistent
+			// if not, exception
+			Key.checkIfValid(key);
+			// if here, key is consistent
+			// sets value by plain assignment
+			JsHelper.get().setProperty(nativeObject, key.value(), value);
+			// increments the modification counter
+			incrementModificationCount();
 		}
 	}
 
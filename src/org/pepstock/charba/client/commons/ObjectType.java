@@ -43,39 +43,60 @@ public enum ObjectType
 	/**
 	 * A variable that has not been assigned a value
 	 */
-	UNDEFINED,
+	UNDEFINED("undefined"),
 	/**
 	 * Boolean represents a logical entity and can have two values: true, and false.
 	 */
-	BOOLEAN,
+	BOOLEAN("boolean"),
 	/**
 	 * According to the ECMAScript standard, there is only one number type: the double-precision 64-bit binary format IEEE 754
 	 * value (numbers between -(2^53 -1) and 2^53 -1). There is no specific type for integers. In addition to being able to
 	 * represent floating-point numbers, the number type has three symbolic values: +Infinity, -Infinity, and NaN
 	 * (not-a-number).
 	 */
-	NUMBER,
+	NUMBER("number"),
 	/**
 	 * Is used to represent textual data
 	 */
-	STRING,
+	STRING("string"),
 	/**
 	 * Symbols are new to JavaScript in ECMAScript 2015. A Symbol is a unique and immutable primitive value.
 	 */
-	SYMBOL,
+	SYMBOL("symbol"),
 	/**
 	 * Functions are regular objects with the additional capability of being callable.
 	 */
-	FUNCTION,
+	FUNCTION("function"),
 	/**
 	 * Objects can be seen as a collection of properties.
 	 */
-	OBJECT,
+	OBJECT("object"),
 	/**
 	 * Arrays are regular objects for which there is a particular relationship between integer-key-ed properties and the
 	 * 'length' property.
 	 */
-	ARRAY;
+	ARRAY("array");
+
+	// java script type name
+	private final String value;
+
+	/**
+	 * Creates the type with the java script type name.
+	 * 
+	 * @param value java script type name
+	 */
+	private ObjectType(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the java script type name, as returned by <code>typeof</code> operator, or <code>array</code> for arrays.
+	 * 
+	 * @return the java script type name
+	 */
+	String value() {
+		return value;
+	}
 
 	/**
 	 * Returns the java script property type.
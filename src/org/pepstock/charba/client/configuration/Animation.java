@@ -69,9 +69,9 @@ public class Animation extends ConfigurationContainer<ExtendedOptions> implement
 	// ---------------------------
 
 	// callback proxy to invoke the animation complete function
-	private final CallbackProxy<ProxyAnimationCallback> completeCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyAnimationCallback> completeCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the animation in progress function
-	private final CallbackProxy<ProxyAnimationCallback> progressCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyAnimationCallback> progressCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// amount of handlers
 	private int onCompleteHandlers = 0;
 	// amount of handlers
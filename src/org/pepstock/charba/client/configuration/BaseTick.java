@@ -67,7 +67,7 @@ abstract class BaseTick<T extends AbstractTick<?, ?>> extends AxisContainer {
 	// ---------------------------
 
 	// callback proxy to invoke the tick function
-	private final CallbackProxy<ProxyTickCallback> tickCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyTickCallback> tickCallbackProxy = JsHelper.get().newCallbackProxy(3);
 	// user callback instance
 	private TickCallback callback = null;
 	// the axis instance, owner of this tick
@@ -68,11 +68,11 @@ public class Legend extends ConfigurationContainer<ExtendedOptions> implements I
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the click function
-	private final CallbackProxy<ProxyLegendEventCallback> clickCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyLegendEventCallback> clickCallbackProxy = JsHelper.get().newCallbackProxy(2);
 	// callback proxy to invoke the hover function
-	private final CallbackProxy<ProxyLegendEventCallback> hoverCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyLegendEventCallback> hoverCallbackProxy = JsHelper.get().newCallbackProxy(2);
 	// callback proxy to invoke the leave function
-	private final CallbackProxy<ProxyLegendEventCallback> leaveCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyLegendEventCallback> leaveCallbackProxy = JsHelper.get().newCallbackProxy(2);
 	// sub element of legend
 	private final LegendLabels labels;
 	// amount of click handlers
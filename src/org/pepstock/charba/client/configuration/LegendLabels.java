@@ -88,9 +88,9 @@ public class LegendLabels extends ConfigurationContainer<ExtendedOptions> {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the generate labels function
-	private final CallbackProxy<ProxyGenerateLabelsCallback> labelsCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyGenerateLabelsCallback> labelsCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the filter function
-	private final CallbackProxy<ProxyFilterCallback> filterCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyFilterCallback> filterCallbackProxy = JsHelper.get().newCallbackProxy(1);
 
 	// ---------------------------
 	// -- USERS CALLBACKS ---
@@ -66,7 +66,7 @@ public class RadialPointLabels extends AxisContainer {
 	// ---------------------------
 
 	// callback proxy to invoke the point labels function
-	private final CallbackProxy<ProxyPointLabelCallback> pointLabelCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyPointLabelCallback> pointLabelCallbackProxy = JsHelper.get().newCallbackProxy(1);
 
 	// ---------------------------
 	// -- USERS CALLBACKS ---
@@ -110,6 +110,13 @@ public final class ControllerContext {
 	 */
 	@JsOverlay
 	public final ChartNode getNode() {
+		// gets the CHARBA chart
+		IsChart chart = getChart();
+		// checks if consistent in order to use the cached node
+		if (chart != null) {
+			return chart.getNode();
+		}
+		// if here, the chart is not found
 		return new ChartNode(getNativeChart());
 	}
 
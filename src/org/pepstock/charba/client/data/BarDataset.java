@@ -44,7 +44,7 @@ public class BarDataset extends HovingFlexDataset implements HasDataPoints {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the border skipped function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> borderSkippedCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> borderSkippedCallbackProxy = JsHelper.get().newCallbackProxy(1);
 
 	// border skipped callback instance
 	private BorderSkippedCallback borderSkippedCallback = null;
@@ -162,6 +162,8 @@ public class BarDataset extends HovingFlexDataset implements HasDataPoints {
 	 * @param borderWidth the stroke width of the bar in pixels.
 	 */
 	public void setBorderWidth(BarBorderWidth borderWidth) {
+		// removes the batch callback, if set
+		resetBeingValues(Property.BORDER_WIDTH);
 		// stores value
 		setValue(Property.BORDER_WIDTH, borderWidth);
 	}
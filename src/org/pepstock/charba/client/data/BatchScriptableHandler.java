@@ -0,0 +1,106 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.enums.PluginHook;
+import org.pepstock.charba.client.plugins.AbstractPlugin;
+
+/**
+ * Internal plugin, set by data object before a chart is initializing.<br>
+ * This plugin is always added to the chart, because the batch scriptable options can be set also after the chart is drawn,
+ * but it registers its hooks only when a dataset has got batch scriptable options, therefore it costs nothing to the other
+ * charts.<br>
+ * Before every update of the datasets, it invokes once the batch scriptable options of every visible dataset, passing to
+ * CHART.JS the arrays of values, one for each element.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class BatchScriptableHandler extends AbstractPlugin {
+
+	// plugin ID
+	static final String ID = "batchscriptablehandler";
+	// data of chart
+	private final Data data;
+
+	/**
+	 * To avoid any instantiation
+	 * 
+	 * @param data data of chart, used to check if any dataset needs this plugin
+	 */
+	BatchScriptableHandler(Data data) {
+		this.data = data;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		// scans all datasets
+		for (Dataset dataset : data.getDatasets()) {
+			// checks if the dataset has got batch callbacks
+			if (dataset.hasBatchCallbacks()) {
+				return EnumSet.of(PluginHook.BEFORE_DATASETS_UPDATE);
+			}
+		}
+		// if here, no dataset has got batch callbacks
+		// then no hook is registered
+		return EnumSet.noneOf(PluginHook.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onBeforeDatasetsUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public boolean onBeforeDatasetsUpdate(IsChart chart) {
+		// gets list of datasets
+		List<Dataset> datasets = chart.getData().getDatasets();
+		// dataset index
+		int datasetIndex = 0;
+		// scans all datasets
+		for (Dataset dataset : datasets) {
+			// checks if the dataset has got batch callbacks and if it is visible
+			// hidden datasets are computed when they are shown, because the chart is updated
+			if (dataset.hasBatchCallbacks() && (!chart.isInitialized() || chart.isDatasetVisible(datasetIndex))) {
+				// invokes the callbacks
+				dataset.applyBatchCallbacks(chart);
+			}
+			datasetIndex++;
+		}
+		return true;
+	}
+
+}
@@ -38,7 +38,7 @@ public final class BorderAligner extends NativeObjectContainer {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the border align function
-	private final CallbackProxy<ScriptableFunctions.ProxyStringCallback> borderAlignCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyStringCallback> borderAlignCallbackProxy = JsHelper.get().newCallbackProxy(1);
 
 	// border align callback instance
 	private BorderAlignCallback borderAlignCallback = null;
@@ -15,15 +15,21 @@
 */
 package org.pepstock.charba.client.data;
 
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.items.SizeItem;
 import org.pepstock.charba.client.plugins.AbstractPlugin;
 
 /**
  * Internal plugin, set by data object before a chart is initializing.<br>
- * This plugin is added to the chart ONLY if the dataset is configured to have patterns and gradients.<br>
+ * This plugin is always added to the chart, because patterns and gradients can be set also after the chart is drawn, but it
+ * registers its drawing hooks only when a dataset is configured to have patterns and gradients, therefore it costs nothing
+ * to the other charts.<br>
  * This is mandatory because gradients and pattern must be created using the canvas and its context of chart, therefore must be
  * set ONLY when the dimension of chart/canvas are available.
  * 
@@ -34,14 +40,20 @@ final class CanvasObjectHandler extends AbstractPlugin {
 
 	// plugin ID
 	static final String ID = "canvasobjecthandler";
-	// maintains the data object of chart status
-	private String dataToJson = null;
+	// data of chart
+	private final Data data;
+	// amount of values stored into signature for each dataset
+	private static final int SIGNATURE_ITEMS = 3;
+	// maintains the signature of datasets of chart status
+	private int[] datasetsSignature = null;
 
 	/**
 	 * To avoid any instantiation
+	 * 
+	 * @param data data of chart, used to check if any dataset needs this plugin
 	 */
-	CanvasObjectHandler() {
-		// do nothing
+	CanvasObjectHandler(Data data) {
+		this.data = data;
 	}
 
 	/*
@@ -54,6 +66,23 @@ final class CanvasObjectHandler extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		// checks if there is any pattern or gradient to apply
+		if (hasCanvasObjects(data.getDatasets())) {
+			return EnumSet.of(PluginHook.BEFORE_DATASETS_DRAW, PluginHook.RESIZE, PluginHook.DESTROY);
+		}
+		// if here, no dataset has got patterns or gradients
+		// then only the destroy is registered, invoked once,
+		// to clear the cache of patterns and gradients
+		return EnumSet.of(PluginHook.DESTROY);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -61,25 +90,32 @@ final class CanvasObjectHandler extends AbstractPlugin {
 	 */
 	@Override
 	public boolean onBeforeDatasetsDraw(IsChart chart, double easing) {
-		// gets data
-		Data data = chart.getData();
-		// gets data json
-		String currentDataToJson = data.getDatasetsAsString();
 		// gets list of datasets
-		List<Dataset> datasets = data.getDatasets();
-		// checks if the amount of datasets is changed
-		if (dataToJson == null || !dataToJson.equalsIgnoreCase(currentDataToJson)) {
+		List<Dataset> datasets = chart.getData().getDatasets();
+		// checks if patterns or gradients have never been applied
+		// and there is not any pattern or gradient to apply
+		if (datasetsSignature == null && !hasCanvasObjects(datasets)) {
+			// informs CHART.JS to draw the chart
+			return true;
+		}
+		// gets the signature of datasets
+		int[] currentSignature = getSignature(datasets);
+		// checks if the datasets are changed
+		if (datasetsSignature == null || !Arrays.equals(datasetsSignature, currentSignature)) {
 			// data have been changed
 			dataChanged(chart, datasets);
 		}
-		// stores the data chart JSON representation
-		dataToJson = currentDataToJson;
 		// checks if chart must be updated
 		// when you creates new patterns or gradient and
 		// set them to dataset configuration in this point of
 		// time is MANDATORY to update chart because CHART.JS
 		// must applied new patterns and gradients
-		if (arePatternOrGradientsChanged(chart, datasets)) {
+		boolean mustBeUpdated = arePatternOrGradientsChanged(chart, datasets);
+		// stores the signature of datasets
+		// if patterns or gradients have been applied, the signature is
+		// recalculated because they are changing the datasets as well
+		datasetsSignature = mustBeUpdated ? getSignature(datasets) : currentSignature;
+		if (mustBeUpdated) {
 			// updates the chart
 			chart.update();
 			// informs CHART.JS to stop the current drawing
@@ -124,6 +160,46 @@ final class CanvasObjectHandler extends AbstractPlugin {
 		DatasetCanvasObjectFactory.get().clear(chart);
 	}
 
+	/**
+	 * Returns <code>true</code> if at least a dataset has got patterns or gradients.
+	 * 
+	 * @param datasets list of datasets of chart
+	 * @return <code>true</code> if at least a dataset has got patterns or gradients
+	 */
+	private boolean hasCanvasObjects(List<Dataset> datasets) {
+		// scans datasets
+		for (Dataset dataset : datasets) {
+			// checks if dataset has got some patterns or gradients
+			if (!dataset.getPatternsContainer().isEmpty() || !dataset.getGradientsContainer().isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the signature of datasets, made by id, amount of changes and amount of data items of each dataset.<br>
+	 * The signature changes when a dataset is added, removed, replaced or changed. The amount of changes includes also the
+	 * changes applied by the bound lists and by the data points of the dataset, therefore the signature is calculated in
+	 * O(datasets), without scanning the data.
+	 * 
+	 * @param datasets list of datasets of chart
+	 * @return the signature of datasets
+	 */
+	private int[] getSignature(List<Dataset> datasets) {
+		// creates the signature
+		int[] signature = new int[datasets.size() * SIGNATURE_ITEMS];
+		// signature index
+		int index = 0;
+		// scans datasets
+		for (Dataset dataset : datasets) {
+			signature[index++] = dataset.getId();
+			signature[index++] = dataset.getChangesCount();
+			signature[index++] = dataset.getDataCount();
+		}
+		return signature;
+	}
+
 	/**
 	 * The data of chart has been changed therefore checks if the gradients container must be reset.
 	 * 
@@ -307,23 +307,6 @@ public final class Data extends NativeObjectContainer implements ConfigurationEl
 		return this.currentDatasets;
 	}
 
-	/**
-	 * Returns a string representation for all datasets, in JSON format.
-	 * 
-	 * @return a string representation for all datasets, in JSON format.
-	 */
-	String getDatasetsAsString() {
-		// creates the builder
-		StringBuilder sb = new StringBuilder();
-		// scans all datasets
-		for (Dataset ds : currentDatasets) {
-			// adds to builder the data in JSON string format
-			sb.append(ds.toFilteredJSON()).append("\n");
-		}
-		// returns string of builder
-		return sb.toString();
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -337,23 +320,25 @@ public final class Data extends NativeObjectContainer implements ConfigurationEl
 		if (chart != null) {
 			// loads data
 			ConfigurationLoader.loadData(configuration, this);
-			// checks if there is any pattern
-			// scans all datasets
-			for (Dataset ds : currentDatasets) {
-				// checks if dataset has got some patterns
-				if (!ds.getPatternsContainer().isEmpty() || !ds.getGradientsContainer().isEmpty()) {
-					// if here
-					// there are some patterns to load
-					// checks if the plugin to apply pattern is already loaded
-					if (!chart.getPlugins().has(CanvasObjectHandler.ID)) {
-						// adds plugin
-						chart.getPlugins().add(new CanvasObjectHandler());
-					}
-					// if here,
-					// plugin is already added to chart
-					// it shouldn't happen
-					return;
-				}
+			// the plugins to reduce data points, to apply batch scriptable options, patterns and gradients
+			// are always added, because the datasets could be changed or added
+			// after the chart is drawn, when the plugins can not be added anymore
+			// the plugins register their hooks only when a dataset is using them
+			// and the hooks are checked again at every update of the chart
+			// checks if the plugin to reduce data points is already loaded
+			if (!chart.getPlugins().has(DownsamplingHandler.ID)) {
+				// adds plugin
+				chart.getPlugins().add(new DownsamplingHandler(this));
+			}
+			// checks if the plugin to apply batch scriptable options is already loaded
+			if (!chart.getPlugins().has(BatchScriptableHandler.ID)) {
+				// adds plugin
+				chart.getPlugins().add(new BatchScriptableHandler(this));
+			}
+			// checks if the plugin to apply pattern is already loaded
+			if (!chart.getPlugins().has(CanvasObjectHandler.ID)) {
+				// adds plugin
+				chart.getPlugins().add(new CanvasObjectHandler(this));
 			}
 		}
 	}
@@ -18,29 +18,39 @@ package org.pepstock.charba.client.data;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.pepstock.charba.client.ChartType;
 import org.pepstock.charba.client.Defaults;
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.Type;
+import org.pepstock.charba.client.callbacks.BatchScriptable;
 import org.pepstock.charba.client.colors.Gradient;
+import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.colors.Pattern;
+import org.pepstock.charba.client.commons.Array;
 import org.pepstock.charba.client.commons.ArrayDouble;
 import org.pepstock.charba.client.commons.ArrayDoubleList;
+import org.pepstock.charba.client.commons.ArrayFloat64;
+import org.pepstock.charba.client.commons.ArrayInteger;
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.ArrayObjectContainerList;
+import org.pepstock.charba.client.commons.ArrayString;
+import org.pepstock.charba.client.commons.JsHelper;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObjectContainer;
 import org.pepstock.charba.client.commons.NativeObjectContainerFactory;
+import org.pepstock.charba.client.commons.ObjectType;
 import org.pepstock.charba.client.defaults.IsDefaultOptions;
 import org.pepstock.charba.client.enums.DataType;
 import org.pepstock.charba.client.items.UndefinedValues;
 import org.pepstock.charba.client.plugins.PluginIdChecker;
-import org.pepstock.charba.client.utils.JSON;
 
 import com.google.gwt.canvas.dom.client.CanvasGradient;
 import com.google.gwt.canvas.dom.client.CanvasPattern;
@@ -71,10 +81,14 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	private final PatternsContainer patternsContainer = new PatternsContainer();
 	// gradients container
 	private final GradientsContainer gradientsContainer = new GradientsContainer();
+	// maps of batch scriptable options, by property
+	private final Map<Key, BatchScriptable<?>> batchCallbacks = new HashMap<>();
+	// amount of changes done by batch scriptable options, not counted as dataset changes
+	private int batchChangesCount = 0;
 	// default options values
 	private final IsDefaultOptions defaultValues;
 	// internal comparator to sort time series items
-	private static final Comparator<TimeSeriesItem> COMPARATOR = (TimeSeriesItem o1, TimeSeriesItem o2) -> o1.getTime().compareTo(o2.getTime());
+	private static final Comparator<TimeSeriesItem> COMPARATOR = (TimeSeriesItem o1, TimeSeriesItem o2) -> Double.compare(o1.getTimeInMillis(), o2.getTimeInMillis());
 
 	/**
 	 * Name of properties of native object.
@@ -219,6 +233,8 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		getPatternsContainer().removeObjects(key);
 		// remove from gradients
 		getGradientsContainer().removeObjects(key);
+		// removes batch callback
+		batchCallbacks.remove(key);
 	}
 
 	/**
@@ -231,6 +247,8 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		removeIfExists(key);
 		// remove from gradients
 		getGradientsContainer().removeObjects(key);
+		// removes batch callback
+		batchCallbacks.remove(key);
 	}
 
 	/**
@@ -243,6 +261,18 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		removeIfExists(key);
 		// remove from patterns
 		getPatternsContainer().removeObjects(key);
+		// removes batch callback
+		batchCallbacks.remove(key);
+	}
+
+	/**
+	 * Removes the batch scriptable option of the property key if values (numbers, widths or radius) are selected.
+	 * 
+	 * @param key key property name to reset.
+	 */
+	final void resetBeingValues(Key key) {
+		// removes batch callback
+		batchCallbacks.remove(key);
 	}
 
 	/**
@@ -258,6 +288,163 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		getPatternsContainer().removeObjects(key);
 		// remove from gradients
 		getGradientsContainer().removeObjects(key);
+		// removes batch callback
+		batchCallbacks.remove(key);
+	}
+
+	/**
+	 * Sets a batch scriptable option for the property key, resetting any previous color, pattern, gradient or callback.<br>
+	 * If the callback is <code>null</code>, the previous batch scriptable option and the property are removed.<br>
+	 * The callback can be set also after the chart is drawn, because the plugin which invokes it is always added to the chart,
+	 * and it is invoked at the next update of the chart.
+	 * 
+	 * @param key property name to set
+	 * @param callback batch scriptable option to set
+	 */
+	final void setBatchCallback(Key key, BatchScriptable<?> callback) {
+		// checks if callback is consistent
+		if (callback != null) {
+			// resets previous setting
+			resetBeingCallback(key);
+			// stores the callback
+			// the values are passed to CHART.JS before every datasets update
+			batchCallbacks.put(key, callback);
+		} else if (batchCallbacks.remove(key) != null) {
+			// removes the values computed by the previous callback
+			removeIfExists(key);
+		}
+	}
+
+	/**
+	 * Returns the batch scriptable option for the property key, if set, otherwise <code>null</code>.
+	 * 
+	 * @param key property name to get
+	 * @return the batch scriptable option for the property key, if set, otherwise <code>null</code>
+	 */
+	final BatchScriptable<?> getBatchCallback(Key key) {
+		return batchCallbacks.get(key);
+	}
+
+	/**
+	 * Returns <code>true</code> if the dataset has got at least a batch scriptable option.
+	 * 
+	 * @return <code>true</code> if the dataset has got at least a batch scriptable option
+	 */
+	final boolean hasBatchCallbacks() {
+		return !batchCallbacks.isEmpty();
+	}
+
+	/**
+	 * Invokes all batch scriptable options of the dataset, once for each option, passing the returned arrays to CHART.JS.<br>
+	 * The changes done here are not counted as dataset changes, in order to not force a further update of the chart.<br>
+	 * This is called by {@link BatchScriptableHandler}.
+	 * 
+	 * @param chart chart instance
+	 * @see BatchScriptableHandler
+	 */
+	final void applyBatchCallbacks(IsChart chart) {
+		// stores the amount of changes before applying the callbacks
+		int countBefore = getModificationCount();
+		// gets the indexes of data points passed to CHART.JS, if reduced
+		int[] indexes = getKeptIndexes();
+		// scans all batch callbacks
+		for (Entry<Key, BatchScriptable<?>> entry : batchCallbacks.entrySet()) {
+			// invokes the callback once for all elements
+			Object result = entry.getValue().invoke(chart, this);
+			// checks the type of result
+			if (result instanceof IsColor[]) {
+				IsColor[] colors = (IsColor[]) result;
+				// transforms the colors in RGBA strings
+				String[] values = new String[colors.length];
+				for (int i = 0; i < colors.length; i++) {
+					values[i] = colors[i] != null ? colors[i].toRGBA() : null;
+				}
+				setArrayValue(entry.getKey(), ArrayString.fromOrEmpty(select(values, indexes)));
+			} else if (result instanceof String[]) {
+				setArrayValue(entry.getKey(), ArrayString.fromOrEmpty(select((String[]) result, indexes)));
+			} else if (result instanceof int[]) {
+				setArrayValue(entry.getKey(), ArrayInteger.fromOrEmpty(select((int[]) result, indexes)));
+			} else if (result instanceof double[]) {
+				setArrayValue(entry.getKey(), ArrayDouble.fromOrEmpty(select((double[]) result, indexes)));
+			} else {
+				// if here, the result is null or not consistent
+				// then the default of CHART.JS is used
+				removeIfExists(entry.getKey());
+			}
+		}
+		// stores the changes done by callbacks
+		batchChangesCount += getModificationCount() - countBefore;
+	}
+
+	/**
+	 * Returns the indexes of the data points passed to CHART.JS, when the data points are reduced, otherwise <code>null</code>.
+	 * <br>
+	 * It is used to reduce the arrays of values computed by batch scriptable options on full resolution data points.
+	 * 
+	 * @return the indexes of the data points passed to CHART.JS or <code>null</code> if the data points are not reduced
+	 */
+	int[] getKeptIndexes() {
+		return null;
+	}
+
+	/**
+	 * Returns the values at the passed indexes or the passed values if the indexes are <code>null</code>.
+	 * 
+	 * @param values values computed for all data points
+	 * @param indexes indexes of the values to select or <code>null</code>
+	 * @return the values at the passed indexes
+	 */
+	private String[] select(String[] values, int[] indexes) {
+		// checks if the values must be selected
+		if (indexes == null) {
+			return values;
+		}
+		String[] result = new String[indexes.length];
+		for (int i = 0; i < indexes.length; i++) {
+			// values out of range are left to default
+			result[i] = indexes[i] < values.length ? values[indexes[i]] : null;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the values at the passed indexes or the passed values if the indexes are <code>null</code>.
+	 * 
+	 * @param values values computed for all data points
+	 * @param indexes indexes of the values to select or <code>null</code>
+	 * @return the values at the passed indexes
+	 */
+	private int[] select(int[] values, int[] indexes) {
+		// checks if the values must be selected
+		if (indexes == null) {
+			return values;
+		}
+		int[] result = new int[indexes.length];
+		for (int i = 0; i < indexes.length; i++) {
+			// values out of range are left to default
+			result[i] = indexes[i] < values.length ? values[indexes[i]] : 0;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the values at the passed indexes or the passed values if the indexes are <code>null</code>.
+	 * 
+	 * @param values values computed for all data points
+	 * @param indexes indexes of the values to select or <code>null</code>
+	 * @return the values at the passed indexes
+	 */
+	private double[] select(double[] values, int[] indexes) {
+		// checks if the values must be selected
+		if (indexes == null) {
+			return values;
+		}
+		double[] result = new double[indexes.length];
+		for (int i = 0; i < indexes.length; i++) {
+			// values out of range are left to default
+			result[i] = indexes[i] < values.length ? values[indexes[i]] : 0D;
+		}
+		return result;
 	}
 
 	/**
@@ -430,6 +617,57 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		setValue(Property.CHARBA_DATA_TYPE, has(Property.DATA) ? DataType.NUMBERS : DataType.UNKNOWN);
 	}
 
+	/**
+	 * Sets the data property of a dataset for a chart is specified as a typed array of numbers. Each point in the data array
+	 * corresponds to the label at the same index on the x axis.<br>
+	 * The typed array is passed to CHART.JS as is, without copying it.
+	 * 
+	 * @param values typed array of numbers
+	 * @see ArrayFloat64
+	 */
+	public void setData(ArrayFloat64 values) {
+		// checks if it can use data as double
+		if (mustUseDataPoints()) {
+			// if not, exception
+			throw new UnsupportedOperationException(DATA_USAGE_MESSAGE);
+		}
+		// set value. If null, removes key and then..
+		setValue(Property.DATA, values);
+		// sets data type checking if the key exists
+		setValue(Property.CHARBA_DATA_TYPE, has(Property.DATA) ? DataType.NUMBERS : DataType.UNKNOWN);
+	}
+
+	/**
+	 * Returns the data property of a dataset, only if it has been set as typed array of numbers.<br>
+	 * The typed array provides primitive accessors to the values, without any boxing.
+	 * 
+	 * @return typed array of numbers or <code>null</code> if the data property has not been set by a typed array.
+	 */
+	public ArrayFloat64 getTypedData() {
+		// checks if it can use data as double
+		if (mustUseDataPoints()) {
+			// if not, exception
+			throw new UnsupportedOperationException(DATA_USAGE_MESSAGE);
+		}
+		// checks if is a numbers data type, stored into a typed array
+		if (isTypedData()) {
+			// returns typed array
+			return getValue(Property.DATA, (ArrayFloat64) null);
+		}
+		// if here, data is not a typed array
+		return null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the data property has been set as typed array of numbers.<br>
+	 * A typed array is not a java script array but an object.
+	 * 
+	 * @return <code>true</code> if the data property has been set as typed array of numbers
+	 */
+	final boolean isTypedData() {
+		return has(Property.DATA) && DataType.NUMBERS.equals(getDataType()) && ObjectType.OBJECT.equals(type(Property.DATA));
+	}
+
 	/**
 	 * Returns the data property of a dataset for a chart is specified as an array of numbers. Each point in the data array
 	 * corresponds to the label at the same index on the x axis.
@@ -442,7 +680,9 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 
 	/**
 	 * Returns the data property of a dataset for a chart is specified as an array of numbers. Each point in the data array
-	 * corresponds to the label at the same index on the x axis.
+	 * corresponds to the label at the same index on the x axis.<br>
+	 * If the data property has been set as typed array, the returned list is backed by the typed array and has got a fixed
+	 * size.
 	 * 
 	 * @param binding if <code>true</code> binds the new array list into container
 	 * @return list of numbers or an empty list of numbers if the data type is not {@link DataType#NUMBERS}.
@@ -453,12 +693,19 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			// if not, exception
 			throw new UnsupportedOperationException(DATA_USAGE_MESSAGE);
 		}
+		// checks if is a numbers data type, stored into a typed array
+		if (isTypedData()) {
+			// returns a fixed-size list backed by the typed array
+			// the changes of the list are counted as changes of the dataset
+			return trackChanges(ArrayListHelper.list(getValue(Property.DATA, (ArrayFloat64) null)));
+		}
 		// checks if is a numbers data type
 		if (has(Property.DATA) && DataType.NUMBERS.equals(getDataType())) {
 			// returns numbers
 			ArrayDouble array = getArrayValue(Property.DATA);
 			// returns array
-			return ArrayListHelper.list(array);
+			// the changes of the list are counted as changes of the dataset
+			return trackChanges(ArrayListHelper.list(array));
 		}
 		// checks if wants to bind the array
 		if (binding) {
@@ -468,7 +715,8 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			// sets data type
 			setValue(Property.CHARBA_DATA_TYPE, DataType.NUMBERS);
 			// returns list
-			return result;
+			// the changes of the list are counted as changes of the dataset
+			return trackChanges(result);
 		}
 		// returns an empty list
 		return new LinkedList<>();
@@ -485,9 +733,10 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		// checks if is a numbers data type
 		if (has(Dataset.Property.DATA) && DataType.POINTS.equals(getDataType())) {
 			// gets array
-			ArrayObject array = getArrayValue(Dataset.Property.DATA);
+			ArrayObject array = getDataPointsArray();
 			// returns points
-			return ArrayListHelper.list(array, factory);
+			// the changes of the list and of the data points are counted as changes of the dataset
+			return trackChanges(ArrayListHelper.list(array, factory));
 		}
 		// checks if wants to bind the array
 		if (binding) {
@@ -497,12 +746,22 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			// sets data type
 			setValue(Dataset.Property.CHARBA_DATA_TYPE, DataType.POINTS);
 			// returns list
-			return result;
+			// the changes of the list and of the data points are counted as changes of the dataset
+			return trackChanges(result);
 		}
 		// returns an empty list
 		return new LinkedList<>();
 	}
 
+	/**
+	 * Returns the array of data points stored into data property.
+	 * 
+	 * @return the array of data points stored into data property
+	 */
+	ArrayObject getDataPointsArray() {
+		return getArrayValue(Dataset.Property.DATA);
+	}
+
 	/**
 	 * Sets the data property of a dataset for a chart is specified as an array of data points.
 	 * 
@@ -510,6 +769,8 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	 */
 	final void setInternalDataPoints(DataPoint... datapoints) {
 		setArrayValue(Property.DATA, ArrayObject.fromOrNull(datapoints));
+		// the changes of the data points are counted as changes of the dataset
+		trackDataItems(datapoints);
 		// sets data type checking if the key exists
 		setValue(Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
 	}
@@ -521,6 +782,8 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	 */
 	final void setInternalDataPoints(List<DataPoint> datapoints) {
 		setArrayValue(Dataset.Property.DATA, ArrayObject.fromOrNull(datapoints));
+		// the changes of the data points are counted as changes of the dataset
+		trackDataItems(datapoints);
 		// sets data type checking if the key exists
 		setValue(Dataset.Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
 	}
@@ -536,9 +799,10 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		// checks if is a numbers data type
 		if (has(Dataset.Property.DATA) && DataType.POINTS.equals(getDataType())) {
 			// gets array
-			ArrayObject array = getArrayValue(Dataset.Property.DATA);
+			ArrayObject array = getDataPointsArray();
 			// returns points
-			return ArrayListHelper.list(array, factory);
+			// the changes of the list and of the items are counted as changes of the dataset
+			return trackChanges(ArrayListHelper.list(array, factory));
 		}
 		// checks if wants to bind the array
 		if (binding) {
@@ -548,12 +812,45 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			// sets data type
 			setValue(Dataset.Property.CHARBA_DATA_TYPE, DataType.POINTS);
 			// returns list
-			return result;
+			// the changes of the list and of the items are counted as changes of the dataset
+			return trackChanges(result);
 		}
 		// returns an empty list
 		return new LinkedList<>();
 	}
 
+	/**
+	 * Tracks the changes of the data points (or time series items) stored into data property, in order to count them as changes
+	 * of the dataset.
+	 * 
+	 * @param items data points or time series items stored into data property
+	 */
+	private void trackDataItems(NativeObjectContainer[] items) {
+		// checks if argument is consistent
+		if (items != null) {
+			// scans all items
+			for (NativeObjectContainer item : items) {
+				trackChanges(item);
+			}
+		}
+	}
+
+	/**
+	 * Tracks the changes of the data points (or time series items) stored into data property, in order to count them as changes
+	 * of the dataset.
+	 * 
+	 * @param items data points or time series items stored into data property
+	 */
+	private void trackDataItems(List<? extends NativeObjectContainer> items) {
+		// checks if argument is consistent
+		if (items != null) {
+			// scans all items
+			for (NativeObjectContainer item : items) {
+				trackChanges(item);
+			}
+		}
+	}
+
 	/**
 	 * Sets the data property of a dataset for a chart is specified as an array of time series item.
 	 * 
@@ -565,6 +862,8 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			Arrays.sort(timeSeriesItems, COMPARATOR);
 		}
 		setArrayValue(Property.DATA, ArrayObject.fromOrNull(timeSeriesItems));
+		// the changes of the items are counted as changes of the dataset
+		trackDataItems(timeSeriesItems);
 		// sets data type checking if the key exists
 		setValue(Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
 	}
@@ -580,10 +879,38 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			Collections.sort(timeSeriesItems, COMPARATOR);
 		}
 		setArrayValue(Dataset.Property.DATA, ArrayObject.fromOrNull(timeSeriesItems));
+		// the changes of the items are counted as changes of the dataset
+		trackDataItems(timeSeriesItems);
 		// sets data type checking if the key exists
 		setValue(Dataset.Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
 	}
 
+	/**
+	 * Sets the data property of a dataset for a chart is specified as columns of times (epoch milliseconds) and values.<br>
+	 * The time series items are created in a single call, storing the time as epoch milliseconds.
+	 * 
+	 * @param times typed array of times, as epoch milliseconds
+	 * @param values typed array of values
+	 * @param presorted if <code>true</code>, the times are already sorted and the sort is skipped
+	 */
+	final void setInternalTimeSeriesItems(ArrayFloat64 times, ArrayFloat64 values, boolean presorted) {
+		// checks if arrays are consistent
+		if (times != null && values != null) {
+			// checks if the arrays have got the same length
+			if (times.length() != values.length()) {
+				// if not, exception
+				throw new IllegalArgumentException("Times and values have got different length: " + times.length() + " and " + values.length());
+			}
+			// creates all items by a single call
+			setArrayValue(Property.DATA, JsHelper.get().points(times, DataPoint.Property.T.value(), values, DataPoint.Property.Y.value(), !presorted));
+		} else {
+			// removes data
+			remove(Property.DATA);
+		}
+		// sets data type checking if the key exists
+		setValue(Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -673,12 +1000,36 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	}
 
 	/**
-	 * Returns the JSON representation of dataset. This is used y canvas object handler to know if the dataset has been changed.
+	 * Returns the amount of changes of the dataset, incremented every time a property is set or removed, also by the bound
+	 * lists of data and by the data points of the dataset.<br>
+	 * It is used to detect if the dataset has been changed, without serializing it.
 	 * 
-	 * @return JSON representation of dataset
+	 * @return the amount of changes of the dataset
 	 */
-	String toFilteredJSON() {
-		return JSON.stringifyNativeObject(getNativeObject(), -1);
+	final int getChangesCount() {
+		// the changes done by batch scriptable options are ignored
+		return getModificationCount() - batchChangesCount;
+	}
+
+	/**
+	 * Returns the amount of items of the data property, whatever the data type is.<br>
+	 * It reads only the length of the java script array, without creating any list of data or data points, therefore it is
+	 * cheap enough to be called at every chart update.
+	 * 
+	 * @return the amount of items of the data property or 0 if the data property is not set
+	 */
+	public final int getDataCount() {
+		// checks if the data property is set as typed array
+		if (isTypedData()) {
+			// gets typed array
+			ArrayFloat64 typedArray = getValue(Property.DATA, (ArrayFloat64) null);
+			// returns its length
+			return typedArray != null ? typedArray.length() : 0;
+		}
+		// gets array, if any
+		Array array = getArrayValue(Property.DATA);
+		// returns its length
+		return array != null ? array.length() : 0;
 	}
 
 }
\ No newline at end of file
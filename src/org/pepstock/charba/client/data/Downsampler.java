@@ -0,0 +1,418 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.Arrays;
+
+import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.commons.JsHelper;
+import org.pepstock.charba.client.commons.ObjectType;
+import org.pepstock.charba.client.enums.DownsamplingMode;
+import org.pepstock.charba.client.items.UndefinedValues;
+
+/**
+ * Reduces the data points of a line dataset to the amount of pixels of the chart area, keeping the full resolution data
+ * points.<br>
+ * The coordinates of data points are read once, by a single call, every time the data are changed and the reduced data points
+ * are recalculated only when the data, the width of chart area or the visible range of the x axis are changed.<br>
+ * The data are changed when the array is replaced, when its length is changed or when the amount of changes of the dataset is
+ * changed. The amount of changes of the dataset counts also the changes applied by the bound lists and by the data point
+ * setters, therefore the check does not scan the data points.<br>
+ * The reduced array contains the same native objects of full resolution data, without copying them.<br>
+ * The indexes of kept data points are maintained in order to reduce also the arrays of values computed by the batch
+ * scriptable options, which are computed on full resolution data points.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class Downsampler {
+
+	// minimum amount of buckets to use
+	static final int MINIMUM_BUCKETS = 3;
+	// key of property with y value of data points
+	private static final String Y_KEY = DataPoint.Property.Y.value();
+
+	// mode to use to reduce data points
+	private final DownsamplingMode mode;
+	// full resolution data points
+	private ArrayObject source = null;
+	// reduced data points, passed to CHART.JS
+	private ArrayObject reduced = null;
+	// x values of full resolution data points
+	private double[] xValues = null;
+	// y values of full resolution data points
+	private double[] yValues = null;
+	// amount of changes of dataset when the coordinates have been read
+	private int changes = UndefinedValues.INTEGER;
+	// indexes of kept data points or null if the data points are not reduced
+	private int[] keptIndexes = null;
+	// if x values are sorted, the visible range can be used
+	private boolean sorted = false;
+	// amount of buckets of last reduction
+	private int lastBuckets = 0;
+	// minimum of visible range of last reduction
+	private double lastMinimum = Double.NaN;
+	// maximum of visible range of last reduction
+	private double lastMaximum = Double.NaN;
+
+	/**
+	 * Creates the down sampler with the mode to use.
+	 * 
+	 * @param mode mode to use to reduce data points
+	 */
+	Downsampler(DownsamplingMode mode) {
+		this.mode = mode;
+	}
+
+	/**
+	 * Returns the mode to use to reduce data points.
+	 * 
+	 * @return the mode to use to reduce data points
+	 */
+	DownsamplingMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Returns the full resolution data points if the passed array is the reduced one, otherwise the passed array.
+	 * 
+	 * @param current array of data points stored into dataset
+	 * @return the full resolution data points
+	 */
+	ArrayObject getSource(ArrayObject current) {
+		// checks if the current array is the reduced one
+		if (source != null && reduced != null && current == reduced) {
+			return source;
+		}
+		return current;
+	}
+
+	/**
+	 * Returns the indexes of full resolution data points kept by last reduction or <code>null</code> if the data points passed
+	 * to CHART.JS are the full resolution ones.
+	 * 
+	 * @return the indexes of kept data points or <code>null</code> if the data points are not reduced
+	 */
+	int[] getKeptIndexes() {
+		return keptIndexes;
+	}
+
+	/**
+	 * Stores the amount of changes of the dataset after the reduced data points have been stored into dataset, in order to
+	 * ignore the change done by the reduction itself.
+	 * 
+	 * @param changes amount of changes of the dataset
+	 */
+	void setChanges(int changes) {
+		this.changes = changes;
+	}
+
+	/**
+	 * Reduces the data points to the passed amount of buckets, considering only the data points in the visible range.<br>
+	 * If nothing is changed from last reduction, it returns the last reduced array.
+	 * 
+	 * @param current array of data points stored into dataset
+	 * @param currentChanges amount of changes of the dataset
+	 * @param buckets amount of buckets (pixels) to use
+	 * @param minimum minimum of visible range of x axis or {@link Double#NaN} if not set
+	 * @param maximum maximum of visible range of x axis or {@link Double#NaN} if not set
+	 * @return the reduced array of data points
+	 */
+	ArrayObject reduce(ArrayObject current, int currentChanges, int buckets, double minimum, double maximum) {
+		// gets the full resolution data points
+		ArrayObject data = getSource(current);
+		// checks if data are consistent
+		if (data == null) {
+			// resets the status
+			source = null;
+			reduced = null;
+			xValues = null;
+			yValues = null;
+			keptIndexes = null;
+			return null;
+		}
+		// checks if the data have been replaced, added/removed
+		// or changed by the setters of dataset, by the bound lists or by the data points
+		boolean changed = data != source || xValues == null || xValues.length != data.length() || currentChanges != changes;
+		if (changed) {
+			// stores the new full resolution data points
+			// and reads the coordinates
+			source = data;
+			load(data);
+		}
+		// normalizes the amount of buckets
+		int amountOfBuckets = Math.max(MINIMUM_BUCKETS, buckets);
+		// checks if something is changed from last reduction
+		if (!changed && reduced != null && amountOfBuckets == lastBuckets && Double.compare(minimum, lastMinimum) == 0 && Double.compare(maximum, lastMaximum) == 0) {
+			// returns last reduced data points
+			return reduced;
+		}
+		// stores the arguments of reduction
+		lastBuckets = amountOfBuckets;
+		lastMinimum = minimum;
+		lastMaximum = maximum;
+		// calculates the range of data points to reduce
+		int last = xValues.length - 1;
+		int from = 0;
+		int to = last;
+		// the visible range can be applied only if x values are sorted
+		if (sorted && last > 0) {
+			// checks if minimum is set
+			if (!Double.isNaN(minimum)) {
+				// includes the previous data point
+				// in order to draw the line until the border
+				from = Math.max(0, lowerBound(minimum) - 1);
+			}
+			// checks if maximum is set
+			if (!Double.isNaN(maximum)) {
+				// includes the next data point
+				// in order to draw the line until the border
+				to = Math.min(last, upperBound(maximum) + 1);
+			}
+			// checks if the range is consistent
+			if (from > to) {
+				from = 0;
+				to = last;
+			}
+		}
+		// checks if the amount of data points is already less than the pixels
+		if (from == 0 && to == last && xValues.length <= amountOfBuckets) {
+			// full resolution data points are passed
+			reduced = source;
+			keptIndexes = null;
+			return reduced;
+		}
+		// creates the indexes of data points to keep
+		int[] indexes = new int[DownsamplingMode.MIN_MAX.equals(mode) ? amountOfBuckets * 2 + 2 : amountOfBuckets];
+		// reduces the data points
+		int count = DownsamplingMode.MIN_MAX.equals(mode) ? minMax(indexes, from, to, amountOfBuckets) : largestTriangleThreeBuckets(indexes, from, to, amountOfBuckets);
+		// stores the indexes of kept data points
+		keptIndexes = Arrays.copyOf(indexes, count);
+		// creates the reduced array by a single call
+		reduced = JsHelper.get().select(source, indexes, count);
+		return reduced;
+	}
+
+	/**
+	 * Reads the coordinates of the data points and checks if the x values are sorted.
+	 * 
+	 * @param data full resolution data points
+	 */
+	private void load(ArrayObject data) {
+		// data point can have x or t as x value (time series items)
+		String xKey = DataPoint.Property.X.value();
+		// checks if the first data point has got x value
+		if (data.length() > 0 && ObjectType.UNDEFINED.equals(JsHelper.get().typeOf(data.get(0), xKey))) {
+			// uses the time
+			xKey = DataPoint.Property.T.value();
+		}
+		// reads the coordinates by a single call for each axis
+		xValues = JsHelper.get().numbers(data, xKey).toArray();
+		yValues = JsHelper.get().numbers(data, Y_KEY).toArray();
+		// checks if x values are sorted
+		sorted = true;
+		for (int i = 0; i < xValues.length; i++) {
+			// checks if x value is consistent
+			if (Double.isNaN(xValues[i])) {
+				// x values are not consistent (for instance, strings)
+				// therefore uses the index as x value
+				for (int k = 0; k < xValues.length; k++) {
+					xValues[k] = k;
+				}
+				// the visible range can not be used
+				sorted = false;
+				break;
+			} else if (i > 0 && xValues[i] < xValues[i - 1]) {
+				// the visible range can not be used
+				sorted = false;
+			}
+		}
+		// resets the reduced array
+		reduced = null;
+		keptIndexes = null;
+	}
+
+	/**
+	 * Returns the index of the first data point with x value greater than or equal to the passed value.
+	 * 
+	 * @param value value to search
+	 * @return the index of the first data point with x value greater than or equal to the passed value
+	 */
+	private int lowerBound(double value) {
+		int low = 0;
+		int high = xValues.length;
+		// binary search
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (xValues[middle] < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the last data point with x value less than or equal to the passed value.
+	 * 
+	 * @param value value to search
+	 * @return the index of the last data point with x value less than or equal to the passed value
+	 */
+	private int upperBound(double value) {
+		int low = 0;
+		int high = xValues.length;
+		// binary search
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (xValues[middle] <= value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low - 1;
+	}
+
+	/**
+	 * Reduces the data points by Largest-Triangle-Three-Buckets algorithm.
+	 * 
+	 * @param indexes array where the indexes of kept data points are stored
+	 * @param from first index of range of data points to reduce
+	 * @param to last index (inclusive) of range of data points to reduce
+	 * @param buckets amount of data points to keep
+	 * @return amount of kept data points
+	 */
+	private int largestTriangleThreeBuckets(int[] indexes, int from, int to, int buckets) {
+		// amount of data points to reduce
+		int amount = to - from + 1;
+		// checks if reduction is needed
+		if (amount <= buckets) {
+			return all(indexes, from, to);
+		}
+		int count = 0;
+		// the first data point is always kept
+		indexes[count++] = from;
+		// size of every bucket, without first and last data points
+		double every = (double) (amount - 2) / (buckets - 2);
+		// last kept data point
+		int selected = from;
+		// scans all buckets
+		for (int i = 0; i < buckets - 2; i++) {
+			// calculates the average point of next bucket
+			int averageStart = from + (int) Math.floor((i + 1) * every) + 1;
+			int averageEnd = Math.min(from + (int) Math.floor((i + 2) * every) + 1, to + 1);
+			double averageX = 0;
+			double averageY = 0;
+			for (int k = averageStart; k < averageEnd; k++) {
+				averageX += xValues[k];
+				averageY += yValues[k];
+			}
+			// checks if the next bucket is not empty
+			if (averageEnd > averageStart) {
+				averageX /= averageEnd - averageStart;
+				averageY /= averageEnd - averageStart;
+			}
+			// range of current bucket
+			int rangeStart = from + (int) Math.floor(i * every) + 1;
+			int rangeEnd = from + (int) Math.floor((i + 1) * every) + 1;
+			// searches the data point which forms the largest triangle
+			double maxArea = -1;
+			int next = rangeStart;
+			for (int k = rangeStart; k < rangeEnd; k++) {
+				double area = Math.abs((xValues[selected] - averageX) * (yValues[k] - yValues[selected]) - (xValues[selected] - xValues[k]) * (averageY - yValues[selected]));
+				if (area > maxArea) {
+					maxArea = area;
+					next = k;
+				}
+			}
+			// stores the selected data point
+			indexes[count++] = next;
+			selected = next;
+		}
+		// the last data point is always kept
+		indexes[count++] = to;
+		return count;
+	}
+
+	/**
+	 * Reduces the data points keeping the data points with minimum and maximum y value for each bucket.
+	 * 
+	 * @param indexes array where the indexes of kept data points are stored
+	 * @param from first index of range of data points to reduce
+	 * @param to last index (inclusive) of range of data points to reduce
+	 * @param buckets amount of buckets
+	 * @return amount of kept data points
+	 */
+	private int minMax(int[] indexes, int from, int to, int buckets) {
+		// amount of data points to reduce
+		int amount = to - from + 1;
+		// checks if reduction is needed
+		if (amount <= buckets * 2) {
+			return all(indexes, from, to);
+		}
+		int count = 0;
+		// the first data point is always kept
+		indexes[count++] = from;
+		// size of every bucket, without first and last data points
+		double size = (double) (amount - 2) / buckets;
+		// scans all buckets
+		for (int i = 0; i < buckets; i++) {
+			// range of current bucket
+			int rangeStart = from + (int) Math.floor(i * size) + 1;
+			int rangeEnd = Math.min(from + (int) Math.floor((i + 1) * size) + 1, to);
+			// checks if the bucket is empty
+			if (rangeStart >= rangeEnd) {
+				continue;
+			}
+			// searches minimum and maximum
+			int minIndex = rangeStart;
+			int maxIndex = rangeStart;
+			for (int k = rangeStart + 1; k < rangeEnd; k++) {
+				if (yValues[k] < yValues[minIndex]) {
+					minIndex = k;
+				} else if (yValues[k] > yValues[maxIndex]) {
+					maxIndex = k;
+				}
+			}
+			// stores the data points, keeping the order
+			indexes[count++] = Math.min(minIndex, maxIndex);
+			if (minIndex != maxIndex) {
+				indexes[count++] = Math.max(minIndex, maxIndex);
+			}
+		}
+		// the last data point is always kept
+		indexes[count++] = to;
+		return count;
+	}
+
+	/**
+	 * Stores all indexes of the range, when the reduction is not needed.
+	 * 
+	 * @param indexes array where the indexes of kept data points are stored
+	 * @param from first index of range of data points
+	 * @param to last index (inclusive) of range of data points
+	 * @return amount of kept data points
+	 */
+	private int all(int[] indexes, int from, int to) {
+		int count = 0;
+		for (int i = from; i <= to; i++) {
+			indexes[count++] = i;
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,250 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.enums.PluginHook;
+import org.pepstock.charba.client.items.ChartAreaNode;
+import org.pepstock.charba.client.items.SizeItem;
+import org.pepstock.charba.client.items.UndefinedValues;
+import org.pepstock.charba.client.options.Scale;
+import org.pepstock.charba.client.plugins.AbstractPlugin;
+
+/**
+ * Internal plugin, set by data object before a chart is initializing.<br>
+ * This plugin is always added to the chart, because a line dataset can be configured to reduce its data points also after the
+ * chart is drawn, but it registers its hooks only when a line dataset is configured to reduce its data points, therefore it
+ * costs nothing to the other charts.<br>
+ * Before every update of the chart (and then after resize or when the visible range of x axis is changed), it passes to
+ * CHART.JS the data points reduced to the width of chart area.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class DownsamplingHandler extends AbstractPlugin {
+
+	// plugin ID
+	static final String ID = "downsamplinghandler";
+	// data of chart
+	private final Data data;
+	// width of chart after a resize, before the new layout
+	private int resizedWidth = UndefinedValues.INTEGER;
+
+	/**
+	 * To avoid any instantiation
+	 * 
+	 * @param data data of chart, used to check if any dataset needs this plugin
+	 */
+	DownsamplingHandler(Data data) {
+		this.data = data;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		// scans all datasets
+		for (Dataset dataset : data.getDatasets()) {
+			// checks if is a line dataset which must be reduced
+			if (dataset instanceof LineDataset && ((LineDataset) dataset).getDownsampling() != null) {
+				return EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.RESIZE, PluginHook.AFTER_LAYOUT);
+			}
+		}
+		// if here, no dataset must be reduced
+		// then no hook is registered
+		return EnumSet.noneOf(PluginHook.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onBeforeUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public boolean onBeforeUpdate(IsChart chart) {
+		// amount of pixels where the datasets are drawn
+		// calculated only if a dataset must be reduced
+		int width = UndefinedValues.INTEGER;
+		// gets list of datasets
+		List<Dataset> datasets = chart.getData().getDatasets();
+		// dataset index
+		int datasetIndex = 0;
+		// scans all datasets
+		for (Dataset dataset : datasets) {
+			// checks if is a line dataset and if it is visible
+			// hidden datasets are reduced when they are shown, because the chart is updated
+			if (dataset instanceof LineDataset && (!chart.isInitialized() || chart.isDatasetVisible(datasetIndex))) {
+				LineDataset lineDataset = (LineDataset) dataset;
+				// checks if the dataset must be reduced
+				if (lineDataset.getDownsampling() != null) {
+					// checks if the amount of pixels is already calculated
+					if (width == UndefinedValues.INTEGER) {
+						width = getWidth(chart);
+					}
+					// gets the visible range of x axis
+					Scale scale = getScale(chart, lineDataset.getXAxisID());
+					// reduces the data points
+					lineDataset.downsample(width, getMinimum(scale), getMaximum(scale));
+				}
+			}
+			// increments of index
+			datasetIndex++;
+		}
+		// informs CHART.JS to update the chart
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onResize(org.pepstock.charba.client.IsChart,
+	 * org.pepstock.charba.client.items.SizeItem)
+	 */
+	@Override
+	public void onResize(IsChart chart, SizeItem size) {
+		// the chart area is calculated after the update
+		// therefore stores the new width of chart
+		// to use during the update
+		resizedWidth = size.getWidth();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterLayout(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterLayout(IsChart chart) {
+		// the chart area is now consistent
+		resizedWidth = UndefinedValues.INTEGER;
+	}
+
+	/**
+	 * Returns the amount of pixels where the datasets are drawn, using the chart area of the last layout if available.
+	 * 
+	 * @param chart chart instance
+	 * @return the amount of pixels where the datasets are drawn
+	 */
+	private int getWidth(IsChart chart) {
+		// checks if the chart has been resized
+		if (resizedWidth > 0) {
+			return resizedWidth;
+		}
+		// checks if chart is initialized
+		if (chart.isInitialized()) {
+			// gets the chart area of last layout
+			ChartAreaNode chartArea = chart.getNode().getChartArea();
+			int width = chartArea.getRight() - chartArea.getLeft();
+			// checks if the chart area is consistent
+			if (width > 0) {
+				return width;
+			}
+		}
+		// if here, the chart is initializing
+		// then uses the canvas
+		return chart.getCanvas().getOffsetWidth();
+	}
+
+	/**
+	 * Returns the x axis options, by its id.
+	 * 
+	 * @param chart chart instance
+	 * @param id id of x axis
+	 * @return the x axis options or <code>null</code> if not found
+	 */
+	private Scale getScale(IsChart chart, String id) {
+		// checks if chart is initialized
+		if (chart.isInitialized()) {
+			// scans all x axes of current options
+			// which are already containing the last changes
+			for (Scale scale : chart.getNode().getOptions().getScales().getXAxes()) {
+				// checks the id
+				if (id.equals(scale.getId())) {
+					return scale;
+				}
+			}
+		}
+		// if here, the axis is not found
+		return null;
+	}
+
+	/**
+	 * Returns the minimum of visible range of x axis, checking time and ticks options.
+	 * 
+	 * @param scale x axis options
+	 * @return the minimum of visible range of x axis or {@link Double#NaN} if not set
+	 */
+	private double getMinimum(Scale scale) {
+		// checks if scale is consistent
+		if (scale != null) {
+			// checks the time options
+			Date time = scale.getTime().getMin();
+			if (time != null) {
+				return time.getTime();
+			}
+			// checks the ticks options
+			// minimum value of double is the default if not set
+			double value = scale.getTicks().getMin();
+			if (value != Double.MIN_VALUE) {
+				return value;
+			}
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Returns the maximum of visible range of x axis, checking time and ticks options.
+	 * 
+	 * @param scale x axis options
+	 * @return the maximum of visible range of x axis or {@link Double#NaN} if not set
+	 */
+	private double getMaximum(Scale scale) {
+		// checks if scale is consistent
+		if (scale != null) {
+			// checks the time options
+			Date time = scale.getTime().getMax();
+			if (time != null) {
+				return time.getTime();
+			}
+			// checks the ticks options
+			// maximum value of double is the default if not set
+			double value = scale.getTicks().getMax();
+			if (value != Double.MAX_VALUE) {
+				return value;
+			}
+		}
+		return Double.NaN;
+	}
+
+}
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.pepstock.charba.client.commons.ArrayFloat64;
 import org.pepstock.charba.client.enums.DataType;
 
 /**
@@ -152,6 +153,54 @@ public interface HasTimeSeriesItems extends HasDataPoints {
 		}
 	}
 
+	/**
+	 * Sets the data property of a dataset for a chart is specified as columns of times (epoch milliseconds) and values.<br>
+	 * The time series items are sorted by time.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @param values array of values, with the same length of times
+	 */
+	default void setTimeSeriesData(long[] times, double[] values) {
+		setTimeSeriesData(times, values, false);
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as columns of times (epoch milliseconds) and values.<br>
+	 * The time series items are created by a single bulk call, without creating any time series item or date object.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @param values array of values, with the same length of times
+	 * @param presorted if <code>true</code>, the times are already sorted and the sort is skipped
+	 */
+	default void setTimeSeriesData(long[] times, double[] values, boolean presorted) {
+		// checks if arguments are consistent
+		if (times != null && values != null) {
+			// loads times into a typed array
+			ArrayFloat64 timesArray = ArrayFloat64.create(times.length);
+			for (int i = 0; i < times.length; i++) {
+				timesArray.set(i, times[i]);
+			}
+			setTimeSeriesData(timesArray, ArrayFloat64.fromOrEmpty(values), presorted);
+		} else {
+			setTimeSeriesData((ArrayFloat64) null, (ArrayFloat64) null, presorted);
+		}
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as columns of times (epoch milliseconds) and values.<br>
+	 * The time series items are created by a single bulk call, without creating any time series item or date object.
+	 * 
+	 * @param times typed array of times, as epoch milliseconds
+	 * @param values typed array of values, with the same length of times
+	 * @param presorted if <code>true</code>, the times are already sorted and the sort is skipped
+	 */
+	default void setTimeSeriesData(ArrayFloat64 times, ArrayFloat64 values, boolean presorted) {
+		// checks if dataset is consistent
+		if (getDataset() != null) {
+			getDataset().setInternalTimeSeriesItems(times, values, presorted);
+		}
+	}
+
 	/**
 	 * Returns the data property of a dataset for a chart is specified as an array of time series items.
 	 * 
@@ -18,6 +18,7 @@ package org.pepstock.charba.client.data;
 import java.util.List;
 
 import org.pepstock.charba.client.callbacks.BackgroundColorCallback;
+import org.pepstock.charba.client.callbacks.BatchScriptable;
 import org.pepstock.charba.client.callbacks.BorderColorCallback;
 import org.pepstock.charba.client.callbacks.BorderWidthCallback;
 import org.pepstock.charba.client.callbacks.ScriptableFunctions;
@@ -54,11 +55,11 @@ public abstract class HovingDataset extends HovingFlexDataset {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the hover background color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> hoverBackgroundColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> hoverBackgroundColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the hover border color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> hoverBorderColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> hoverBorderColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the hover border width function
-	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> hoverBorderWidthCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> hoverBorderWidthCallbackProxy = JsHelper.get().newCallbackProxy(1);
 
 	// hover background color callback instance
 	private BackgroundColorCallback hoverBackgroundColorCallback = null;
@@ -157,6 +158,8 @@ public abstract class HovingDataset extends HovingFlexDataset {
 	 */
 	@Override
 	void setWidths(Key key, int... widths) {
+		// removes the batch callback, if set
+		resetBeingValues(key);
 		// stores value
 		setArrayValue(key, ArrayInteger.fromOrEmpty(widths));
 	}
@@ -449,6 +452,8 @@ public abstract class HovingDataset extends HovingFlexDataset {
 		this.hoverBorderWidthCallback = hoverBorderWidthCallback;
 		// checks if callback is consistent
 		if (hoverBorderWidthCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.HOVER_BORDER_WIDTH);
 			// adds the callback proxy function to java script object
 			setValue(Property.HOVER_BORDER_WIDTH, hoverBorderWidthCallbackProxy.getProxy());
 		} else {
@@ -457,6 +462,48 @@ public abstract class HovingDataset extends HovingFlexDataset {
 		}
 	}
 
+	/**
+	 * Sets the batch hover background color callback, invoked once before every update of the datasets, which returns the
+	 * background colors of all arcs when hovered, by data index.
+	 * 
+	 * @param hoverBackgroundColorCallback the batch hover background color callback to set
+	 */
+	@Override
+	public void setBatchHoverBackgroundColor(BatchScriptable<IsColor[]> hoverBackgroundColorCallback) {
+		// resets the scriptable callback, if set
+		this.hoverBackgroundColorCallback = null;
+		// call super
+		super.setBatchHoverBackgroundColor(hoverBackgroundColorCallback);
+	}
+
+	/**
+	 * Sets the batch hover border color callback, invoked once before every update of the datasets, which returns the border
+	 * colors of all arcs when hovered, by data index.
+	 * 
+	 * @param hoverBorderColorCallback the batch hover border color callback to set
+	 */
+	@Override
+	public void setBatchHoverBorderColor(BatchScriptable<IsColor[]> hoverBorderColorCallback) {
+		// resets the scriptable callback, if set
+		this.hoverBorderColorCallback = null;
+		// call super
+		super.setBatchHoverBorderColor(hoverBorderColorCallback);
+	}
+
+	/**
+	 * Sets the batch hover border width callback, invoked once before every update of the datasets, which returns the border
+	 * widths of all arcs when hovered, by data index.
+	 * 
+	 * @param hoverBorderWidthCallback the batch hover border width callback to set
+	 */
+	@Override
+	public void setBatchHoverBorderWidth(BatchScriptable<int[]> hoverBorderWidthCallback) {
+		// resets the scriptable callback, if set
+		this.hoverBorderWidthCallback = null;
+		// call super
+		super.setBatchHoverBorderWidth(hoverBorderWidthCallback);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -18,6 +18,7 @@ package org.pepstock.charba.client.data;
 import java.util.List;
 
 import org.pepstock.charba.client.callbacks.BackgroundColorCallback;
+import org.pepstock.charba.client.callbacks.BatchScriptable;
 import org.pepstock.charba.client.callbacks.BorderColorCallback;
 import org.pepstock.charba.client.callbacks.BorderWidthCallback;
 import org.pepstock.charba.client.callbacks.ScriptableFunctions;
@@ -54,11 +55,11 @@ public abstract class HovingFlexDataset extends Dataset {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the background color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> backgroundColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> backgroundColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the border color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> borderColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> borderColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the border width function
-	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> borderWidthCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> borderWidthCallbackProxy = JsHelper.get().newCallbackProxy(1);
 
 	// background color callback instance
 	private BackgroundColorCallback backgroundColorCallback = null;
@@ -182,6 +183,8 @@ public abstract class HovingFlexDataset extends Dataset {
 	 * @param widths widths value to be set
 	 */
 	void setWidths(Key key, int... widths) {
+		// removes the batch callback, if set
+		resetBeingValues(key);
 		// stores value
 		setValueOrArray(key, widths);
 	}
@@ -719,6 +722,8 @@ public abstract class HovingFlexDataset extends Dataset {
 		this.borderWidthCallback = borderWidthCallback;
 		// checks if callback is consistent
 		if (borderWidthCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.BORDER_WIDTH);
 			// adds the callback proxy function to java script object
 			setValue(Property.BORDER_WIDTH, borderWidthCallbackProxy.getProxy());
 		} else {
@@ -727,6 +732,138 @@ public abstract class HovingFlexDataset extends Dataset {
 		}
 	}
 
+	/**
+	 * Returns the batch background color callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch background color callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<IsColor[]> getBatchBackgroundColor() {
+		return (BatchScriptable<IsColor[]>) getBatchCallback(Property.BACKGROUND_COLOR);
+	}
+
+	/**
+	 * Sets the batch background color callback, invoked once before every update of the datasets, which returns the background
+	 * colors of all elements of the dataset, by data index.
+	 * 
+	 * @param backgroundColorCallback the batch background color callback to set
+	 */
+	public void setBatchBackgroundColor(BatchScriptable<IsColor[]> backgroundColorCallback) {
+		// resets the scriptable callback, if set
+		this.backgroundColorCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.BACKGROUND_COLOR, backgroundColorCallback);
+	}
+
+	/**
+	 * Returns the batch border color callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch border color callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<IsColor[]> getBatchBorderColor() {
+		return (BatchScriptable<IsColor[]>) getBatchCallback(Property.BORDER_COLOR);
+	}
+
+	/**
+	 * Sets the batch border color callback, invoked once before every update of the datasets, which returns the border colors
+	 * of all elements of the dataset, by data index.
+	 * 
+	 * @param borderColorCallback the batch border color callback to set
+	 */
+	public void setBatchBorderColor(BatchScriptable<IsColor[]> borderColorCallback) {
+		// resets the scriptable callback, if set
+		this.borderColorCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.BORDER_COLOR, borderColorCallback);
+	}
+
+	/**
+	 * Returns the batch border width callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch border width callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<int[]> getBatchBorderWidth() {
+		return (BatchScriptable<int[]>) getBatchCallback(Property.BORDER_WIDTH);
+	}
+
+	/**
+	 * Sets the batch border width callback, invoked once before every update of the datasets, which returns the border widths
+	 * of all elements of the dataset, by data index.
+	 * 
+	 * @param borderWidthCallback the batch border width callback to set
+	 */
+	public void setBatchBorderWidth(BatchScriptable<int[]> borderWidthCallback) {
+		// resets the scriptable callback, if set
+		this.borderWidthCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.BORDER_WIDTH, borderWidthCallback);
+	}
+
+	/**
+	 * Returns the batch hover background color callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch hover background color callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<IsColor[]> getBatchHoverBackgroundColor() {
+		return (BatchScriptable<IsColor[]>) getBatchCallback(Property.HOVER_BACKGROUND_COLOR);
+	}
+
+	/**
+	 * Sets the batch hover background color callback, invoked once before every update of the datasets, which returns the
+	 * background colors of all elements of the dataset when hovered, by data index.
+	 * 
+	 * @param hoverBackgroundColorCallback the batch hover background color callback to set
+	 */
+	public void setBatchHoverBackgroundColor(BatchScriptable<IsColor[]> hoverBackgroundColorCallback) {
+		// sets the batch callback
+		setBatchCallback(Property.HOVER_BACKGROUND_COLOR, hoverBackgroundColorCallback);
+	}
+
+	/**
+	 * Returns the batch hover border color callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch hover border color callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<IsColor[]> getBatchHoverBorderColor() {
+		return (BatchScriptable<IsColor[]>) getBatchCallback(Property.HOVER_BORDER_COLOR);
+	}
+
+	/**
+	 * Sets the batch hover border color callback, invoked once before every update of the datasets, which returns the border
+	 * colors of all elements of the dataset when hovered, by data index.
+	 * 
+	 * @param hoverBorderColorCallback the batch hover border color callback to set
+	 */
+	public void setBatchHoverBorderColor(BatchScriptable<IsColor[]> hoverBorderColorCallback) {
+		// sets the batch callback
+		setBatchCallback(Property.HOVER_BORDER_COLOR, hoverBorderColorCallback);
+	}
+
+	/**
+	 * Returns the batch hover border width callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch hover border width callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<int[]> getBatchHoverBorderWidth() {
+		return (BatchScriptable<int[]>) getBatchCallback(Property.HOVER_BORDER_WIDTH);
+	}
+
+	/**
+	 * Sets the batch hover border width callback, invoked once before every update of the datasets, which returns the border
+	 * widths of all elements of the dataset when hovered, by data index.
+	 * 
+	 * @param hoverBorderWidthCallback the batch hover border width callback to set
+	 */
+	public void setBatchHoverBorderWidth(BatchScriptable<int[]> hoverBorderWidthCallback) {
+		// sets the batch callback
+		setBatchCallback(Property.HOVER_BORDER_WIDTH, hoverBorderWidthCallback);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
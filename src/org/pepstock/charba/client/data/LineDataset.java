@@ -19,6 +19,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.pepstock.charba.client.commons.ArrayListHelper;
+import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.ArrayString;
 import org.pepstock.charba.client.commons.ArrayStringList;
 import org.pepstock.charba.client.commons.Key;
@@ -26,6 +27,7 @@ import org.pepstock.charba.client.commons.ObjectType;
 import org.pepstock.charba.client.defaults.IsDefaultOptions;
 import org.pepstock.charba.client.enums.CubicInterpolationMode;
 import org.pepstock.charba.client.enums.DataType;
+import org.pepstock.charba.client.enums.DownsamplingMode;
 import org.pepstock.charba.client.enums.SteppedLine;
 import org.pepstock.charba.client.options.Scales;
 
@@ -75,6 +77,9 @@ public class LineDataset extends LiningDataset implements HasDataPoints {
 
 	}
 
+	// down sampler of data points, null if disabled
+	private Downsampler downsampler = null;
+
 	/**
 	 * Creates a dataset.<br>
 	 * It uses the global options has default.
@@ -312,4 +317,90 @@ public class LineDataset extends LiningDataset implements HasDataPoints {
 		return new LinkedList<>();
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Sets the mode to reduce the data points passed to CHART.JS to the width of chart area, when the data are set as data points
+	 * or time series items.<br>
+	 * The full resolution data points remain available by the dataset. The data points are reduced at every update of the
+	 * chart, only if the data, the width of chart area or the visible range (minimum and maximum of ticks or time) of the x
+	 * axis are changed.<br>
+	 * Be aware that the data index provided by CHART.JS (i.e. in the tooltips or events) refers to the reduced data points.<br>
+	 * The arrays of values returned by the batch scriptable options are computed on the full resolution data points and then
+	 * reduced with the same indexes of the data points, therefore the reduction wins and every kept data point gets its own
+	 * value.<br>
+	 * It can be set also after the chart is drawn and it is applied at the next update of the chart.
+	 * 
+	 * @param mode the mode to reduce the data points or <code>null</code> to disable the reduction
+	 */
+	public void setDownsampling(DownsamplingMode mode) {
+		// checks if the data points have been already reduced
+		if (downsampler != null && has(Dataset.Property.DATA) && DataType.POINTS.equals(getDataType())) {
+			// gets the full resolution data points
+			ArrayObject current = getArrayValue(Dataset.Property.DATA);
+			ArrayObject source = downsampler.getSource(current);
+			// checks if the full resolution data points must be restored
+			if (source != current) {
+				setArrayValue(Dataset.Property.DATA, source);
+			}
+		}
+		// creates a new down sampler, which resets the status
+		downsampler = mode != null ? new Downsampler(mode) : null;
+	}
+
+	/**
+	 * Returns the mode to reduce the data points passed to CHART.JS to the width of chart area.
+	 * 
+	 * @return the mode to reduce the data points or <code>null</code> if the reduction is disabled
+	 */
+	public DownsamplingMode getDownsampling() {
+		return downsampler != null ? downsampler.getMode() : null;
+	}
+
+	/**
+	 * Reduces the data points passed to CHART.JS to the passed width.<br>
+	 * This is called by {@link DownsamplingHandler}.
+	 * 
+	 * @param width amount of pixels where the dataset is drawn
+	 * @param minimum minimum of visible range of x axis or {@link Double#NaN} if not set
+	 * @param maximum maximum of visible range of x axis or {@link Double#NaN} if not set
+	 */
+	final void downsample(int width, double minimum, double maximum) {
+		// checks if the reduction is enabled and the data are data points
+		if (downsampler != null && has(Dataset.Property.DATA) && DataType.POINTS.equals(getDataType())) {
+			// gets current data points
+			ArrayObject current = getArrayValue(Dataset.Property.DATA);
+			// reduces data points
+			ArrayObject result = downsampler.reduce(current, getChangesCount(), width, minimum, maximum);
+			// checks if the data points to pass to CHART.JS are changed
+			if (result != null && result != current) {
+				setArrayValue(Dataset.Property.DATA, result);
+			}
+			// stores the amount of changes, including the one done by the reduction
+			downsampler.setChanges(getChangesCount());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.data.Dataset#getKeptIndexes()
+	 */
+	@Override
+	final int[] getKeptIndexes() {
+		// if the reduction is enabled, returns the indexes of kept data points
+		return downsampler != null ? downsampler.getKeptIndexes() : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.data.Dataset#getDataPointsArray()
+	 */
+	@Override
+	final ArrayObject getDataPointsArray() {
+		// gets current data points
+		ArrayObject current = super.getDataPointsArray();
+		// if the reduction is enabled, returns the full resolution data points
+		return downsampler != null ? downsampler.getSource(current) : current;
+	}
+
+}
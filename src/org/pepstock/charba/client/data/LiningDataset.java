@@ -18,6 +18,7 @@ package org.pepstock.charba.client.data;
 import java.util.List;
 
 import org.pepstock.charba.client.callbacks.BackgroundColorCallback;
+import org.pepstock.charba.client.callbacks.BatchScriptable;
 import org.pepstock.charba.client.callbacks.BorderColorCallback;
 import org.pepstock.charba.client.callbacks.BorderWidthCallback;
 import org.pepstock.charba.client.callbacks.PointStyleCallback;
@@ -76,27 +77,27 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the point background color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointBackgroundColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointBackgroundColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point border color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointBorderColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointBorderColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point border width function
-	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> pointBorderWidthCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> pointBorderWidthCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point hover background color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointHoverBackgroundColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointHoverBackgroundColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point hover border color function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointHoverBorderColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointHoverBorderColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point hover border width function
-	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> pointHoverBorderWidthCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyIntegerCallback> pointHoverBorderWidthCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point radius function
-	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointRadiusCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointRadiusCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point hit radius function
-	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointHitRadiusCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointHitRadiusCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point hover radius function
-	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointHoverRadiusCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointHoverRadiusCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point rotation function
-	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointRotationCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyDoubleCallback> pointRotationCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the point style function
-	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointStyleCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ScriptableFunctions.ProxyObjectCallback> pointStyleCallbackProxy = JsHelper.get().newCallbackProxy(1);
 
 	// point background color callback instance
 	private BackgroundColorCallback pointBackgroundColorCallback = null;
@@ -735,6 +736,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 	 * @param pointBorderWidth array of the width of the point border in pixels.
 	 */
 	public void setPointBorderWidth(int... pointBorderWidth) {
+		// removes the batch callback, if set
+		resetBeingValues(Property.POINT_BORDER_WIDTH);
 		// stores value
 		setValueOrArray(Property.POINT_BORDER_WIDTH, pointBorderWidth);
 	}
@@ -762,6 +765,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 	 * @param pointHitRadius array of the pixel size of the non-displayed point.
 	 */
 	public void setPointHitRadius(double... pointHitRadius) {
+		// removes the batch callback, if set
+		resetBeingValues(Property.POINT_HIT_RADIUS);
 		// stores value
 		setValueOrArray(Property.POINT_HIT_RADIUS, pointHitRadius);
 	}
@@ -967,6 +972,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 	 * @param pointHoverBorderWidth array of the border width of point when hovered.
 	 */
 	public void setPointHoverBorderWidth(int... pointHoverBorderWidth) {
+		// removes the batch callback, if set
+		resetBeingValues(Property.POINT_HOVER_BORDER_WIDTH);
 		// stores value
 		setValueOrArray(Property.POINT_HOVER_BORDER_WIDTH, pointHoverBorderWidth);
 	}
@@ -994,6 +1001,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 	 * @param pointHoverRadius array of the radius of the point when hovered.
 	 */
 	public void setPointHoverRadius(double... pointHoverRadius) {
+		// removes the batch callback, if set
+		resetBeingValues(Property.POINT_HOVER_RADIUS);
 		// stores values
 		setValueOrArray(Property.POINT_HOVER_RADIUS, pointHoverRadius);
 	}
@@ -1021,6 +1030,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 	 * @param pointRadius array of the radius of the point shape.
 	 */
 	public void setPointRadius(double... pointRadius) {
+		// removes the batch callback, if set
+		resetBeingValues(Property.POINT_RADIUS);
 		// stores values
 		setValueOrArray(Property.POINT_RADIUS, pointRadius);
 	}
@@ -1160,6 +1171,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 	 * @param pointRotation array of the rotation of the point in degrees.
 	 */
 	public void setPointRotation(double... pointRotation) {
+		// removes the batch callback, if set
+		resetBeingValues(Property.POINT_ROTATION);
 		// sets value
 		setValueOrArray(Property.POINT_ROTATION, pointRotation);
 	}
@@ -1258,6 +1271,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 		this.pointBorderWidthCallback = pointBorderWidthCallback;
 		// checks if callback is consistent
 		if (pointBorderWidthCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.POINT_BORDER_WIDTH);
 			// adds the callback proxy function to java script object
 			setValue(Property.POINT_BORDER_WIDTH, pointBorderWidthCallbackProxy.getProxy());
 		} else {
@@ -1343,6 +1358,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 		this.pointHoverBorderWidthCallback = pointHoverBorderWidthCallback;
 		// checks if callback is consistent
 		if (pointHoverBorderWidthCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.POINT_HOVER_BORDER_WIDTH);
 			// adds the callback proxy function to java script object
 			setValue(Property.POINT_HOVER_BORDER_WIDTH, pointHoverBorderWidthCallbackProxy.getProxy());
 		} else {
@@ -1370,6 +1387,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 		this.pointRadiusCallback = pointRadiusCallback;
 		// checks if callback is consistent
 		if (pointRadiusCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.POINT_RADIUS);
 			// adds the callback proxy function to java script object
 			setValue(Property.POINT_RADIUS, pointRadiusCallbackProxy.getProxy());
 		} else {
@@ -1397,6 +1416,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 		this.pointHitRadiusCallback = pointHitRadiusCallback;
 		// checks if callback is consistent
 		if (pointHitRadiusCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.POINT_HIT_RADIUS);
 			// adds the callback proxy function to java script object
 			setValue(Property.POINT_HIT_RADIUS, pointHitRadiusCallbackProxy.getProxy());
 		} else {
@@ -1424,6 +1445,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 		this.pointHoverRadiusCallback = pointHoverRadiusCallback;
 		// checks if callback is consistent
 		if (pointHoverRadiusCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.POINT_HOVER_RADIUS);
 			// adds the callback proxy function to java script object
 			setValue(Property.POINT_HOVER_RADIUS, pointHoverRadiusCallbackProxy.getProxy());
 		} else {
@@ -1451,6 +1474,8 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 		this.pointRotationCallback = pointRotationCallback;
 		// checks if callback is consistent
 		if (pointRotationCallback != null) {
+			// resets previous setting
+			resetBeingValues(Property.POINT_ROTATION);
 			// adds the callback proxy function to java script object
 			setValue(Property.POINT_ROTATION, pointRotationCallbackProxy.getProxy());
 		} else {
@@ -1488,6 +1513,190 @@ public abstract class LiningDataset extends Dataset implements HasFill {
 		removeIfExists(Property.CHARBA_POINT_STYLE);
 	}
 
+	/**
+	 * Returns the batch point background color callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point background color callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<IsColor[]> getBatchPointBackgroundColor() {
+		return (BatchScriptable<IsColor[]>) getBatchCallback(Property.POINT_BACKGROUND_COLOR);
+	}
+
+	/**
+	 * Sets the batch point background color callback, invoked once before every update of the datasets, which returns the
+	 * point background colors of all elements of the dataset, by data index.
+	 * 
+	 * @param pointBackgroundColorCallback the batch point background color callback to set
+	 */
+	public void setBatchPointBackgroundColor(BatchScriptable<IsColor[]> pointBackgroundColorCallback) {
+		// resets the scriptable callback, if set
+		this.pointBackgroundColorCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_BACKGROUND_COLOR, pointBackgroundColorCallback);
+	}
+
+	/**
+	 * Returns the batch point border color callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point border color callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<IsColor[]> getBatchPointBorderColor() {
+		return (BatchScriptable<IsColor[]>) getBatchCallback(Property.POINT_BORDER_COLOR);
+	}
+
+	/**
+	 * Sets the batch point border color callback, invoked once before every update of the datasets, which returns the point
+	 * border colors of all elements of the dataset, by data index.
+	 * 
+	 * @param pointBorderColorCallback the batch point border color callback to set
+	 */
+	public void setBatchPointBorderColor(BatchScriptable<IsColor[]> pointBorderColorCallback) {
+		// resets the scriptable callback, if set
+		this.pointBorderColorCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_BORDER_COLOR, pointBorderColorCallback);
+	}
+
+	/**
+	 * Returns the batch point border width callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point border width callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<int[]> getBatchPointBorderWidth() {
+		return (BatchScriptable<int[]>) getBatchCallback(Property.POINT_BORDER_WIDTH);
+	}
+
+	/**
+	 * Sets the batch point border width callback, invoked once before every update of the datasets, which returns the point
+	 * border widths of all elements of the dataset, by data index.
+	 * 
+	 * @param pointBorderWidthCallback the batch point border width callback to set
+	 */
+	public void setBatchPointBorderWidth(BatchScriptable<int[]> pointBorderWidthCallback) {
+		// resets the scriptable callback, if set
+		this.pointBorderWidthCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_BORDER_WIDTH, pointBorderWidthCallback);
+	}
+
+	/**
+	 * Returns the batch point hover border width callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point hover border width callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<int[]> getBatchPointHoverBorderWidth() {
+		return (BatchScriptable<int[]>) getBatchCallback(Property.POINT_HOVER_BORDER_WIDTH);
+	}
+
+	/**
+	 * Sets the batch point hover border width callback, invoked once before every update of the datasets, which returns the
+	 * point border widths when hovered of all elements of the dataset, by data index.
+	 * 
+	 * @param pointHoverBorderWidthCallback the batch point hover border width callback to set
+	 */
+	public void setBatchPointHoverBorderWidth(BatchScriptable<int[]> pointHoverBorderWidthCallback) {
+		// resets the scriptable callback, if set
+		this.pointHoverBorderWidthCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_HOVER_BORDER_WIDTH, pointHoverBorderWidthCallback);
+	}
+
+	/**
+	 * Returns the batch point radius callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point radius callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<double[]> getBatchPointRadius() {
+		return (BatchScriptable<double[]>) getBatchCallback(Property.POINT_RADIUS);
+	}
+
+	/**
+	 * Sets the batch point radius callback, invoked once before every update of the datasets, which returns the point radiuses
+	 * of all elements of the dataset, by data index.
+	 * 
+	 * @param pointRadiusCallback the batch point radius callback to set
+	 */
+	public void setBatchPointRadius(BatchScriptable<double[]> pointRadiusCallback) {
+		// resets the scriptable callback, if set
+		this.pointRadiusCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_RADIUS, pointRadiusCallback);
+	}
+
+	/**
+	 * Returns the batch point hit radius callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point hit radius callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<double[]> getBatchPointHitRadius() {
+		return (BatchScriptable<double[]>) getBatchCallback(Property.POINT_HIT_RADIUS);
+	}
+
+	/**
+	 * Sets the batch point hit radius callback, invoked once before every update of the datasets, which returns the hit
+	 * radiuses of all elements of the dataset, by data index.
+	 * 
+	 * @param pointHitRadiusCallback the batch point hit radius callback to set
+	 */
+	public void setBatchPointHitRadius(BatchScriptable<double[]> pointHitRadiusCallback) {
+		// resets the scriptable callback, if set
+		this.pointHitRadiusCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_HIT_RADIUS, pointHitRadiusCallback);
+	}
+
+	/**
+	 * Returns the batch point hover radius callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point hover radius callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<double[]> getBatchPointHoverRadius() {
+		return (BatchScriptable<double[]>) getBatchCallback(Property.POINT_HOVER_RADIUS);
+	}
+
+	/**
+	 * Sets the batch point hover radius callback, invoked once before every update of the datasets, which returns the point
+	 * radiuses when hovered of all elements of the dataset, by data index.
+	 * 
+	 * @param pointHoverRadiusCallback the batch point hover radius callback to set
+	 */
+	public void setBatchPointHoverRadius(BatchScriptable<double[]> pointHoverRadiusCallback) {
+		// resets the scriptable callback, if set
+		this.pointHoverRadiusCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_HOVER_RADIUS, pointHoverRadiusCallback);
+	}
+
+	/**
+	 * Returns the batch point rotation callback, if set, otherwise <code>null</code>.
+	 * 
+	 * @return the batch point rotation callback, if set, otherwise <code>null</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchScriptable<double[]> getBatchPointRotation() {
+		return (BatchScriptable<double[]>) getBatchCallback(Property.POINT_ROTATION);
+	}
+
+	/**
+	 * Sets the batch point rotation callback, invoked once before every update of the datasets, which returns the point
+	 * rotations of all elements of the dataset, by data index.
+	 * 
+	 * @param pointRotationCallback the batch point rotation callback to set
+	 */
+	public void setBatchPointRotation(BatchScriptable<double[]> pointRotationCallback) {
+		// resets the scriptable callback, if set
+		this.pointRotationCallback = null;
+		// sets the batch callback
+		setBatchCallback(Property.POINT_ROTATION, pointRotationCallback);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
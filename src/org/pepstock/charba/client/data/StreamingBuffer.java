@@ -0,0 +1,221 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+/**
+ * Fixed-capacity circular buffer used by streaming datasets to store the values (and labels or times) of the dataset.<br>
+ * Appending a value when the buffer is full evicts the oldest one, in constant time.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class StreamingBuffer {
+
+	// maximum amount of items
+	private final int capacity;
+	// circular storage of values
+	private final double[] values;
+	// circular storage of times (as epoch milliseconds), only for time series
+	private final double[] times;
+	// circular storage of labels, allocated at first labeled append
+	private String[] labels = null;
+	// index of the oldest item
+	private int head = 0;
+	// amount of stored items
+	private int size = 0;
+	// statistics counters
+	private long appendedCount = 0;
+	private long evictedCount = 0;
+
+	/**
+	 * Creates the buffer with a capacity.
+	 * 
+	 * @param capacity maximum amount of items of the buffer
+	 * @param timed if <code>true</code>, stores also the times of the items
+	 */
+	StreamingBuffer(int capacity, boolean timed) {
+		// checks if capacity is consistent
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity " + capacity + " must be greater than 0");
+		}
+		this.capacity = capacity;
+		this.values = new double[capacity];
+		this.times = timed ? new double[capacity] : null;
+	}
+
+	/**
+	 * Returns the maximum amount of items of the buffer.
+	 * 
+	 * @return the maximum amount of items of the buffer
+	 */
+	int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the amount of stored items.
+	 * 
+	 * @return the amount of stored items
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the amount of items appended since the creation of the buffer.
+	 * 
+	 * @return the amount of items appended since the creation of the buffer
+	 */
+	long getAppendedCount() {
+		return appendedCount;
+	}
+
+	/**
+	 * Returns the amount of items evicted since the creation of the buffer.
+	 * 
+	 * @return the amount of items evicted since the creation of the buffer
+	 */
+	long getEvictedCount() {
+		return evictedCount;
+	}
+
+	/**
+	 * Appends an item to the buffer, evicting the oldest one if the buffer is full.
+	 * 
+	 * @param time time of the item, as epoch milliseconds. Ignored if the buffer does not store times
+	 * @param label label of the item. It can be <code>null</code>
+	 * @param value value of the item
+	 * @return <code>true</code> if the oldest item has been evicted
+	 */
+	boolean append(double time, String label, double value) {
+		// allocates labels storage at first label
+		if (label != null && labels == null) {
+			labels = new String[capacity];
+		}
+		// calculates the index where to store the item
+		// if full, it's the position of the oldest one
+		int index = (head + size) % capacity;
+		boolean evicted = size == capacity;
+		if (evicted) {
+			// moves the head to the next oldest one
+			head = (head + 1) % capacity;
+			evictedCount++;
+		} else {
+			size++;
+		}
+		values[index] = value;
+		if (times != null) {
+			times[index] = time;
+		}
+		if (labels != null) {
+			labels[index] = label;
+		}
+		appendedCount++;
+		return evicted;
+	}
+
+	/**
+	 * Removes all items from the buffer. The statistics are not reset.
+	 */
+	void clear() {
+		head = 0;
+		size = 0;
+		labels = null;
+	}
+
+	/**
+	 * Returns the value of the item at the given position, where 0 is the oldest item.
+	 * 
+	 * @param index position of the item
+	 * @return the value of the item
+	 */
+	double getValue(int index) {
+		return values[physicalIndex(index)];
+	}
+
+	/**
+	 * Returns the time of the item at the given position, where 0 is the oldest item.
+	 * 
+	 * @param index position of the item
+	 * @return the time of the item, as epoch milliseconds
+	 */
+	double getTime(int index) {
+		return times != null ? times[physicalIndex(index)] : Double.NaN;
+	}
+
+	/**
+	 * Returns the values of all stored items, from the oldest one.
+	 * 
+	 * @return the values of all stored items
+	 */
+	double[] values() {
+		return copy(values, new double[size]);
+	}
+
+	/**
+	 * Returns the times of all stored items, from the oldest one.
+	 * 
+	 * @return the times of all stored items, as epoch milliseconds
+	 */
+	double[] times() {
+		return times != null ? copy(times, new double[size]) : new double[0];
+	}
+
+	/**
+	 * Returns the labels of all stored items, from the oldest one. Missing labels are set as empty strings.
+	 * 
+	 * @return the labels of all stored items
+	 */
+	String[] labels() {
+		String[] result = new String[size];
+		// scans all items
+		for (int i = 0; i < size; i++) {
+			String label = labels != null ? labels[physicalIndex(i)] : null;
+			result[i] = label != null ? label : "";
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the circular storage into a linear array, from the oldest item, by 2 bulk copies.
+	 * 
+	 * @param source circular storage
+	 * @param target linear array, with the size of the buffer
+	 * @return the linear array
+	 */
+	private double[] copy(double[] source, double[] target) {
+		// amount of items from head to the end of storage
+		int tail = Math.min(size, capacity - head);
+		System.arraycopy(source, head, target, 0, tail);
+		System.arraycopy(source, 0, target, tail, size - tail);
+		return target;
+	}
+
+	/**
+	 * Checks the position and returns the index of the item into storage.
+	 * 
+	 * @param index position of the item, where 0 is the oldest item
+	 * @return the index of the item into storage
+	 */
+	private int physicalIndex(int index) {
+		// checks range
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds [0, " + size + "]");
+		}
+		return (head + index) % capacity;
+	}
+
+}
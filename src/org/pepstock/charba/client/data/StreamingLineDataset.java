@@ -0,0 +1,230 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.ArrayFloat64;
+
+/**
+ * Line dataset with a fixed capacity, to use for real-time charts, where new values are appended and the oldest ones are
+ * dropped.<br>
+ * The values (and the labels, if any) are stored into a circular buffer, therefore appending and evicting are done in constant
+ * time. The buffer is written into the dataset (and the labels into the chart) by a single bulk operation when flushed.<br>
+ * If the dataset has been created with a chart, the flush and the update of the chart are done automatically, once per
+ * animation frame, whatever the amount of appended values is.<br>
+ * The labels of a chart can be streamed only by one dataset, which becomes the owner of the labels when it receives the first
+ * label: appending a label when another streaming dataset of the same chart is the owner throws an exception.<br>
+ * The owner remains the same also after a clear, when the labels of the chart are cleared as well.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public class StreamingLineDataset extends LineDataset {
+
+	// circular buffer with values and labels
+	private final StreamingBuffer buffer;
+	// chart to update, can be null
+	private final IsChart chart;
+	// function to pass to updater to flush the dataset
+	private final Runnable flusher = this::flush;
+	// amount of flushes
+	private long flushCount = 0;
+	// if this dataset is the owner of the labels of the chart
+	private boolean labelsOwner = false;
+
+	/**
+	 * Creates a dataset with a capacity, without any chart to update.<br>
+	 * It uses the global options has default.
+	 * 
+	 * @param capacity maximum amount of values of the dataset
+	 */
+	public StreamingLineDataset(int capacity) {
+		this(null, capacity);
+	}
+
+	/**
+	 * Creates a dataset with a capacity, which updates the chart automatically once per animation frame.<br>
+	 * It uses the default options of the chart.
+	 * 
+	 * @param chart chart which contains the dataset. It can be <code>null</code>
+	 * @param capacity maximum amount of values of the dataset
+	 */
+	public StreamingLineDataset(IsChart chart, int capacity) {
+		super(chart != null ? chart.getDefaultChartOptions() : null);
+		this.chart = chart;
+		this.buffer = new StreamingBuffer(capacity, false);
+	}
+
+	/**
+	 * Appends a value, evicting the oldest one if the capacity has been reached.
+	 * 
+	 * @param value value to append
+	 */
+	public void append(double value) {
+		append(null, value);
+	}
+
+	/**
+	 * Appends a value with its label, evicting the oldest ones if the capacity has been reached.<br>
+	 * The labels are kept in step with the values and set into the chart data when flushed.
+	 * 
+	 * @param label label of the value
+	 * @param value value to append
+	 * @throws IllegalArgumentException if another streaming dataset of the chart is the owner of the labels
+	 */
+	public void append(String label, double value) {
+		// checks if the ownership of the labels must be resolved
+		// only once, when the first label arrives
+		if (label != null && !labelsOwner) {
+			// checks if the labels can be streamed by this dataset
+			if (hasOtherLabelsOwner()) {
+				// if not, exception
+				throw new IllegalArgumentException("Labels of the chart are already streamed by another dataset");
+			}
+			// if here, this dataset is the owner of the labels
+			labelsOwner = true;
+		}
+		buffer.append(Double.NaN, label, value);
+		// schedules the flush
+		scheduleFlush();
+	}
+
+	/**
+	 * Appends a set of values, evicting the oldest ones if the capacity has been reached.
+	 * 
+	 * @param values values to append
+	 */
+	public void append(double... values) {
+		// checks if argument is consistent
+		if (values != null && values.length > 0) {
+			// scans all values
+			for (double value : values) {
+				buffer.append(Double.NaN, null, value);
+			}
+			// schedules the flush
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * Removes all values from the dataset.
+	 */
+	public void clear() {
+		buffer.clear();
+		// schedules the flush
+		scheduleFlush();
+	}
+
+	/**
+	 * Writes the buffered values into the dataset and the buffered labels, if any, into the data of the chart.<br>
+	 * It doesn't update the chart.
+	 */
+	public void flush() {
+		// sets the values by a typed array, in one shot
+		setData(ArrayFloat64.fromOrEmpty(buffer.values()));
+		// checks if labels must be set
+		// only if this dataset is the owner of the labels of the chart
+		// after a clear, the labels are empty and the ones of the chart are cleared as well
+		if (chart != null && labelsOwner) {
+			chart.getData().setLabels(buffer.labels());
+		}
+		flushCount++;
+	}
+
+	/**
+	 * Returns the value at the given position, where 0 is the oldest one.
+	 * 
+	 * @param index position of the value
+	 * @return the value at the given position
+	 */
+	public double getValueAt(int index) {
+		return buffer.getValue(index);
+	}
+
+	/**
+	 * Returns the maximum amount of values of the dataset.
+	 * 
+	 * @return the maximum amount of values of the dataset
+	 */
+	public int getCapacity() {
+		return buffer.getCapacity();
+	}
+
+	/**
+	 * Returns the amount of values currently stored.
+	 * 
+	 * @return the amount of values currently stored
+	 */
+	public int getSize() {
+		return buffer.size();
+	}
+
+	/**
+	 * Returns the amount of values appended since the creation of the dataset.
+	 * 
+	 * @return the amount of values appended since the creation of the dataset
+	 */
+	public long getAppendedCount() {
+		return buffer.getAppendedCount();
+	}
+
+	/**
+	 * Returns the amount of values evicted since the creation of the dataset, because the capacity has been reached.
+	 * 
+	 * @return the amount of values evicted since the creation of the dataset
+	 */
+	public long getEvictedCount() {
+		return buffer.getEvictedCount();
+	}
+
+	/**
+	 * Returns the amount of flushes of the buffer into the dataset.
+	 * 
+	 * @return the amount of flushes of the buffer into the dataset
+	 */
+	public long getFlushCount() {
+		return flushCount;
+	}
+
+	/**
+	 * Returns <code>true</code> if another streaming dataset of the chart is the owner of the labels of the chart.<br>
+	 * It is called only when this dataset receives its first label.
+	 * 
+	 * @return <code>true</code> if another streaming dataset of the chart is the owner of the labels
+	 */
+	private boolean hasOtherLabelsOwner() {
+		// checks if chart is consistent
+		if (chart != null) {
+			// scans all datasets of the chart
+			for (Dataset dataset : chart.getData().getDatasets()) {
+				// checks if another streaming dataset is the owner
+				if (dataset != this && dataset instanceof StreamingLineDataset && ((StreamingLineDataset) dataset).labelsOwner) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Schedules the flush and the update of the chart, if the dataset has been created with a chart.
+	 */
+	private void scheduleFlush() {
+		if (chart != null) {
+			StreamingUpdater.get().schedule(chart, flusher);
+		}
+	}
+
+}
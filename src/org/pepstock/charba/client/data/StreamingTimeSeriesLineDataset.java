@@ -0,0 +1,190 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.Date;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.commons.ArrayFloat64;
+
+/**
+ * Time series line dataset with a fixed capacity, to use for real-time charts, where new items are appended and the oldest ones
+ * are dropped.<br>
+ * The items are stored into a circular buffer, therefore appending and evicting are done in constant time. The buffer is
+ * written into the dataset by a single bulk operation when flushed.<br>
+ * If the dataset has been created with a chart, the flush and the update of the chart are done automatically, once per
+ * animation frame, whatever the amount of appended items is.<br>
+ * The items must be appended in chronological order.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public class StreamingTimeSeriesLineDataset extends TimeSeriesLineDataset {
+
+	// circular buffer with times and values
+	private final StreamingBuffer buffer;
+	// chart to update, can be null
+	private final IsChart chart;
+	// function to pass to updater to flush the dataset
+	private final Runnable flusher = this::flush;
+	// amount of flushes
+	private long flushCount = 0;
+
+	/**
+	 * Creates a dataset with a capacity, without any chart to update.<br>
+	 * It uses the global options has default.
+	 * 
+	 * @param capacity maximum amount of items of the dataset
+	 */
+	public StreamingTimeSeriesLineDataset(int capacity) {
+		this(null, capacity);
+	}
+
+	/**
+	 * Creates a dataset with a capacity, which updates the chart automatically once per animation frame.<br>
+	 * It uses the default options of the chart.
+	 * 
+	 * @param chart chart which contains the dataset. It can be <code>null</code>
+	 * @param capacity maximum amount of items of the dataset
+	 */
+	public StreamingTimeSeriesLineDataset(IsChart chart, int capacity) {
+		super(chart != null ? chart.getDefaultChartOptions() : null);
+		this.chart = chart;
+		this.buffer = new StreamingBuffer(capacity, true);
+	}
+
+	/**
+	 * Appends an item, evicting the oldest one if the capacity has been reached.
+	 * 
+	 * @param time time of the item
+	 * @param value value of the item
+	 */
+	public void append(Date time, double value) {
+		// checks if time is consistent
+		if (time == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Time is null");
+		}
+		append(time.getTime(), value);
+	}
+
+	/**
+	 * Appends an item, evicting the oldest one if the capacity has been reached.
+	 * 
+	 * @param time time of the item, as epoch milliseconds
+	 * @param value value of the item
+	 */
+	public void append(long time, double value) {
+		buffer.append(time, null, value);
+		// schedules the flush
+		scheduleFlush();
+	}
+
+	/**
+	 * Removes all items from the dataset.
+	 */
+	public void clear() {
+		buffer.clear();
+		// schedules the flush
+		scheduleFlush();
+	}
+
+	/**
+	 * Writes the buffered items into the dataset.<br>
+	 * It doesn't update the chart.
+	 */
+	public void flush() {
+		// creates the items by times and values columns
+		// in a single call, without sorting them because
+		// the items are appended in chronological order
+		setTimeSeriesData(ArrayFloat64.fromOrEmpty(buffer.times()), ArrayFloat64.fromOrEmpty(buffer.values()), true);
+		flushCount++;
+	}
+
+	/**
+	 * Returns the value at the given position, where 0 is the oldest one.
+	 * 
+	 * @param index position of the item
+	 * @return the value at the given position
+	 */
+	public double getValueAt(int index) {
+		return buffer.getValue(index);
+	}
+
+	/**
+	 * Returns the time, as epoch milliseconds, at the given position, where 0 is the oldest one.
+	 * 
+	 * @param index position of the item
+	 * @return the time at the given position
+	 */
+	public long getTimeAt(int index) {
+		return (long) buffer.getTime(index);
+	}
+
+	/**
+	 * Returns the maximum amount of items of the dataset.
+	 * 
+	 * @return the maximum amount of items of the dataset
+	 */
+	public int getCapacity() {
+		return buffer.getCapacity();
+	}
+
+	/**
+	 * Returns the amount of items currently stored.
+	 * 
+	 * @return the amount of items currently stored
+	 */
+	public int getSize() {
+		return buffer.size();
+	}
+
+	/**
+	 * Returns the amount of items appended since the creation of the dataset.
+	 * 
+	 * @return the amount of items appended since the creation of the dataset
+	 */
+	public long getAppendedCount() {
+		return buffer.getAppendedCount();
+	}
+
+	/**
+	 * Returns the amount of items evicted since the creation of the dataset, because the capacity has been reached.
+	 * 
+	 * @return the amount of items evicted since the creation of the dataset
+	 */
+	public long getEvictedCount() {
+		return buffer.getEvictedCount();
+	}
+
+	/**
+	 * Returns the amount of flushes of the buffer into the dataset.
+	 * 
+	 * @return the amount of flushes of the buffer into the dataset
+	 */
+	public long getFlushCount() {
+		return flushCount;
+	}
+
+	/**
+	 * Schedules the flush and the update of the chart, if the dataset has been created with a chart.
+	 */
+	private void scheduleFlush() {
+		if (chart != null) {
+			StreamingUpdater.get().schedule(chart, flusher);
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pepstock.charba.client.IsChart;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+
+/**
+ * Coalesces the updates requested by the streaming datasets, in order to flush the datasets and to update every chart only
+ * once per animation frame, whatever the amount of appended items is.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class StreamingUpdater {
+
+	// singleton instance
+	private static final StreamingUpdater INSTANCE = new StreamingUpdater();
+	// map of pending charts, by chart id
+	private final Map<String, PendingChart> pendingCharts = new HashMap<>();
+	// flag to know if an animation frame has been already requested
+	private boolean frameRequested = false;
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private StreamingUpdater() {
+		// do nothing
+	}
+
+	/**
+	 * Singleton method to get static instance.
+	 * 
+	 * @return updater instance
+	 */
+	static StreamingUpdater get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Schedules the flush of a dataset and the update of its chart at next animation frame.
+	 * 
+	 * @param chart chart instance which contains the dataset
+	 * @param flusher function which flushes the dataset
+	 */
+	void schedule(IsChart chart, Runnable flusher) {
+		// gets the pending item for the chart
+		PendingChart pending = pendingCharts.get(chart.getId());
+		if (pending == null) {
+			pending = new PendingChart(chart);
+			pendingCharts.put(chart.getId(), pending);
+		}
+		pending.flushers.add(flusher);
+		// checks if a frame is already requested
+		if (!frameRequested) {
+			frameRequested = true;
+			AnimationScheduler.get().requestAnimationFrame(timestamp -> execute());
+		}
+	}
+
+	/**
+	 * Flushes all pending datasets and updates their charts, once per chart.
+	 */
+	private void execute() {
+		frameRequested = false;
+		// copies and clears the pending charts
+		// because an update could append new items
+		List<PendingChart> charts = new ArrayList<>(pendingCharts.values());
+		pendingCharts.clear();
+		// scans all pending charts
+		for (PendingChart pending : charts) {
+			for (Runnable flusher : pending.flushers) {
+				flusher.run();
+			}
+			pending.chart.update();
+		}
+	}
+
+	/**
+	 * Chart waiting to be updated, with the datasets to flush before the update.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static class PendingChart {
+
+		private final IsChart chart;
+
+		private final Set<Runnable> flushers = new LinkedHashSet<>();
+
+		/**
+		 * Creates the object with the chart to be updated.
+		 * 
+		 * @param chart chart to be updated
+		 */
+		private PendingChart(IsChart chart) {
+			this.chart = chart;
+		}
+	}
+
+}
@@ -102,4 +102,13 @@ public final class TimeSeriesItem extends NativeObjectContainer {
 		return getValue(DataPoint.Property.T, (Date) null);
 	}
 
+	/**
+	 * Returns the time of time series item as epoch milliseconds, without creating any date.
+	 * 
+	 * @return the time of time series item as epoch milliseconds or {@link Double#NaN} if not set
+	 */
+	double getTimeInMillis() {
+		return getTimeValue(DataPoint.Property.T, Double.NaN);
+	}
+
 }
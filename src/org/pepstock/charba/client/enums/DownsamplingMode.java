@@ -0,0 +1,62 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.enums;
+
+import org.pepstock.charba.client.commons.Key;
+
+/**
+ * Determines how the data points of a line dataset are reduced before passing them to CHART.JS, when the amount of data points
+ * is greater than the amount of pixels of the chart area where they are drawn.<br>
+ * The full resolution data remain available on the dataset.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public enum DownsamplingMode implements Key
+{
+	/**
+	 * Largest-Triangle-Three-Buckets algorithm: it keeps 1 data point for each pixel, selecting the one which forms the largest
+	 * triangle with the previous selected data point and the average of the next bucket, preserving the visual shape of the
+	 * line.
+	 */
+	LTTB("lttb"),
+	/**
+	 * It keeps the data points with minimum and maximum value for each pixel, preserving the peaks of the line.
+	 */
+	MIN_MAX("minMax");
+
+	// name value of property
+	private final String value;
+
+	/**
+	 * Creates with the property value to use into native object.
+	 * 
+	 * @param value value of property name
+	 */
+	private DownsamplingMode(String value) {
+		this.value = value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.commons.Key#value()
+	 */
+	@Override
+	public String value() {
+		return value;
+	}
+
+}
@@ -0,0 +1,148 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.enums;
+
+import org.pepstock.charba.client.commons.Key;
+
+/**
+ * Enumerates the hooks of a plugin which are invoked by CHART.JS.<br>
+ * A plugin can declare the hooks which it implements, in order to be invoked by CHART.JS only for them.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see org.pepstock.charba.client.Plugin#getHooks()
+ */
+public enum PluginHook implements Key
+{
+	/**
+	 * Called before initializing the chart.
+	 */
+	BEFORE_INIT("beforeInit"),
+	/**
+	 * Called after the chart has been initialized and before the first update.
+	 */
+	AFTER_INIT("afterInit"),
+	/**
+	 * Called before updating the chart.
+	 */
+	BEFORE_UPDATE("beforeUpdate"),
+	/**
+	 * Called after the chart has been updated and before rendering.
+	 */
+	AFTER_UPDATE("afterUpdate"),
+	/**
+	 * Called before laying out the chart.
+	 */
+	BEFORE_LAYOUT("beforeLayout"),
+	/**
+	 * Called after the chart has been laid out.
+	 */
+	AFTER_LAYOUT("afterLayout"),
+	/**
+	 * Called before updating the chart datasets.
+	 */
+	BEFORE_DATASETS_UPDATE("beforeDatasetsUpdate"),
+	/**
+	 * Called after the chart datasets have been updated.
+	 */
+	AFTER_DATASETS_UPDATE("afterDatasetsUpdate"),
+	/**
+	 * Called before updating a chart dataset.
+	 */
+	BEFORE_DATASET_UPDATE("beforeDatasetUpdate"),
+	/**
+	 * Called after a chart dataset has been updated.
+	 */
+	AFTER_DATASET_UPDATE("afterDatasetUpdate"),
+	/**
+	 * Called before rendering the chart.
+	 */
+	BEFORE_RENDER("beforeRender"),
+	/**
+	 * Called after the chart has been fully rendered.
+	 */
+	AFTER_RENDER("afterRender"),
+	/**
+	 * Called before drawing the chart at every animation frame.
+	 */
+	BEFORE_DRAW("beforeDraw"),
+	/**
+	 * Called after the chart has been drawn at every animation frame.
+	 */
+	AFTER_DRAW("afterDraw"),
+	/**
+	 * Called before drawing the chart datasets.
+	 */
+	BEFORE_DATASETS_DRAW("beforeDatasetsDraw"),
+	/**
+	 * Called after the chart datasets have been drawn.
+	 */
+	AFTER_DATASETS_DRAW("afterDatasetsDraw"),
+	/**
+	 * Called before drawing a chart dataset.
+	 */
+	BEFORE_DATASET_DRAW("beforeDatasetDraw"),
+	/**
+	 * Called after a chart dataset has been drawn.
+	 */
+	AFTER_DATASET_DRAW("afterDatasetDraw"),
+	/**
+	 * Called before drawing the tooltip.
+	 */
+	BEFORE_TOOLTIP_DRAW("beforeTooltipDraw"),
+	/**
+	 * Called after the tooltip has been drawn.
+	 */
+	AFTER_TOOLTIP_DRAW("afterTooltipDraw"),
+	/**
+	 * Called before processing an event.
+	 */
+	BEFORE_EVENT("beforeEvent"),
+	/**
+	 * Called after an event has been consumed.
+	 */
+	AFTER_EVENT("afterEvent"),
+	/**
+	 * Called after the chart has been resized.
+	 */
+	RESIZE("resize"),
+	/**
+	 * Called after the chart has been destroyed.
+	 */
+	DESTROY("destroy");
+
+	// name value of property
+	private final String value;
+
+	/**
+	 * Creates with the property value to use into native object.
+	 * 
+	 * @param value value of property name
+	 */
+	private PluginHook(String value) {
+		this.value = value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.commons.Key#value()
+	 */
+	@Override
+	public String value() {
+		return value;
+	}
+
+}
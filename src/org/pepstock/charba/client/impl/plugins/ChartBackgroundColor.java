@@ -15,8 +15,10 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.colors.ColorBuilder;
@@ -24,6 +26,7 @@ import org.pepstock.charba.client.colors.Gradient;
 import org.pepstock.charba.client.colors.HtmlColor;
 import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.colors.Pattern;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.items.SizeItem;
 import org.pepstock.charba.client.items.UndefinedValues;
 import org.pepstock.charba.client.plugins.AbstractPlugin;
@@ -181,6 +184,16 @@ public final class ChartBackgroundColor extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return EnumSet.of(PluginHook.BEFORE_DRAW, PluginHook.AFTER_DRAW, PluginHook.RESIZE, PluginHook.DESTROY);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
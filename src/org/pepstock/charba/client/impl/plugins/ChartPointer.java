@@ -15,13 +15,16 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.AbstractChart;
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.ScaleType;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.impl.plugins.enums.PointerElement;
 import org.pepstock.charba.client.items.LegendHitBoxItem;
@@ -57,6 +60,16 @@ public final class ChartPointer extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.AFTER_EVENT);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -15,8 +15,11 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
-import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.ChartType;
 import org.pepstock.charba.client.IsChart;
@@ -30,6 +33,7 @@ import org.pepstock.charba.client.data.HovingDataset;
 import org.pepstock.charba.client.data.HovingFlexDataset;
 import org.pepstock.charba.client.data.LiningDataset;
 import org.pepstock.charba.client.enums.DataType;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.impl.plugins.enums.SchemeScope;
 import org.pepstock.charba.client.plugins.AbstractPlugin;
 
@@ -52,6 +56,17 @@ public final class ColorSchemes extends AbstractPlugin {
 	 */
 	public static final ColorSchemesOptionsFactory FACTORY = new ColorSchemesOptionsFactory(ID);
 
+	// value used to get a palette with the colors of scheme, without applying any transparency
+	private static final double NO_ALPHA = Double.NaN;
+	// separator used into palettes keys and signatures
+	private static final String SEPARATOR = "|";
+	// cache of palettes, as RGBA strings, by scheme, transparency and order
+	private static final Map<String, Palette> PALETTES = new HashMap<>();
+	// counter of created palettes, used as version of a palette into signatures
+	private static int paletteVersion = 0;
+	// stores the signatures of colors applied to datasets, by chart id and dataset id
+	private final Map<String, Map<Integer, String>> appliedColors = new HashMap<>();
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -62,6 +77,16 @@ public final class ColorSchemes extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.DESTROY);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -79,55 +104,90 @@ public final class ColorSchemes extends AbstractPlugin {
 			List<IsColor> colors = scheme.getColors();
 			// checks if the list colors is consistent, if not skips the logic
 			if (colors != null && !colors.isEmpty()) {
-				scanDatasets(chart, options, colors);
+				scanDatasets(chart, options, scheme, colors);
 			}
 		}
 		// always true
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onDestroy(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onDestroy(IsChart chart) {
+		// removes the colors applied to datasets of the chart
+		appliedColors.remove(chart.getId());
+	}
+
 	/**
-	 * Scans all datasets of chart to apply the colors by selected scheme.
+	 * Scans all datasets of chart to apply the colors by selected scheme.<br>
+	 * The datasets whose colors have been already applied with the same scheme settings and size are skipped.
 	 * 
 	 * @param chart chart instance
 	 * @param options color scheme plugin options
+	 * @param scheme color scheme to apply
 	 * @param colors list of colors of scheme
 	 */
-	private void scanDatasets(IsChart chart, ColorSchemesOptions options, List<IsColor> colors) {
-		// gets the amount of colors
-		int amountOfColors = colors.size();
+	private void scanDatasets(IsChart chart, ColorSchemesOptions options, ColorScheme scheme, List<IsColor> colors) {
 		// gets the list of datasets of chart
 		List<Dataset> datasets = chart.getData().getDatasets();
+		// gets the colors applied at previous update, by dataset id
+		Map<Integer, String> previousColors = appliedColors.get(chart.getId());
+		// creates the map of the colors applied at this update
+		// in order to remove the datasets which are not longer in the chart
+		Map<Integer, String> currentColors = new HashMap<>();
 		// if dataset list is empty, skips the logic
 		if (!datasets.isEmpty()) {
+			// gets the palettes (already reversed if requested) of scheme
+			// without and with transparency
+			Palette schemePalette = getPalette(scheme, colors, options.isReverse(), NO_ALPHA);
+			Palette schemeBackgroundPalette = getPalette(scheme, colors, options.isReverse(), options.getBackgroundColorAlpha());
+			// gets the palette with default transparency, used for borders at data level
+			Palette schemeBorderPalette = getPalette(scheme, colors, options.isReverse(), Color.DEFAULT_ALPHA);
+			String[] palette = schemePalette.values;
+			String[] backgroundPalette = schemeBackgroundPalette.values;
+			String[] borderPalette = schemeBorderPalette.values;
+			// creates the common part of the signature of applied colors
+			// the versions of palettes change when the colors of scheme are changed
+			String schemeSignature = getPaletteKey(scheme, options.isReverse(), options.getBackgroundColorAlpha()) + SEPARATOR + options.getSchemeScope().value() + SEPARATOR + schemePalette.version + SEPARATOR + schemeBackgroundPalette.version + SEPARATOR + schemeBorderPalette.version;
 			// initial dataset index
 			int datasetIndex = 0;
 			// scans all datasets
 			for (Dataset dataset : datasets) {
 				// get the module for color index
-				int colorIndex = datasetIndex % amountOfColors;
-				// checks if reverse is requested to get the color
-				IsColor color = colors.get(options.isReverse() ? amountOfColors - colorIndex - 1 : colorIndex);
+				int colorIndex = datasetIndex % palette.length;
+				// signature of the colors to apply to dataset
+				String signature = null;
 				// if hoving dataset, like PIE, POLAR, DOIUGHNUT
 				if (dataset instanceof HovingDataset) {
 					// casts the dataset
 					HovingDataset hovingDataset = (HovingDataset) dataset;
 					// manages hoving dataset
-					manageHovingDataset(chart, options, hovingDataset, color, colors);
+					signature = manageHovingDataset(chart, options, hovingDataset, colorIndex, schemeSignature, previousColors, backgroundPalette, borderPalette);
 				} else if (dataset instanceof HovingFlexDataset) {
 					// if hoving FLEX dataset, like BAR
 					HovingFlexDataset hovingDataset = (HovingFlexDataset) dataset;
 					// manages hoving flex dataset
-					manageHovingFlexDataset(options, hovingDataset, color, colors);
+					signature = manageHovingFlexDataset(options, hovingDataset, colorIndex, schemeSignature, previousColors, palette, backgroundPalette, borderPalette);
 				} else if (dataset instanceof LiningDataset) {
 					// if lining dataset, like LINE, RADAR, SCATTER
 					LiningDataset liningDataset = (LiningDataset) dataset;
-					manageLiningDataset(options, liningDataset, color);
+					signature = manageLiningDataset(liningDataset, colorIndex, schemeSignature, previousColors, palette, backgroundPalette);
+				}
+				// checks if colors have been applied
+				if (signature != null) {
+					// stores the signature of applied colors
+					currentColors.put(dataset.getId(), signature);
 				}
 				// increments dataset index
 				datasetIndex++;
 			}
 		}
+		// stores the applied colors for next update
+		appliedColors.put(chart.getId(), currentColors);
 	}
 
 	/**
@@ -136,30 +196,50 @@ public final class ColorSchemes extends AbstractPlugin {
 	 * @param chart chart instance
 	 * @param options color scheme plugin options
 	 * @param hovingDataset hoving dataset instance
-	 * @param color color selected by dataset position
-	 * @param colors list of colors of scheme
+	 * @param colorIndex index of color selected by dataset position
+	 * @param schemeSignature signature of scheme settings
+	 * @param previousColors signatures of colors applied at previous update, by dataset id
+	 * @param backgroundPalette palette of scheme colors with background transparency
+	 * @param borderPalette palette of scheme colors with default transparency
+	 * @return the signature of colors applied to the dataset
 	 */
-	private void manageHovingDataset(IsChart chart, ColorSchemesOptions options, HovingDataset hovingDataset, IsColor color, List<IsColor> colors) {
+	private String manageHovingDataset(IsChart chart, ColorSchemesOptions options, HovingDataset hovingDataset, int colorIndex, String schemeSignature, Map<Integer, String> previousColors, String[] backgroundPalette, String[] borderPalette) {
+		// checks if border has been requested
+		boolean hasBorder = !hovingDataset.getBorderWidth().isEmpty();
 		// checks if bubble chart because the color will be selected by scheme, as for bar charts
 		if (ChartType.BUBBLE.equals(chart.getType()) && SchemeScope.DATASET.equals(options.getSchemeScope())) {
 			// if here is at dataset level
 			// every dataset has got own color
-			// sets background color (passed as list but it's only 1), applying the transparency
-			hovingDataset.setBackgroundColor(getColorsFromData(hovingDataset, Arrays.asList(color), options.isReverse(), options.getBackgroundColorAlpha()));
-			// checks if border has been requested
-			if (!hovingDataset.getBorderWidth().isEmpty()) {
-				// if yes, apply the color (passed as list but it's only 1) to borders properties
-				hovingDataset.setBorderColor(getColorsFromData(hovingDataset, Arrays.asList(color), options.isReverse(), Color.DEFAULT_ALPHA));
+			// calculates the signature of colors to apply
+			String signature = schemeSignature + SEPARATOR + colorIndex + SEPARATOR + hasBorder;
+			// checks if colors are already applied
+			if (isChanged(hovingDataset, signature, previousColors)) {
+				// sets background color, applying the transparency
+				// a single color is applied by chart to all data
+				hovingDataset.setBackgroundColor(backgroundPalette[colorIndex]);
+				// checks if border has been requested
+				if (hasBorder) {
+					// if yes, apply the color to borders properties
+					hovingDataset.setBorderColor(borderPalette[colorIndex]);
+				}
 			}
-		} else {
+			return signature;
+		}
+		// gets the amount of data
+		int amountOfData = getAmountOfData(hovingDataset);
+		// calculates the signature of colors to apply
+		String signature = schemeSignature + SEPARATOR + amountOfData + SEPARATOR + hasBorder;
+		// checks if colors are already applied
+		if (isChanged(hovingDataset, signature, previousColors)) {
 			// sets background colors, applying the transparency
-			hovingDataset.setBackgroundColor(getColorsFromData(hovingDataset, colors, options.isReverse(), options.getBackgroundColorAlpha()));
+			hovingDataset.setBackgroundColor(getColorsFromData(amountOfData, backgroundPalette));
 			// checks if border has been requested
-			if (!hovingDataset.getBorderWidth().isEmpty()) {
+			if (hasBorder) {
 				// if yes, apply the colors to borders properties
-				hovingDataset.setBorderColor(getColorsFromData(hovingDataset, colors, options.isReverse(), Color.DEFAULT_ALPHA));
+				hovingDataset.setBorderColor(getColorsFromData(amountOfData, borderPalette));
 			}
 		}
+		return signature;
 	}
 
 	/**
@@ -167,91 +247,182 @@ public final class ColorSchemes extends AbstractPlugin {
 	 * 
 	 * @param options color scheme plugin options
 	 * @param hovingDataset hoving flex dataset instance
-	 * @param color color selected by dataset position
-	 * @param colors list of colors of scheme
+	 * @param colorIndex index of color selected by dataset position
+	 * @param schemeSignature signature of scheme settings
+	 * @param previousColors signatures of colors applied at previous update, by dataset id
+	 * @param palette palette of scheme colors
+	 * @param backgroundPalette palette of scheme colors with background transparency
+	 * @param borderPalette palette of scheme colors with default transparency
+	 * @return the signature of colors applied to the dataset
 	 */
-	private void manageHovingFlexDataset(ColorSchemesOptions options, HovingFlexDataset hovingDataset, IsColor color, List<IsColor> colors) {
+	private String manageHovingFlexDataset(ColorSchemesOptions options, HovingFlexDataset hovingDataset, int colorIndex, String schemeSignature, Map<Integer, String> previousColors, String[] palette, String[] backgroundPalette, String[] borderPalette) {
+		// checks if border has been requested
+		boolean hasBorder = getMaxBorderWidth(hovingDataset) > 0;
 		// checks if the scope to apply the colors is at data or dataset level
 		if (SchemeScope.DATA.equals(options.getSchemeScope())) {
 			// if here is at data level
 			// every data has got own color
-			hovingDataset.setBackgroundColor(getColorsFromData(hovingDataset, colors, options.isReverse(), options.getBackgroundColorAlpha()));
-			// checks if border has been requested
-			if (getMaxBorderWidth(hovingDataset) > 0) {
-				// if yes, apply the colors to borders properties
-				hovingDataset.setBorderColor(getColorsFromData(hovingDataset, colors, options.isReverse(), Color.DEFAULT_ALPHA));
+			// gets the amount of data
+			int amountOfData = getAmountOfData(hovingDataset);
+			// calculates the signature of colors to apply
+			String signature = schemeSignature + SEPARATOR + amountOfData + SEPARATOR + hasBorder;
+			// checks if colors are already applied
+			if (isChanged(hovingDataset, signature, previousColors)) {
+				hovingDataset.setBackgroundColor(getColorsFromData(amountOfData, backgroundPalette));
+				// checks if border has been requested
+				if (hasBorder) {
+					// if yes, apply the colors to borders properties
+					hovingDataset.setBorderColor(getColorsFromData(amountOfData, borderPalette));
+				}
 			}
-		} else {
-			// if here is at dataset level
-			// every dataset has got own color
+			return signature;
+		}
+		// if here is at dataset level
+		// every dataset has got own color
+		// calculates the signature of colors to apply
+		String signature = schemeSignature + SEPARATOR + colorIndex + SEPARATOR + hasBorder;
+		// checks if colors are already applied
+		if (isChanged(hovingDataset, signature, previousColors)) {
 			// sets background colors, applying the transparency
-			hovingDataset.setBackgroundColor(color.alpha(options.getBackgroundColorAlpha()));
+			hovingDataset.setBackgroundColor(backgroundPalette[colorIndex]);
 			// checks if border has been requested
-			if (getMaxBorderWidth(hovingDataset) > 0) {
+			if (hasBorder) {
 				// if yes, apply the colors to borders properties
-				hovingDataset.setBorderColor(color);
+				hovingDataset.setBorderColor(palette[colorIndex]);
 			}
 		}
+		return signature;
 	}
 
 	/**
 	 * Manages the colors for LINING datasets.
 	 * 
-	 * @param options color scheme plugin options
 	 * @param liningDataset lining dataset instance
-	 * @param color color selected by dataset position
+	 * @param colorIndex index of color selected by dataset position
+	 * @param schemeSignature signature of scheme settings
+	 * @param previousColors signatures of colors applied at previous update, by dataset id
+	 * @param palette palette of scheme colors
+	 * @param backgroundPalette palette of scheme colors with background transparency
+	 * @return the signature of colors applied to the dataset
 	 */
-	private void manageLiningDataset(ColorSchemesOptions options, LiningDataset liningDataset, IsColor color) {
-		// background color with transparency
-		IsColor backgroundColor = color.alpha(options.getBackgroundColorAlpha());
-		// sets border color
-		liningDataset.setBorderColor(color);
-		// sets background colors, applying the transparency
-		liningDataset.setBackgroundColor(backgroundColor);
-		// sets point hover border color
-		liningDataset.setPointHoverBorderColor(color);
-		// sets point hover background colors, applying the transparency
-		liningDataset.setPointHoverBackgroundColor(backgroundColor);
+	private String manageLiningDataset(LiningDataset liningDataset, int colorIndex, String schemeSignature, Map<Integer, String> previousColors, String[] palette, String[] backgroundPalette) {
+		// calculates the signature of colors to apply
+		String signature = schemeSignature + SEPARATOR + colorIndex;
+		// checks if colors are already applied
+		if (isChanged(liningDataset, signature, previousColors)) {
+			// sets border color
+			liningDataset.setBorderColor(palette[colorIndex]);
+			// sets background colors, applying the transparency
+			liningDataset.setBackgroundColor(backgroundPalette[colorIndex]);
+			// sets point hover border color
+			liningDataset.setPointHoverBorderColor(palette[colorIndex]);
+			// sets point hover background colors, applying the transparency
+			liningDataset.setPointHoverBackgroundColor(backgroundPalette[colorIndex]);
+		}
+		return signature;
+	}
 
+	/**
+	 * Returns <code>true</code> if the colors to apply to the dataset are different from the ones applied at previous update.
+	 * 
+	 * @param dataset dataset to check
+	 * @param signature signature of the colors to apply
+	 * @param previousColors signatures of colors applied at previous update, by dataset id
+	 * @return <code>true</code> if the colors must be applied to the dataset
+	 */
+	private boolean isChanged(Dataset dataset, String signature, Map<Integer, String> previousColors) {
+		// if there is not any previous update or
+		// the signature is different, the colors must be applied
+		return previousColors == null || !signature.equals(previousColors.get(dataset.getId()));
 	}
 
 	/**
-	 * Returns an array of colors for each data of dataset.
+	 * Returns the amount of data of the dataset.
 	 * 
-	 * @param dataset dataset to update
-	 * @param colors list of colors of scheme
-	 * @param isReverse if reverse selection is requested
-	 * @param alpha transparency value to apply
-	 * @return an array of colors for each data of dataset
+	 * @param dataset dataset to check
+	 * @return the amount of data of the dataset
 	 */
-	private IsColor[] getColorsFromData(Dataset dataset, List<IsColor> colors, boolean isReverse, double alpha) {
-		// gets the amount of colors
-		int amountOfColors = colors.size();
-		// gets the amount of data
-		int amountOfData = 0;
+	private int getAmountOfData(Dataset dataset) {
 		// gets data checking type
 		DataType type = dataset.getDataType();
 		// depending on data type, gets the amount of data
-		if (DataType.NUMBERS.equals(type)) {
-			amountOfData = dataset.getData().size();
-		} else if (DataType.POINTS.equals(type) && dataset instanceof HasDataPoints) {
-			// ONLY datasets which implements the interface have got the data POINTS
-			HasDataPoints dataPointsDataset = (HasDataPoints) dataset;
-			amountOfData = dataPointsDataset.getDataPoints().size();
+		// reading only the length of the array, without creating the lists
+		// ONLY datasets which implements the interface have got the data POINTS
+		if (DataType.NUMBERS.equals(type) || (DataType.POINTS.equals(type) && dataset instanceof HasDataPoints)) {
+			return dataset.getDataCount();
 		}
+		return 0;
+	}
+
+	/**
+	 * Returns an array of colors for each data of dataset, repeating the palette.
+	 * 
+	 * @param amountOfData amount of data of dataset
+	 * @param palette palette of scheme colors to repeat
+	 * @return an array of colors for each data of dataset
+	 */
+	private String[] getColorsFromData(int amountOfData, String[] palette) {
 		// creates an array with the data dimension
-		IsColor[] colorsToSet = new IsColor[amountOfData];
-		// scans all data
-		for (int dataIndex = 0; dataIndex < amountOfData; dataIndex++) {
-			// gets the data color index by module with colors size
-			int dataColorIndex = dataIndex % amountOfColors;
-			// sets the color got from index
-			colorsToSet[dataIndex] = colors.get(isReverse ? amountOfColors - dataColorIndex - 1 : dataColorIndex).alpha(alpha);
+		String[] colorsToSet = new String[amountOfData];
+		// copies the palette as many times as needed
+		// to fill the data dimension
+		for (int dataIndex = 0; dataIndex < amountOfData; dataIndex += palette.length) {
+			System.arraycopy(palette, 0, colorsToSet, dataIndex, Math.min(palette.length, amountOfData - dataIndex));
 		}
 		// returns array
 		return colorsToSet;
 	}
 
+	/**
+	 * Returns the palette of colors of the scheme, as RGBA strings, already in reverse order if requested and with the
+	 * transparency applied.<br>
+	 * The palettes are cached by scheme, transparency and order, and they are valid only for the same list of colors, because
+	 * the custom schemes can be registered again with the same category and name but different colors. The enumerated schemes
+	 * return always the same list.
+	 * 
+	 * @param scheme color scheme
+	 * @param colors list of colors of scheme
+	 * @param isReverse if reverse selection is requested
+	 * @param alpha transparency value to apply or {@link #NO_ALPHA} to use the colors of scheme as they are
+	 * @return the palette of colors of the scheme
+	 */
+	private static Palette getPalette(ColorScheme scheme, List<IsColor> colors, boolean isReverse, double alpha) {
+		// gets the key of palette
+		String key = getPaletteKey(scheme, isReverse, alpha);
+		// gets the palette from cache
+		Palette palette = PALETTES.get(key);
+		// checks if the palette is cached and created by the same list of colors
+		if (palette == null || palette.colors != colors) {
+			// gets the amount of colors
+			int amountOfColors = colors.size();
+			// creates the palette
+			String[] values = new String[amountOfColors];
+			// scans all colors
+			for (int colorIndex = 0; colorIndex < amountOfColors; colorIndex++) {
+				// checks if reverse is requested to get the color
+				IsColor color = colors.get(isReverse ? amountOfColors - colorIndex - 1 : colorIndex);
+				// stores the color, applying the transparency if requested
+				values[colorIndex] = Double.isNaN(alpha) ? color.toRGBA() : color.alpha(alpha).toRGBA();
+			}
+			// stores into cache
+			palette = new Palette(colors, values);
+			PALETTES.put(key, palette);
+		}
+		return palette;
+	}
+
+	/**
+	 * Returns the key of a palette, made by scheme, transparency and order.
+	 * 
+	 * @param scheme color scheme
+	 * @param isReverse if reverse selection is requested
+	 * @param alpha transparency value to apply
+	 * @return the key of a palette
+	 */
+	private static String getPaletteKey(ColorScheme scheme, boolean isReverse, double alpha) {
+		return scheme.category() + SEPARATOR + scheme.value() + SEPARATOR + isReverse + SEPARATOR + alpha;
+	}
+
 	/**
 	 * Calculates the maximum border width for hoving flex dataset (BAR).
 	 * 
@@ -305,4 +476,34 @@ public final class ColorSchemes extends AbstractPlugin {
 		}
 		return options;
 	}
+
+	/**
+	 * Palette of colors of a scheme, as RGBA strings, with the list of colors used to create it and its version.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Palette {
+
+		// list of colors of scheme used to create the palette
+		private final List<IsColor> colors;
+		// colors as RGBA strings
+		private final String[] values;
+		// version of palette, unique for every created palette
+		private final int version;
+
+		/**
+		 * Creates the palette by the list of colors of scheme and the colors as RGBA strings.
+		 * 
+		 * @param colors list of colors of scheme used to create the palette
+		 * @param values colors as RGBA strings
+		 */
+		private Palette(List<IsColor> colors, String[] values) {
+			this.colors = colors;
+			this.values = values;
+			this.version = ++paletteVersion;
+		}
+
+	}
+
 }
@@ -15,19 +15,21 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.ChartType;
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.enums.Event;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.events.LegendClickEvent;
 import org.pepstock.charba.client.impl.callbacks.AtLeastOneDatasetHandler;
 import org.pepstock.charba.client.items.DatasetItem;
 import org.pepstock.charba.client.items.DatasetMetaItem;
 import org.pepstock.charba.client.plugins.AbstractPlugin;
-import org.pepstock.charba.client.utils.Utilities;
 
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Style.Cursor;
@@ -175,6 +177,16 @@ public final class DatasetsItemsSelector extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.AFTER_DRAW, PluginHook.DESTROY, PluginHook.BEFORE_EVENT);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -363,15 +375,12 @@ public final class DatasetsItemsSelector extends AbstractPlugin {
 		handler.setDatasetsItemsCount(itemsCount);
 		// checks if there is the amount of datasets for selection
 		if (handler.hasMinimumDatasetsItems()) {
-			// gets the image from canvas
-			String dataUrl = chart.getCanvas().toDataUrl();
-			// checks if chart is changed
-			if (handler.isChartChanged(dataUrl)) {
-				// this is necessary to apply every time the handler
-				// will draw directly into canvas
-				// stores image setting size
-				handler.setSnapshot(Utilities.toImageElement(dataUrl, chart.getCanvas().getOffsetWidth(), chart.getCanvas().getOffsetHeight()));
-			}
+			// the draw of chart is completed therefore
+			// the canvas contains the chart without any selection.
+			// This is necessary to apply every time the handler
+			// will draw directly into canvas
+			// copies the canvas into the snapshot
+			handler.updateSnapshot();
 			// if the selections is already present
 			// it refreshes all the calculation of existing selection
 			if (handler.getStatus().equals(SelectionStatus.SELECTED)) {
@@ -29,11 +29,13 @@ import org.pepstock.charba.client.items.ChartAreaNode;
 import org.pepstock.charba.client.items.ScaleItem;
 import org.pepstock.charba.client.utils.Utilities;
 
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationHandle;
 import com.google.gwt.canvas.dom.client.Context2d;
 import com.google.gwt.canvas.dom.client.Context2d.TextBaseline;
 import com.google.gwt.canvas.dom.client.TextMetrics;
+import com.google.gwt.dom.client.CanvasElement;
 import com.google.gwt.dom.client.Document;
-import com.google.gwt.dom.client.ImageElement;
 import com.google.gwt.dom.client.NativeEvent;
 import com.google.gwt.dom.client.Style.Cursor;
 import com.google.gwt.event.dom.client.MouseDownEvent;
@@ -65,8 +67,8 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	private SelectionTrack track = null;
 	// status if selected
 	private SelectionStatus status = SelectionStatus.READY;
-	// copy of chart canvas as image to apply when is drwaing into canvas
-	private ImageElement snapshot = null;
+	// offscreen copy of chart canvas to apply when is drawing into canvas
+	private CanvasElement snapshot = null;
 	// amount of datasets items
 	private int datasetsItemsCount = 0;
 	// event handler registration
@@ -75,10 +77,6 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	private HandlerRegistration mouseUp = null;
 	// event handler registration
 	private HandlerRegistration mouseMove = null;
-	// previous chart area
-	private String previousChartAreaAsString = null;
-	// previous data URL chart as png
-	private String previousDataURL = null;
 	// flag if do not send any event after refresh
 	private boolean skipNextFireEvent = false;
 	// cursor before hover the clear selection
@@ -86,6 +84,10 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	// this is a flag to prevent click event after drawing
 	// of selection area
 	private boolean preventClickEvent = false;
+	// handle of the animation frame requested to draw the selection
+	private AnimationHandle selectionFrame = null;
+	// X coordinate of the last mouse move, to draw at next animation frame
+	private int pendingX = 0;
 
 	/**
 	 * Creates the selection handler with chart instance and the options (if exist) into chart options.
@@ -182,8 +184,14 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 				endSelection(event.getNativeEvent());
 				return;
 			}
-			// updates the selection into canvas
-			updateSelection(event.getX(), false);
+			// stores the X coordinate
+			// the selection is drawn once at next animation frame
+			// for all mouse moves in the same frame
+			pendingX = event.getX();
+			// checks if an animation frame is already requested
+			if (selectionFrame == null) {
+				selectionFrame = AnimationScheduler.get().requestAnimationFrame(timestamp -> drawPendingSelection());
+			}
 		} else if (isEventInClearSelection(event) && getStatus().equals(SelectionStatus.SELECTED)) {
 			// if here
 			// the mouse is hovering the clear selection
@@ -272,19 +280,29 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	}
 
 	/**
-	 * Returns the image which is snapshot of chart.
-	 * 
-	 * @return the snapshot
-	 */
-	ImageElement getSnapshot() {
-		return snapshot;
-	}
-
-	/**
-	 * @param snapshot the snapshot to set
+	 * Copies the current content of chart canvas into the offscreen canvas used as snapshot of chart.<br>
+	 * The copy is done by the browser without encoding the image, at the same resolution of chart canvas.
 	 */
-	void setSnapshot(ImageElement snapshot) {
-		this.snapshot = snapshot;
+	void updateSnapshot() {
+		// gets the chart canvas
+		CanvasElement source = chart.getCanvas().getCanvasElement();
+		// checks if the offscreen canvas is already created
+		if (snapshot == null) {
+			snapshot = Document.get().createCanvasElement();
+		}
+		// gets the context of offscreen canvas
+		Context2d ctx = snapshot.getContext2d();
+		// checks if the size of chart canvas is changed
+		if (snapshot.getWidth() != source.getWidth() || snapshot.getHeight() != source.getHeight()) {
+			// setting the size, the offscreen canvas is cleared
+			snapshot.setWidth(source.getWidth());
+			snapshot.setHeight(source.getHeight());
+		} else {
+			// clears the offscreen canvas because the chart could have a transparent background color
+			ctx.clearRect(0, 0, snapshot.getWidth(), snapshot.getHeight());
+		}
+		// copies the chart canvas
+		ctx.drawImage(source, 0, 0);
 	}
 
 	/**
@@ -370,7 +388,7 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 		ChartNode node = chart.getNode();
 		// gets the scale element of chart
 		// using the X axis id of plugin options
-		ScaleItem scaleItem = node.getScales().getItems().get(options.getXAxisID());
+		ScaleItem scaleItem = node.getScales().getScale(options.getXAxisID());
 		// if chart is line or axis time is equals to 2
 		// else if bar chart is equals to 1
 		int minimDatasetsItemsCount;
@@ -428,34 +446,23 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 		updateTrack(x, chartArea);
 		// gets the scale element of chart
 		SelectionTicks selectionTicks = calculateAreaItemCount(node);
-		// calculates the amount of sections into chart based on
-		// amount of dataset items
-		int areaCount = selectionTicks.getCount();
-		// gets the left of chart area as starting point
-		double scaleTickX = selectionTicks.getX();
-		// calculates the section size for every dataset item
-		double scaleTickLength = selectionTicks.getWidth();
-		// scans all sections
-		for (int i = 0; i <= areaCount; i++) {
-			// calculates the Y coordinate of section
-			// adding to starting point the section size (always DOUBLE)
-			double scaleTickY = scaleTickX + scaleTickLength;
-			// checks if the X coordinate of track is inside of section
-			if (track.getStart() >= scaleTickX && track.getStart() <= scaleTickY) {
-				// sets the start dataset item index
-				items.setStart(i);
-				// sets the left part of selection area
-				area.setLeft(scaleTickX);
-			}
-			// checks if the Y coordinate of track is inside of section
-			if (track.getEnd() >= scaleTickX && track.getStart() <= scaleTickY) {
-				// sets the end dataset item index
-				items.setEnd(i);
-				// sets the right part of selection area, max must be right of chart area
-				area.setRight(Math.min(scaleTickY, chartArea.getRight()));
-			}
-			// increments the starting point of section
-			scaleTickX = scaleTickX + scaleTickLength;
+		// calculates the section index which contains the start of track
+		int startIndex = selectionTicks.getIndex(track.getStart());
+		// checks if the start of track is inside of a section
+		if (startIndex >= 0) {
+			// sets the start dataset item index
+			items.setStart(startIndex);
+			// sets the left part of selection area
+			area.setLeft(selectionTicks.getPosition(startIndex));
+		}
+		// calculates the section index which contains the end of track
+		int endIndex = selectionTicks.getIndex(track.getEnd());
+		// checks if the end of track is inside of a section
+		if (endIndex >= 0) {
+			// sets the end dataset item index
+			items.setEnd(endIndex);
+			// sets the right part of selection area, max must be right of chart area
+			area.setRight(Math.min(selectionTicks.getPosition(endIndex + 1), chartArea.getRight()));
 		}
 		// sets the selecting color into canvas
 		ctx.setFillStyle(options.getColorAsString());
@@ -476,6 +483,25 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 		ctx.restore();
 	}
 
+	/**
+	 * Draws the selection at the X coordinate of the last mouse move, if an animation frame was requested.<br>
+	 * It is invoked at the animation frame or before the end of selection, in order to complete the pending drawing.
+	 */
+	private void drawPendingSelection() {
+		// checks if an animation frame was requested
+		if (selectionFrame != null) {
+			// cancels the animation frame
+			// does nothing if this is invoked by the animation frame
+			selectionFrame.cancel();
+			selectionFrame = null;
+			// checks if the selection is still in progress
+			if (getStatus().equals(SelectionStatus.SELECTING)) {
+				// updates the selection into canvas
+				updateSelection(pendingX, false);
+			}
+		}
+	}
+
 	/**
 	 * Apply the broder to selection area if required.
 	 * 
@@ -560,6 +586,8 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	 * @param skipNextFireEvent if <code>true</code>, does not send any event
 	 */
 	void endSelection(NativeEvent event, boolean skipNextFireEvent) {
+		// draws the selection of last mouse move, if not drawn yet
+		drawPendingSelection();
 		// sets status
 		setStatus(SelectionStatus.SELECTED);
 		// checks if it must send event
@@ -568,7 +596,7 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 			ChartNode node = chart.getNode();
 			// gets the scale element of chart
 			// using the X axis id of plugin options
-			ScaleItem scaleItem = node.getScales().getItems().get(options.getXAxisID());
+			ScaleItem scaleItem = node.getScales().getScale(options.getXAxisID());
 			// checks the type of chart and scale
 			// LINE and axis TIME must be added by 1 end of datasets
 			if (chart.getType().equals(ChartType.LINE) || AxisType.TIME.equals(scaleItem.getType())) {
@@ -593,25 +621,16 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 		// calculates the amount of sections into chart based on
 		// amount of dataset items
 		int areaCount = selectionTicks.getCount();
-		// gets the left of chart area as starting point
-		double scaleTickX = selectionTicks.getX();
-		// calculates the section size for every dataset item
-		double scaleTickLength = selectionTicks.getWidth();
-		// scans all sections
-		for (int i = 0; i <= areaCount; i++) {
-			// when the section index is equals of start of dataset item index
-			if (items.getStart() == i) {
-				// this is new start selection point
-				startSelection((int) Math.ceil(scaleTickX));
-			}
-			// when the section index is equals of end of dataset item index
-			if (items.getEnd() == i) {
-				double middle = scaleTickX + scaleTickLength / 2;
-				// this is new end selection point
-				updateSelection((int) middle, true);
-			}
-			// increments the starting point of section
-			scaleTickX = scaleTickX + scaleTickLength;
+		// checks if the start of dataset item index is still inside of sections
+		if (items.getStart() >= 0 && items.getStart() <= areaCount) {
+			// this is new start selection point
+			startSelection((int) Math.ceil(selectionTicks.getPosition(items.getStart())));
+		}
+		// checks if the end of dataset item index is still inside of sections
+		if (items.getEnd() >= 0 && items.getEnd() <= areaCount) {
+			double middle = selectionTicks.getPosition(items.getEnd()) + selectionTicks.getWidth() / 2;
+			// this is new end selection point
+			updateSelection((int) middle, true);
 		}
 		// when here, the area has been draw
 		// then complete the selection
@@ -619,45 +638,6 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 		skipNextFireEvent = false;
 	}
 
-	/**
-	 * Checks if the chart is changed.<br>
-	 * It checks:<br>
-	 * <ul>
-	 * <li>the dimension of chart
-	 * <li>data image of chart
-	 * </ul>
-	 * 
-	 * @param dataUrl data image for chart
-	 * @return <code>true</code> if chart is changed, otherwise <code>false</code>.
-	 */
-	boolean isChartChanged(String dataUrl) {
-		// gets the chart area in json format
-		String chartAreaAsString = chart.getNode().getChartArea().toString();
-		// checks if previous values are null (first round)
-		if (previousDataURL == null && previousChartAreaAsString == null) {
-			// saves the current data image and dimensions of chart
-			previousDataURL = dataUrl;
-			previousChartAreaAsString = chartAreaAsString;
-			return true;
-		}
-		// checks if dimension of chart is changed
-		if (!chartAreaAsString.equalsIgnoreCase(previousChartAreaAsString)) {
-			// saves the current data image and dimensions of chart
-			previousDataURL = dataUrl;
-			previousChartAreaAsString = chartAreaAsString;
-			return true;
-		}
-		// checks if data image of chart is changed
-		if (!dataUrl.equalsIgnoreCase(previousDataURL)) {
-			// saves the current data image and dimensions of chart
-			previousDataURL = dataUrl;
-			previousChartAreaAsString = chartAreaAsString;
-			return true;
-		}
-		// if here the chart is NOT changed
-		return false;
-	}
-
 	// -----------------------------------------
 	// CLEAR SELECTION methods
 	// -----------------------------------------
@@ -1109,7 +1089,7 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 		final SelectionTicks selectionTricks = new SelectionTicks();
 		// gets the scale element of chart
 		// using the X axis id of plugin options
-		ScaleItem scaleItem = node.getScales().getItems().get(options.getXAxisID());
+		ScaleItem scaleItem = node.getScales().getScale(options.getXAxisID());
 		// calculates the amount of sections into chart based on
 		// amount of dataset items
 		// in case of time axis, it must be reduce by1 because the dataset items
@@ -84,6 +84,35 @@ final class SelectionTicks {
 		this.width = width;
 	}
 
+	/**
+	 * Returns the index of the section (between ticks) which contains the passed X coordinate, computed arithmetically.<br>
+	 * A X coordinate on the border of 2 sections belongs to the right one. A X coordinate after the last section belongs to the
+	 * last one.
+	 * 
+	 * @param position X coordinate to search
+	 * @return the index of the section which contains the X coordinate or <code>-1</code> if the X coordinate is before the
+	 *         first section or the width between ticks is not consistent
+	 */
+	public int getIndex(double position) {
+		// checks if the width is consistent and
+		// if the position is after the first section
+		if (width <= 0D || position < x) {
+			return -1;
+		}
+		// calculates the index, never greater than the amount of items
+		return (int) Math.min(Math.floor((position - x) / width), count);
+	}
+
+	/**
+	 * Returns the X coordinate of the start of the section (between ticks) at the passed index.
+	 * 
+	 * @param index index of the section
+	 * @return the X coordinate of the start of the section
+	 */
+	public double getPosition(int index) {
+		return x + index * width;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -15,7 +15,6 @@
 */
 package org.pepstock.charba.client.impl.plugins.enums;
 
-import org.pepstock.charba.client.colors.ColorBuilder;
 import org.pepstock.charba.client.impl.plugins.ColorScheme;
 import org.pepstock.charba.client.impl.plugins.ColorSchemes;
 
@@ -37,7 +36,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#31a354; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN3("YlGn3", SchemeCostants.COLOR_F7FCB9, SchemeCostants.COLOR_ADDD8E, SchemeCostants.COLOR_31A354),
+	YL_GN3("YlGn3", "f7fcb9addd8e31a354"),
 	/**
 	 * Color scheme name "YlGn4" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c2e699; border-style: solid;
@@ -45,7 +44,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#238443;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN4("YlGn4", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_C2E699, SchemeCostants.COLOR_78C679, SchemeCostants.COLOR_238443),
+	YL_GN4("YlGn4", "ffffccc2e69978c679238443"),
 	/**
 	 * Color scheme name "YlGn5" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c2e699; border-style: solid;
@@ -54,7 +53,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#006837; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN5("YlGn5", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_C2E699, SchemeCostants.COLOR_78C679, SchemeCostants.COLOR_31A354, SchemeCostants.COLOR_006837),
+	YL_GN5("YlGn5", "ffffccc2e69978c67931a354006837"),
 	/**
 	 * Color scheme name "YlGn6" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d9f0a3; border-style: solid;
@@ -65,7 +64,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#006837; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN6("YlGn6", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_D9F0A3, SchemeCostants.COLOR_ADDD8E, SchemeCostants.COLOR_78C679, SchemeCostants.COLOR_31A354, SchemeCostants.COLOR_006837),
+	YL_GN6("YlGn6", "ffffccd9f0a3addd8e78c67931a354006837"),
 	/**
 	 * Color scheme name "YlGn7" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d9f0a3; border-style: solid;
@@ -77,7 +76,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#005a32; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN7("YlGn7", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_D9F0A3, SchemeCostants.COLOR_ADDD8E, SchemeCostants.COLOR_78C679, SchemeCostants.COLOR_41AB5D, SchemeCostants.COLOR_238443, SchemeCostants.COLOR_005A32),
+	YL_GN7("YlGn7", "ffffccd9f0a3addd8e78c67941ab5d238443005a32"),
 	/**
 	 * Color scheme name "YlGn8" - <span style="background-color:#ffffe5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f7fcb9; border-style: solid;
@@ -90,7 +89,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#005a32;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN8("YlGn8", SchemeCostants.COLOR_FFFFE5, SchemeCostants.COLOR_F7FCB9, SchemeCostants.COLOR_D9F0A3, SchemeCostants.COLOR_ADDD8E, SchemeCostants.COLOR_78C679, SchemeCostants.COLOR_41AB5D, SchemeCostants.COLOR_238443, SchemeCostants.COLOR_005A32),
+	YL_GN8("YlGn8", "ffffe5f7fcb9d9f0a3addd8e78c67941ab5d238443005a32"),
 	/**
 	 * Color scheme name "YlGn9" - <span style="background-color:#ffffe5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f7fcb9; border-style: solid;
@@ -104,15 +103,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#004529; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN9("YlGn9", SchemeCostants.COLOR_FFFFE5, SchemeCostants.COLOR_F7FCB9, SchemeCostants.COLOR_D9F0A3, SchemeCostants.COLOR_ADDD8E, SchemeCostants.COLOR_78C679, SchemeCostants.COLOR_41AB5D, SchemeCostants.COLOR_238443, SchemeCostants.COLOR_006837,
-			SchemeCostants.COLOR_004529),
+	YL_GN9("YlGn9", "ffffe5f7fcb9d9f0a3addd8e78c67941ab5d238443006837004529"),
 	/**
 	 * Color scheme name "YlGnBu3" - <span style="background-color:#edf8b1; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7fcdbb; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2c7fb8; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN_BU3("YlGnBu3", SchemeCostants.COLOR_EDF8B1, SchemeCostants.COLOR_7FCDBB, SchemeCostants.COLOR_2C7FB8),
+	YL_GN_BU3("YlGnBu3", "edf8b17fcdbb2c7fb8"),
 	/**
 	 * Color scheme name "YlGnBu4" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a1dab4; border-style: solid;
@@ -120,7 +118,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#225ea8;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN_BU4("YlGnBu4", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_A1DAB4, SchemeCostants.COLOR_41B6C4, SchemeCostants.COLOR_225EA8),
+	YL_GN_BU4("YlGnBu4", "ffffcca1dab441b6c4225ea8"),
 	/**
 	 * Color scheme name "YlGnBu5" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a1dab4; border-style: solid;
@@ -129,7 +127,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#253494; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN_BU5("YlGnBu5", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_A1DAB4, SchemeCostants.COLOR_41B6C4, SchemeCostants.COLOR_2C7FB8, SchemeCostants.COLOR_253494),
+	YL_GN_BU5("YlGnBu5", "ffffcca1dab441b6c42c7fb8253494"),
 	/**
 	 * Color scheme name "YlGnBu6" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c7e9b4; border-style: solid;
@@ -140,7 +138,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#253494; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN_BU6("YlGnBu6", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_C7E9B4, SchemeCostants.COLOR_7FCDBB, SchemeCostants.COLOR_41B6C4, SchemeCostants.COLOR_2C7FB8, SchemeCostants.COLOR_253494),
+	YL_GN_BU6("YlGnBu6", "ffffccc7e9b47fcdbb41b6c42c7fb8253494"),
 	/**
 	 * Color scheme name "YlGnBu7" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c7e9b4; border-style: solid;
@@ -152,7 +150,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0c2c84; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN_BU7("YlGnBu7", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_C7E9B4, SchemeCostants.COLOR_7FCDBB, SchemeCostants.COLOR_41B6C4, SchemeCostants.COLOR_1D91C0, SchemeCostants.COLOR_225EA8, SchemeCostants.COLOR_0C2C84),
+	YL_GN_BU7("YlGnBu7", "ffffccc7e9b47fcdbb41b6c41d91c0225ea80c2c84"),
 	/**
 	 * Color scheme name "YlGnBu8" - <span style="background-color:#ffffd9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#edf8b1; border-style: solid;
@@ -165,8 +163,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0c2c84;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN_BU8("YlGnBu8", SchemeCostants.COLOR_FFFFD9, SchemeCostants.COLOR_EDF8B1, SchemeCostants.COLOR_C7E9B4, SchemeCostants.COLOR_7FCDBB, SchemeCostants.COLOR_41B6C4, SchemeCostants.COLOR_1D91C0, SchemeCostants.COLOR_225EA8,
-			SchemeCostants.COLOR_0C2C84),
+	YL_GN_BU8("YlGnBu8", "ffffd9edf8b1c7e9b47fcdbb41b6c41d91c0225ea80c2c84"),
 	/**
 	 * Color scheme name "YlGnBu9" - <span style="background-color:#ffffd9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#edf8b1; border-style: solid;
@@ -180,15 +177,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#081d58; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_GN_BU9("YlGnBu9", SchemeCostants.COLOR_FFFFD9, SchemeCostants.COLOR_EDF8B1, SchemeCostants.COLOR_C7E9B4, SchemeCostants.COLOR_7FCDBB, SchemeCostants.COLOR_41B6C4, SchemeCostants.COLOR_1D91C0, SchemeCostants.COLOR_225EA8,
-			SchemeCostants.COLOR_253494, SchemeCostants.COLOR_081D58),
+	YL_GN_BU9("YlGnBu9", "ffffd9edf8b1c7e9b47fcdbb41b6c41d91c0225ea8253494081d58"),
 	/**
 	 * Color scheme name "GnBu3" - <span style="background-color:#e0f3db; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a8ddb5; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#43a2ca; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GN_BU3("GnBu3", SchemeCostants.COLOR_E0F3DB, SchemeCostants.COLOR_A8DDB5, SchemeCostants.COLOR_43A2CA),
+	GN_BU3("GnBu3", "e0f3dba8ddb543a2ca"),
 	/**
 	 * Color scheme name "GnBu4" - <span style="background-color:#f0f9e8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bae4bc; border-style: solid;
@@ -196,7 +192,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2b8cbe;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GN_BU4("GnBu4", SchemeCostants.COLOR_F0F9E8, SchemeCostants.COLOR_BAE4BC, SchemeCostants.COLOR_7BCCC4, SchemeCostants.COLOR_2B8CBE),
+	GN_BU4("GnBu4", "f0f9e8bae4bc7bccc42b8cbe"),
 	/**
 	 * Color scheme name "GnBu5" - <span style="background-color:#f0f9e8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bae4bc; border-style: solid;
@@ -205,7 +201,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#0868ac; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GN_BU5("GnBu5", SchemeCostants.COLOR_F0F9E8, SchemeCostants.COLOR_BAE4BC, SchemeCostants.COLOR_7BCCC4, SchemeCostants.COLOR_43A2CA, SchemeCostants.COLOR_0868AC),
+	GN_BU5("GnBu5", "f0f9e8bae4bc7bccc443a2ca0868ac"),
 	/**
 	 * Color scheme name "GnBu6" - <span style="background-color:#f0f9e8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccebc5; border-style: solid;
@@ -216,7 +212,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0868ac; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GN_BU6("GnBu6", SchemeCostants.COLOR_F0F9E8, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_A8DDB5, SchemeCostants.COLOR_7BCCC4, SchemeCostants.COLOR_43A2CA, SchemeCostants.COLOR_0868AC),
+	GN_BU6("GnBu6", "f0f9e8ccebc5a8ddb57bccc443a2ca0868ac"),
 	/**
 	 * Color scheme name "GnBu7" - <span style="background-color:#f0f9e8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccebc5; border-style: solid;
@@ -228,7 +224,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#08589e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GN_BU7("GnBu7", SchemeCostants.COLOR_F0F9E8, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_A8DDB5, SchemeCostants.COLOR_7BCCC4, SchemeCostants.COLOR_4EB3D3, SchemeCostants.COLOR_2B8CBE, SchemeCostants.COLOR_08589E),
+	GN_BU7("GnBu7", "f0f9e8ccebc5a8ddb57bccc44eb3d32b8cbe08589e"),
 	/**
 	 * Color scheme name "GnBu8" - <span style="background-color:#f7fcf0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e0f3db; border-style: solid;
@@ -241,7 +237,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#08589e;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GN_BU8("GnBu8", SchemeCostants.COLOR_F7FCF0, SchemeCostants.COLOR_E0F3DB, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_A8DDB5, SchemeCostants.COLOR_7BCCC4, SchemeCostants.COLOR_4EB3D3, SchemeCostants.COLOR_2B8CBE, SchemeCostants.COLOR_08589E),
+	GN_BU8("GnBu8", "f7fcf0e0f3dbccebc5a8ddb57bccc44eb3d32b8cbe08589e"),
 	/**
 	 * Color scheme name "GnBu9" - <span style="background-color:#f7fcf0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e0f3db; border-style: solid;
@@ -255,15 +251,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#084081; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GN_BU9("GnBu9", SchemeCostants.COLOR_F7FCF0, SchemeCostants.COLOR_E0F3DB, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_A8DDB5, SchemeCostants.COLOR_7BCCC4, SchemeCostants.COLOR_4EB3D3, SchemeCostants.COLOR_2B8CBE, SchemeCostants.COLOR_0868AC,
-			SchemeCostants.COLOR_084081),
+	GN_BU9("GnBu9", "f7fcf0e0f3dbccebc5a8ddb57bccc44eb3d32b8cbe0868ac084081"),
 	/**
 	 * Color scheme name "BuGn3" - <span style="background-color:#e5f5f9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#99d8c9; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2ca25f; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_GN3("BuGn3", SchemeCostants.COLOR_E5F5F9, SchemeCostants.COLOR_99D8C9, SchemeCostants.COLOR_2CA25F),
+	BU_GN3("BuGn3", "e5f5f999d8c92ca25f"),
 	/**
 	 * Color scheme name "BuGn4" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2e2e2; border-style: solid;
@@ -271,7 +266,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#238b45;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_GN4("BuGn4", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_B2E2E2, SchemeCostants.COLOR_66C2A4, SchemeCostants.COLOR_238B45),
+	BU_GN4("BuGn4", "edf8fbb2e2e266c2a4238b45"),
 	/**
 	 * Color scheme name "BuGn5" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2e2e2; border-style: solid;
@@ -280,7 +275,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#006d2c; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_GN5("BuGn5", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_B2E2E2, SchemeCostants.COLOR_66C2A4, SchemeCostants.COLOR_2CA25F, SchemeCostants.COLOR_006D2C),
+	BU_GN5("BuGn5", "edf8fbb2e2e266c2a42ca25f006d2c"),
 	/**
 	 * Color scheme name "BuGn6" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccece6; border-style: solid;
@@ -291,7 +286,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#006d2c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_GN6("BuGn6", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_CCECE6, SchemeCostants.COLOR_99D8C9, SchemeCostants.COLOR_66C2A4, SchemeCostants.COLOR_2CA25F, SchemeCostants.COLOR_006D2C),
+	BU_GN6("BuGn6", "edf8fbccece699d8c966c2a42ca25f006d2c"),
 	/**
 	 * Color scheme name "BuGn7" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccece6; border-style: solid;
@@ -303,7 +298,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#005824; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_GN7("BuGn7", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_CCECE6, SchemeCostants.COLOR_99D8C9, SchemeCostants.COLOR_66C2A4, SchemeCostants.COLOR_41AE76, SchemeCostants.COLOR_238B45, SchemeCostants.COLOR_005824),
+	BU_GN7("BuGn7", "edf8fbccece699d8c966c2a441ae76238b45005824"),
 	/**
 	 * Color scheme name "BuGn8" - <span style="background-color:#f7fcfd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e5f5f9; border-style: solid;
@@ -316,7 +311,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#005824;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_GN8("BuGn8", SchemeCostants.COLOR_F7FCFD, SchemeCostants.COLOR_E5F5F9, SchemeCostants.COLOR_CCECE6, SchemeCostants.COLOR_99D8C9, SchemeCostants.COLOR_66C2A4, SchemeCostants.COLOR_41AE76, SchemeCostants.COLOR_238B45, SchemeCostants.COLOR_005824),
+	BU_GN8("BuGn8", "f7fcfde5f5f9ccece699d8c966c2a441ae76238b45005824"),
 	/**
 	 * Color scheme name "BuGn9" - <span style="background-color:#f7fcfd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e5f5f9; border-style: solid;
@@ -330,15 +325,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#00441b; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_GN9("BuGn9", SchemeCostants.COLOR_F7FCFD, SchemeCostants.COLOR_E5F5F9, SchemeCostants.COLOR_CCECE6, SchemeCostants.COLOR_99D8C9, SchemeCostants.COLOR_66C2A4, SchemeCostants.COLOR_41AE76, SchemeCostants.COLOR_238B45, SchemeCostants.COLOR_006D2C,
-			SchemeCostants.COLOR_00441B),
+	BU_GN9("BuGn9", "f7fcfde5f5f9ccece699d8c966c2a441ae76238b45006d2c00441b"),
 	/**
 	 * Color scheme name "PuBuGn3" - <span style="background-color:#ece2f0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a6bddb; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1c9099; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU_GN3("PuBuGn3", SchemeCostants.COLOR_ECE2F0, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_1C9099),
+	PU_BU_GN3("PuBuGn3", "ece2f0a6bddb1c9099"),
 	/**
 	 * Color scheme name "PuBuGn4" - <span style="background-color:#f6eff7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bdc9e1; border-style: solid;
@@ -346,7 +340,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#02818a;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU_GN4("PuBuGn4", SchemeCostants.COLOR_F6EFF7, SchemeCostants.COLOR_BDC9E1, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_02818A),
+	PU_BU_GN4("PuBuGn4", "f6eff7bdc9e167a9cf02818a"),
 	/**
 	 * Color scheme name "PuBuGn5" - <span style="background-color:#f6eff7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bdc9e1; border-style: solid;
@@ -355,7 +349,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#016c59; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU_GN5("PuBuGn5", SchemeCostants.COLOR_F6EFF7, SchemeCostants.COLOR_BDC9E1, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_1C9099, SchemeCostants.COLOR_016C59),
+	PU_BU_GN5("PuBuGn5", "f6eff7bdc9e167a9cf1c9099016c59"),
 	/**
 	 * Color scheme name "PuBuGn6" - <span style="background-color:#f6eff7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d0d1e6; border-style: solid;
@@ -366,7 +360,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#016c59; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU_GN6("PuBuGn6", SchemeCostants.COLOR_F6EFF7, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_1C9099, SchemeCostants.COLOR_016C59),
+	PU_BU_GN6("PuBuGn6", "f6eff7d0d1e6a6bddb67a9cf1c9099016c59"),
 	/**
 	 * Color scheme name "PuBuGn7" - <span style="background-color:#f6eff7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d0d1e6; border-style: solid;
@@ -378,7 +372,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#016450; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU_GN7("PuBuGn7", SchemeCostants.COLOR_F6EFF7, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_3690C0, SchemeCostants.COLOR_02818A, SchemeCostants.COLOR_016450),
+	PU_BU_GN7("PuBuGn7", "f6eff7d0d1e6a6bddb67a9cf3690c002818a016450"),
 	/**
 	 * Color scheme name "PuBuGn8" - <span style="background-color:#fff7fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ece2f0; border-style: solid;
@@ -391,8 +385,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#016450;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU_GN8("PuBuGn8", SchemeCostants.COLOR_FFF7FB, SchemeCostants.COLOR_ECE2F0, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_3690C0, SchemeCostants.COLOR_02818A,
-			SchemeCostants.COLOR_016450),
+	PU_BU_GN8("PuBuGn8", "fff7fbece2f0d0d1e6a6bddb67a9cf3690c002818a016450"),
 	/**
 	 * Color scheme name "PuBuGn9" - <span style="background-color:#fff7fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ece2f0; border-style: solid;
@@ -406,15 +399,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#014636; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU_GN9("PuBuGn9", SchemeCostants.COLOR_FFF7FB, SchemeCostants.COLOR_ECE2F0, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_3690C0, SchemeCostants.COLOR_02818A,
-			SchemeCostants.COLOR_016C59, SchemeCostants.COLOR_014636),
+	PU_BU_GN9("PuBuGn9", "fff7fbece2f0d0d1e6a6bddb67a9cf3690c002818a016c59014636"),
 	/**
 	 * Color scheme name "PuBu3" - <span style="background-color:#ece7f2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a6bddb; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2b8cbe; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU3("PuBu3", SchemeCostants.COLOR_ECE7F2, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_2B8CBE),
+	PU_BU3("PuBu3", "ece7f2a6bddb2b8cbe"),
 	/**
 	 * Color scheme name "PuBu4" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bdc9e1; border-style: solid;
@@ -422,7 +414,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0570b0;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU4("PuBu4", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_BDC9E1, SchemeCostants.COLOR_74A9CF, SchemeCostants.COLOR_0570B0),
+	PU_BU4("PuBu4", "f1eef6bdc9e174a9cf0570b0"),
 	/**
 	 * Color scheme name "PuBu5" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bdc9e1; border-style: solid;
@@ -431,7 +423,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#045a8d; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU5("PuBu5", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_BDC9E1, SchemeCostants.COLOR_74A9CF, SchemeCostants.COLOR_2B8CBE, SchemeCostants.COLOR_045A8D),
+	PU_BU5("PuBu5", "f1eef6bdc9e174a9cf2b8cbe045a8d"),
 	/**
 	 * Color scheme name "PuBu6" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d0d1e6; border-style: solid;
@@ -442,7 +434,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#045a8d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU6("PuBu6", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_74A9CF, SchemeCostants.COLOR_2B8CBE, SchemeCostants.COLOR_045A8D),
+	PU_BU6("PuBu6", "f1eef6d0d1e6a6bddb74a9cf2b8cbe045a8d"),
 	/**
 	 * Color scheme name "PuBu7" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d0d1e6; border-style: solid;
@@ -454,7 +446,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#034e7b; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU7("PuBu7", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_74A9CF, SchemeCostants.COLOR_3690C0, SchemeCostants.COLOR_0570B0, SchemeCostants.COLOR_034E7B),
+	PU_BU7("PuBu7", "f1eef6d0d1e6a6bddb74a9cf3690c00570b0034e7b"),
 	/**
 	 * Color scheme name "PuBu8" - <span style="background-color:#fff7fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ece7f2; border-style: solid;
@@ -467,7 +459,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#034e7b;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU8("PuBu8", SchemeCostants.COLOR_FFF7FB, SchemeCostants.COLOR_ECE7F2, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_74A9CF, SchemeCostants.COLOR_3690C0, SchemeCostants.COLOR_0570B0, SchemeCostants.COLOR_034E7B),
+	PU_BU8("PuBu8", "fff7fbece7f2d0d1e6a6bddb74a9cf3690c00570b0034e7b"),
 	/**
 	 * Color scheme name "PuBu9" - <span style="background-color:#fff7fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ece7f2; border-style: solid;
@@ -481,15 +473,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#023858; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_BU9("PuBu9", SchemeCostants.COLOR_FFF7FB, SchemeCostants.COLOR_ECE7F2, SchemeCostants.COLOR_D0D1E6, SchemeCostants.COLOR_A6BDDB, SchemeCostants.COLOR_74A9CF, SchemeCostants.COLOR_3690C0, SchemeCostants.COLOR_0570B0, SchemeCostants.COLOR_045A8D,
-			SchemeCostants.COLOR_023858),
+	PU_BU9("PuBu9", "fff7fbece7f2d0d1e6a6bddb74a9cf3690c00570b0045a8d023858"),
 	/**
 	 * Color scheme name "BuPu3" - <span style="background-color:#e0ecf4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9ebcda; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8856a7; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_PU3("BuPu3", SchemeCostants.COLOR_E0ECF4, SchemeCostants.COLOR_9EBCDA, SchemeCostants.COLOR_8856A7),
+	BU_PU3("BuPu3", "e0ecf49ebcda8856a7"),
 	/**
 	 * Color scheme name "BuPu4" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -497,7 +488,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#88419d;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_PU4("BuPu4", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_8C96C6, SchemeCostants.COLOR_88419D),
+	BU_PU4("BuPu4", "edf8fbb3cde38c96c688419d"),
 	/**
 	 * Color scheme name "BuPu5" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -506,7 +497,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#810f7c; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_PU5("BuPu5", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_8C96C6, SchemeCostants.COLOR_8856A7, SchemeCostants.COLOR_810F7C),
+	BU_PU5("BuPu5", "edf8fbb3cde38c96c68856a7810f7c"),
 	/**
 	 * Color scheme name "BuPu6" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bfd3e6; border-style: solid;
@@ -517,7 +508,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#810f7c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_PU6("BuPu6", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_BFD3E6, SchemeCostants.COLOR_9EBCDA, SchemeCostants.COLOR_8C96C6, SchemeCostants.COLOR_8856A7, SchemeCostants.COLOR_810F7C),
+	BU_PU6("BuPu6", "edf8fbbfd3e69ebcda8c96c68856a7810f7c"),
 	/**
 	 * Color scheme name "BuPu7" - <span style="background-color:#edf8fb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bfd3e6; border-style: solid;
@@ -529,7 +520,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6e016b; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_PU7("BuPu7", SchemeCostants.COLOR_EDF8FB, SchemeCostants.COLOR_BFD3E6, SchemeCostants.COLOR_9EBCDA, SchemeCostants.COLOR_8C96C6, SchemeCostants.COLOR_8C6BB1, SchemeCostants.COLOR_88419D, SchemeCostants.COLOR_6E016B),
+	BU_PU7("BuPu7", "edf8fbbfd3e69ebcda8c96c68c6bb188419d6e016b"),
 	/**
 	 * Color scheme name "BuPu8" - <span style="background-color:#f7fcfd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e0ecf4; border-style: solid;
@@ -542,7 +533,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6e016b;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_PU8("BuPu8", SchemeCostants.COLOR_F7FCFD, SchemeCostants.COLOR_E0ECF4, SchemeCostants.COLOR_BFD3E6, SchemeCostants.COLOR_9EBCDA, SchemeCostants.COLOR_8C96C6, SchemeCostants.COLOR_8C6BB1, SchemeCostants.COLOR_88419D, SchemeCostants.COLOR_6E016B),
+	BU_PU8("BuPu8", "f7fcfde0ecf4bfd3e69ebcda8c96c68c6bb188419d6e016b"),
 	/**
 	 * Color scheme name "BuPu9" - <span style="background-color:#f7fcfd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e0ecf4; border-style: solid;
@@ -556,15 +547,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#4d004b; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BU_PU9("BuPu9", SchemeCostants.COLOR_F7FCFD, SchemeCostants.COLOR_E0ECF4, SchemeCostants.COLOR_BFD3E6, SchemeCostants.COLOR_9EBCDA, SchemeCostants.COLOR_8C96C6, SchemeCostants.COLOR_8C6BB1, SchemeCostants.COLOR_88419D, SchemeCostants.COLOR_810F7C,
-			SchemeCostants.COLOR_4D004B),
+	BU_PU9("BuPu9", "f7fcfde0ecf4bfd3e69ebcda8c96c68c6bb188419d810f7c4d004b"),
 	/**
 	 * Color scheme name "RdPu3" - <span style="background-color:#fde0dd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fa9fb5; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c51b8a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_PU3("RdPu3", SchemeCostants.COLOR_FDE0DD, SchemeCostants.COLOR_FA9FB5, SchemeCostants.COLOR_C51B8A),
+	RD_PU3("RdPu3", "fde0ddfa9fb5c51b8a"),
 	/**
 	 * Color scheme name "RdPu4" - <span style="background-color:#feebe2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fbb4b9; border-style: solid;
@@ -572,7 +562,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ae017e;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_PU4("RdPu4", SchemeCostants.COLOR_FEEBE2, SchemeCostants.COLOR_FBB4B9, SchemeCostants.COLOR_F768A1, SchemeCostants.COLOR_AE017E),
+	RD_PU4("RdPu4", "feebe2fbb4b9f768a1ae017e"),
 	/**
 	 * Color scheme name "RdPu5" - <span style="background-color:#feebe2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fbb4b9; border-style: solid;
@@ -581,7 +571,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#7a0177; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_PU5("RdPu5", SchemeCostants.COLOR_FEEBE2, SchemeCostants.COLOR_FBB4B9, SchemeCostants.COLOR_F768A1, SchemeCostants.COLOR_C51B8A, SchemeCostants.COLOR_7A0177),
+	RD_PU5("RdPu5", "feebe2fbb4b9f768a1c51b8a7a0177"),
 	/**
 	 * Color scheme name "RdPu6" - <span style="background-color:#feebe2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcc5c0; border-style: solid;
@@ -592,7 +582,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7a0177; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_PU6("RdPu6", SchemeCostants.COLOR_FEEBE2, SchemeCostants.COLOR_FCC5C0, SchemeCostants.COLOR_FA9FB5, SchemeCostants.COLOR_F768A1, SchemeCostants.COLOR_C51B8A, SchemeCostants.COLOR_7A0177),
+	RD_PU6("RdPu6", "feebe2fcc5c0fa9fb5f768a1c51b8a7a0177"),
 	/**
 	 * Color scheme name "RdPu7" - <span style="background-color:#feebe2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcc5c0; border-style: solid;
@@ -604,7 +594,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7a0177; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_PU7("RdPu7", SchemeCostants.COLOR_FEEBE2, SchemeCostants.COLOR_FCC5C0, SchemeCostants.COLOR_FA9FB5, SchemeCostants.COLOR_F768A1, SchemeCostants.COLOR_DD3497, SchemeCostants.COLOR_AE017E, SchemeCostants.COLOR_7A0177),
+	RD_PU7("RdPu7", "feebe2fcc5c0fa9fb5f768a1dd3497ae017e7a0177"),
 	/**
 	 * Color scheme name "RdPu8" - <span style="background-color:#fff7f3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fde0dd; border-style: solid;
@@ -617,7 +607,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7a0177;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_PU8("RdPu8", SchemeCostants.COLOR_FFF7F3, SchemeCostants.COLOR_FDE0DD, SchemeCostants.COLOR_FCC5C0, SchemeCostants.COLOR_FA9FB5, SchemeCostants.COLOR_F768A1, SchemeCostants.COLOR_DD3497, SchemeCostants.COLOR_AE017E, SchemeCostants.COLOR_7A0177),
+	RD_PU8("RdPu8", "fff7f3fde0ddfcc5c0fa9fb5f768a1dd3497ae017e7a0177"),
 	/**
 	 * Color scheme name "RdPu9" - <span style="background-color:#fff7f3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fde0dd; border-style: solid;
@@ -631,15 +621,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#49006a; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_PU9("RdPu9", SchemeCostants.COLOR_FFF7F3, SchemeCostants.COLOR_FDE0DD, SchemeCostants.COLOR_FCC5C0, SchemeCostants.COLOR_FA9FB5, SchemeCostants.COLOR_F768A1, SchemeCostants.COLOR_DD3497, SchemeCostants.COLOR_AE017E, SchemeCostants.COLOR_7A0177,
-			SchemeCostants.COLOR_49006A),
+	RD_PU9("RdPu9", "fff7f3fde0ddfcc5c0fa9fb5f768a1dd3497ae017e7a017749006a"),
 	/**
 	 * Color scheme name "PuRd3" - <span style="background-color:#e7e1ef; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c994c7; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dd1c77; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_RD3("PuRd3", SchemeCostants.COLOR_E7E1EF, SchemeCostants.COLOR_C994C7, SchemeCostants.COLOR_DD1C77),
+	PU_RD3("PuRd3", "e7e1efc994c7dd1c77"),
 	/**
 	 * Color scheme name "PuRd4" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d7b5d8; border-style: solid;
@@ -647,7 +636,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ce1256;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_RD4("PuRd4", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_D7B5D8, SchemeCostants.COLOR_DF65B0, SchemeCostants.COLOR_CE1256),
+	PU_RD4("PuRd4", "f1eef6d7b5d8df65b0ce1256"),
 	/**
 	 * Color scheme name "PuRd5" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d7b5d8; border-style: solid;
@@ -656,7 +645,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#980043; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_RD5("PuRd5", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_D7B5D8, SchemeCostants.COLOR_DF65B0, SchemeCostants.COLOR_DD1C77, SchemeCostants.COLOR_980043),
+	PU_RD5("PuRd5", "f1eef6d7b5d8df65b0dd1c77980043"),
 	/**
 	 * Color scheme name "PuRd6" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d4b9da; border-style: solid;
@@ -667,7 +656,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#980043; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_RD6("PuRd6", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_D4B9DA, SchemeCostants.COLOR_C994C7, SchemeCostants.COLOR_DF65B0, SchemeCostants.COLOR_DD1C77, SchemeCostants.COLOR_980043),
+	PU_RD6("PuRd6", "f1eef6d4b9dac994c7df65b0dd1c77980043"),
 	/**
 	 * Color scheme name "PuRd7" - <span style="background-color:#f1eef6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d4b9da; border-style: solid;
@@ -679,7 +668,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#91003f; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_RD7("PuRd7", SchemeCostants.COLOR_F1EEF6, SchemeCostants.COLOR_D4B9DA, SchemeCostants.COLOR_C994C7, SchemeCostants.COLOR_DF65B0, SchemeCostants.COLOR_E7298A, SchemeCostants.COLOR_CE1256, SchemeCostants.COLOR_91003F),
+	PU_RD7("PuRd7", "f1eef6d4b9dac994c7df65b0e7298ace125691003f"),
 	/**
 	 * Color scheme name "PuRd8" - <span style="background-color:#f7f4f9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e7e1ef; border-style: solid;
@@ -692,7 +681,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#91003f;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_RD8("PuRd8", SchemeCostants.COLOR_F7F4F9, SchemeCostants.COLOR_E7E1EF, SchemeCostants.COLOR_D4B9DA, SchemeCostants.COLOR_C994C7, SchemeCostants.COLOR_DF65B0, SchemeCostants.COLOR_E7298A, SchemeCostants.COLOR_CE1256, SchemeCostants.COLOR_91003F),
+	PU_RD8("PuRd8", "f7f4f9e7e1efd4b9dac994c7df65b0e7298ace125691003f"),
 	/**
 	 * Color scheme name "PuRd9" - <span style="background-color:#f7f4f9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e7e1ef; border-style: solid;
@@ -706,15 +695,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#67001f; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_RD9("PuRd9", SchemeCostants.COLOR_F7F4F9, SchemeCostants.COLOR_E7E1EF, SchemeCostants.COLOR_D4B9DA, SchemeCostants.COLOR_C994C7, SchemeCostants.COLOR_DF65B0, SchemeCostants.COLOR_E7298A, SchemeCostants.COLOR_CE1256, SchemeCostants.COLOR_980043,
-			SchemeCostants.COLOR_67001F),
+	PU_RD9("PuRd9", "f7f4f9e7e1efd4b9dac994c7df65b0e7298ace125698004367001f"),
 	/**
 	 * Color scheme name "OrRd3" - <span style="background-color:#fee8c8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdbb84; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e34a33; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OR_RD3("OrRd3", SchemeCostants.COLOR_FEE8C8, SchemeCostants.COLOR_FDBB84, SchemeCostants.COLOR_E34A33),
+	OR_RD3("OrRd3", "fee8c8fdbb84e34a33"),
 	/**
 	 * Color scheme name "OrRd4" - <span style="background-color:#fef0d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcc8a; border-style: solid;
@@ -722,7 +710,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d7301f;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OR_RD4("OrRd4", SchemeCostants.COLOR_FEF0D9, SchemeCostants.COLOR_FDCC8A, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_D7301F),
+	OR_RD4("OrRd4", "fef0d9fdcc8afc8d59d7301f"),
 	/**
 	 * Color scheme name "OrRd5" - <span style="background-color:#fef0d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcc8a; border-style: solid;
@@ -731,7 +719,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#b30000; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OR_RD5("OrRd5", SchemeCostants.COLOR_FEF0D9, SchemeCostants.COLOR_FDCC8A, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_E34A33, SchemeCostants.COLOR_B30000),
+	OR_RD5("OrRd5", "fef0d9fdcc8afc8d59e34a33b30000"),
 	/**
 	 * Color scheme name "OrRd6" - <span style="background-color:#fef0d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdd49e; border-style: solid;
@@ -742,7 +730,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b30000; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OR_RD6("OrRd6", SchemeCostants.COLOR_FEF0D9, SchemeCostants.COLOR_FDD49E, SchemeCostants.COLOR_FDBB84, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_E34A33, SchemeCostants.COLOR_B30000),
+	OR_RD6("OrRd6", "fef0d9fdd49efdbb84fc8d59e34a33b30000"),
 	/**
 	 * Color scheme name "OrRd7" - <span style="background-color:#fef0d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdd49e; border-style: solid;
@@ -754,7 +742,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#990000; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OR_RD7("OrRd7", SchemeCostants.COLOR_FEF0D9, SchemeCostants.COLOR_FDD49E, SchemeCostants.COLOR_FDBB84, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_EF6548, SchemeCostants.COLOR_D7301F, SchemeCostants.COLOR_990000),
+	OR_RD7("OrRd7", "fef0d9fdd49efdbb84fc8d59ef6548d7301f990000"),
 	/**
 	 * Color scheme name "OrRd8" - <span style="background-color:#fff7ec; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee8c8; border-style: solid;
@@ -767,7 +755,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#990000;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OR_RD8("OrRd8", SchemeCostants.COLOR_FFF7EC, SchemeCostants.COLOR_FEE8C8, SchemeCostants.COLOR_FDD49E, SchemeCostants.COLOR_FDBB84, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_EF6548, SchemeCostants.COLOR_D7301F, SchemeCostants.COLOR_990000),
+	OR_RD8("OrRd8", "fff7ecfee8c8fdd49efdbb84fc8d59ef6548d7301f990000"),
 	/**
 	 * Color scheme name "OrRd9" - <span style="background-color:#fff7ec; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee8c8; border-style: solid;
@@ -781,15 +769,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#7f0000; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OR_RD9("OrRd9", SchemeCostants.COLOR_FFF7EC, SchemeCostants.COLOR_FEE8C8, SchemeCostants.COLOR_FDD49E, SchemeCostants.COLOR_FDBB84, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_EF6548, SchemeCostants.COLOR_D7301F, SchemeCostants.COLOR_B30000,
-			SchemeCostants.COLOR_7F0000),
+	OR_RD9("OrRd9", "fff7ecfee8c8fdd49efdbb84fc8d59ef6548d7301fb300007f0000"),
 	/**
 	 * Color scheme name "YlOrRd3" - <span style="background-color:#ffeda0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#feb24c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f03b20; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_RD3("YlOrRd3", SchemeCostants.COLOR_FFEDA0, SchemeCostants.COLOR_FEB24C, SchemeCostants.COLOR_F03B20),
+	YL_OR_RD3("YlOrRd3", "ffeda0feb24cf03b20"),
 	/**
 	 * Color scheme name "YlOrRd4" - <span style="background-color:#ffffb2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fecc5c; border-style: solid;
@@ -797,7 +784,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e31a1c;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_RD4("YlOrRd4", SchemeCostants.COLOR_FFFFB2, SchemeCostants.COLOR_FECC5C, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_E31A1C),
+	YL_OR_RD4("YlOrRd4", "ffffb2fecc5cfd8d3ce31a1c"),
 	/**
 	 * Color scheme name "YlOrRd5" - <span style="background-color:#ffffb2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fecc5c; border-style: solid;
@@ -806,7 +793,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#bd0026; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_RD5("YlOrRd5", SchemeCostants.COLOR_FFFFB2, SchemeCostants.COLOR_FECC5C, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_F03B20, SchemeCostants.COLOR_BD0026),
+	YL_OR_RD5("YlOrRd5", "ffffb2fecc5cfd8d3cf03b20bd0026"),
 	/**
 	 * Color scheme name "YlOrRd6" - <span style="background-color:#ffffb2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fed976; border-style: solid;
@@ -817,7 +804,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bd0026; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_RD6("YlOrRd6", SchemeCostants.COLOR_FFFFB2, SchemeCostants.COLOR_FED976, SchemeCostants.COLOR_FEB24C, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_F03B20, SchemeCostants.COLOR_BD0026),
+	YL_OR_RD6("YlOrRd6", "ffffb2fed976feb24cfd8d3cf03b20bd0026"),
 	/**
 	 * Color scheme name "YlOrRd7" - <span style="background-color:#ffffb2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fed976; border-style: solid;
@@ -829,7 +816,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b10026; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_RD7("YlOrRd7", SchemeCostants.COLOR_FFFFB2, SchemeCostants.COLOR_FED976, SchemeCostants.COLOR_FEB24C, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_FC4E2A, SchemeCostants.COLOR_E31A1C, SchemeCostants.COLOR_B10026),
+	YL_OR_RD7("YlOrRd7", "ffffb2fed976feb24cfd8d3cfc4e2ae31a1cb10026"),
 	/**
 	 * Color scheme name "YlOrRd8" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffeda0; border-style: solid;
@@ -842,8 +829,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b10026;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_RD8("YlOrRd8", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_FFEDA0, SchemeCostants.COLOR_FED976, SchemeCostants.COLOR_FEB24C, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_FC4E2A, SchemeCostants.COLOR_E31A1C,
-			SchemeCostants.COLOR_B10026),
+	YL_OR_RD8("YlOrRd8", "ffffccffeda0fed976feb24cfd8d3cfc4e2ae31a1cb10026"),
 	/**
 	 * Color scheme name "YlOrRd9" - <span style="background-color:#ffffcc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffeda0; border-style: solid;
@@ -857,15 +843,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#800026; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_RD9("YlOrRd9", SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_FFEDA0, SchemeCostants.COLOR_FED976, SchemeCostants.COLOR_FEB24C, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_FC4E2A, SchemeCostants.COLOR_E31A1C,
-			SchemeCostants.COLOR_BD0026, SchemeCostants.COLOR_800026),
+	YL_OR_RD9("YlOrRd9", "ffffccffeda0fed976feb24cfd8d3cfc4e2ae31a1cbd0026800026"),
 	/**
 	 * Color scheme name "YlOrBr3" - <span style="background-color:#fff7bc; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fec44f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d95f0e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_BR3("YlOrBr3", SchemeCostants.COLOR_FFF7BC, SchemeCostants.COLOR_FEC44F, SchemeCostants.COLOR_D95F0E),
+	YL_OR_BR3("YlOrBr3", "fff7bcfec44fd95f0e"),
 	/**
 	 * Color scheme name "YlOrBr4" - <span style="background-color:#ffffd4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fed98e; border-style: solid;
@@ -873,7 +858,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cc4c02;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_BR4("YlOrBr4", SchemeCostants.COLOR_FFFFD4, SchemeCostants.COLOR_FED98E, SchemeCostants.COLOR_FE9929, SchemeCostants.COLOR_CC4C02),
+	YL_OR_BR4("YlOrBr4", "ffffd4fed98efe9929cc4c02"),
 	/**
 	 * Color scheme name "YlOrBr5" - <span style="background-color:#ffffd4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fed98e; border-style: solid;
@@ -882,7 +867,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#993404; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_BR5("YlOrBr5", SchemeCostants.COLOR_FFFFD4, SchemeCostants.COLOR_FED98E, SchemeCostants.COLOR_FE9929, SchemeCostants.COLOR_D95F0E, SchemeCostants.COLOR_993404),
+	YL_OR_BR5("YlOrBr5", "ffffd4fed98efe9929d95f0e993404"),
 	/**
 	 * Color scheme name "YlOrBr6" - <span style="background-color:#ffffd4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee391; border-style: solid;
@@ -893,7 +878,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#993404; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_BR6("YlOrBr6", SchemeCostants.COLOR_FFFFD4, SchemeCostants.COLOR_FEE391, SchemeCostants.COLOR_FEC44F, SchemeCostants.COLOR_FE9929, SchemeCostants.COLOR_D95F0E, SchemeCostants.COLOR_993404),
+	YL_OR_BR6("YlOrBr6", "ffffd4fee391fec44ffe9929d95f0e993404"),
 	/**
 	 * Color scheme name "YlOrBr7" - <span style="background-color:#ffffd4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee391; border-style: solid;
@@ -905,7 +890,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8c2d04; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_BR7("YlOrBr7", SchemeCostants.COLOR_FFFFD4, SchemeCostants.COLOR_FEE391, SchemeCostants.COLOR_FEC44F, SchemeCostants.COLOR_FE9929, SchemeCostants.COLOR_EC7014, SchemeCostants.COLOR_CC4C02, SchemeCostants.COLOR_8C2D04),
+	YL_OR_BR7("YlOrBr7", "ffffd4fee391fec44ffe9929ec7014cc4c028c2d04"),
 	/**
 	 * Color scheme name "YlOrBr8" - <span style="background-color:#ffffe5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fff7bc; border-style: solid;
@@ -918,8 +903,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8c2d04;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_BR8("YlOrBr8", SchemeCostants.COLOR_FFFFE5, SchemeCostants.COLOR_FFF7BC, SchemeCostants.COLOR_FEE391, SchemeCostants.COLOR_FEC44F, SchemeCostants.COLOR_FE9929, SchemeCostants.COLOR_EC7014, SchemeCostants.COLOR_CC4C02,
-			SchemeCostants.COLOR_8C2D04),
+	YL_OR_BR8("YlOrBr8", "ffffe5fff7bcfee391fec44ffe9929ec7014cc4c028c2d04"),
 	/**
 	 * Color scheme name "YlOrBr9" - <span style="background-color:#ffffe5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fff7bc; border-style: solid;
@@ -933,15 +917,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#662506; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YL_OR_BR9("YlOrBr9", SchemeCostants.COLOR_FFFFE5, SchemeCostants.COLOR_FFF7BC, SchemeCostants.COLOR_FEE391, SchemeCostants.COLOR_FEC44F, SchemeCostants.COLOR_FE9929, SchemeCostants.COLOR_EC7014, SchemeCostants.COLOR_CC4C02,
-			SchemeCostants.COLOR_993404, SchemeCostants.COLOR_662506),
+	YL_OR_BR9("YlOrBr9", "ffffe5fff7bcfee391fec44ffe9929ec7014cc4c02993404662506"),
 	/**
 	 * Color scheme name "Purples3" - <span style="background-color:#efedf5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bcbddc; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#756bb1; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLES3("Purples3", SchemeCostants.COLOR_EFEDF5, SchemeCostants.COLOR_BCBDDC, SchemeCostants.COLOR_756BB1),
+	PURPLES3("Purples3", "efedf5bcbddc756bb1"),
 	/**
 	 * Color scheme name "Purples4" - <span style="background-color:#f2f0f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cbc9e2; border-style: solid;
@@ -949,7 +932,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6a51a3;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLES4("Purples4", SchemeCostants.COLOR_F2F0F7, SchemeCostants.COLOR_CBC9E2, SchemeCostants.COLOR_9E9AC8, SchemeCostants.COLOR_6A51A3),
+	PURPLES4("Purples4", "f2f0f7cbc9e29e9ac86a51a3"),
 	/**
 	 * Color scheme name "Purples5" - <span style="background-color:#f2f0f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cbc9e2; border-style: solid;
@@ -958,7 +941,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#54278f; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLES5("Purples5", SchemeCostants.COLOR_F2F0F7, SchemeCostants.COLOR_CBC9E2, SchemeCostants.COLOR_9E9AC8, SchemeCostants.COLOR_756BB1, SchemeCostants.COLOR_54278F),
+	PURPLES5("Purples5", "f2f0f7cbc9e29e9ac8756bb154278f"),
 	/**
 	 * Color scheme name "Purples6" - <span style="background-color:#f2f0f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dadaeb; border-style: solid;
@@ -969,7 +952,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#54278f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLES6("Purples6", SchemeCostants.COLOR_F2F0F7, SchemeCostants.COLOR_DADAEB, SchemeCostants.COLOR_BCBDDC, SchemeCostants.COLOR_9E9AC8, SchemeCostants.COLOR_756BB1, SchemeCostants.COLOR_54278F),
+	PURPLES6("Purples6", "f2f0f7dadaebbcbddc9e9ac8756bb154278f"),
 	/**
 	 * Color scheme name "Purples7" - <span style="background-color:#f2f0f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dadaeb; border-style: solid;
@@ -981,7 +964,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4a1486; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLES7("Purples7", SchemeCostants.COLOR_F2F0F7, SchemeCostants.COLOR_DADAEB, SchemeCostants.COLOR_BCBDDC, SchemeCostants.COLOR_9E9AC8, SchemeCostants.COLOR_807DBA, SchemeCostants.COLOR_6A51A3, SchemeCostants.COLOR_4A1486),
+	PURPLES7("Purples7", "f2f0f7dadaebbcbddc9e9ac8807dba6a51a34a1486"),
 	/**
 	 * Color scheme name "Purples8" - <span style="background-color:#fcfbfd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#efedf5; border-style: solid;
@@ -994,8 +977,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4a1486;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLES8("Purples8", SchemeCostants.COLOR_FCFBFD, SchemeCostants.COLOR_EFEDF5, SchemeCostants.COLOR_DADAEB, SchemeCostants.COLOR_BCBDDC, SchemeCostants.COLOR_9E9AC8, SchemeCostants.COLOR_807DBA, SchemeCostants.COLOR_6A51A3,
-			SchemeCostants.COLOR_4A1486),
+	PURPLES8("Purples8", "fcfbfdefedf5dadaebbcbddc9e9ac8807dba6a51a34a1486"),
 	/**
 	 * Color scheme name "Purples9" - <span style="background-color:#fcfbfd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#efedf5; border-style: solid;
@@ -1009,15 +991,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#3f007d; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLES9("Purples9", SchemeCostants.COLOR_FCFBFD, SchemeCostants.COLOR_EFEDF5, SchemeCostants.COLOR_DADAEB, SchemeCostants.COLOR_BCBDDC, SchemeCostants.COLOR_9E9AC8, SchemeCostants.COLOR_807DBA, SchemeCostants.COLOR_6A51A3,
-			SchemeCostants.COLOR_54278F, SchemeCostants.COLOR_3F007D),
+	PURPLES9("Purples9", "fcfbfdefedf5dadaebbcbddc9e9ac8807dba6a51a354278f3f007d"),
 	/**
 	 * Color scheme name "Blues3" - <span style="background-color:#deebf7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9ecae1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#3182bd; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUES3("Blues3", SchemeCostants.COLOR_DEEBF7, SchemeCostants.COLOR_9ECAE1, SchemeCostants.COLOR_3182BD),
+	BLUES3("Blues3", "deebf79ecae13182bd"),
 	/**
 	 * Color scheme name "Blues4" - <span style="background-color:#eff3ff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bdd7e7; border-style: solid;
@@ -1025,7 +1006,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2171b5;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUES4("Blues4", SchemeCostants.COLOR_EFF3FF, SchemeCostants.COLOR_BDD7E7, SchemeCostants.COLOR_6BAED6, SchemeCostants.COLOR_2171B5),
+	BLUES4("Blues4", "eff3ffbdd7e76baed62171b5"),
 	/**
 	 * Color scheme name "Blues5" - <span style="background-color:#eff3ff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bdd7e7; border-style: solid;
@@ -1034,7 +1015,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#08519c; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUES5("Blues5", SchemeCostants.COLOR_EFF3FF, SchemeCostants.COLOR_BDD7E7, SchemeCostants.COLOR_6BAED6, SchemeCostants.COLOR_3182BD, SchemeCostants.COLOR_08519C),
+	BLUES5("Blues5", "eff3ffbdd7e76baed63182bd08519c"),
 	/**
 	 * Color scheme name "Blues6" - <span style="background-color:#eff3ff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c6dbef; border-style: solid;
@@ -1045,7 +1026,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#08519c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUES6("Blues6", SchemeCostants.COLOR_EFF3FF, SchemeCostants.COLOR_C6DBEF, SchemeCostants.COLOR_9ECAE1, SchemeCostants.COLOR_6BAED6, SchemeCostants.COLOR_3182BD, SchemeCostants.COLOR_08519C),
+	BLUES6("Blues6", "eff3ffc6dbef9ecae16baed63182bd08519c"),
 	/**
 	 * Color scheme name "Blues7" - <span style="background-color:#eff3ff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c6dbef; border-style: solid;
@@ -1057,7 +1038,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#084594; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUES7("Blues7", SchemeCostants.COLOR_EFF3FF, SchemeCostants.COLOR_C6DBEF, SchemeCostants.COLOR_9ECAE1, SchemeCostants.COLOR_6BAED6, SchemeCostants.COLOR_4292C6, SchemeCostants.COLOR_2171B5, SchemeCostants.COLOR_084594),
+	BLUES7("Blues7", "eff3ffc6dbef9ecae16baed64292c62171b5084594"),
 	/**
 	 * Color scheme name "Blues8" - <span style="background-color:#f7fbff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#deebf7; border-style: solid;
@@ -1070,7 +1051,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#084594;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUES8("Blues8", SchemeCostants.COLOR_F7FBFF, SchemeCostants.COLOR_DEEBF7, SchemeCostants.COLOR_C6DBEF, SchemeCostants.COLOR_9ECAE1, SchemeCostants.COLOR_6BAED6, SchemeCostants.COLOR_4292C6, SchemeCostants.COLOR_2171B5, SchemeCostants.COLOR_084594),
+	BLUES8("Blues8", "f7fbffdeebf7c6dbef9ecae16baed64292c62171b5084594"),
 	/**
 	 * Color scheme name "Blues9" - <span style="background-color:#f7fbff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#deebf7; border-style: solid;
@@ -1084,15 +1065,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#08306b; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUES9("Blues9", SchemeCostants.COLOR_F7FBFF, SchemeCostants.COLOR_DEEBF7, SchemeCostants.COLOR_C6DBEF, SchemeCostants.COLOR_9ECAE1, SchemeCostants.COLOR_6BAED6, SchemeCostants.COLOR_4292C6, SchemeCostants.COLOR_2171B5, SchemeCostants.COLOR_08519C,
-			SchemeCostants.COLOR_08306B),
+	BLUES9("Blues9", "f7fbffdeebf7c6dbef9ecae16baed64292c62171b508519c08306b"),
 	/**
 	 * Color scheme name "Greens3" - <span style="background-color:#e5f5e0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a1d99b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#31a354; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREENS3("Greens3", SchemeCostants.COLOR_E5F5E0, SchemeCostants.COLOR_A1D99B, SchemeCostants.COLOR_31A354),
+	GREENS3("Greens3", "e5f5e0a1d99b31a354"),
 	/**
 	 * Color scheme name "Greens4" - <span style="background-color:#edf8e9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bae4b3; border-style: solid;
@@ -1100,7 +1080,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#238b45;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREENS4("Greens4", SchemeCostants.COLOR_EDF8E9, SchemeCostants.COLOR_BAE4B3, SchemeCostants.COLOR_74C476, SchemeCostants.COLOR_238B45),
+	GREENS4("Greens4", "edf8e9bae4b374c476238b45"),
 	/**
 	 * Color scheme name "Greens5" - <span style="background-color:#edf8e9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bae4b3; border-style: solid;
@@ -1109,7 +1089,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#006d2c; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREENS5("Greens5", SchemeCostants.COLOR_EDF8E9, SchemeCostants.COLOR_BAE4B3, SchemeCostants.COLOR_74C476, SchemeCostants.COLOR_31A354, SchemeCostants.COLOR_006D2C),
+	GREENS5("Greens5", "edf8e9bae4b374c47631a354006d2c"),
 	/**
 	 * Color scheme name "Greens6" - <span style="background-color:#edf8e9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c7e9c0; border-style: solid;
@@ -1120,7 +1100,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#006d2c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREENS6("Greens6", SchemeCostants.COLOR_EDF8E9, SchemeCostants.COLOR_C7E9C0, SchemeCostants.COLOR_A1D99B, SchemeCostants.COLOR_74C476, SchemeCostants.COLOR_31A354, SchemeCostants.COLOR_006D2C),
+	GREENS6("Greens6", "edf8e9c7e9c0a1d99b74c47631a354006d2c"),
 	/**
 	 * Color scheme name "Greens7" - <span style="background-color:#edf8e9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c7e9c0; border-style: solid;
@@ -1132,7 +1112,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#005a32; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREENS7("Greens7", SchemeCostants.COLOR_EDF8E9, SchemeCostants.COLOR_C7E9C0, SchemeCostants.COLOR_A1D99B, SchemeCostants.COLOR_74C476, SchemeCostants.COLOR_41AB5D, SchemeCostants.COLOR_238B45, SchemeCostants.COLOR_005A32),
+	GREENS7("Greens7", "edf8e9c7e9c0a1d99b74c47641ab5d238b45005a32"),
 	/**
 	 * Color scheme name "Greens8" - <span style="background-color:#f7fcf5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e5f5e0; border-style: solid;
@@ -1145,7 +1125,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#005a32;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREENS8("Greens8", SchemeCostants.COLOR_F7FCF5, SchemeCostants.COLOR_E5F5E0, SchemeCostants.COLOR_C7E9C0, SchemeCostants.COLOR_A1D99B, SchemeCostants.COLOR_74C476, SchemeCostants.COLOR_41AB5D, SchemeCostants.COLOR_238B45, SchemeCostants.COLOR_005A32),
+	GREENS8("Greens8", "f7fcf5e5f5e0c7e9c0a1d99b74c47641ab5d238b45005a32"),
 	/**
 	 * Color scheme name "Greens9" - <span style="background-color:#f7fcf5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e5f5e0; border-style: solid;
@@ -1159,15 +1139,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#00441b; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREENS9("Greens9", SchemeCostants.COLOR_F7FCF5, SchemeCostants.COLOR_E5F5E0, SchemeCostants.COLOR_C7E9C0, SchemeCostants.COLOR_A1D99B, SchemeCostants.COLOR_74C476, SchemeCostants.COLOR_41AB5D, SchemeCostants.COLOR_238B45, SchemeCostants.COLOR_006D2C,
-			SchemeCostants.COLOR_00441B),
+	GREENS9("Greens9", "f7fcf5e5f5e0c7e9c0a1d99b74c47641ab5d238b45006d2c00441b"),
 	/**
 	 * Color scheme name "Oranges3" - <span style="background-color:#fee6ce; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdae6b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e6550d; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGES3("Oranges3", SchemeCostants.COLOR_FEE6CE, SchemeCostants.COLOR_FDAE6B, SchemeCostants.COLOR_E6550D),
+	ORANGES3("Oranges3", "fee6cefdae6be6550d"),
 	/**
 	 * Color scheme name "Oranges4" - <span style="background-color:#feedde; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdbe85; border-style: solid;
@@ -1175,7 +1154,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d94701;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGES4("Oranges4", SchemeCostants.COLOR_FEEDDE, SchemeCostants.COLOR_FDBE85, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_D94701),
+	ORANGES4("Oranges4", "feeddefdbe85fd8d3cd94701"),
 	/**
 	 * Color scheme name "Oranges5" - <span style="background-color:#feedde; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdbe85; border-style: solid;
@@ -1184,7 +1163,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#a63603; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGES5("Oranges5", SchemeCostants.COLOR_FEEDDE, SchemeCostants.COLOR_FDBE85, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_E6550D, SchemeCostants.COLOR_A63603),
+	ORANGES5("Oranges5", "feeddefdbe85fd8d3ce6550da63603"),
 	/**
 	 * Color scheme name "Oranges6" - <span style="background-color:#feedde; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdd0a2; border-style: solid;
@@ -1195,7 +1174,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a63603; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGES6("Oranges6", SchemeCostants.COLOR_FEEDDE, SchemeCostants.COLOR_FDD0A2, SchemeCostants.COLOR_FDAE6B, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_E6550D, SchemeCostants.COLOR_A63603),
+	ORANGES6("Oranges6", "feeddefdd0a2fdae6bfd8d3ce6550da63603"),
 	/**
 	 * Color scheme name "Oranges7" - <span style="background-color:#feedde; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdd0a2; border-style: solid;
@@ -1207,7 +1186,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8c2d04; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGES7("Oranges7", SchemeCostants.COLOR_FEEDDE, SchemeCostants.COLOR_FDD0A2, SchemeCostants.COLOR_FDAE6B, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_F16913, SchemeCostants.COLOR_D94801, SchemeCostants.COLOR_8C2D04),
+	ORANGES7("Oranges7", "feeddefdd0a2fdae6bfd8d3cf16913d948018c2d04"),
 	/**
 	 * Color scheme name "Oranges8" - <span style="background-color:#fff5eb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee6ce; border-style: solid;
@@ -1220,8 +1199,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8c2d04;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGES8("Oranges8", SchemeCostants.COLOR_FFF5EB, SchemeCostants.COLOR_FEE6CE, SchemeCostants.COLOR_FDD0A2, SchemeCostants.COLOR_FDAE6B, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_F16913, SchemeCostants.COLOR_D94801,
-			SchemeCostants.COLOR_8C2D04),
+	ORANGES8("Oranges8", "fff5ebfee6cefdd0a2fdae6bfd8d3cf16913d948018c2d04"),
 	/**
 	 * Color scheme name "Oranges9" - <span style="background-color:#fff5eb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee6ce; border-style: solid;
@@ -1235,15 +1213,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#7f2704; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGES9("Oranges9", SchemeCostants.COLOR_FFF5EB, SchemeCostants.COLOR_FEE6CE, SchemeCostants.COLOR_FDD0A2, SchemeCostants.COLOR_FDAE6B, SchemeCostants.COLOR_FD8D3C, SchemeCostants.COLOR_F16913, SchemeCostants.COLOR_D94801,
-			SchemeCostants.COLOR_A63603, SchemeCostants.COLOR_7F2704),
+	ORANGES9("Oranges9", "fff5ebfee6cefdd0a2fdae6bfd8d3cf16913d94801a636037f2704"),
 	/**
 	 * Color scheme name "Reds3" - <span style="background-color:#fee0d2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc9272; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#de2d26; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REDS3("Reds3", SchemeCostants.COLOR_FEE0D2, SchemeCostants.COLOR_FC9272, SchemeCostants.COLOR_DE2D26),
+	REDS3("Reds3", "fee0d2fc9272de2d26"),
 	/**
 	 * Color scheme name "Reds4" - <span style="background-color:#fee5d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcae91; border-style: solid;
@@ -1251,7 +1228,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cb181d;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REDS4("Reds4", SchemeCostants.COLOR_FEE5D9, SchemeCostants.COLOR_FCAE91, SchemeCostants.COLOR_FB6A4A, SchemeCostants.COLOR_CB181D),
+	REDS4("Reds4", "fee5d9fcae91fb6a4acb181d"),
 	/**
 	 * Color scheme name "Reds5" - <span style="background-color:#fee5d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcae91; border-style: solid;
@@ -1260,7 +1237,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#a50f15; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REDS5("Reds5", SchemeCostants.COLOR_FEE5D9, SchemeCostants.COLOR_FCAE91, SchemeCostants.COLOR_FB6A4A, SchemeCostants.COLOR_DE2D26, SchemeCostants.COLOR_A50F15),
+	REDS5("Reds5", "fee5d9fcae91fb6a4ade2d26a50f15"),
 	/**
 	 * Color scheme name "Reds6" - <span style="background-color:#fee5d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcbba1; border-style: solid;
@@ -1271,7 +1248,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a50f15; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REDS6("Reds6", SchemeCostants.COLOR_FEE5D9, SchemeCostants.COLOR_FCBBA1, SchemeCostants.COLOR_FC9272, SchemeCostants.COLOR_FB6A4A, SchemeCostants.COLOR_DE2D26, SchemeCostants.COLOR_A50F15),
+	REDS6("Reds6", "fee5d9fcbba1fc9272fb6a4ade2d26a50f15"),
 	/**
 	 * Color scheme name "Reds7" - <span style="background-color:#fee5d9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcbba1; border-style: solid;
@@ -1283,7 +1260,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#99000d; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REDS7("Reds7", SchemeCostants.COLOR_FEE5D9, SchemeCostants.COLOR_FCBBA1, SchemeCostants.COLOR_FC9272, SchemeCostants.COLOR_FB6A4A, SchemeCostants.COLOR_EF3B2C, SchemeCostants.COLOR_CB181D, SchemeCostants.COLOR_99000D),
+	REDS7("Reds7", "fee5d9fcbba1fc9272fb6a4aef3b2ccb181d99000d"),
 	/**
 	 * Color scheme name "Reds8" - <span style="background-color:#fff5f0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee0d2; border-style: solid;
@@ -1296,7 +1273,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#99000d;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REDS8("Reds8", SchemeCostants.COLOR_FFF5F0, SchemeCostants.COLOR_FEE0D2, SchemeCostants.COLOR_FCBBA1, SchemeCostants.COLOR_FC9272, SchemeCostants.COLOR_FB6A4A, SchemeCostants.COLOR_EF3B2C, SchemeCostants.COLOR_CB181D, SchemeCostants.COLOR_99000D),
+	REDS8("Reds8", "fff5f0fee0d2fcbba1fc9272fb6a4aef3b2ccb181d99000d"),
 	/**
 	 * Color scheme name "Reds9" - <span style="background-color:#fff5f0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fee0d2; border-style: solid;
@@ -1310,15 +1287,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#67000d; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REDS9("Reds9", SchemeCostants.COLOR_FFF5F0, SchemeCostants.COLOR_FEE0D2, SchemeCostants.COLOR_FCBBA1, SchemeCostants.COLOR_FC9272, SchemeCostants.COLOR_FB6A4A, SchemeCostants.COLOR_EF3B2C, SchemeCostants.COLOR_CB181D, SchemeCostants.COLOR_A50F15,
-			SchemeCostants.COLOR_67000D),
+	REDS9("Reds9", "fff5f0fee0d2fcbba1fc9272fb6a4aef3b2ccb181da50f1567000d"),
 	/**
 	 * Color scheme name "Greys3" - <span style="background-color:#f0f0f0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bdbdbd; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#636363; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREYS3("Greys3", SchemeCostants.COLOR_F0F0F0, SchemeCostants.COLOR_BDBDBD, SchemeCostants.COLOR_636363),
+	GREYS3("Greys3", "f0f0f0bdbdbd636363"),
 	/**
 	 * Color scheme name "Greys4" - <span style="background-color:#f7f7f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cccccc; border-style: solid;
@@ -1326,7 +1302,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#525252;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREYS4("Greys4", SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_CCCCCC, SchemeCostants.COLOR_969696, SchemeCostants.COLOR_525252),
+	GREYS4("Greys4", "f7f7f7cccccc969696525252"),
 	/**
 	 * Color scheme name "Greys5" - <span style="background-color:#f7f7f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cccccc; border-style: solid;
@@ -1335,7 +1311,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#252525; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREYS5("Greys5", SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_CCCCCC, SchemeCostants.COLOR_969696, SchemeCostants.COLOR_636363, SchemeCostants.COLOR_252525),
+	GREYS5("Greys5", "f7f7f7cccccc969696636363252525"),
 	/**
 	 * Color scheme name "Greys6" - <span style="background-color:#f7f7f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d9d9d9; border-style: solid;
@@ -1346,7 +1322,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#252525; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREYS6("Greys6", SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_BDBDBD, SchemeCostants.COLOR_969696, SchemeCostants.COLOR_636363, SchemeCostants.COLOR_252525),
+	GREYS6("Greys6", "f7f7f7d9d9d9bdbdbd969696636363252525"),
 	/**
 	 * Color scheme name "Greys7" - <span style="background-color:#f7f7f7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d9d9d9; border-style: solid;
@@ -1358,7 +1334,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#252525; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREYS7("Greys7", SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_BDBDBD, SchemeCostants.COLOR_969696, SchemeCostants.COLOR_737373, SchemeCostants.COLOR_525252, SchemeCostants.COLOR_252525),
+	GREYS7("Greys7", "f7f7f7d9d9d9bdbdbd969696737373525252252525"),
 	/**
 	 * Color scheme name "Greys8" - <span style="background-color:#FFFFFF; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f0f0f0; border-style: solid;
@@ -1371,7 +1347,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#252525;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREYS8("Greys8", SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_F0F0F0, SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_BDBDBD, SchemeCostants.COLOR_969696, SchemeCostants.COLOR_737373, SchemeCostants.COLOR_525252, SchemeCostants.COLOR_252525),
+	GREYS8("Greys8", "fffffff0f0f0d9d9d9bdbdbd969696737373525252252525"),
 	/**
 	 * Color scheme name "Greys9" - <span style="background-color:#FFFFFF; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f0f0f0; border-style: solid;
@@ -1385,15 +1361,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#000000; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREYS9("Greys9", SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_F0F0F0, SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_BDBDBD, SchemeCostants.COLOR_969696, SchemeCostants.COLOR_737373, SchemeCostants.COLOR_525252, SchemeCostants.COLOR_252525,
-			SchemeCostants.COLOR_000000),
+	GREYS9("Greys9", "fffffff0f0f0d9d9d9bdbdbd969696737373525252252525000000"),
 	/**
 	 * Color scheme name "PuOr3" - <span style="background-color:#f1a340; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f7f7f7; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#998ec3; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR3("PuOr3", SchemeCostants.COLOR_F1A340, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_998EC3),
+	PU_OR3("PuOr3", "f1a340f7f7f7998ec3"),
 	/**
 	 * Color scheme name "PuOr4" - <span style="background-color:#e66101; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdb863; border-style: solid;
@@ -1401,7 +1376,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5e3c99;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR4("PuOr4", SchemeCostants.COLOR_E66101, SchemeCostants.COLOR_FDB863, SchemeCostants.COLOR_B2ABD2, SchemeCostants.COLOR_5E3C99),
+	PU_OR4("PuOr4", "e66101fdb863b2abd25e3c99"),
 	/**
 	 * Color scheme name "PuOr5" - <span style="background-color:#e66101; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdb863; border-style: solid;
@@ -1410,7 +1385,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#5e3c99; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR5("PuOr5", SchemeCostants.COLOR_E66101, SchemeCostants.COLOR_FDB863, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_B2ABD2, SchemeCostants.COLOR_5E3C99),
+	PU_OR5("PuOr5", "e66101fdb863f7f7f7b2abd25e3c99"),
 	/**
 	 * Color scheme name "PuOr6" - <span style="background-color:#b35806; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f1a340; border-style: solid;
@@ -1421,7 +1396,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#542788; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR6("PuOr6", SchemeCostants.COLOR_B35806, SchemeCostants.COLOR_F1A340, SchemeCostants.COLOR_FEE0B6, SchemeCostants.COLOR_D8DAEB, SchemeCostants.COLOR_998EC3, SchemeCostants.COLOR_542788),
+	PU_OR6("PuOr6", "b35806f1a340fee0b6d8daeb998ec3542788"),
 	/**
 	 * Color scheme name "PuOr7" - <span style="background-color:#b35806; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f1a340; border-style: solid;
@@ -1433,7 +1408,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#542788; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR7("PuOr7", SchemeCostants.COLOR_B35806, SchemeCostants.COLOR_F1A340, SchemeCostants.COLOR_FEE0B6, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D8DAEB, SchemeCostants.COLOR_998EC3, SchemeCostants.COLOR_542788),
+	PU_OR7("PuOr7", "b35806f1a340fee0b6f7f7f7d8daeb998ec3542788"),
 	/**
 	 * Color scheme name "PuOr8" - <span style="background-color:#b35806; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e08214; border-style: solid;
@@ -1446,7 +1421,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#542788;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR8("PuOr8", SchemeCostants.COLOR_B35806, SchemeCostants.COLOR_E08214, SchemeCostants.COLOR_FDB863, SchemeCostants.COLOR_FEE0B6, SchemeCostants.COLOR_D8DAEB, SchemeCostants.COLOR_B2ABD2, SchemeCostants.COLOR_8073AC, SchemeCostants.COLOR_542788),
+	PU_OR8("PuOr8", "b35806e08214fdb863fee0b6d8daebb2abd28073ac542788"),
 	/**
 	 * Color scheme name "PuOr9" - <span style="background-color:#b35806; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e08214; border-style: solid;
@@ -1460,8 +1435,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#542788; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR9("PuOr9", SchemeCostants.COLOR_B35806, SchemeCostants.COLOR_E08214, SchemeCostants.COLOR_FDB863, SchemeCostants.COLOR_FEE0B6, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D8DAEB, SchemeCostants.COLOR_B2ABD2, SchemeCostants.COLOR_8073AC,
-			SchemeCostants.COLOR_542788),
+	PU_OR9("PuOr9", "b35806e08214fdb863fee0b6f7f7f7d8daebb2abd28073ac542788"),
 	/**
 	 * Color scheme name "PuOr10" - <span style="background-color:#7f3b08; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b35806; border-style: solid;
@@ -1477,8 +1451,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2d004b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR10("PuOr10", SchemeCostants.COLOR_7F3B08, SchemeCostants.COLOR_B35806, SchemeCostants.COLOR_E08214, SchemeCostants.COLOR_FDB863, SchemeCostants.COLOR_FEE0B6, SchemeCostants.COLOR_D8DAEB, SchemeCostants.COLOR_B2ABD2, SchemeCostants.COLOR_8073AC,
-			SchemeCostants.COLOR_542788, SchemeCostants.COLOR_2D004B),
+	PU_OR10("PuOr10", "7f3b08b35806e08214fdb863fee0b6d8daebb2abd28073ac5427882d004b"),
 	/**
 	 * Color scheme name "PuOr11" - <span style="background-color:#7f3b08; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b35806; border-style: solid;
@@ -1495,15 +1468,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2d004b; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PU_OR11("PuOr11", SchemeCostants.COLOR_7F3B08, SchemeCostants.COLOR_B35806, SchemeCostants.COLOR_E08214, SchemeCostants.COLOR_FDB863, SchemeCostants.COLOR_FEE0B6, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D8DAEB, SchemeCostants.COLOR_B2ABD2,
-			SchemeCostants.COLOR_8073AC, SchemeCostants.COLOR_542788, SchemeCostants.COLOR_2D004B),
+	PU_OR11("PuOr11", "7f3b08b35806e08214fdb863fee0b6f7f7f7d8daebb2abd28073ac5427882d004b"),
 	/**
 	 * Color scheme name "BrBG3" - <span style="background-color:#d8b365; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#F5F5F5; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5ab4ac; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G3("BrBG3", SchemeCostants.COLOR_D8B365, SchemeCostants.COLOR_F5F5F5, SchemeCostants.COLOR_5AB4AC),
+	BR_B_G3("BrBG3", "d8b365f5f5f55ab4ac"),
 	/**
 	 * Color scheme name "BrBG4" - <span style="background-color:#a6611a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dfc27d; border-style: solid;
@@ -1511,7 +1483,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#018571;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G4("BrBG4", SchemeCostants.COLOR_A6611A, SchemeCostants.COLOR_DFC27D, SchemeCostants.COLOR_80CDC1, SchemeCostants.COLOR_018571),
+	BR_B_G4("BrBG4", "a6611adfc27d80cdc1018571"),
 	/**
 	 * Color scheme name "BrBG5" - <span style="background-color:#a6611a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dfc27d; border-style: solid;
@@ -1520,7 +1492,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#018571; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G5("BrBG5", SchemeCostants.COLOR_A6611A, SchemeCostants.COLOR_DFC27D, SchemeCostants.COLOR_F5F5F5, SchemeCostants.COLOR_80CDC1, SchemeCostants.COLOR_018571),
+	BR_B_G5("BrBG5", "a6611adfc27df5f5f580cdc1018571"),
 	/**
 	 * Color scheme name "BrBG6" - <span style="background-color:#8c510a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d8b365; border-style: solid;
@@ -1531,7 +1503,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#01665e; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G6("BrBG6", SchemeCostants.COLOR_8C510A, SchemeCostants.COLOR_D8B365, SchemeCostants.COLOR_F6E8C3, SchemeCostants.COLOR_C7EAE5, SchemeCostants.COLOR_5AB4AC, SchemeCostants.COLOR_01665E),
+	BR_B_G6("BrBG6", "8c510ad8b365f6e8c3c7eae55ab4ac01665e"),
 	/**
 	 * Color scheme name "BrBG7" - <span style="background-color:#8c510a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d8b365; border-style: solid;
@@ -1543,7 +1515,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#01665e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G7("BrBG7", SchemeCostants.COLOR_8C510A, SchemeCostants.COLOR_D8B365, SchemeCostants.COLOR_F6E8C3, SchemeCostants.COLOR_F5F5F5, SchemeCostants.COLOR_C7EAE5, SchemeCostants.COLOR_5AB4AC, SchemeCostants.COLOR_01665E),
+	BR_B_G7("BrBG7", "8c510ad8b365f6e8c3f5f5f5c7eae55ab4ac01665e"),
 	/**
 	 * Color scheme name "BrBG8" - <span style="background-color:#8c510a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bf812d; border-style: solid;
@@ -1556,7 +1528,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#01665e;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G8("BrBG8", SchemeCostants.COLOR_8C510A, SchemeCostants.COLOR_BF812D, SchemeCostants.COLOR_DFC27D, SchemeCostants.COLOR_F6E8C3, SchemeCostants.COLOR_C7EAE5, SchemeCostants.COLOR_80CDC1, SchemeCostants.COLOR_35978F, SchemeCostants.COLOR_01665E),
+	BR_B_G8("BrBG8", "8c510abf812ddfc27df6e8c3c7eae580cdc135978f01665e"),
 	/**
 	 * Color scheme name "BrBG9" - <span style="background-color:#8c510a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bf812d; border-style: solid;
@@ -1570,8 +1542,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#01665e; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G9("BrBG9", SchemeCostants.COLOR_8C510A, SchemeCostants.COLOR_BF812D, SchemeCostants.COLOR_DFC27D, SchemeCostants.COLOR_F6E8C3, SchemeCostants.COLOR_F5F5F5, SchemeCostants.COLOR_C7EAE5, SchemeCostants.COLOR_80CDC1, SchemeCostants.COLOR_35978F,
-			SchemeCostants.COLOR_01665E),
+	BR_B_G9("BrBG9", "8c510abf812ddfc27df6e8c3f5f5f5c7eae580cdc135978f01665e"),
 	/**
 	 * Color scheme name "BrBG10" - <span style="background-color:#543005; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8c510a; border-style: solid;
@@ -1587,8 +1558,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#003c30; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G10("BrBG10", SchemeCostants.COLOR_543005, SchemeCostants.COLOR_8C510A, SchemeCostants.COLOR_BF812D, SchemeCostants.COLOR_DFC27D, SchemeCostants.COLOR_F6E8C3, SchemeCostants.COLOR_C7EAE5, SchemeCostants.COLOR_80CDC1, SchemeCostants.COLOR_35978F,
-			SchemeCostants.COLOR_01665E, SchemeCostants.COLOR_003C30),
+	BR_B_G10("BrBG10", "5430058c510abf812ddfc27df6e8c3c7eae580cdc135978f01665e003c30"),
 	/**
 	 * Color scheme name "BrBG11" - <span style="background-color:#543005; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8c510a; border-style: solid;
@@ -1605,15 +1575,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#003c30; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BR_B_G11("BrBG11", SchemeCostants.COLOR_543005, SchemeCostants.COLOR_8C510A, SchemeCostants.COLOR_BF812D, SchemeCostants.COLOR_DFC27D, SchemeCostants.COLOR_F6E8C3, SchemeCostants.COLOR_F5F5F5, SchemeCostants.COLOR_C7EAE5, SchemeCostants.COLOR_80CDC1,
-			SchemeCostants.COLOR_35978F, SchemeCostants.COLOR_01665E, SchemeCostants.COLOR_003C30),
+	BR_B_G11("BrBG11", "5430058c510abf812ddfc27df6e8c3f5f5f5c7eae580cdc135978f01665e003c30"),
 	/**
 	 * Color scheme name "PRGn3" - <span style="background-color:#af8dc3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f7f7f7; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7fbf7b; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN3("PRGn3", SchemeCostants.COLOR_AF8DC3, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_7FBF7B),
+	P_R_GN3("PRGn3", "af8dc3f7f7f77fbf7b"),
 	/**
 	 * Color scheme name "PRGn4" - <span style="background-color:#7b3294; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c2a5cf; border-style: solid;
@@ -1621,7 +1590,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#008837;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN4("PRGn4", SchemeCostants.COLOR_7B3294, SchemeCostants.COLOR_C2A5CF, SchemeCostants.COLOR_A6DBA0, SchemeCostants.COLOR_008837),
+	P_R_GN4("PRGn4", "7b3294c2a5cfa6dba0008837"),
 	/**
 	 * Color scheme name "PRGn5" - <span style="background-color:#7b3294; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c2a5cf; border-style: solid;
@@ -1630,7 +1599,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#008837; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN5("PRGn5", SchemeCostants.COLOR_7B3294, SchemeCostants.COLOR_C2A5CF, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_A6DBA0, SchemeCostants.COLOR_008837),
+	P_R_GN5("PRGn5", "7b3294c2a5cff7f7f7a6dba0008837"),
 	/**
 	 * Color scheme name "PRGn6" - <span style="background-color:#762a83; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#af8dc3; border-style: solid;
@@ -1641,7 +1610,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1b7837; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN6("PRGn6", SchemeCostants.COLOR_762A83, SchemeCostants.COLOR_AF8DC3, SchemeCostants.COLOR_E7D4E8, SchemeCostants.COLOR_D9F0D3, SchemeCostants.COLOR_7FBF7B, SchemeCostants.COLOR_1B7837),
+	P_R_GN6("PRGn6", "762a83af8dc3e7d4e8d9f0d37fbf7b1b7837"),
 	/**
 	 * Color scheme name "PRGn7" - <span style="background-color:#762a83; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#af8dc3; border-style: solid;
@@ -1653,7 +1622,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1b7837; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN7("PRGn7", SchemeCostants.COLOR_762A83, SchemeCostants.COLOR_AF8DC3, SchemeCostants.COLOR_E7D4E8, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D9F0D3, SchemeCostants.COLOR_7FBF7B, SchemeCostants.COLOR_1B7837),
+	P_R_GN7("PRGn7", "762a83af8dc3e7d4e8f7f7f7d9f0d37fbf7b1b7837"),
 	/**
 	 * Color scheme name "PRGn8" - <span style="background-color:#762a83; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9970ab; border-style: solid;
@@ -1666,7 +1635,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1b7837;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN8("PRGn8", SchemeCostants.COLOR_762A83, SchemeCostants.COLOR_9970AB, SchemeCostants.COLOR_C2A5CF, SchemeCostants.COLOR_E7D4E8, SchemeCostants.COLOR_D9F0D3, SchemeCostants.COLOR_A6DBA0, SchemeCostants.COLOR_5AAE61, SchemeCostants.COLOR_1B7837),
+	P_R_GN8("PRGn8", "762a839970abc2a5cfe7d4e8d9f0d3a6dba05aae611b7837"),
 	/**
 	 * Color scheme name "PRGn9" - <span style="background-color:#762a83; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9970ab; border-style: solid;
@@ -1680,8 +1649,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#1b7837; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN9("PRGn9", SchemeCostants.COLOR_762A83, SchemeCostants.COLOR_9970AB, SchemeCostants.COLOR_C2A5CF, SchemeCostants.COLOR_E7D4E8, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D9F0D3, SchemeCostants.COLOR_A6DBA0, SchemeCostants.COLOR_5AAE61,
-			SchemeCostants.COLOR_1B7837),
+	P_R_GN9("PRGn9", "762a839970abc2a5cfe7d4e8f7f7f7d9f0d3a6dba05aae611b7837"),
 	/**
 	 * Color scheme name "PRGn10" - <span style="background-color:#40004b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#762a83; border-style: solid;
@@ -1697,8 +1665,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#00441b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN10("PRGn10", SchemeCostants.COLOR_40004B, SchemeCostants.COLOR_762A83, SchemeCostants.COLOR_9970AB, SchemeCostants.COLOR_C2A5CF, SchemeCostants.COLOR_E7D4E8, SchemeCostants.COLOR_D9F0D3, SchemeCostants.COLOR_A6DBA0, SchemeCostants.COLOR_5AAE61,
-			SchemeCostants.COLOR_1B7837, SchemeCostants.COLOR_00441B),
+	P_R_GN10("PRGn10", "40004b762a839970abc2a5cfe7d4e8d9f0d3a6dba05aae611b783700441b"),
 	/**
 	 * Color scheme name "PRGn11" - <span style="background-color:#40004b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#762a83; border-style: solid;
@@ -1715,15 +1682,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#00441b; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	P_R_GN11("PRGn11", SchemeCostants.COLOR_40004B, SchemeCostants.COLOR_762A83, SchemeCostants.COLOR_9970AB, SchemeCostants.COLOR_C2A5CF, SchemeCostants.COLOR_E7D4E8, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D9F0D3, SchemeCostants.COLOR_A6DBA0,
-			SchemeCostants.COLOR_5AAE61, SchemeCostants.COLOR_1B7837, SchemeCostants.COLOR_00441B),
+	P_R_GN11("PRGn11", "40004b762a839970abc2a5cfe7d4e8f7f7f7d9f0d3a6dba05aae611b783700441b"),
 	/**
 	 * Color scheme name "PiYG3" - <span style="background-color:#e9a3c9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f7f7f7; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a1d76a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G3("PiYG3", SchemeCostants.COLOR_E9A3C9, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_A1D76A),
+	PI_Y_G3("PiYG3", "e9a3c9f7f7f7a1d76a"),
 	/**
 	 * Color scheme name "PiYG4" - <span style="background-color:#d01c8b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f1b6da; border-style: solid;
@@ -1731,7 +1697,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4dac26;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G4("PiYG4", SchemeCostants.COLOR_D01C8B, SchemeCostants.COLOR_F1B6DA, SchemeCostants.COLOR_B8E186, SchemeCostants.COLOR_4DAC26),
+	PI_Y_G4("PiYG4", "d01c8bf1b6dab8e1864dac26"),
 	/**
 	 * Color scheme name "PiYG5" - <span style="background-color:#d01c8b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f1b6da; border-style: solid;
@@ -1740,7 +1706,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#4dac26; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G5("PiYG5", SchemeCostants.COLOR_D01C8B, SchemeCostants.COLOR_F1B6DA, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_B8E186, SchemeCostants.COLOR_4DAC26),
+	PI_Y_G5("PiYG5", "d01c8bf1b6daf7f7f7b8e1864dac26"),
 	/**
 	 * Color scheme name "PiYG6" - <span style="background-color:#c51b7d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e9a3c9; border-style: solid;
@@ -1751,7 +1717,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4d9221; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G6("PiYG6", SchemeCostants.COLOR_C51B7D, SchemeCostants.COLOR_E9A3C9, SchemeCostants.COLOR_FDE0EF, SchemeCostants.COLOR_E6F5D0, SchemeCostants.COLOR_A1D76A, SchemeCostants.COLOR_4D9221),
+	PI_Y_G6("PiYG6", "c51b7de9a3c9fde0efe6f5d0a1d76a4d9221"),
 	/**
 	 * Color scheme name "PiYG7" - <span style="background-color:#c51b7d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e9a3c9; border-style: solid;
@@ -1763,7 +1729,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4d9221; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G7("PiYG7", SchemeCostants.COLOR_C51B7D, SchemeCostants.COLOR_E9A3C9, SchemeCostants.COLOR_FDE0EF, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_E6F5D0, SchemeCostants.COLOR_A1D76A, SchemeCostants.COLOR_4D9221),
+	PI_Y_G7("PiYG7", "c51b7de9a3c9fde0eff7f7f7e6f5d0a1d76a4d9221"),
 	/**
 	 * Color scheme name "PiYG8" - <span style="background-color:#c51b7d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#de77ae; border-style: solid;
@@ -1776,7 +1742,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4d9221;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G8("PiYG8", SchemeCostants.COLOR_C51B7D, SchemeCostants.COLOR_DE77AE, SchemeCostants.COLOR_F1B6DA, SchemeCostants.COLOR_FDE0EF, SchemeCostants.COLOR_E6F5D0, SchemeCostants.COLOR_B8E186, SchemeCostants.COLOR_7FBC41, SchemeCostants.COLOR_4D9221),
+	PI_Y_G8("PiYG8", "c51b7dde77aef1b6dafde0efe6f5d0b8e1867fbc414d9221"),
 	/**
 	 * Color scheme name "PiYG9" - <span style="background-color:#c51b7d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#de77ae; border-style: solid;
@@ -1790,8 +1756,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#4d9221; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G9("PiYG9", SchemeCostants.COLOR_C51B7D, SchemeCostants.COLOR_DE77AE, SchemeCostants.COLOR_F1B6DA, SchemeCostants.COLOR_FDE0EF, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_E6F5D0, SchemeCostants.COLOR_B8E186, SchemeCostants.COLOR_7FBC41,
-			SchemeCostants.COLOR_4D9221),
+	PI_Y_G9("PiYG9", "c51b7dde77aef1b6dafde0eff7f7f7e6f5d0b8e1867fbc414d9221"),
 	/**
 	 * Color scheme name "PiYG10" - <span style="background-color:#8e0152; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c51b7d; border-style: solid;
@@ -1807,8 +1772,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#276419; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G10("PiYG10", SchemeCostants.COLOR_8E0152, SchemeCostants.COLOR_C51B7D, SchemeCostants.COLOR_DE77AE, SchemeCostants.COLOR_F1B6DA, SchemeCostants.COLOR_FDE0EF, SchemeCostants.COLOR_E6F5D0, SchemeCostants.COLOR_B8E186, SchemeCostants.COLOR_7FBC41,
-			SchemeCostants.COLOR_4D9221, SchemeCostants.COLOR_276419),
+	PI_Y_G10("PiYG10", "8e0152c51b7dde77aef1b6dafde0efe6f5d0b8e1867fbc414d9221276419"),
 	/**
 	 * Color scheme name "PiYG11" - <span style="background-color:#8e0152; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c51b7d; border-style: solid;
@@ -1825,15 +1789,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#276419; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PI_Y_G11("PiYG11", SchemeCostants.COLOR_8E0152, SchemeCostants.COLOR_C51B7D, SchemeCostants.COLOR_DE77AE, SchemeCostants.COLOR_F1B6DA, SchemeCostants.COLOR_FDE0EF, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_E6F5D0, SchemeCostants.COLOR_B8E186,
-			SchemeCostants.COLOR_7FBC41, SchemeCostants.COLOR_4D9221, SchemeCostants.COLOR_276419),
+	PI_Y_G11("PiYG11", "8e0152c51b7dde77aef1b6dafde0eff7f7f7e6f5d0b8e1867fbc414d9221276419"),
 	/**
 	 * Color scheme name "RdBu3" - <span style="background-color:#ef8a62; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f7f7f7; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#67a9cf; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU3("RdBu3", SchemeCostants.COLOR_EF8A62, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_67A9CF),
+	RD_BU3("RdBu3", "ef8a62f7f7f767a9cf"),
 	/**
 	 * Color scheme name "RdBu4" - <span style="background-color:#ca0020; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f4a582; border-style: solid;
@@ -1841,7 +1804,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0571b0;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU4("RdBu4", SchemeCostants.COLOR_CA0020, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_92C5DE, SchemeCostants.COLOR_0571B0),
+	RD_BU4("RdBu4", "ca0020f4a58292c5de0571b0"),
 	/**
 	 * Color scheme name "RdBu5" - <span style="background-color:#ca0020; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f4a582; border-style: solid;
@@ -1850,7 +1813,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#0571b0; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU5("RdBu5", SchemeCostants.COLOR_CA0020, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_92C5DE, SchemeCostants.COLOR_0571B0),
+	RD_BU5("RdBu5", "ca0020f4a582f7f7f792c5de0571b0"),
 	/**
 	 * Color scheme name "RdBu6" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ef8a62; border-style: solid;
@@ -1861,7 +1824,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2166ac; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU6("RdBu6", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_EF8A62, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_D1E5F0, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_2166AC),
+	RD_BU6("RdBu6", "b2182bef8a62fddbc7d1e5f067a9cf2166ac"),
 	/**
 	 * Color scheme name "RdBu7" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ef8a62; border-style: solid;
@@ -1873,7 +1836,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2166ac; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU7("RdBu7", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_EF8A62, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D1E5F0, SchemeCostants.COLOR_67A9CF, SchemeCostants.COLOR_2166AC),
+	RD_BU7("RdBu7", "b2182bef8a62fddbc7f7f7f7d1e5f067a9cf2166ac"),
 	/**
 	 * Color scheme name "RdBu8" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d6604d; border-style: solid;
@@ -1886,7 +1849,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2166ac;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU8("RdBu8", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_D1E5F0, SchemeCostants.COLOR_92C5DE, SchemeCostants.COLOR_4393C3, SchemeCostants.COLOR_2166AC),
+	RD_BU8("RdBu8", "b2182bd6604df4a582fddbc7d1e5f092c5de4393c32166ac"),
 	/**
 	 * Color scheme name "RdBu9" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d6604d; border-style: solid;
@@ -1900,8 +1863,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#2166ac; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU9("RdBu9", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D1E5F0, SchemeCostants.COLOR_92C5DE, SchemeCostants.COLOR_4393C3,
-			SchemeCostants.COLOR_2166AC),
+	RD_BU9("RdBu9", "b2182bd6604df4a582fddbc7f7f7f7d1e5f092c5de4393c32166ac"),
 	/**
 	 * Color scheme name "RdBu10" - <span style="background-color:#67001f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2182b; border-style: solid;
@@ -1917,8 +1879,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#053061; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU10("RdBu10", SchemeCostants.COLOR_67001F, SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_D1E5F0, SchemeCostants.COLOR_92C5DE, SchemeCostants.COLOR_4393C3,
-			SchemeCostants.COLOR_2166AC, SchemeCostants.COLOR_053061),
+	RD_BU10("RdBu10", "67001fb2182bd6604df4a582fddbc7d1e5f092c5de4393c32166ac053061"),
 	/**
 	 * Color scheme name "RdBu11" - <span style="background-color:#67001f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2182b; border-style: solid;
@@ -1935,15 +1896,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#053061; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_BU11("RdBu11", SchemeCostants.COLOR_67001F, SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_F7F7F7, SchemeCostants.COLOR_D1E5F0, SchemeCostants.COLOR_92C5DE,
-			SchemeCostants.COLOR_4393C3, SchemeCostants.COLOR_2166AC, SchemeCostants.COLOR_053061),
+	RD_BU11("RdBu11", "67001fb2182bd6604df4a582fddbc7f7f7f7d1e5f092c5de4393c32166ac053061"),
 	/**
 	 * Color scheme name "RdGy3" - <span style="background-color:#ef8a62; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#FFFFFF; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#999999; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY3("RdGy3", SchemeCostants.COLOR_EF8A62, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_999999),
+	RD_GY3("RdGy3", "ef8a62ffffff999999"),
 	/**
 	 * Color scheme name "RdGy4" - <span style="background-color:#ca0020; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f4a582; border-style: solid;
@@ -1951,7 +1911,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#404040;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY4("RdGy4", SchemeCostants.COLOR_CA0020, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_BABABA, SchemeCostants.COLOR_404040),
+	RD_GY4("RdGy4", "ca0020f4a582bababa404040"),
 	/**
 	 * Color scheme name "RdGy5" - <span style="background-color:#ca0020; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f4a582; border-style: solid;
@@ -1960,7 +1920,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#404040; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY5("RdGy5", SchemeCostants.COLOR_CA0020, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_BABABA, SchemeCostants.COLOR_404040),
+	RD_GY5("RdGy5", "ca0020f4a582ffffffbababa404040"),
 	/**
 	 * Color scheme name "RdGy6" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ef8a62; border-style: solid;
@@ -1971,7 +1931,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4d4d4d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY6("RdGy6", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_EF8A62, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_E0E0E0, SchemeCostants.COLOR_999999, SchemeCostants.COLOR_4D4D4D),
+	RD_GY6("RdGy6", "b2182bef8a62fddbc7e0e0e09999994d4d4d"),
 	/**
 	 * Color scheme name "RdGy7" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ef8a62; border-style: solid;
@@ -1983,7 +1943,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4d4d4d; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY7("RdGy7", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_EF8A62, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_E0E0E0, SchemeCostants.COLOR_999999, SchemeCostants.COLOR_4D4D4D),
+	RD_GY7("RdGy7", "b2182bef8a62fddbc7ffffffe0e0e09999994d4d4d"),
 	/**
 	 * Color scheme name "RdGy8" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d6604d; border-style: solid;
@@ -1996,7 +1956,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4d4d4d;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY8("RdGy8", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_E0E0E0, SchemeCostants.COLOR_BABABA, SchemeCostants.COLOR_878787, SchemeCostants.COLOR_4D4D4D),
+	RD_GY8("RdGy8", "b2182bd6604df4a582fddbc7e0e0e0bababa8787874d4d4d"),
 	/**
 	 * Color scheme name "RdGy9" - <span style="background-color:#b2182b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d6604d; border-style: solid;
@@ -2010,8 +1970,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#4d4d4d; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY9("RdGy9", SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_E0E0E0, SchemeCostants.COLOR_BABABA, SchemeCostants.COLOR_878787,
-			SchemeCostants.COLOR_4D4D4D),
+	RD_GY9("RdGy9", "b2182bd6604df4a582fddbc7ffffffe0e0e0bababa8787874d4d4d"),
 	/**
 	 * Color scheme name "RdGy10" - <span style="background-color:#67001f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2182b; border-style: solid;
@@ -2027,8 +1986,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1a1a1a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY10("RdGy10", SchemeCostants.COLOR_67001F, SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_E0E0E0, SchemeCostants.COLOR_BABABA, SchemeCostants.COLOR_878787,
-			SchemeCostants.COLOR_4D4D4D, SchemeCostants.COLOR_1A1A1A),
+	RD_GY10("RdGy10", "67001fb2182bd6604df4a582fddbc7e0e0e0bababa8787874d4d4d1a1a1a"),
 	/**
 	 * Color scheme name "RdGy11" - <span style="background-color:#67001f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2182b; border-style: solid;
@@ -2045,15 +2003,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1a1a1a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_GY11("RdGy11", SchemeCostants.COLOR_67001F, SchemeCostants.COLOR_B2182B, SchemeCostants.COLOR_D6604D, SchemeCostants.COLOR_F4A582, SchemeCostants.COLOR_FDDBC7, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_E0E0E0, SchemeCostants.COLOR_BABABA,
-			SchemeCostants.COLOR_878787, SchemeCostants.COLOR_4D4D4D, SchemeCostants.COLOR_1A1A1A),
+	RD_GY11("RdGy11", "67001fb2182bd6604df4a582fddbc7ffffffe0e0e0bababa8787874d4d4d1a1a1a"),
 	/**
 	 * Color scheme name "RdYlBu3" - <span style="background-color:#fc8d59; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffbf; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#91bfdb; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU3("RdYlBu3", SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_91BFDB),
+	RD_YL_BU3("RdYlBu3", "fc8d59ffffbf91bfdb"),
 	/**
 	 * Color scheme name "RdYlBu4" - <span style="background-color:#d7191c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdae61; border-style: solid;
@@ -2061,7 +2018,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2c7bb6;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU4("RdYlBu4", SchemeCostants.COLOR_D7191C, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_ABD9E9, SchemeCostants.COLOR_2C7BB6),
+	RD_YL_BU4("RdYlBu4", "d7191cfdae61abd9e92c7bb6"),
 	/**
 	 * Color scheme name "RdYlBu5" - <span style="background-color:#d7191c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdae61; border-style: solid;
@@ -2070,7 +2027,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#2c7bb6; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU5("RdYlBu5", SchemeCostants.COLOR_D7191C, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_ABD9E9, SchemeCostants.COLOR_2C7BB6),
+	RD_YL_BU5("RdYlBu5", "d7191cfdae61ffffbfabd9e92c7bb6"),
 	/**
 	 * Color scheme name "RdYlBu6" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d59; border-style: solid;
@@ -2081,7 +2038,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4575b4; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU6("RdYlBu6", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FEE090, SchemeCostants.COLOR_E0F3F8, SchemeCostants.COLOR_91BFDB, SchemeCostants.COLOR_4575B4),
+	RD_YL_BU6("RdYlBu6", "d73027fc8d59fee090e0f3f891bfdb4575b4"),
 	/**
 	 * Color scheme name "RdYlBu7" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d59; border-style: solid;
@@ -2093,7 +2050,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4575b4; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU7("RdYlBu7", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FEE090, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_E0F3F8, SchemeCostants.COLOR_91BFDB, SchemeCostants.COLOR_4575B4),
+	RD_YL_BU7("RdYlBu7", "d73027fc8d59fee090ffffbfe0f3f891bfdb4575b4"),
 	/**
 	 * Color scheme name "RdYlBu8" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f46d43; border-style: solid;
@@ -2106,8 +2063,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4575b4;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU8("RdYlBu8", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE090, SchemeCostants.COLOR_E0F3F8, SchemeCostants.COLOR_ABD9E9, SchemeCostants.COLOR_74ADD1,
-			SchemeCostants.COLOR_4575B4),
+	RD_YL_BU8("RdYlBu8", "d73027f46d43fdae61fee090e0f3f8abd9e974add14575b4"),
 	/**
 	 * Color scheme name "RdYlBu9" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f46d43; border-style: solid;
@@ -2121,8 +2077,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#4575b4; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU9("RdYlBu9", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE090, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_E0F3F8, SchemeCostants.COLOR_ABD9E9,
-			SchemeCostants.COLOR_74ADD1, SchemeCostants.COLOR_4575B4),
+	RD_YL_BU9("RdYlBu9", "d73027f46d43fdae61fee090ffffbfe0f3f8abd9e974add14575b4"),
 	/**
 	 * Color scheme name "RdYlBu10" - <span style="background-color:#a50026; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d73027; border-style: solid;
@@ -2138,8 +2093,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#313695; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU10("RdYlBu10", SchemeCostants.COLOR_A50026, SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE090, SchemeCostants.COLOR_E0F3F8, SchemeCostants.COLOR_ABD9E9,
-			SchemeCostants.COLOR_74ADD1, SchemeCostants.COLOR_4575B4, SchemeCostants.COLOR_313695),
+	RD_YL_BU10("RdYlBu10", "a50026d73027f46d43fdae61fee090e0f3f8abd9e974add14575b4313695"),
 	/**
 	 * Color scheme name "RdYlBu11" - <span style="background-color:#a50026; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d73027; border-style: solid;
@@ -2156,15 +2110,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#313695; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_BU11("RdYlBu11", SchemeCostants.COLOR_A50026, SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE090, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_E0F3F8,
-			SchemeCostants.COLOR_ABD9E9, SchemeCostants.COLOR_74ADD1, SchemeCostants.COLOR_4575B4, SchemeCostants.COLOR_313695),
+	RD_YL_BU11("RdYlBu11", "a50026d73027f46d43fdae61fee090ffffbfe0f3f8abd9e974add14575b4313695"),
 	/**
 	 * Color scheme name "Spectral3" - <span style="background-color:#fc8d59; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffbf; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#99d594; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL3("Spectral3", SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_99D594),
+	SPECTRAL3("Spectral3", "fc8d59ffffbf99d594"),
 	/**
 	 * Color scheme name "Spectral4" - <span style="background-color:#d7191c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdae61; border-style: solid;
@@ -2172,7 +2125,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2b83ba;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL4("Spectral4", SchemeCostants.COLOR_D7191C, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_ABDDA4, SchemeCostants.COLOR_2B83BA),
+	SPECTRAL4("Spectral4", "d7191cfdae61abdda42b83ba"),
 	/**
 	 * Color scheme name "Spectral5" - <span style="background-color:#d7191c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdae61; border-style: solid;
@@ -2181,7 +2134,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#2b83ba; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL5("Spectral5", SchemeCostants.COLOR_D7191C, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_ABDDA4, SchemeCostants.COLOR_2B83BA),
+	SPECTRAL5("Spectral5", "d7191cfdae61ffffbfabdda42b83ba"),
 	/**
 	 * Color scheme name "Spectral6" - <span style="background-color:#d53e4f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d59; border-style: solid;
@@ -2192,7 +2145,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#3288bd; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL6("Spectral6", SchemeCostants.COLOR_D53E4F, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_E6F598, SchemeCostants.COLOR_99D594, SchemeCostants.COLOR_3288BD),
+	SPECTRAL6("Spectral6", "d53e4ffc8d59fee08be6f59899d5943288bd"),
 	/**
 	 * Color scheme name "Spectral7" - <span style="background-color:#d53e4f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d59; border-style: solid;
@@ -2204,7 +2157,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#3288bd; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL7("Spectral7", SchemeCostants.COLOR_D53E4F, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_E6F598, SchemeCostants.COLOR_99D594, SchemeCostants.COLOR_3288BD),
+	SPECTRAL7("Spectral7", "d53e4ffc8d59fee08bffffbfe6f59899d5943288bd"),
 	/**
 	 * Color scheme name "Spectral8" - <span style="background-color:#d53e4f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f46d43; border-style: solid;
@@ -2217,8 +2170,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#3288bd;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL8("Spectral8", SchemeCostants.COLOR_D53E4F, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_E6F598, SchemeCostants.COLOR_ABDDA4, SchemeCostants.COLOR_66C2A5,
-			SchemeCostants.COLOR_3288BD),
+	SPECTRAL8("Spectral8", "d53e4ff46d43fdae61fee08be6f598abdda466c2a53288bd"),
 	/**
 	 * Color scheme name "Spectral9" - <span style="background-color:#d53e4f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f46d43; border-style: solid;
@@ -2232,8 +2184,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#3288bd; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL9("Spectral9", SchemeCostants.COLOR_D53E4F, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_E6F598, SchemeCostants.COLOR_ABDDA4,
-			SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_3288BD),
+	SPECTRAL9("Spectral9", "d53e4ff46d43fdae61fee08bffffbfe6f598abdda466c2a53288bd"),
 	/**
 	 * Color scheme name "Spectral10" - <span style="background-color:#9e0142; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d53e4f; border-style: solid;
@@ -2249,8 +2200,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5e4fa2; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL10("Spectral10", SchemeCostants.COLOR_9E0142, SchemeCostants.COLOR_D53E4F, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_E6F598, SchemeCostants.COLOR_ABDDA4,
-			SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_3288BD, SchemeCostants.COLOR_5E4FA2),
+	SPECTRAL10("Spectral10", "9e0142d53e4ff46d43fdae61fee08be6f598abdda466c2a53288bd5e4fa2"),
 	/**
 	 * Color scheme name "Spectral11" - <span style="background-color:#9e0142; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d53e4f; border-style: solid;
@@ -2267,15 +2217,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5e4fa2; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRAL11("Spectral11", SchemeCostants.COLOR_9E0142, SchemeCostants.COLOR_D53E4F, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_E6F598,
-			SchemeCostants.COLOR_ABDDA4, SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_3288BD, SchemeCostants.COLOR_5E4FA2),
+	SPECTRAL11("Spectral11", "9e0142d53e4ff46d43fdae61fee08bffffbfe6f598abdda466c2a53288bd5e4fa2"),
 	/**
 	 * Color scheme name "RdYlGn3" - <span style="background-color:#fc8d59; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffbf; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#91cf60; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN3("RdYlGn3", SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_91CF60),
+	RD_YL_GN3("RdYlGn3", "fc8d59ffffbf91cf60"),
 	/**
 	 * Color scheme name "RdYlGn4" - <span style="background-color:#d7191c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdae61; border-style: solid;
@@ -2283,7 +2232,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1a9641;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN4("RdYlGn4", SchemeCostants.COLOR_D7191C, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_A6D96A, SchemeCostants.COLOR_1A9641),
+	RD_YL_GN4("RdYlGn4", "d7191cfdae61a6d96a1a9641"),
 	/**
 	 * Color scheme name "RdYlGn5" - <span style="background-color:#d7191c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdae61; border-style: solid;
@@ -2292,7 +2241,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#1a9641; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN5("RdYlGn5", SchemeCostants.COLOR_D7191C, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_A6D96A, SchemeCostants.COLOR_1A9641),
+	RD_YL_GN5("RdYlGn5", "d7191cfdae61ffffbfa6d96a1a9641"),
 	/**
 	 * Color scheme name "RdYlGn6" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d59; border-style: solid;
@@ -2303,7 +2252,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1a9850; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN6("RdYlGn6", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_D9EF8B, SchemeCostants.COLOR_91CF60, SchemeCostants.COLOR_1A9850),
+	RD_YL_GN6("RdYlGn6", "d73027fc8d59fee08bd9ef8b91cf601a9850"),
 	/**
 	 * Color scheme name "RdYlGn7" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d59; border-style: solid;
@@ -2315,7 +2264,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1a9850; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN7("RdYlGn7", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_FC8D59, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_D9EF8B, SchemeCostants.COLOR_91CF60, SchemeCostants.COLOR_1A9850),
+	RD_YL_GN7("RdYlGn7", "d73027fc8d59fee08bffffbfd9ef8b91cf601a9850"),
 	/**
 	 * Color scheme name "RdYlGn8" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f46d43; border-style: solid;
@@ -2328,8 +2277,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1a9850;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN8("RdYlGn8", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_D9EF8B, SchemeCostants.COLOR_A6D96A, SchemeCostants.COLOR_66BD63,
-			SchemeCostants.COLOR_1A9850),
+	RD_YL_GN8("RdYlGn8", "d73027f46d43fdae61fee08bd9ef8ba6d96a66bd631a9850"),
 	/**
 	 * Color scheme name "RdYlGn9" - <span style="background-color:#d73027; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f46d43; border-style: solid;
@@ -2343,8 +2291,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#1a9850; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN9("RdYlGn9", SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_D9EF8B, SchemeCostants.COLOR_A6D96A,
-			SchemeCostants.COLOR_66BD63, SchemeCostants.COLOR_1A9850),
+	RD_YL_GN9("RdYlGn9", "d73027f46d43fdae61fee08bffffbfd9ef8ba6d96a66bd631a9850"),
 	/**
 	 * Color scheme name "RdYlGn10" - <span style="background-color:#a50026; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d73027; border-style: solid;
@@ -2360,8 +2307,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#006837; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN10("RdYlGn10", SchemeCostants.COLOR_A50026, SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_D9EF8B, SchemeCostants.COLOR_A6D96A,
-			SchemeCostants.COLOR_66BD63, SchemeCostants.COLOR_1A9850, SchemeCostants.COLOR_006837),
+	RD_YL_GN10("RdYlGn10", "a50026d73027f46d43fdae61fee08bd9ef8ba6d96a66bd631a9850006837"),
 	/**
 	 * Color scheme name "RdYlGn11" - <span style="background-color:#a50026; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d73027; border-style: solid;
@@ -2378,15 +2324,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#006837; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RD_YL_GN11("RdYlGn11", SchemeCostants.COLOR_A50026, SchemeCostants.COLOR_D73027, SchemeCostants.COLOR_F46D43, SchemeCostants.COLOR_FDAE61, SchemeCostants.COLOR_FEE08B, SchemeCostants.COLOR_FFFFBF, SchemeCostants.COLOR_D9EF8B,
-			SchemeCostants.COLOR_A6D96A, SchemeCostants.COLOR_66BD63, SchemeCostants.COLOR_1A9850, SchemeCostants.COLOR_006837),
+	RD_YL_GN11("RdYlGn11", "a50026d73027f46d43fdae61fee08bffffbfd9ef8ba6d96a66bd631a9850006837"),
 	/**
 	 * Color scheme name "Accent3" - <span style="background-color:#7fc97f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#beaed4; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdc086; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ACCENT3("Accent3", SchemeCostants.COLOR_7FC97F, SchemeCostants.COLOR_BEAED4, SchemeCostants.COLOR_FDC086),
+	ACCENT3("Accent3", "7fc97fbeaed4fdc086"),
 	/**
 	 * Color scheme name "Accent4" - <span style="background-color:#7fc97f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#beaed4; border-style: solid;
@@ -2394,7 +2339,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffff99;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ACCENT4("Accent4", SchemeCostants.COLOR_7FC97F, SchemeCostants.COLOR_BEAED4, SchemeCostants.COLOR_FDC086, SchemeCostants.COLOR_FFFF99),
+	ACCENT4("Accent4", "7fc97fbeaed4fdc086ffff99"),
 	/**
 	 * Color scheme name "Accent5" - <span style="background-color:#7fc97f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#beaed4; border-style: solid;
@@ -2403,7 +2348,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#386cb0; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ACCENT5("Accent5", SchemeCostants.COLOR_7FC97F, SchemeCostants.COLOR_BEAED4, SchemeCostants.COLOR_FDC086, SchemeCostants.COLOR_FFFF99, SchemeCostants.COLOR_386CB0),
+	ACCENT5("Accent5", "7fc97fbeaed4fdc086ffff99386cb0"),
 	/**
 	 * Color scheme name "Accent6" - <span style="background-color:#7fc97f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#beaed4; border-style: solid;
@@ -2414,7 +2359,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f0027f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ACCENT6("Accent6", SchemeCostants.COLOR_7FC97F, SchemeCostants.COLOR_BEAED4, SchemeCostants.COLOR_FDC086, SchemeCostants.COLOR_FFFF99, SchemeCostants.COLOR_386CB0, SchemeCostants.COLOR_F0027F),
+	ACCENT6("Accent6", "7fc97fbeaed4fdc086ffff99386cb0f0027f"),
 	/**
 	 * Color scheme name "Accent7" - <span style="background-color:#7fc97f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#beaed4; border-style: solid;
@@ -2426,7 +2371,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bf5b17; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ACCENT7("Accent7", SchemeCostants.COLOR_7FC97F, SchemeCostants.COLOR_BEAED4, SchemeCostants.COLOR_FDC086, SchemeCostants.COLOR_FFFF99, SchemeCostants.COLOR_386CB0, SchemeCostants.COLOR_F0027F, SchemeCostants.COLOR_BF5B17),
+	ACCENT7("Accent7", "7fc97fbeaed4fdc086ffff99386cb0f0027fbf5b17"),
 	/**
 	 * Color scheme name "Accent8" - <span style="background-color:#7fc97f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#beaed4; border-style: solid;
@@ -2439,14 +2384,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#666666;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ACCENT8("Accent8", SchemeCostants.COLOR_7FC97F, SchemeCostants.COLOR_BEAED4, SchemeCostants.COLOR_FDC086, SchemeCostants.COLOR_FFFF99, SchemeCostants.COLOR_386CB0, SchemeCostants.COLOR_F0027F, SchemeCostants.COLOR_BF5B17, SchemeCostants.COLOR_666666),
+	ACCENT8("Accent8", "7fc97fbeaed4fdc086ffff99386cb0f0027fbf5b17666666"),
 	/**
 	 * Color scheme name "Dark2_3" - <span style="background-color:#1b9e77; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d95f02; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7570b3; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DARK2_3("Dark2_3", SchemeCostants.COLOR_1B9E77, SchemeCostants.COLOR_D95F02, SchemeCostants.COLOR_7570B3),
+	DARK2_3("Dark2_3", "1b9e77d95f027570b3"),
 	/**
 	 * Color scheme name "Dark2_4" - <span style="background-color:#1b9e77; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d95f02; border-style: solid;
@@ -2454,7 +2399,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e7298a;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DARK2_4("Dark2_4", SchemeCostants.COLOR_1B9E77, SchemeCostants.COLOR_D95F02, SchemeCostants.COLOR_7570B3, SchemeCostants.COLOR_E7298A),
+	DARK2_4("Dark2_4", "1b9e77d95f027570b3e7298a"),
 	/**
 	 * Color scheme name "Dark2_5" - <span style="background-color:#1b9e77; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d95f02; border-style: solid;
@@ -2463,7 +2408,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#66a61e; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DARK2_5("Dark2_5", SchemeCostants.COLOR_1B9E77, SchemeCostants.COLOR_D95F02, SchemeCostants.COLOR_7570B3, SchemeCostants.COLOR_E7298A, SchemeCostants.COLOR_66A61E),
+	DARK2_5("Dark2_5", "1b9e77d95f027570b3e7298a66a61e"),
 	/**
 	 * Color scheme name "Dark2_6" - <span style="background-color:#1b9e77; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d95f02; border-style: solid;
@@ -2474,7 +2419,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e6ab02; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DARK2_6("Dark2_6", SchemeCostants.COLOR_1B9E77, SchemeCostants.COLOR_D95F02, SchemeCostants.COLOR_7570B3, SchemeCostants.COLOR_E7298A, SchemeCostants.COLOR_66A61E, SchemeCostants.COLOR_E6AB02),
+	DARK2_6("Dark2_6", "1b9e77d95f027570b3e7298a66a61ee6ab02"),
 	/**
 	 * Color scheme name "Dark2_7" - <span style="background-color:#1b9e77; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d95f02; border-style: solid;
@@ -2486,7 +2431,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a6761d; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DARK2_7("Dark2_7", SchemeCostants.COLOR_1B9E77, SchemeCostants.COLOR_D95F02, SchemeCostants.COLOR_7570B3, SchemeCostants.COLOR_E7298A, SchemeCostants.COLOR_66A61E, SchemeCostants.COLOR_E6AB02, SchemeCostants.COLOR_A6761D),
+	DARK2_7("Dark2_7", "1b9e77d95f027570b3e7298a66a61ee6ab02a6761d"),
 	/**
 	 * Color scheme name "Dark2_8" - <span style="background-color:#1b9e77; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d95f02; border-style: solid;
@@ -2499,14 +2444,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#666666;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DARK2_8("Dark2_8", SchemeCostants.COLOR_1B9E77, SchemeCostants.COLOR_D95F02, SchemeCostants.COLOR_7570B3, SchemeCostants.COLOR_E7298A, SchemeCostants.COLOR_66A61E, SchemeCostants.COLOR_E6AB02, SchemeCostants.COLOR_A6761D, SchemeCostants.COLOR_666666),
+	DARK2_8("Dark2_8", "1b9e77d95f027570b3e7298a66a61ee6ab02a6761d666666"),
 	/**
 	 * Color scheme name "Paired3" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2df8a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED3("Paired3", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A),
+	PAIRED3("Paired3", "a6cee31f78b4b2df8a"),
 	/**
 	 * Color scheme name "Paired4" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2514,7 +2459,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#33a02c;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED4("Paired4", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C),
+	PAIRED4("Paired4", "a6cee31f78b4b2df8a33a02c"),
 	/**
 	 * Color scheme name "Paired5" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2523,7 +2468,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#fb9a99; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED5("Paired5", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99),
+	PAIRED5("Paired5", "a6cee31f78b4b2df8a33a02cfb9a99"),
 	/**
 	 * Color scheme name "Paired6" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2534,7 +2479,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e31a1c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED6("Paired6", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99, SchemeCostants.COLOR_E31A1C),
+	PAIRED6("Paired6", "a6cee31f78b4b2df8a33a02cfb9a99e31a1c"),
 	/**
 	 * Color scheme name "Paired7" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2546,7 +2491,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdbf6f; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED7("Paired7", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99, SchemeCostants.COLOR_E31A1C, SchemeCostants.COLOR_FDBF6F),
+	PAIRED7("Paired7", "a6cee31f78b4b2df8a33a02cfb9a99e31a1cfdbf6f"),
 	/**
 	 * Color scheme name "Paired8" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2559,7 +2504,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ff7f00;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED8("Paired8", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99, SchemeCostants.COLOR_E31A1C, SchemeCostants.COLOR_FDBF6F, SchemeCostants.COLOR_FF7F00),
+	PAIRED8("Paired8", "a6cee31f78b4b2df8a33a02cfb9a99e31a1cfdbf6fff7f00"),
 	/**
 	 * Color scheme name "Paired9" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2573,8 +2518,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#cab2d6; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED9("Paired9", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99, SchemeCostants.COLOR_E31A1C, SchemeCostants.COLOR_FDBF6F, SchemeCostants.COLOR_FF7F00,
-			SchemeCostants.COLOR_CAB2D6),
+	PAIRED9("Paired9", "a6cee31f78b4b2df8a33a02cfb9a99e31a1cfdbf6fff7f00cab2d6"),
 	/**
 	 * Color scheme name "Paired10" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2590,8 +2534,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6a3d9a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED10("Paired10", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99, SchemeCostants.COLOR_E31A1C, SchemeCostants.COLOR_FDBF6F,
-			SchemeCostants.COLOR_FF7F00, SchemeCostants.COLOR_CAB2D6, SchemeCostants.COLOR_6A3D9A),
+	PAIRED10("Paired10", "a6cee31f78b4b2df8a33a02cfb9a99e31a1cfdbf6fff7f00cab2d66a3d9a"),
 	/**
 	 * Color scheme name "Paired11" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2608,8 +2551,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffff99; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED11("Paired11", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99, SchemeCostants.COLOR_E31A1C, SchemeCostants.COLOR_FDBF6F,
-			SchemeCostants.COLOR_FF7F00, SchemeCostants.COLOR_CAB2D6, SchemeCostants.COLOR_6A3D9A, SchemeCostants.COLOR_FFFF99),
+	PAIRED11("Paired11", "a6cee31f78b4b2df8a33a02cfb9a99e31a1cfdbf6fff7f00cab2d66a3d9affff99"),
 	/**
 	 * Color scheme name "Paired12" - <span style="background-color:#a6cee3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1f78b4; border-style: solid;
@@ -2627,15 +2569,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b15928;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAIRED12("Paired12", SchemeCostants.COLOR_A6CEE3, SchemeCostants.COLOR_1F78B4, SchemeCostants.COLOR_B2DF8A, SchemeCostants.COLOR_33A02C, SchemeCostants.COLOR_FB9A99, SchemeCostants.COLOR_E31A1C, SchemeCostants.COLOR_FDBF6F,
-			SchemeCostants.COLOR_FF7F00, SchemeCostants.COLOR_CAB2D6, SchemeCostants.COLOR_6A3D9A, SchemeCostants.COLOR_FFFF99, SchemeCostants.COLOR_B15928),
+	PAIRED12("Paired12", "a6cee31f78b4b2df8a33a02cfb9a99e31a1cfdbf6fff7f00cab2d66a3d9affff99b15928"),
 	/**
 	 * Color scheme name "Pastel1_3" - <span style="background-color:#fbb4ae; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccebc5; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL1_3("Pastel1_3", SchemeCostants.COLOR_FBB4AE, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_CCEBC5),
+	PASTEL1_3("Pastel1_3", "fbb4aeb3cde3ccebc5"),
 	/**
 	 * Color scheme name "Pastel1_4" - <span style="background-color:#fbb4ae; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -2643,7 +2584,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#decbe4;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL1_4("Pastel1_4", SchemeCostants.COLOR_FBB4AE, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_DECBE4),
+	PASTEL1_4("Pastel1_4", "fbb4aeb3cde3ccebc5decbe4"),
 	/**
 	 * Color scheme name "Pastel1_5" - <span style="background-color:#fbb4ae; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -2652,7 +2593,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#fed9a6; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL1_5("Pastel1_5", SchemeCostants.COLOR_FBB4AE, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_DECBE4, SchemeCostants.COLOR_FED9A6),
+	PASTEL1_5("Pastel1_5", "fbb4aeb3cde3ccebc5decbe4fed9a6"),
 	/**
 	 * Color scheme name "Pastel1_6" - <span style="background-color:#fbb4ae; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -2663,7 +2604,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffcc; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL1_6("Pastel1_6", SchemeCostants.COLOR_FBB4AE, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_DECBE4, SchemeCostants.COLOR_FED9A6, SchemeCostants.COLOR_FFFFCC),
+	PASTEL1_6("Pastel1_6", "fbb4aeb3cde3ccebc5decbe4fed9a6ffffcc"),
 	/**
 	 * Color scheme name "Pastel1_7" - <span style="background-color:#fbb4ae; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -2675,7 +2616,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e5d8bd; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL1_7("Pastel1_7", SchemeCostants.COLOR_FBB4AE, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_DECBE4, SchemeCostants.COLOR_FED9A6, SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_E5D8BD),
+	PASTEL1_7("Pastel1_7", "fbb4aeb3cde3ccebc5decbe4fed9a6ffffcce5d8bd"),
 	/**
 	 * Color scheme name "Pastel1_8" - <span style="background-color:#fbb4ae; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -2688,8 +2629,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fddaec;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL1_8("Pastel1_8", SchemeCostants.COLOR_FBB4AE, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_DECBE4, SchemeCostants.COLOR_FED9A6, SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_E5D8BD,
-			SchemeCostants.COLOR_FDDAEC),
+	PASTEL1_8("Pastel1_8", "fbb4aeb3cde3ccebc5decbe4fed9a6ffffcce5d8bdfddaec"),
 	/**
 	 * Color scheme name "Pastel1_9" - <span style="background-color:#fbb4ae; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3cde3; border-style: solid;
@@ -2703,15 +2643,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#f2f2f2; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL1_9("Pastel1_9", SchemeCostants.COLOR_FBB4AE, SchemeCostants.COLOR_B3CDE3, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_DECBE4, SchemeCostants.COLOR_FED9A6, SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_E5D8BD,
-			SchemeCostants.COLOR_FDDAEC, SchemeCostants.COLOR_F2F2F2),
+	PASTEL1_9("Pastel1_9", "fbb4aeb3cde3ccebc5decbe4fed9a6ffffcce5d8bdfddaecf2f2f2"),
 	/**
 	 * Color scheme name "Pastel2_3" - <span style="background-color:#b3e2cd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcdac; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cbd5e8; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL2_3("Pastel2_3", SchemeCostants.COLOR_B3E2CD, SchemeCostants.COLOR_FDCDAC, SchemeCostants.COLOR_CBD5E8),
+	PASTEL2_3("Pastel2_3", "b3e2cdfdcdaccbd5e8"),
 	/**
 	 * Color scheme name "Pastel2_4" - <span style="background-color:#b3e2cd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcdac; border-style: solid;
@@ -2719,7 +2658,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f4cae4;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL2_4("Pastel2_4", SchemeCostants.COLOR_B3E2CD, SchemeCostants.COLOR_FDCDAC, SchemeCostants.COLOR_CBD5E8, SchemeCostants.COLOR_F4CAE4),
+	PASTEL2_4("Pastel2_4", "b3e2cdfdcdaccbd5e8f4cae4"),
 	/**
 	 * Color scheme name "Pastel2_5" - <span style="background-color:#b3e2cd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcdac; border-style: solid;
@@ -2728,7 +2667,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#e6f5c9; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL2_5("Pastel2_5", SchemeCostants.COLOR_B3E2CD, SchemeCostants.COLOR_FDCDAC, SchemeCostants.COLOR_CBD5E8, SchemeCostants.COLOR_F4CAE4, SchemeCostants.COLOR_E6F5C9),
+	PASTEL2_5("Pastel2_5", "b3e2cdfdcdaccbd5e8f4cae4e6f5c9"),
 	/**
 	 * Color scheme name "Pastel2_6" - <span style="background-color:#b3e2cd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcdac; border-style: solid;
@@ -2739,7 +2678,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fff2ae; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL2_6("Pastel2_6", SchemeCostants.COLOR_B3E2CD, SchemeCostants.COLOR_FDCDAC, SchemeCostants.COLOR_CBD5E8, SchemeCostants.COLOR_F4CAE4, SchemeCostants.COLOR_E6F5C9, SchemeCostants.COLOR_FFF2AE),
+	PASTEL2_6("Pastel2_6", "b3e2cdfdcdaccbd5e8f4cae4e6f5c9fff2ae"),
 	/**
 	 * Color scheme name "Pastel2_7" - <span style="background-color:#b3e2cd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcdac; border-style: solid;
@@ -2751,7 +2690,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f1e2cc; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL2_7("Pastel2_7", SchemeCostants.COLOR_B3E2CD, SchemeCostants.COLOR_FDCDAC, SchemeCostants.COLOR_CBD5E8, SchemeCostants.COLOR_F4CAE4, SchemeCostants.COLOR_E6F5C9, SchemeCostants.COLOR_FFF2AE, SchemeCostants.COLOR_F1E2CC),
+	PASTEL2_7("Pastel2_7", "b3e2cdfdcdaccbd5e8f4cae4e6f5c9fff2aef1e2cc"),
 	/**
 	 * Color scheme name "Pastel2_8" - <span style="background-color:#b3e2cd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdcdac; border-style: solid;
@@ -2764,15 +2703,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cccccc;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PASTEL2_8("Pastel2_8", SchemeCostants.COLOR_B3E2CD, SchemeCostants.COLOR_FDCDAC, SchemeCostants.COLOR_CBD5E8, SchemeCostants.COLOR_F4CAE4, SchemeCostants.COLOR_E6F5C9, SchemeCostants.COLOR_FFF2AE, SchemeCostants.COLOR_F1E2CC,
-			SchemeCostants.COLOR_CCCCCC),
+	PASTEL2_8("Pastel2_8", "b3e2cdfdcdaccbd5e8f4cae4e6f5c9fff2aef1e2cccccccc"),
 	/**
 	 * Color scheme name "Set1_3" - <span style="background-color:#e41a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#377eb8; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4daf4a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET1_3("Set1_3", SchemeCostants.COLOR_E41A1C, SchemeCostants.COLOR_377EB8, SchemeCostants.COLOR_4DAF4A),
+	SET1_3("Set1_3", "e41a1c377eb84daf4a"),
 	/**
 	 * Color scheme name "Set1_4" - <span style="background-color:#e41a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#377eb8; border-style: solid;
@@ -2780,7 +2718,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#984ea3;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET1_4("Set1_4", SchemeCostants.COLOR_E41A1C, SchemeCostants.COLOR_377EB8, SchemeCostants.COLOR_4DAF4A, SchemeCostants.COLOR_984EA3),
+	SET1_4("Set1_4", "e41a1c377eb84daf4a984ea3"),
 	/**
 	 * Color scheme name "Set1_5" - <span style="background-color:#e41a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#377eb8; border-style: solid;
@@ -2789,7 +2727,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#ff7f00; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET1_5("Set1_5", SchemeCostants.COLOR_E41A1C, SchemeCostants.COLOR_377EB8, SchemeCostants.COLOR_4DAF4A, SchemeCostants.COLOR_984EA3, SchemeCostants.COLOR_FF7F00),
+	SET1_5("Set1_5", "e41a1c377eb84daf4a984ea3ff7f00"),
 	/**
 	 * Color scheme name "Set1_6" - <span style="background-color:#e41a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#377eb8; border-style: solid;
@@ -2800,7 +2738,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffff33; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET1_6("Set1_6", SchemeCostants.COLOR_E41A1C, SchemeCostants.COLOR_377EB8, SchemeCostants.COLOR_4DAF4A, SchemeCostants.COLOR_984EA3, SchemeCostants.COLOR_FF7F00, SchemeCostants.COLOR_FFFF33),
+	SET1_6("Set1_6", "e41a1c377eb84daf4a984ea3ff7f00ffff33"),
 	/**
 	 * Color scheme name "Set1_7" - <span style="background-color:#e41a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#377eb8; border-style: solid;
@@ -2812,7 +2750,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a65628; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET1_7("Set1_7", SchemeCostants.COLOR_E41A1C, SchemeCostants.COLOR_377EB8, SchemeCostants.COLOR_4DAF4A, SchemeCostants.COLOR_984EA3, SchemeCostants.COLOR_FF7F00, SchemeCostants.COLOR_FFFF33, SchemeCostants.COLOR_A65628),
+	SET1_7("Set1_7", "e41a1c377eb84daf4a984ea3ff7f00ffff33a65628"),
 	/**
 	 * Color scheme name "Set1_8" - <span style="background-color:#e41a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#377eb8; border-style: solid;
@@ -2825,7 +2763,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f781bf;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET1_8("Set1_8", SchemeCostants.COLOR_E41A1C, SchemeCostants.COLOR_377EB8, SchemeCostants.COLOR_4DAF4A, SchemeCostants.COLOR_984EA3, SchemeCostants.COLOR_FF7F00, SchemeCostants.COLOR_FFFF33, SchemeCostants.COLOR_A65628, SchemeCostants.COLOR_F781BF),
+	SET1_8("Set1_8", "e41a1c377eb84daf4a984ea3ff7f00ffff33a65628f781bf"),
 	/**
 	 * Color scheme name "Set1_9" - <span style="background-color:#e41a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#377eb8; border-style: solid;
@@ -2839,15 +2777,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#999999; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET1_9("Set1_9", SchemeCostants.COLOR_E41A1C, SchemeCostants.COLOR_377EB8, SchemeCostants.COLOR_4DAF4A, SchemeCostants.COLOR_984EA3, SchemeCostants.COLOR_FF7F00, SchemeCostants.COLOR_FFFF33, SchemeCostants.COLOR_A65628, SchemeCostants.COLOR_F781BF,
-			SchemeCostants.COLOR_999999),
+	SET1_9("Set1_9", "e41a1c377eb84daf4a984ea3ff7f00ffff33a65628f781bf999999"),
 	/**
 	 * Color scheme name "Set2_3" - <span style="background-color:#66c2a5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d62; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8da0cb; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET2_3("Set2_3", SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_FC8D62, SchemeCostants.COLOR_8DA0CB),
+	SET2_3("Set2_3", "66c2a5fc8d628da0cb"),
 	/**
 	 * Color scheme name "Set2_4" - <span style="background-color:#66c2a5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d62; border-style: solid;
@@ -2855,7 +2792,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e78ac3;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET2_4("Set2_4", SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_FC8D62, SchemeCostants.COLOR_8DA0CB, SchemeCostants.COLOR_E78AC3),
+	SET2_4("Set2_4", "66c2a5fc8d628da0cbe78ac3"),
 	/**
 	 * Color scheme name "Set2_5" - <span style="background-color:#66c2a5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d62; border-style: solid;
@@ -2864,7 +2801,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#a6d854; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET2_5("Set2_5", SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_FC8D62, SchemeCostants.COLOR_8DA0CB, SchemeCostants.COLOR_E78AC3, SchemeCostants.COLOR_A6D854),
+	SET2_5("Set2_5", "66c2a5fc8d628da0cbe78ac3a6d854"),
 	/**
 	 * Color scheme name "Set2_6" - <span style="background-color:#66c2a5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d62; border-style: solid;
@@ -2875,7 +2812,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffd92f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET2_6("Set2_6", SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_FC8D62, SchemeCostants.COLOR_8DA0CB, SchemeCostants.COLOR_E78AC3, SchemeCostants.COLOR_A6D854, SchemeCostants.COLOR_FFD92F),
+	SET2_6("Set2_6", "66c2a5fc8d628da0cbe78ac3a6d854ffd92f"),
 	/**
 	 * Color scheme name "Set2_7" - <span style="background-color:#66c2a5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d62; border-style: solid;
@@ -2887,7 +2824,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e5c494; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET2_7("Set2_7", SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_FC8D62, SchemeCostants.COLOR_8DA0CB, SchemeCostants.COLOR_E78AC3, SchemeCostants.COLOR_A6D854, SchemeCostants.COLOR_FFD92F, SchemeCostants.COLOR_E5C494),
+	SET2_7("Set2_7", "66c2a5fc8d628da0cbe78ac3a6d854ffd92fe5c494"),
 	/**
 	 * Color scheme name "Set2_8" - <span style="background-color:#66c2a5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc8d62; border-style: solid;
@@ -2900,14 +2837,14 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3b3b3;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET2_8("Set2_8", SchemeCostants.COLOR_66C2A5, SchemeCostants.COLOR_FC8D62, SchemeCostants.COLOR_8DA0CB, SchemeCostants.COLOR_E78AC3, SchemeCostants.COLOR_A6D854, SchemeCostants.COLOR_FFD92F, SchemeCostants.COLOR_E5C494, SchemeCostants.COLOR_B3B3B3),
+	SET2_8("Set2_8", "66c2a5fc8d628da0cbe78ac3a6d854ffd92fe5c494b3b3b3"),
 	/**
 	 * Color scheme name "Set3_3" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bebada; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_3("Set3_3", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA),
+	SET3_3("Set3_3", "8dd3c7ffffb3bebada"),
 	/**
 	 * Color scheme name "Set3_4" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -2915,7 +2852,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fb8072;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_4("Set3_4", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072),
+	SET3_4("Set3_4", "8dd3c7ffffb3bebadafb8072"),
 	/**
 	 * Color scheme name "Set3_5" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -2924,7 +2861,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#80b1d3; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_5("Set3_5", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3),
+	SET3_5("Set3_5", "8dd3c7ffffb3bebadafb807280b1d3"),
 	/**
 	 * Color scheme name "Set3_6" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -2935,7 +2872,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdb462; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_6("Set3_6", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3, SchemeCostants.COLOR_FDB462),
+	SET3_6("Set3_6", "8dd3c7ffffb3bebadafb807280b1d3fdb462"),
 	/**
 	 * Color scheme name "Set3_7" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -2947,7 +2884,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3de69; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_7("Set3_7", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3, SchemeCostants.COLOR_FDB462, SchemeCostants.COLOR_B3DE69),
+	SET3_7("Set3_7", "8dd3c7ffffb3bebadafb807280b1d3fdb462b3de69"),
 	/**
 	 * Color scheme name "Set3_8" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -2960,7 +2897,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fccde5;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_8("Set3_8", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3, SchemeCostants.COLOR_FDB462, SchemeCostants.COLOR_B3DE69, SchemeCostants.COLOR_FCCDE5),
+	SET3_8("Set3_8", "8dd3c7ffffb3bebadafb807280b1d3fdb462b3de69fccde5"),
 	/**
 	 * Color scheme name "Set3_9" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -2974,8 +2911,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#d9d9d9; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_9("Set3_9", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3, SchemeCostants.COLOR_FDB462, SchemeCostants.COLOR_B3DE69, SchemeCostants.COLOR_FCCDE5,
-			SchemeCostants.COLOR_D9D9D9),
+	SET3_9("Set3_9", "8dd3c7ffffb3bebadafb807280b1d3fdb462b3de69fccde5d9d9d9"),
 	/**
 	 * Color scheme name "Set3_10" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -2991,8 +2927,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bc80bd; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_10("Set3_10", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3, SchemeCostants.COLOR_FDB462, SchemeCostants.COLOR_B3DE69, SchemeCostants.COLOR_FCCDE5,
-			SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_BC80BD),
+	SET3_10("Set3_10", "8dd3c7ffffb3bebadafb807280b1d3fdb462b3de69fccde5d9d9d9bc80bd"),
 	/**
 	 * Color scheme name "Set3_11" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -3009,8 +2944,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccebc5; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_11("Set3_11", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3, SchemeCostants.COLOR_FDB462, SchemeCostants.COLOR_B3DE69, SchemeCostants.COLOR_FCCDE5,
-			SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_BC80BD, SchemeCostants.COLOR_CCEBC5),
+	SET3_11("Set3_11", "8dd3c7ffffb3bebadafb807280b1d3fdb462b3de69fccde5d9d9d9bc80bdccebc5"),
 	/**
 	 * Color scheme name "Set3_12" - <span style="background-color:#8dd3c7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffffb3; border-style: solid;
@@ -3028,8 +2962,7 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffed6f;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SET3_12("Set3_12", SchemeCostants.COLOR_8DD3C7, SchemeCostants.COLOR_FFFFB3, SchemeCostants.COLOR_BEBADA, SchemeCostants.COLOR_FB8072, SchemeCostants.COLOR_80B1D3, SchemeCostants.COLOR_FDB462, SchemeCostants.COLOR_B3DE69, SchemeCostants.COLOR_FCCDE5,
-			SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_BC80BD, SchemeCostants.COLOR_CCEBC5, SchemeCostants.COLOR_FFED6F);
+	SET3_12("Set3_12", "8dd3c7ffffb3bebadafb807280b1d3fdb462b3de69fccde5d9d9d9bc80bdccebc5ffed6f");
 
 	// Category name used to build the label to configure plugin.
 	private static final String CATEGORY = "brewer";
@@ -3037,18 +2970,15 @@ public enum BrewerScheme implements IsEnumeratedScheme
 	private final EnumeratedScheme scheme;
 
 	/**
-	 * Builds a scheme using argument as list of colors in HEX format.
+	 * Builds a scheme using argument as packed colors, 6 HEX digits (RRGGBB) for each color, which will be decoded only when
+	 * requested.
 	 * 
 	 * @param value value of property name
-	 * @param hexColors list of colors in HEX format
-	 */
-	private BrewerScheme(String value, String... hexColors) {
-		scheme = new EnumeratedScheme(CATEGORY, value);
-		// scans all hex colors and creates ISCOLOR
-		for (String color : hexColors) {
-			// and adds them into the list
-			scheme.add(ColorBuilder.parse(color));
-		}
+	 * @param packedColors all colors of the scheme, 6 HEX digits (RRGGBB) for each color
+	 */
+	private BrewerScheme(String value, String packedColors) {
+		// colors are decoded when requested the first time
+		scheme = new EnumeratedScheme(CATEGORY, value, packedColors);
 	}
 
 	/*
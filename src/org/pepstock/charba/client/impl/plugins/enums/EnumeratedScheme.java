@@ -15,26 +15,38 @@
 */
 package org.pepstock.charba.client.impl.plugins.enums;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
+import org.pepstock.charba.client.colors.ColorBuilder;
 import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.impl.plugins.ColorScheme;
 
 /**
- * Internal class to manage color scheme as enumeration.
+ * Internal class to manage color scheme as enumeration.<br>
+ * The colors can be passed packed into a single string, 6 HEX digits (RRGGBB) for each color, and, in this case, they are
+ * decoded only when the colors are requested the first time, in order to avoid to decode all colors of all schemes of an
+ * enumeration when only one is used. A single string for each scheme is more compact than an array of HEX colors.
  * 
  * @author Andrea "Stock" Stocchero
  *
  */
 final class EnumeratedScheme implements ColorScheme {
 
+	// amount of HEX digits of a packed color
+	private static final int PACKED_COLOR_LENGTH = 6;
+
 	private final String category;
 
 	private final String value;
 
-	private final List<IsColor> colors = new LinkedList<>();
+	private final List<IsColor> colors = new ArrayList<>();
+
+	private final List<IsColor> unmodifiableColors = Collections.unmodifiableList(colors);
+
+	// packed colors, not decoded yet
+	private String packedColors;
 
 	/**
 	 * Builds the color scheme using all arguments
@@ -43,8 +55,21 @@ final class EnumeratedScheme implements ColorScheme {
 	 * @param value color scheme value
 	 */
 	EnumeratedScheme(String category, String value) {
+		this(category, value, null);
+	}
+
+	/**
+	 * Builds the color scheme using all arguments.<br>
+	 * The packed colors are decoded when they are requested the first time.
+	 * 
+	 * @param category color scheme category
+	 * @param value color scheme value
+	 * @param packedColors all colors of the scheme, 6 HEX digits (RRGGBB) for each color
+	 */
+	EnumeratedScheme(String category, String value, String packedColors) {
 		this.category = category;
 		this.value = value;
+		this.packedColors = packedColors;
 	}
 	
 	/**
@@ -92,7 +117,19 @@ final class EnumeratedScheme implements ColorScheme {
 	 */
 	@Override
 	public List<IsColor> getColors() {
-		return Collections.unmodifiableList(colors);
+		// checks if there are colors to decode
+		if (packedColors != null) {
+			// scans all packed colors and creates ISCOLOR
+			for (int i = 0; i + PACKED_COLOR_LENGTH <= packedColors.length(); i += PACKED_COLOR_LENGTH) {
+				// gets RGB value of the color
+				int rgb = Integer.parseInt(packedColors.substring(i, i + PACKED_COLOR_LENGTH), 16);
+				// and adds it into the list
+				colors.add(ColorBuilder.build((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF));
+			}
+			// colors are decoded only once
+			packedColors = null;
+		}
+		return unmodifiableColors;
 	}
 
 }
@@ -15,7 +15,6 @@ limitations under the License.
 */
 package org.pepstock.charba.client.impl.plugins.enums;
 
-import org.pepstock.charba.client.colors.ColorBuilder;
 import org.pepstock.charba.client.impl.plugins.ColorScheme;
 import org.pepstock.charba.client.impl.plugins.ColorSchemes;
 
@@ -41,7 +40,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b1a089; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ADJACENCY6("Adjacency6", SchemeCostants.COLOR_A9A57C, SchemeCostants.COLOR_9CBEBD, SchemeCostants.COLOR_D2CB6C, SchemeCostants.COLOR_95A39D, SchemeCostants.COLOR_C89F5D, SchemeCostants.COLOR_B1A089),
+	ADJACENCY6("Adjacency6", "a9a57c9cbebdd2cb6c95a39dc89f5db1a089"),
 	/**
 	 * Color scheme name "Advantage6" - <span style="background-color:#663366; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#330f42; border-style: solid;
@@ -52,7 +51,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a3a101; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ADVANTAGE6("Advantage6", SchemeCostants.COLOR_663366, SchemeCostants.COLOR_330F42, SchemeCostants.COLOR_666699, SchemeCostants.COLOR_999966, SchemeCostants.COLOR_F7901E, SchemeCostants.COLOR_A3A101),
+	ADVANTAGE6("Advantage6", "663366330f42666699999966f7901ea3a101"),
 	/**
 	 * Color scheme name "Angles6" - <span style="background-color:#797b7e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f96a1b; border-style: solid;
@@ -63,7 +62,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#506e94; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ANGLES6("Angles6", SchemeCostants.COLOR_797B7E, SchemeCostants.COLOR_F96A1B, SchemeCostants.COLOR_08A1D9, SchemeCostants.COLOR_7C984A, SchemeCostants.COLOR_C2AD8D, SchemeCostants.COLOR_506E94),
+	ANGLES6("Angles6", "797b7ef96a1b08a1d97c984ac2ad8d506e94"),
 	/**
 	 * Color scheme name "Apex6" - <span style="background-color:#ceb966; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9cb084; border-style: solid;
@@ -74,7 +73,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a379bb; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	APEX6("Apex6", SchemeCostants.COLOR_CEB966, SchemeCostants.COLOR_9CB084, SchemeCostants.COLOR_6BB1C9, SchemeCostants.COLOR_6585CF, SchemeCostants.COLOR_7E6BC9, SchemeCostants.COLOR_A379BB),
+	APEX6("Apex6", "ceb9669cb0846bb1c96585cf7e6bc9a379bb"),
 	/**
 	 * Color scheme name "Apothecary6" - <span style="background-color:#93a299; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cf543f; border-style: solid;
@@ -85,7 +84,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#786c71; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	APOTHECARY6("Apothecary6", SchemeCostants.COLOR_93A299, SchemeCostants.COLOR_CF543F, SchemeCostants.COLOR_B5AE53, SchemeCostants.COLOR_848058, SchemeCostants.COLOR_E8B54D, SchemeCostants.COLOR_786C71),
+	APOTHECARY6("Apothecary6", "93a299cf543fb5ae53848058e8b54d786c71"),
 	/**
 	 * Color scheme name "Aspect6" - <span style="background-color:#f07f09; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9f2936; border-style: solid;
@@ -96,7 +95,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c19859; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ASPECT6("Aspect6", SchemeCostants.COLOR_F07F09, SchemeCostants.COLOR_9F2936, SchemeCostants.COLOR_1B587C, SchemeCostants.COLOR_4E8542, SchemeCostants.COLOR_604878, SchemeCostants.COLOR_C19859),
+	ASPECT6("Aspect6", "f07f099f29361b587c4e8542604878c19859"),
 	/**
 	 * Color scheme name "Atlas6" - <span style="background-color:#f81b02; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc7715; border-style: solid;
@@ -107,7 +106,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b560d4; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ATLAS6("Atlas6", SchemeCostants.COLOR_F81B02, SchemeCostants.COLOR_FC7715, SchemeCostants.COLOR_AFBF41, SchemeCostants.COLOR_50C49F, SchemeCostants.COLOR_3B95C4, SchemeCostants.COLOR_B560D4),
+	ATLAS6("Atlas6", "f81b02fc7715afbf4150c49f3b95c4b560d4"),
 	/**
 	 * Color scheme name "Austin6" - <span style="background-color:#94c600; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#71685a; border-style: solid;
@@ -118,7 +117,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fea022; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	AUSTIN6("Austin6", SchemeCostants.COLOR_94C600, SchemeCostants.COLOR_71685A, SchemeCostants.COLOR_FF6700, SchemeCostants.COLOR_909465, SchemeCostants.COLOR_956B43, SchemeCostants.COLOR_FEA022),
+	AUSTIN6("Austin6", "94c60071685aff6700909465956b43fea022"),
 	/**
 	 * Color scheme name "Badge6" - <span style="background-color:#f8b323; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#656a59; border-style: solid;
@@ -129,7 +128,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#826276; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BADGE6("Badge6", SchemeCostants.COLOR_F8B323, SchemeCostants.COLOR_656A59, SchemeCostants.COLOR_46B2B5, SchemeCostants.COLOR_8CAA7E, SchemeCostants.COLOR_D36F68, SchemeCostants.COLOR_826276),
+	BADGE6("Badge6", "f8b323656a5946b2b58caa7ed36f68826276"),
 	/**
 	 * Color scheme name "Banded6" - <span style="background-color:#ffc000; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a5d028; border-style: solid;
@@ -140,7 +139,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f56617; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BANDED6("Banded6", SchemeCostants.COLOR_FFC000, SchemeCostants.COLOR_A5D028, SchemeCostants.COLOR_08CC78, SchemeCostants.COLOR_F24099, SchemeCostants.COLOR_828288, SchemeCostants.COLOR_F56617),
+	BANDED6("Banded6", "ffc000a5d02808cc78f24099828288f56617"),
 	/**
 	 * Color scheme name "Basis6" - <span style="background-color:#f09415; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c1b56b; border-style: solid;
@@ -151,7 +150,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fa7e5c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BASIS6("Basis6", SchemeCostants.COLOR_F09415, SchemeCostants.COLOR_C1B56B, SchemeCostants.COLOR_4BAF73, SchemeCostants.COLOR_5AA6C0, SchemeCostants.COLOR_D17DF9, SchemeCostants.COLOR_FA7E5C),
+	BASIS6("Basis6", "f09415c1b56b4baf735aa6c0d17df9fa7e5c"),
 	/**
 	 * Color scheme name "Berlin6" - <span style="background-color:#a6b727; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#df5327; border-style: solid;
@@ -162,7 +161,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#818183; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BERLIN6("Berlin6", SchemeCostants.COLOR_A6B727, SchemeCostants.COLOR_DF5327, SchemeCostants.COLOR_FE9E00, SchemeCostants.COLOR_418AB3, SchemeCostants.COLOR_D7D447, SchemeCostants.COLOR_818183),
+	BERLIN6("Berlin6", "a6b727df5327fe9e00418ab3d7d447818183"),
 	/**
 	 * Color scheme name "BlackTie6" - <span style="background-color:#6f6f74; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a7b789; border-style: solid;
@@ -173,7 +172,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8d6974; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLACK_TIE6("BlackTie6", SchemeCostants.COLOR_6F6F74, SchemeCostants.COLOR_A7B789, SchemeCostants.COLOR_BEAE98, SchemeCostants.COLOR_92A9B9, SchemeCostants.COLOR_9C8265, SchemeCostants.COLOR_8D6974),
+	BLACK_TIE6("BlackTie6", "6f6f74a7b789beae9892a9b99c82658d6974"),
 	/**
 	 * Color scheme name "Blue6" - <span style="background-color:#0f6fc6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#009dd9; border-style: solid;
@@ -184,7 +183,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a5c249; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE6("Blue6", SchemeCostants.COLOR_0F6FC6, SchemeCostants.COLOR_009DD9, SchemeCostants.COLOR_0BD0D9, SchemeCostants.COLOR_10CF9B, SchemeCostants.COLOR_7CCA62, SchemeCostants.COLOR_A5C249),
+	BLUE6("Blue6", "0f6fc6009dd90bd0d910cf9b7cca62a5c249"),
 	/**
 	 * Color scheme name "BlueGreen6" - <span style="background-color:#3494ba; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#58b6c0; border-style: solid;
@@ -195,7 +194,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2683c6; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE_GREEN6("BlueGreen6", SchemeCostants.COLOR_3494BA, SchemeCostants.COLOR_58B6C0, SchemeCostants.COLOR_75BDA7, SchemeCostants.COLOR_7A8C8E, SchemeCostants.COLOR_84ACB6, SchemeCostants.COLOR_2683C6),
+	BLUE_GREEN6("BlueGreen6", "3494ba58b6c075bda77a8c8e84acb62683c6"),
 	/**
 	 * Color scheme name "BlueII6" - <span style="background-color:#1cade4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2683c6; border-style: solid;
@@ -206,7 +205,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#62a39f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE_II6("BlueII6", SchemeCostants.COLOR_1CADE4, SchemeCostants.COLOR_2683C6, SchemeCostants.COLOR_27CED7, SchemeCostants.COLOR_42BA97, SchemeCostants.COLOR_3E8853, SchemeCostants.COLOR_62A39F),
+	BLUE_II6("BlueII6", "1cade42683c627ced742ba973e885362a39f"),
 	/**
 	 * Color scheme name "BlueRed6" - <span style="background-color:#4a66ac; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#629dd1; border-style: solid;
@@ -217,7 +216,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9d90a0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE_RED6("BlueRed6", SchemeCostants.COLOR_4A66AC, SchemeCostants.COLOR_629DD1, SchemeCostants.COLOR_297FD5, SchemeCostants.COLOR_7F8FA9, SchemeCostants.COLOR_5AA2AE, SchemeCostants.COLOR_9D90A0),
+	BLUE_RED6("BlueRed6", "4a66ac629dd1297fd57f8fa95aa2ae9d90a0"),
 	/**
 	 * Color scheme name "BlueWarm6" - <span style="background-color:#4a66ac; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#629dd1; border-style: solid;
@@ -228,7 +227,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9d90a0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE_WARM6("BlueWarm6", SchemeCostants.COLOR_4A66AC, SchemeCostants.COLOR_629DD1, SchemeCostants.COLOR_297FD5, SchemeCostants.COLOR_7F8FA9, SchemeCostants.COLOR_5AA2AE, SchemeCostants.COLOR_9D90A0),
+	BLUE_WARM6("BlueWarm6", "4a66ac629dd1297fd57f8fa95aa2ae9d90a0"),
 	/**
 	 * Color scheme name "Breeze6" - <span style="background-color:#2c7c9f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#244a58; border-style: solid;
@@ -239,7 +238,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c00000; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BREEZE6("Breeze6", SchemeCostants.COLOR_2C7C9F, SchemeCostants.COLOR_244A58, SchemeCostants.COLOR_E2751D, SchemeCostants.COLOR_FFB400, SchemeCostants.COLOR_7EB606, SchemeCostants.COLOR_C00000),
+	BREEZE6("Breeze6", "2c7c9f244a58e2751dffb4007eb606c00000"),
 	/**
 	 * Color scheme name "Capital6" - <span style="background-color:#4b5a60; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9c5238; border-style: solid;
@@ -250,7 +249,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bad6ad; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CAPITAL6("Capital6", SchemeCostants.COLOR_4B5A60, SchemeCostants.COLOR_9C5238, SchemeCostants.COLOR_504539, SchemeCostants.COLOR_C1AD79, SchemeCostants.COLOR_667559, SchemeCostants.COLOR_BAD6AD),
+	CAPITAL6("Capital6", "4b5a609c5238504539c1ad79667559bad6ad"),
 	/**
 	 * Color scheme name "Celestial6" - <span style="background-color:#ac3ec1; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#477bd1; border-style: solid;
@@ -261,7 +260,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e25247; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CELESTIAL6("Celestial6", SchemeCostants.COLOR_AC3EC1, SchemeCostants.COLOR_477BD1, SchemeCostants.COLOR_46B298, SchemeCostants.COLOR_90BA4C, SchemeCostants.COLOR_DD9D31, SchemeCostants.COLOR_E25247),
+	CELESTIAL6("Celestial6", "ac3ec1477bd146b29890ba4cdd9d31e25247"),
 	/**
 	 * Color scheme name "Circuit6" - <span style="background-color:#9acd4c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#faa93a; border-style: solid;
@@ -272,7 +271,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8ac4a7; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CIRCUIT6("Circuit6", SchemeCostants.COLOR_9ACD4C, SchemeCostants.COLOR_FAA93A, SchemeCostants.COLOR_D35940, SchemeCostants.COLOR_B258D3, SchemeCostants.COLOR_63A0CC, SchemeCostants.COLOR_8AC4A7),
+	CIRCUIT6("Circuit6", "9acd4cfaa93ad35940b258d363a0cc8ac4a7"),
 	/**
 	 * Color scheme name "Civic6" - <span style="background-color:#d16349; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccb400; border-style: solid;
@@ -283,7 +282,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d19049; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CIVIC6("Civic6", SchemeCostants.COLOR_D16349, SchemeCostants.COLOR_CCB400, SchemeCostants.COLOR_8CADAE, SchemeCostants.COLOR_8C7B70, SchemeCostants.COLOR_8FB08C, SchemeCostants.COLOR_D19049),
+	CIVIC6("Civic6", "d16349ccb4008cadae8c7b708fb08cd19049"),
 	/**
 	 * Color scheme name "Clarity6" - <span style="background-color:#93a299; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ad8f67; border-style: solid;
@@ -294,7 +293,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#79463d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLARITY6("Clarity6", SchemeCostants.COLOR_93A299, SchemeCostants.COLOR_AD8F67, SchemeCostants.COLOR_726056, SchemeCostants.COLOR_4C5A6A, SchemeCostants.COLOR_808DA0, SchemeCostants.COLOR_79463D),
+	CLARITY6("Clarity6", "93a299ad8f677260564c5a6a808da079463d"),
 	/**
 	 * Color scheme name "Codex6" - <span style="background-color:#990000; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#efab16; border-style: solid;
@@ -305,7 +304,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0d335e; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CODEX6("Codex6", SchemeCostants.COLOR_990000, SchemeCostants.COLOR_EFAB16, SchemeCostants.COLOR_78AC35, SchemeCostants.COLOR_35ACA2, SchemeCostants.COLOR_4083CF, SchemeCostants.COLOR_0D335E),
+	CODEX6("Codex6", "990000efab1678ac3535aca24083cf0d335e"),
 	/**
 	 * Color scheme name "Composite6" - <span style="background-color:#98c723; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#59b0b9; border-style: solid;
@@ -316,7 +315,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a98d63; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	COMPOSITE6("Composite6", SchemeCostants.COLOR_98C723, SchemeCostants.COLOR_59B0B9, SchemeCostants.COLOR_DEAE00, SchemeCostants.COLOR_B77BB4, SchemeCostants.COLOR_E0773C, SchemeCostants.COLOR_A98D63),
+	COMPOSITE6("Composite6", "98c72359b0b9deae00b77bb4e0773ca98d63"),
 	/**
 	 * Color scheme name "Concourse6" - <span style="background-color:#2da2bf; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#da1f28; border-style: solid;
@@ -327,7 +326,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7d3c4a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CONCOURSE6("Concourse6", SchemeCostants.COLOR_2DA2BF, SchemeCostants.COLOR_DA1F28, SchemeCostants.COLOR_EB641B, SchemeCostants.COLOR_39639D, SchemeCostants.COLOR_474B78, SchemeCostants.COLOR_7D3C4A),
+	CONCOURSE6("Concourse6", "2da2bfda1f28eb641b39639d474b787d3c4a"),
 	/**
 	 * Color scheme name "Couture6" - <span style="background-color:#9e8e5c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a09781; border-style: solid;
@@ -338,7 +337,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6b6149; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	COUTURE6("Couture6", SchemeCostants.COLOR_9E8E5C, SchemeCostants.COLOR_A09781, SchemeCostants.COLOR_85776D, SchemeCostants.COLOR_AEAFA9, SchemeCostants.COLOR_8D878B, SchemeCostants.COLOR_6B6149),
+	COUTURE6("Couture6", "9e8e5ca0978185776daeafa98d878b6b6149"),
 	/**
 	 * Color scheme name "Crop6" - <span style="background-color:#8c8d86; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e6c069; border-style: solid;
@@ -349,7 +348,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e28394; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CROP6("Crop6", SchemeCostants.COLOR_8C8D86, SchemeCostants.COLOR_E6C069, SchemeCostants.COLOR_897B61, SchemeCostants.COLOR_8DAB8E, SchemeCostants.COLOR_77A2BB, SchemeCostants.COLOR_E28394),
+	CROP6("Crop6", "8c8d86e6c069897b618dab8e77a2bbe28394"),
 	/**
 	 * Color scheme name "Damask6" - <span style="background-color:#9ec544; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#50bea3; border-style: solid;
@@ -360,7 +359,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#de9c3c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DAMASK6("Damask6", SchemeCostants.COLOR_9EC544, SchemeCostants.COLOR_50BEA3, SchemeCostants.COLOR_4A9CCC, SchemeCostants.COLOR_9A66CA, SchemeCostants.COLOR_C54F71, SchemeCostants.COLOR_DE9C3C),
+	DAMASK6("Damask6", "9ec54450bea34a9ccc9a66cac54f71de9c3c"),
 	/**
 	 * Color scheme name "Depth6" - <span style="background-color:#41aebd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#97e9d5; border-style: solid;
@@ -371,7 +370,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcb11c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DEPTH6("Depth6", SchemeCostants.COLOR_41AEBD, SchemeCostants.COLOR_97E9D5, SchemeCostants.COLOR_A2CF49, SchemeCostants.COLOR_608F3D, SchemeCostants.COLOR_F4DE3A, SchemeCostants.COLOR_FCB11C),
+	DEPTH6("Depth6", "41aebd97e9d5a2cf49608f3df4de3afcb11c"),
 	/**
 	 * Color scheme name "Dividend6" - <span style="background-color:#4d1434; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#903163; border-style: solid;
@@ -382,7 +381,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#40619d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DIVIDEND6("Dividend6", SchemeCostants.COLOR_4D1434, SchemeCostants.COLOR_903163, SchemeCostants.COLOR_B2324B, SchemeCostants.COLOR_969FA7, SchemeCostants.COLOR_66B1CE, SchemeCostants.COLOR_40619D),
+	DIVIDEND6("Dividend6", "4d1434903163b2324b969fa766b1ce40619d"),
 	/**
 	 * Color scheme name "Droplet6" - <span style="background-color:#2fa3ee; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4bcaad; border-style: solid;
@@ -393,7 +392,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a35dd1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	DROPLET6("Droplet6", SchemeCostants.COLOR_2FA3EE, SchemeCostants.COLOR_4BCAAD, SchemeCostants.COLOR_86C157, SchemeCostants.COLOR_D99C3F, SchemeCostants.COLOR_CE6633, SchemeCostants.COLOR_A35DD1),
+	DROPLET6("Droplet6", "2fa3ee4bcaad86c157d99c3fce6633a35dd1"),
 	/**
 	 * Color scheme name "Elemental6" - <span style="background-color:#629dd1; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#297fd5; border-style: solid;
@@ -404,7 +403,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9d90a0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ELEMENTAL6("Elemental6", SchemeCostants.COLOR_629DD1, SchemeCostants.COLOR_297FD5, SchemeCostants.COLOR_7F8FA9, SchemeCostants.COLOR_4A66AC, SchemeCostants.COLOR_5AA2AE, SchemeCostants.COLOR_9D90A0),
+	ELEMENTAL6("Elemental6", "629dd1297fd57f8fa94a66ac5aa2ae9d90a0"),
 	/**
 	 * Color scheme name "Equity6" - <span style="background-color:#d34817; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9b2d1f; border-style: solid;
@@ -415,7 +414,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#855d5d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	EQUITY6("Equity6", SchemeCostants.COLOR_D34817, SchemeCostants.COLOR_9B2D1F, SchemeCostants.COLOR_A28E6A, SchemeCostants.COLOR_956251, SchemeCostants.COLOR_918485, SchemeCostants.COLOR_855D5D),
+	EQUITY6("Equity6", "d348179b2d1fa28e6a956251918485855d5d"),
 	/**
 	 * Color scheme name "Essential6" - <span style="background-color:#7a7a7a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f5c201; border-style: solid;
@@ -426,7 +425,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b4b392; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ESSENTIAL6("Essential6", SchemeCostants.COLOR_7A7A7A, SchemeCostants.COLOR_F5C201, SchemeCostants.COLOR_526DB0, SchemeCostants.COLOR_989AAC, SchemeCostants.COLOR_DC5924, SchemeCostants.COLOR_B4B392),
+	ESSENTIAL6("Essential6", "7a7a7af5c201526db0989aacdc5924b4b392"),
 	/**
 	 * Color scheme name "Excel16" - <span style="background-color:#9999ff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#993366; border-style: solid;
@@ -449,8 +448,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0000FF;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	EXCEL16("Excel16", SchemeCostants.COLOR_9999FF, SchemeCostants.COLOR_993366, SchemeCostants.COLOR_FFFFCC, SchemeCostants.COLOR_CCFFFF, SchemeCostants.COLOR_660066, SchemeCostants.COLOR_FF8080, SchemeCostants.COLOR_0066CC, SchemeCostants.COLOR_CCCCFF,
-			SchemeCostants.COLOR_000080, SchemeCostants.COLOR_FF00FF, SchemeCostants.COLOR_FFFF00, SchemeCostants.COLOR_0000FF, SchemeCostants.COLOR_800080, SchemeCostants.COLOR_800000, SchemeCostants.COLOR_008080, SchemeCostants.COLOR_0000FF),
+	EXCEL16("Excel16", "9999ff993366ffffccccffff660066ff80800066ccccccff000080ff00ffffff000000ff8000808000000080800000ff"),
 	/**
 	 * Color scheme name "Executive6" - <span style="background-color:#6076b4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9c5252; border-style: solid;
@@ -461,7 +459,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#758085; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	EXECUTIVE6("Executive6", SchemeCostants.COLOR_6076B4, SchemeCostants.COLOR_9C5252, SchemeCostants.COLOR_E68422, SchemeCostants.COLOR_846648, SchemeCostants.COLOR_63891F, SchemeCostants.COLOR_758085),
+	EXECUTIVE6("Executive6", "6076b49c5252e6842284664863891f758085"),
 	/**
 	 * Color scheme name "Exhibit6" - <span style="background-color:#3399ff; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#69ffff; border-style: solid;
@@ -472,7 +470,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ff33ff; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	EXHIBIT6("Exhibit6", SchemeCostants.COLOR_3399FF, SchemeCostants.COLOR_69FFFF, SchemeCostants.COLOR_CCFF33, SchemeCostants.COLOR_3333FF, SchemeCostants.COLOR_9933FF, SchemeCostants.COLOR_FF33FF),
+	EXHIBIT6("Exhibit6", "3399ff69ffffccff333333ff9933ffff33ff"),
 	/**
 	 * Color scheme name "Expo6" - <span style="background-color:#fbc01e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#efe1a2; border-style: solid;
@@ -483,7 +481,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7e13e3; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	EXPO6("Expo6", SchemeCostants.COLOR_FBC01E, SchemeCostants.COLOR_EFE1A2, SchemeCostants.COLOR_FA8716, SchemeCostants.COLOR_BE0204, SchemeCostants.COLOR_640F10, SchemeCostants.COLOR_7E13E3),
+	EXPO6("Expo6", "fbc01eefe1a2fa8716be0204640f107e13e3"),
 	/**
 	 * Color scheme name "Facet6" - <span style="background-color:#90c226; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#54a021; border-style: solid;
@@ -494,7 +492,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#918655; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FACET6("Facet6", SchemeCostants.COLOR_90C226, SchemeCostants.COLOR_54A021, SchemeCostants.COLOR_E6B91E, SchemeCostants.COLOR_E76618, SchemeCostants.COLOR_C42F1A, SchemeCostants.COLOR_918655),
+	FACET6("Facet6", "90c22654a021e6b91ee76618c42f1a918655"),
 	/**
 	 * Color scheme name "Feathered6" - <span style="background-color:#606372; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#79a8a4; border-style: solid;
@@ -505,7 +503,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#92a185; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FEATHERED6("Feathered6", SchemeCostants.COLOR_606372, SchemeCostants.COLOR_79A8A4, SchemeCostants.COLOR_B2AD8F, SchemeCostants.COLOR_AD8082, SchemeCostants.COLOR_DEC18C, SchemeCostants.COLOR_92A185),
+	FEATHERED6("Feathered6", "60637279a8a4b2ad8fad8082dec18c92a185"),
 	/**
 	 * Color scheme name "Flow6" - <span style="background-color:#0f6fc6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#009dd9; border-style: solid;
@@ -516,7 +514,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a5c249; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FLOW6("Flow6", SchemeCostants.COLOR_0F6FC6, SchemeCostants.COLOR_009DD9, SchemeCostants.COLOR_0BD0D9, SchemeCostants.COLOR_10CF9B, SchemeCostants.COLOR_7CCA62, SchemeCostants.COLOR_A5C249),
+	FLOW6("Flow6", "0f6fc6009dd90bd0d910cf9b7cca62a5c249"),
 	/**
 	 * Color scheme name "Focus6" - <span style="background-color:#ffb91d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f97817; border-style: solid;
@@ -527,7 +525,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c913ad; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FOCUS6("Focus6", SchemeCostants.COLOR_FFB91D, SchemeCostants.COLOR_F97817, SchemeCostants.COLOR_6DE304, SchemeCostants.COLOR_FF0000, SchemeCostants.COLOR_732BEA, SchemeCostants.COLOR_C913AD),
+	FOCUS6("Focus6", "ffb91df978176de304ff0000732beac913ad"),
 	/**
 	 * Color scheme name "Folio6" - <span style="background-color:#294171; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#748cbc; border-style: solid;
@@ -538,7 +536,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a0a16a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FOLIO6("Folio6", SchemeCostants.COLOR_294171, SchemeCostants.COLOR_748CBC, SchemeCostants.COLOR_8E887C, SchemeCostants.COLOR_834736, SchemeCostants.COLOR_5A1705, SchemeCostants.COLOR_A0A16A),
+	FOLIO6("Folio6", "294171748cbc8e887c8347365a1705a0a16a"),
 	/**
 	 * Color scheme name "Formal6" - <span style="background-color:#907f76; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a46645; border-style: solid;
@@ -549,7 +547,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#733678; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FORMAL6("Formal6", SchemeCostants.COLOR_907F76, SchemeCostants.COLOR_A46645, SchemeCostants.COLOR_CD9C47, SchemeCostants.COLOR_9A92CD, SchemeCostants.COLOR_7D639B, SchemeCostants.COLOR_733678),
+	FORMAL6("Formal6", "907f76a46645cd9c479a92cd7d639b733678"),
 	/**
 	 * Color scheme name "Forte6" - <span style="background-color:#c70f0c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dd6b0d; border-style: solid;
@@ -560,7 +558,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0a96e4; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FORTE6("Forte6", SchemeCostants.COLOR_C70F0C, SchemeCostants.COLOR_DD6B0D, SchemeCostants.COLOR_FAA700, SchemeCostants.COLOR_93E50D, SchemeCostants.COLOR_17C7BA, SchemeCostants.COLOR_0A96E4),
+	FORTE6("Forte6", "c70f0cdd6b0dfaa70093e50d17c7ba0a96e4"),
 	/**
 	 * Color scheme name "Foundry6" - <span style="background-color:#72a376; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b0ccb0; border-style: solid;
@@ -571,7 +569,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e8b7b7; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FOUNDRY6("Foundry6", SchemeCostants.COLOR_72A376, SchemeCostants.COLOR_B0CCB0, SchemeCostants.COLOR_A8CDD7, SchemeCostants.COLOR_C0BEAF, SchemeCostants.COLOR_CEC597, SchemeCostants.COLOR_E8B7B7),
+	FOUNDRY6("Foundry6", "72a376b0ccb0a8cdd7c0beafcec597e8b7b7"),
 	/**
 	 * Color scheme name "Frame6" - <span style="background-color:#40bad2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fab900; border-style: solid;
@@ -582,7 +580,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d5393d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	FRAME6("Frame6", SchemeCostants.COLOR_40BAD2, SchemeCostants.COLOR_FAB900, SchemeCostants.COLOR_90BB23, SchemeCostants.COLOR_EE7008, SchemeCostants.COLOR_1AB39F, SchemeCostants.COLOR_D5393D),
+	FRAME6("Frame6", "40bad2fab90090bb23ee70081ab39fd5393d"),
 	/**
 	 * Color scheme name "Gallery6" - <span style="background-color:#b71e42; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#de478e; border-style: solid;
@@ -593,7 +591,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6892a0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GALLERY6("Gallery6", SchemeCostants.COLOR_B71E42, SchemeCostants.COLOR_DE478E, SchemeCostants.COLOR_BC72F0, SchemeCostants.COLOR_795FAF, SchemeCostants.COLOR_586EA6, SchemeCostants.COLOR_6892A0),
+	GALLERY6("Gallery6", "b71e42de478ebc72f0795faf586ea66892a0"),
 	/**
 	 * Color scheme name "Genesis6" - <span style="background-color:#80b606; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e29f1d; border-style: solid;
@@ -604,7 +602,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8d34e0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GENESIS6("Genesis6", SchemeCostants.COLOR_80B606, SchemeCostants.COLOR_E29F1D, SchemeCostants.COLOR_2397E2, SchemeCostants.COLOR_35ACA2, SchemeCostants.COLOR_5430BB, SchemeCostants.COLOR_8D34E0),
+	GENESIS6("Genesis6", "80b606e29f1d2397e235aca25430bb8d34e0"),
 	/**
 	 * Color scheme name "Grayscale6" - <span style="background-color:#dddddd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2b2b2; border-style: solid;
@@ -615,7 +613,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4d4d4d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GRAYSCALE6("Grayscale6", SchemeCostants.COLOR_DDDDDD, SchemeCostants.COLOR_B2B2B2, SchemeCostants.COLOR_969696, SchemeCostants.COLOR_808080, SchemeCostants.COLOR_5F5F5F, SchemeCostants.COLOR_4D4D4D),
+	GRAYSCALE6("Grayscale6", "ddddddb2b2b29696968080805f5f5f4d4d4d"),
 	/**
 	 * Color scheme name "Green6" - <span style="background-color:#549e39; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8ab833; border-style: solid;
@@ -626,7 +624,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#0989b1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREEN6("Green6", SchemeCostants.COLOR_549E39, SchemeCostants.COLOR_8AB833, SchemeCostants.COLOR_C0CF3A, SchemeCostants.COLOR_029676, SchemeCostants.COLOR_4AB5C4, SchemeCostants.COLOR_0989B1),
+	GREEN6("Green6", "549e398ab833c0cf3a0296764ab5c40989b1"),
 	/**
 	 * Color scheme name "GreenYellow6" - <span style="background-color:#99cb38; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#63a537; border-style: solid;
@@ -637,7 +635,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#51c3f9; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREEN_YELLOW6("GreenYellow6", SchemeCostants.COLOR_99CB38, SchemeCostants.COLOR_63A537, SchemeCostants.COLOR_37A76F, SchemeCostants.COLOR_44C1A3, SchemeCostants.COLOR_4EB3CF, SchemeCostants.COLOR_51C3F9),
+	GREEN_YELLOW6("GreenYellow6", "99cb3863a53737a76f44c1a34eb3cf51c3f9"),
 	/**
 	 * Color scheme name "Grid6" - <span style="background-color:#c66951; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bf974d; border-style: solid;
@@ -648,7 +646,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6f777d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GRID6("Grid6", SchemeCostants.COLOR_C66951, SchemeCostants.COLOR_BF974D, SchemeCostants.COLOR_928B70, SchemeCostants.COLOR_87706B, SchemeCostants.COLOR_94734E, SchemeCostants.COLOR_6F777D),
+	GRID6("Grid6", "c66951bf974d928b7087706b94734e6f777d"),
 	/**
 	 * Color scheme name "Habitat6" - <span style="background-color:#f8c000; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f88600; border-style: solid;
@@ -659,7 +657,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#586215; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	HABITAT6("Habitat6", SchemeCostants.COLOR_F8C000, SchemeCostants.COLOR_F88600, SchemeCostants.COLOR_F83500, SchemeCostants.COLOR_8B723D, SchemeCostants.COLOR_818B3D, SchemeCostants.COLOR_586215),
+	HABITAT6("Habitat6", "f8c000f88600f835008b723d818b3d586215"),
 	/**
 	 * Color scheme name "Hardcover6" - <span style="background-color:#873624; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d6862d; border-style: solid;
@@ -670,7 +668,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#aeb795; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	HARDCOVER6("Hardcover6", SchemeCostants.COLOR_873624, SchemeCostants.COLOR_D6862D, SchemeCostants.COLOR_D0BE40, SchemeCostants.COLOR_877F6C, SchemeCostants.COLOR_972109, SchemeCostants.COLOR_AEB795),
+	HARDCOVER6("Hardcover6", "873624d6862dd0be40877f6c972109aeb795"),
 	/**
 	 * Color scheme name "Headlines6" - <span style="background-color:#439eb7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e28b55; border-style: solid;
@@ -681,7 +679,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#645135; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	HEADLINES6("Headlines6", SchemeCostants.COLOR_439EB7, SchemeCostants.COLOR_E28B55, SchemeCostants.COLOR_DCB64D, SchemeCostants.COLOR_4CA198, SchemeCostants.COLOR_835B82, SchemeCostants.COLOR_645135),
+	HEADLINES6("Headlines6", "439eb7e28b55dcb64d4ca198835b82645135"),
 	/**
 	 * Color scheme name "Horizon6" - <span style="background-color:#7e97ad; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cc8e60; border-style: solid;
@@ -692,7 +690,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9d936f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	HORIZON6("Horizon6", SchemeCostants.COLOR_7E97AD, SchemeCostants.COLOR_CC8E60, SchemeCostants.COLOR_7A6A60, SchemeCostants.COLOR_B4936D, SchemeCostants.COLOR_67787B, SchemeCostants.COLOR_9D936F),
+	HORIZON6("Horizon6", "7e97adcc8e607a6a60b4936d67787b9d936f"),
 	/**
 	 * Color scheme name "Infusion6" - <span style="background-color:#8c73d0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c2e8c4; border-style: solid;
@@ -703,7 +701,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#95c5b0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	INFUSION6("Infusion6", SchemeCostants.COLOR_8C73D0, SchemeCostants.COLOR_C2E8C4, SchemeCostants.COLOR_C5A6E8, SchemeCostants.COLOR_B45EC7, SchemeCostants.COLOR_9FDAFB, SchemeCostants.COLOR_95C5B0),
+	INFUSION6("Infusion6", "8c73d0c2e8c4c5a6e8b45ec79fdafb95c5b0"),
 	/**
 	 * Color scheme name "Inkwell6" - <span style="background-color:#860908; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4a0505; border-style: solid;
@@ -714,7 +712,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b5bb83; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	INKWELL6("Inkwell6", SchemeCostants.COLOR_860908, SchemeCostants.COLOR_4A0505, SchemeCostants.COLOR_7A500A, SchemeCostants.COLOR_C47810, SchemeCostants.COLOR_827752, SchemeCostants.COLOR_B5BB83),
+	INKWELL6("Inkwell6", "8609084a05057a500ac47810827752b5bb83"),
 	/**
 	 * Color scheme name "Inspiration6" - <span style="background-color:#749805; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bacc82; border-style: solid;
@@ -725,7 +723,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7411d0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	INSPIRATION6("Inspiration6", SchemeCostants.COLOR_749805, SchemeCostants.COLOR_BACC82, SchemeCostants.COLOR_6E9EC2, SchemeCostants.COLOR_2046A5, SchemeCostants.COLOR_5039C6, SchemeCostants.COLOR_7411D0),
+	INSPIRATION6("Inspiration6", "749805bacc826e9ec22046a55039c67411d0"),
 	/**
 	 * Color scheme name "Integral6" - <span style="background-color:#1cade4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2683c6; border-style: solid;
@@ -736,7 +734,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#62a39f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	INTEGRAL6("Integral6", SchemeCostants.COLOR_1CADE4, SchemeCostants.COLOR_2683C6, SchemeCostants.COLOR_27CED7, SchemeCostants.COLOR_42BA97, SchemeCostants.COLOR_3E8853, SchemeCostants.COLOR_62A39F),
+	INTEGRAL6("Integral6", "1cade42683c627ced742ba973e885362a39f"),
 	/**
 	 * Color scheme name "Ion6" - <span style="background-color:#b01513; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ea6312; border-style: solid;
@@ -747,7 +745,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9e5e9b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ION6("Ion6", SchemeCostants.COLOR_B01513, SchemeCostants.COLOR_EA6312, SchemeCostants.COLOR_E6B729, SchemeCostants.COLOR_6AAC90, SchemeCostants.COLOR_5F9C9D, SchemeCostants.COLOR_9E5E9B),
+	ION6("Ion6", "b01513ea6312e6b7296aac905f9c9d9e5e9b"),
 	/**
 	 * Color scheme name "IonBoardroom6" - <span style="background-color:#b31166; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e33d6f; border-style: solid;
@@ -758,7 +756,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d53dd0; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ION_BOARDROOM6("IonBoardroom6", SchemeCostants.COLOR_B31166, SchemeCostants.COLOR_E33D6F, SchemeCostants.COLOR_E45F3C, SchemeCostants.COLOR_E9943A, SchemeCostants.COLOR_9B6BF2, SchemeCostants.COLOR_D53DD0),
+	ION_BOARDROOM6("IonBoardroom6", "b31166e33d6fe45f3ce9943a9b6bf2d53dd0"),
 	/**
 	 * Color scheme name "Kilter6" - <span style="background-color:#76c5ef; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fea022; border-style: solid;
@@ -769,7 +767,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#20768c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	KILTER6("Kilter6", SchemeCostants.COLOR_76C5EF, SchemeCostants.COLOR_FEA022, SchemeCostants.COLOR_FF6700, SchemeCostants.COLOR_70A525, SchemeCostants.COLOR_A5D848, SchemeCostants.COLOR_20768C),
+	KILTER6("Kilter6", "76c5effea022ff670070a525a5d84820768c"),
 	/**
 	 * Color scheme name "Madison6" - <span style="background-color:#a1d68b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5ec795; border-style: solid;
@@ -780,7 +778,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8ec0c1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	MADISON6("Madison6", SchemeCostants.COLOR_A1D68B, SchemeCostants.COLOR_5EC795, SchemeCostants.COLOR_4DADCF, SchemeCostants.COLOR_CDB756, SchemeCostants.COLOR_E29C36, SchemeCostants.COLOR_8EC0C1),
+	MADISON6("Madison6", "a1d68b5ec7954dadcfcdb756e29c368ec0c1"),
 	/**
 	 * Color scheme name "MainEvent6" - <span style="background-color:#b80e0f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a6987d; border-style: solid;
@@ -791,7 +789,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#80737a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	MAIN_EVENT6("MainEvent6", SchemeCostants.COLOR_B80E0F, SchemeCostants.COLOR_A6987D, SchemeCostants.COLOR_7F9A71, SchemeCostants.COLOR_64969F, SchemeCostants.COLOR_9B75B2, SchemeCostants.COLOR_80737A),
+	MAIN_EVENT6("MainEvent6", "b80e0fa6987d7f9a7164969f9b75b280737a"),
 	/**
 	 * Color scheme name "Marquee6" - <span style="background-color:#418ab3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a6b727; border-style: solid;
@@ -802,7 +800,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#df5327; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	MARQUEE6("Marquee6", SchemeCostants.COLOR_418AB3, SchemeCostants.COLOR_A6B727, SchemeCostants.COLOR_F69200, SchemeCostants.COLOR_838383, SchemeCostants.COLOR_FEC306, SchemeCostants.COLOR_DF5327),
+	MARQUEE6("Marquee6", "418ab3a6b727f69200838383fec306df5327"),
 	/**
 	 * Color scheme name "Median6" - <span style="background-color:#94b6d2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dd8047; border-style: solid;
@@ -813,7 +811,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#968c8c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	MEDIAN6("Median6", SchemeCostants.COLOR_94B6D2, SchemeCostants.COLOR_DD8047, SchemeCostants.COLOR_A5AB81, SchemeCostants.COLOR_D8B25C, SchemeCostants.COLOR_7BA79D, SchemeCostants.COLOR_968C8C),
+	MEDIAN6("Median6", "94b6d2dd8047a5ab81d8b25c7ba79d968c8c"),
 	/**
 	 * Color scheme name "Mesh6" - <span style="background-color:#6f6f6f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bfbfa5; border-style: solid;
@@ -824,7 +822,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cf7133; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	MESH6("Mesh6", SchemeCostants.COLOR_6F6F6F, SchemeCostants.COLOR_BFBFA5, SchemeCostants.COLOR_DCD084, SchemeCostants.COLOR_E7BF5F, SchemeCostants.COLOR_E9A039, SchemeCostants.COLOR_CF7133),
+	MESH6("Mesh6", "6f6f6fbfbfa5dcd084e7bf5fe9a039cf7133"),
 	/**
 	 * Color scheme name "Metail6" - <span style="background-color:#6283ad; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#324966; border-style: solid;
@@ -835,7 +833,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2f3c35; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	METAIL6("Metail6", SchemeCostants.COLOR_6283AD, SchemeCostants.COLOR_324966, SchemeCostants.COLOR_5B9EA4, SchemeCostants.COLOR_1D5B57, SchemeCostants.COLOR_1B4430, SchemeCostants.COLOR_2F3C35),
+	METAIL6("Metail6", "6283ad3249665b9ea41d5b571b44302f3c35"),
 	/**
 	 * Color scheme name "Metro6" - <span style="background-color:#7fd13b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ea157a; border-style: solid;
@@ -846,7 +844,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1ab39f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	METRO6("Metro6", SchemeCostants.COLOR_7FD13B, SchemeCostants.COLOR_EA157A, SchemeCostants.COLOR_FEB80A, SchemeCostants.COLOR_00ADDC, SchemeCostants.COLOR_738AC8, SchemeCostants.COLOR_1AB39F),
+	METRO6("Metro6", "7fd13bea157afeb80a00addc738ac81ab39f"),
 	/**
 	 * Color scheme name "Metropolitan6" - <span style="background-color:#50b4c8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a8b97f; border-style: solid;
@@ -857,7 +855,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#84ac9d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	METROPOLITAN6("Metropolitan6", SchemeCostants.COLOR_50B4C8, SchemeCostants.COLOR_A8B97F, SchemeCostants.COLOR_9B9256, SchemeCostants.COLOR_657689, SchemeCostants.COLOR_7A855D, SchemeCostants.COLOR_84AC9D),
+	METROPOLITAN6("Metropolitan6", "50b4c8a8b97f9b92566576897a855d84ac9d"),
 	/**
 	 * Color scheme name "Module6" - <span style="background-color:#f0ad00; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#60b5cc; border-style: solid;
@@ -868,7 +866,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c64847; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	MODULE6("Module6", SchemeCostants.COLOR_F0AD00, SchemeCostants.COLOR_60B5CC, SchemeCostants.COLOR_E66C7D, SchemeCostants.COLOR_6BB76D, SchemeCostants.COLOR_E88651, SchemeCostants.COLOR_C64847),
+	MODULE6("Module6", "f0ad0060b5cce66c7d6bb76de88651c64847"),
 	/**
 	 * Color scheme name "NewsPrint6" - <span style="background-color:#ad0101; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#726056; border-style: solid;
@@ -879,7 +877,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#730e00; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	NEWS_PRINT6("NewsPrint6", SchemeCostants.COLOR_AD0101, SchemeCostants.COLOR_726056, SchemeCostants.COLOR_AC956E, SchemeCostants.COLOR_808DA9, SchemeCostants.COLOR_424E5B, SchemeCostants.COLOR_730E00),
+	NEWS_PRINT6("NewsPrint6", "ad0101726056ac956e808da9424e5b730e00"),
 	/**
 	 * Color scheme name "Office6" - <span style="background-color:#5b9bd5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ed7d31; border-style: solid;
@@ -890,7 +888,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#70ad47; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OFFICE6("Office6", SchemeCostants.COLOR_5B9BD5, SchemeCostants.COLOR_ED7D31, SchemeCostants.COLOR_A5A5A5, SchemeCostants.COLOR_FFC000, SchemeCostants.COLOR_4472C4, SchemeCostants.COLOR_70AD47),
+	OFFICE6("Office6", "5b9bd5ed7d31a5a5a5ffc0004472c470ad47"),
 	/**
 	 * Color scheme name "Office2007_2010_6" - <span style="background-color:#4f81bd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c0504d; border-style: solid;
@@ -901,7 +899,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f79646; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OFFICE2007_2010_6("Office2007_2010_6", SchemeCostants.COLOR_4F81BD, SchemeCostants.COLOR_C0504D, SchemeCostants.COLOR_9BBB59, SchemeCostants.COLOR_8064A2, SchemeCostants.COLOR_4BACC6, SchemeCostants.COLOR_F79646),
+	OFFICE2007_2010_6("Office2007_2010_6", "4f81bdc0504d9bbb598064a24bacc6f79646"),
 	/**
 	 * Color scheme name "Opulent6" - <span style="background-color:#b83d68; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ac66bb; border-style: solid;
@@ -912,7 +910,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fa8d3d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	OPULENT6("Opulent6", SchemeCostants.COLOR_B83D68, SchemeCostants.COLOR_AC66BB, SchemeCostants.COLOR_DE6C36, SchemeCostants.COLOR_F9B639, SchemeCostants.COLOR_CF6DA4, SchemeCostants.COLOR_FA8D3D),
+	OPULENT6("Opulent6", "b83d68ac66bbde6c36f9b639cf6da4fa8d3d"),
 	/**
 	 * Color scheme name "Orange6" - <span style="background-color:#e48312; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bd582c; border-style: solid;
@@ -923,7 +921,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#94a088; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE6("Orange6", SchemeCostants.COLOR_E48312, SchemeCostants.COLOR_BD582C, SchemeCostants.COLOR_865640, SchemeCostants.COLOR_9B8357, SchemeCostants.COLOR_C2BC80, SchemeCostants.COLOR_94A088),
+	ORANGE6("Orange6", "e48312bd582c8656409b8357c2bc8094a088"),
 	/**
 	 * Color scheme name "OrangeRed6" - <span style="background-color:#d34817; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9b2d1f; border-style: solid;
@@ -934,7 +932,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#855d5d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE_RED6("OrangeRed6", SchemeCostants.COLOR_D34817, SchemeCostants.COLOR_9B2D1F, SchemeCostants.COLOR_A28E6A, SchemeCostants.COLOR_956251, SchemeCostants.COLOR_918485, SchemeCostants.COLOR_855D5D),
+	ORANGE_RED6("OrangeRed6", "d348179b2d1fa28e6a956251918485855d5d"),
 	/**
 	 * Color scheme name "Orbit6" - <span style="background-color:#f2d908; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9de61e; border-style: solid;
@@ -945,7 +943,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8d35d1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORBIT6("Orbit6", SchemeCostants.COLOR_F2D908, SchemeCostants.COLOR_9DE61E, SchemeCostants.COLOR_0D8BE6, SchemeCostants.COLOR_C61B1B, SchemeCostants.COLOR_E26F08, SchemeCostants.COLOR_8D35D1),
+	ORBIT6("Orbit6", "f2d9089de61e0d8be6c61b1be26f088d35d1"),
 	/**
 	 * Color scheme name "Organic6" - <span style="background-color:#83992a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#3c9770; border-style: solid;
@@ -956,7 +954,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#deb340; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORGANIC6("Organic6", SchemeCostants.COLOR_83992A, SchemeCostants.COLOR_3C9770, SchemeCostants.COLOR_44709D, SchemeCostants.COLOR_A23C33, SchemeCostants.COLOR_D97828, SchemeCostants.COLOR_DEB340),
+	ORGANIC6("Organic6", "83992a3c977044709da23c33d97828deb340"),
 	/**
 	 * Color scheme name "Oriel6" - <span style="background-color:#fe8637; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7598d9; border-style: solid;
@@ -967,7 +965,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#777c84; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORIEL6("Oriel6", SchemeCostants.COLOR_FE8637, SchemeCostants.COLOR_7598D9, SchemeCostants.COLOR_B32C16, SchemeCostants.COLOR_F5CD2D, SchemeCostants.COLOR_AEBAD5, SchemeCostants.COLOR_777C84),
+	ORIEL6("Oriel6", "fe86377598d9b32c16f5cd2daebad5777c84"),
 	/**
 	 * Color scheme name "Origin6" - <span style="background-color:#727ca3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9fb8cd; border-style: solid;
@@ -978,7 +976,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8e736a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORIGIN6("Origin6", SchemeCostants.COLOR_727CA3, SchemeCostants.COLOR_9FB8CD, SchemeCostants.COLOR_D2DA7A, SchemeCostants.COLOR_FADA7A, SchemeCostants.COLOR_B88472, SchemeCostants.COLOR_8E736A),
+	ORIGIN6("Origin6", "727ca39fb8cdd2da7afada7ab884728e736a"),
 	/**
 	 * Color scheme name "Paper6" - <span style="background-color:#a5b592; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f3a447; border-style: solid;
@@ -989,7 +987,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#809ec2; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PAPER6("Paper6", SchemeCostants.COLOR_A5B592, SchemeCostants.COLOR_F3A447, SchemeCostants.COLOR_E7BC29, SchemeCostants.COLOR_D092A7, SchemeCostants.COLOR_9C85C0, SchemeCostants.COLOR_809EC2),
+	PAPER6("Paper6", "a5b592f3a447e7bc29d092a79c85c0809ec2"),
 	/**
 	 * Color scheme name "Parallax6" - <span style="background-color:#30acec; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#80c34f; border-style: solid;
@@ -1000,7 +998,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a666e1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PARALLAX6("Parallax6", SchemeCostants.COLOR_30ACEC, SchemeCostants.COLOR_80C34F, SchemeCostants.COLOR_E29D3E, SchemeCostants.COLOR_D64A3B, SchemeCostants.COLOR_D64787, SchemeCostants.COLOR_A666E1),
+	PARALLAX6("Parallax6", "30acec80c34fe29d3ed64a3bd64787a666e1"),
 	/**
 	 * Color scheme name "Parcel6" - <span style="background-color:#f6a21d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9bafb5; border-style: solid;
@@ -1011,7 +1009,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a0988c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PARCEL6("Parcel6", SchemeCostants.COLOR_F6A21D, SchemeCostants.COLOR_9BAFB5, SchemeCostants.COLOR_C96731, SchemeCostants.COLOR_9CA383, SchemeCostants.COLOR_87795D, SchemeCostants.COLOR_A0988C),
+	PARCEL6("Parcel6", "f6a21d9bafb5c967319ca38387795da0988c"),
 	/**
 	 * Color scheme name "Perception6" - <span style="background-color:#a2c816; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e07602; border-style: solid;
@@ -1022,7 +1020,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a2b170; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PERCEPTION6("Perception6", SchemeCostants.COLOR_A2C816, SchemeCostants.COLOR_E07602, SchemeCostants.COLOR_E4C402, SchemeCostants.COLOR_7DC1EF, SchemeCostants.COLOR_21449B, SchemeCostants.COLOR_A2B170),
+	PERCEPTION6("Perception6", "a2c816e07602e4c4027dc1ef21449ba2b170"),
 	/**
 	 * Color scheme name "Perspective6" - <span style="background-color:#838d9b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d2610c; border-style: solid;
@@ -1033,7 +1031,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6f6c7d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PERSPECTIVE6("Perspective6", SchemeCostants.COLOR_838D9B, SchemeCostants.COLOR_D2610C, SchemeCostants.COLOR_80716A, SchemeCostants.COLOR_94147C, SchemeCostants.COLOR_5D5AD2, SchemeCostants.COLOR_6F6C7D),
+	PERSPECTIVE6("Perspective6", "838d9bd2610c80716a94147c5d5ad26f6c7d"),
 	/**
 	 * Color scheme name "Pixel6" - <span style="background-color:#ff7f01; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f1b015; border-style: solid;
@@ -1044,7 +1042,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9d09d1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PIXEL6("Pixel6", SchemeCostants.COLOR_FF7F01, SchemeCostants.COLOR_F1B015, SchemeCostants.COLOR_FBEC85, SchemeCostants.COLOR_D2C2F1, SchemeCostants.COLOR_DA5AF4, SchemeCostants.COLOR_9D09D1),
+	PIXEL6("Pixel6", "ff7f01f1b015fbec85d2c2f1da5af49d09d1"),
 	/**
 	 * Color scheme name "Plaza6" - <span style="background-color:#990000; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#580101; border-style: solid;
@@ -1055,7 +1053,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#666666; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PLAZA6("Plaza6", SchemeCostants.COLOR_990000, SchemeCostants.COLOR_580101, SchemeCostants.COLOR_E94A00, SchemeCostants.COLOR_EB8F00, SchemeCostants.COLOR_A4A4A4, SchemeCostants.COLOR_666666),
+	PLAZA6("Plaza6", "990000580101e94a00eb8f00a4a4a4666666"),
 	/**
 	 * Color scheme name "Precedent6" - <span style="background-color:#993232; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9b6c34; border-style: solid;
@@ -1066,7 +1064,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8f7a05; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PRECEDENT6("Precedent6", SchemeCostants.COLOR_993232, SchemeCostants.COLOR_9B6C34, SchemeCostants.COLOR_736C5D, SchemeCostants.COLOR_C9972B, SchemeCostants.COLOR_C95F2B, SchemeCostants.COLOR_8F7A05),
+	PRECEDENT6("Precedent6", "9932329b6c34736c5dc9972bc95f2b8f7a05"),
 	/**
 	 * Color scheme name "Pushpin6" - <span style="background-color:#fda023; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#aa2b1e; border-style: solid;
@@ -1077,7 +1075,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b9ca1a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PUSHPIN6("Pushpin6", SchemeCostants.COLOR_FDA023, SchemeCostants.COLOR_AA2B1E, SchemeCostants.COLOR_71685C, SchemeCostants.COLOR_64A73B, SchemeCostants.COLOR_EB5605, SchemeCostants.COLOR_B9CA1A),
+	PUSHPIN6("Pushpin6", "fda023aa2b1e71685c64a73beb5605b9ca1a"),
 	/**
 	 * Color scheme name "Quotable6" - <span style="background-color:#00c6bb; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6feba0; border-style: solid;
@@ -1088,7 +1086,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ed515c; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	QUOTABLE6("Quotable6", SchemeCostants.COLOR_00C6BB, SchemeCostants.COLOR_6FEBA0, SchemeCostants.COLOR_B6DF5E, SchemeCostants.COLOR_EFB251, SchemeCostants.COLOR_EF755F, SchemeCostants.COLOR_ED515C),
+	QUOTABLE6("Quotable6", "00c6bb6feba0b6df5eefb251ef755fed515c"),
 	/**
 	 * Color scheme name "Red6" - <span style="background-color:#a5300f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d55816; border-style: solid;
@@ -1099,7 +1097,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b27d49; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED6("Red6", SchemeCostants.COLOR_A5300F, SchemeCostants.COLOR_D55816, SchemeCostants.COLOR_E19825, SchemeCostants.COLOR_B19C7D, SchemeCostants.COLOR_7F5F52, SchemeCostants.COLOR_B27D49),
+	RED6("Red6", "a5300fd55816e19825b19c7d7f5f52b27d49"),
 	/**
 	 * Color scheme name "RedOrange6" - <span style="background-color:#e84c22; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffbd47; border-style: solid;
@@ -1110,7 +1108,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b22600; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_ORANGE6("RedOrange6", SchemeCostants.COLOR_E84C22, SchemeCostants.COLOR_FFBD47, SchemeCostants.COLOR_B64926, SchemeCostants.COLOR_FF8427, SchemeCostants.COLOR_CC9900, SchemeCostants.COLOR_B22600),
+	RED_ORANGE6("RedOrange6", "e84c22ffbd47b64926ff8427cc9900b22600"),
 	/**
 	 * Color scheme name "RedViolet6" - <span style="background-color:#e32d91; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c830cc; border-style: solid;
@@ -1121,7 +1119,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d54773; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_VIOLET6("RedViolet6", SchemeCostants.COLOR_E32D91, SchemeCostants.COLOR_C830CC, SchemeCostants.COLOR_4EA6DC, SchemeCostants.COLOR_4775E7, SchemeCostants.COLOR_8971E1, SchemeCostants.COLOR_D54773),
+	RED_VIOLET6("RedViolet6", "e32d91c830cc4ea6dc4775e78971e1d54773"),
 	/**
 	 * Color scheme name "Retrospect6" - <span style="background-color:#e48312; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bd582c; border-style: solid;
@@ -1132,7 +1130,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#94a088; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RETROSPECT6("Retrospect6", SchemeCostants.COLOR_E48312, SchemeCostants.COLOR_BD582C, SchemeCostants.COLOR_865640, SchemeCostants.COLOR_9B8357, SchemeCostants.COLOR_C2BC80, SchemeCostants.COLOR_94A088),
+	RETROSPECT6("Retrospect6", "e48312bd582c8656409b8357c2bc8094a088"),
 	/**
 	 * Color scheme name "Revolution6" - <span style="background-color:#0c5986; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ddf53d; border-style: solid;
@@ -1143,7 +1141,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#660075; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	REVOLUTION6("Revolution6", SchemeCostants.COLOR_0C5986, SchemeCostants.COLOR_DDF53D, SchemeCostants.COLOR_508709, SchemeCostants.COLOR_BF5E00, SchemeCostants.COLOR_9C0001, SchemeCostants.COLOR_660075),
+	REVOLUTION6("Revolution6", "0c5986ddf53d508709bf5e009c0001660075"),
 	/**
 	 * Color scheme name "Saddle6" - <span style="background-color:#c6b178; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9c5b14; border-style: solid;
@@ -1154,7 +1152,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4c6f75; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SADDLE6("Saddle6", SchemeCostants.COLOR_C6B178, SchemeCostants.COLOR_9C5B14, SchemeCostants.COLOR_71B2BC, SchemeCostants.COLOR_78AA5D, SchemeCostants.COLOR_867099, SchemeCostants.COLOR_4C6F75),
+	SADDLE6("Saddle6", "c6b1789c5b1471b2bc78aa5d8670994c6f75"),
 	/**
 	 * Color scheme name "Savon6" - <span style="background-color:#1cade4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2683c6; border-style: solid;
@@ -1165,7 +1163,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#62a39f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SAVON6("Savon6", SchemeCostants.COLOR_1CADE4, SchemeCostants.COLOR_2683C6, SchemeCostants.COLOR_27CED7, SchemeCostants.COLOR_42BA97, SchemeCostants.COLOR_3E8853, SchemeCostants.COLOR_62A39F),
+	SAVON6("Savon6", "1cade42683c627ced742ba973e885362a39f"),
 	/**
 	 * Color scheme name "Sketchbook6" - <span style="background-color:#a63212; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e68230; border-style: solid;
@@ -1176,7 +1174,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8976ac; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SKETCHBOOK6("Sketchbook6", SchemeCostants.COLOR_A63212, SchemeCostants.COLOR_E68230, SchemeCostants.COLOR_9BB05E, SchemeCostants.COLOR_6B9BC7, SchemeCostants.COLOR_4E66B2, SchemeCostants.COLOR_8976AC),
+	SKETCHBOOK6("Sketchbook6", "a63212e682309bb05e6b9bc74e66b28976ac"),
 	/**
 	 * Color scheme name "Sky6" - <span style="background-color:#073779; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8fd9fb; border-style: solid;
@@ -1187,7 +1185,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b523b4; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SKY6("Sky6", SchemeCostants.COLOR_073779, SchemeCostants.COLOR_8FD9FB, SchemeCostants.COLOR_FFCC00, SchemeCostants.COLOR_EB6615, SchemeCostants.COLOR_C76402, SchemeCostants.COLOR_B523B4),
+	SKY6("Sky6", "0737798fd9fbffcc00eb6615c76402b523b4"),
 	/**
 	 * Color scheme name "Slate6" - <span style="background-color:#bc451b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d3ba68; border-style: solid;
@@ -1198,7 +1196,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ad9d7b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SLATE6("Slate6", SchemeCostants.COLOR_BC451B, SchemeCostants.COLOR_D3BA68, SchemeCostants.COLOR_BB8640, SchemeCostants.COLOR_AD9277, SchemeCostants.COLOR_A55A43, SchemeCostants.COLOR_AD9D7B),
+	SLATE6("Slate6", "bc451bd3ba68bb8640ad9277a55a43ad9d7b"),
 	/**
 	 * Color scheme name "Slice6" - <span style="background-color:#052f61; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a50e82; border-style: solid;
@@ -1209,7 +1207,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c62324; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SLICE6("Slice6", SchemeCostants.COLOR_052F61, SchemeCostants.COLOR_A50E82, SchemeCostants.COLOR_14967C, SchemeCostants.COLOR_6A9E1F, SchemeCostants.COLOR_E87D37, SchemeCostants.COLOR_C62324),
+	SLICE6("Slice6", "052f61a50e8214967c6a9e1fe87d37c62324"),
 	/**
 	 * Color scheme name "Slipstream6" - <span style="background-color:#4e67c8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5eccf3; border-style: solid;
@@ -1220,7 +1218,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f14124; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SLIPSTREAM6("Slipstream6", SchemeCostants.COLOR_4E67C8, SchemeCostants.COLOR_5ECCF3, SchemeCostants.COLOR_A7EA52, SchemeCostants.COLOR_5DCEAF, SchemeCostants.COLOR_FF8021, SchemeCostants.COLOR_F14124),
+	SLIPSTREAM6("Slipstream6", "4e67c85eccf3a7ea525dceafff8021f14124"),
 	/**
 	 * Color scheme name "SOHO6" - <span style="background-color:#61625e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#964d2c; border-style: solid;
@@ -1231,7 +1229,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ad7d4d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SOHO6("SOHO6", SchemeCostants.COLOR_61625E, SchemeCostants.COLOR_964D2C, SchemeCostants.COLOR_66553E, SchemeCostants.COLOR_848058, SchemeCostants.COLOR_AFA14B, SchemeCostants.COLOR_AD7D4D),
+	SOHO6("SOHO6", "61625e964d2c66553e848058afa14bad7d4d"),
 	/**
 	 * Color scheme name "Solstice6" - <span style="background-color:#3891a7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#feb80a; border-style: solid;
@@ -1242,7 +1240,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#475a8d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SOLSTICE6("Solstice6", SchemeCostants.COLOR_3891A7, SchemeCostants.COLOR_FEB80A, SchemeCostants.COLOR_C32D2E, SchemeCostants.COLOR_84AA33, SchemeCostants.COLOR_964305, SchemeCostants.COLOR_475A8D),
+	SOLSTICE6("Solstice6", "3891a7feb80ac32d2e84aa33964305475a8d"),
 	/**
 	 * Color scheme name "Spectrum6" - <span style="background-color:#990000; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ff6600; border-style: solid;
@@ -1253,7 +1251,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#333333; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SPECTRUM6("Spectrum6", SchemeCostants.COLOR_990000, SchemeCostants.COLOR_FF6600, SchemeCostants.COLOR_FFBA00, SchemeCostants.COLOR_99CC00, SchemeCostants.COLOR_528A02, SchemeCostants.COLOR_333333),
+	SPECTRUM6("Spectrum6", "990000ff6600ffba0099cc00528a02333333"),
 	/**
 	 * Color scheme name "Story6" - <span style="background-color:#1d86cd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#732e9a; border-style: solid;
@@ -1264,7 +1262,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2c9c89; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	STORY6("Story6", SchemeCostants.COLOR_1D86CD, SchemeCostants.COLOR_732E9A, SchemeCostants.COLOR_B50B1B, SchemeCostants.COLOR_E8950E, SchemeCostants.COLOR_55992B, SchemeCostants.COLOR_2C9C89),
+	STORY6("Story6", "1d86cd732e9ab50b1be8950e55992b2c9c89"),
 	/**
 	 * Color scheme name "Studio6" - <span style="background-color:#f7901e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fec60b; border-style: solid;
@@ -1275,7 +1273,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#542d90; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	STUDIO6("Studio6", SchemeCostants.COLOR_F7901E, SchemeCostants.COLOR_FEC60B, SchemeCostants.COLOR_9FE62F, SchemeCostants.COLOR_4EA5D1, SchemeCostants.COLOR_1C4596, SchemeCostants.COLOR_542D90),
+	STUDIO6("Studio6", "f7901efec60b9fe62f4ea5d11c4596542d90"),
 	/**
 	 * Color scheme name "Summer6" - <span style="background-color:#51a6c2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#51c2a9; border-style: solid;
@@ -1286,7 +1284,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a16bb1; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SUMMER6("Summer6", SchemeCostants.COLOR_51A6C2, SchemeCostants.COLOR_51C2A9, SchemeCostants.COLOR_7EC251, SchemeCostants.COLOR_E1DC53, SchemeCostants.COLOR_B54721, SchemeCostants.COLOR_A16BB1),
+	SUMMER6("Summer6", "51a6c251c2a97ec251e1dc53b54721a16bb1"),
 	/**
 	 * Color scheme name "Technic6" - <span style="background-color:#6ea0b0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccaf0a; border-style: solid;
@@ -1297,7 +1295,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7e848d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TECHNIC6("Technic6", SchemeCostants.COLOR_6EA0B0, SchemeCostants.COLOR_CCAF0A, SchemeCostants.COLOR_8D89A4, SchemeCostants.COLOR_748560, SchemeCostants.COLOR_9E9273, SchemeCostants.COLOR_7E848D),
+	TECHNIC6("Technic6", "6ea0b0ccaf0a8d89a47485609e92737e848d"),
 	/**
 	 * Color scheme name "Thatch6" - <span style="background-color:#759aa5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cfc60d; border-style: solid;
@@ -1308,7 +1306,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b9ab6f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	THATCH6("Thatch6", SchemeCostants.COLOR_759AA5, SchemeCostants.COLOR_CFC60D, SchemeCostants.COLOR_99987F, SchemeCostants.COLOR_90AC97, SchemeCostants.COLOR_FFAD1C, SchemeCostants.COLOR_B9AB6F),
+	THATCH6("Thatch6", "759aa5cfc60d99987f90ac97ffad1cb9ab6f"),
 	/**
 	 * Color scheme name "Tradition6" - <span style="background-color:#6b4a0b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#790a14; border-style: solid;
@@ -1319,7 +1317,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#748a2f; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TRADITION6("Tradition6", SchemeCostants.COLOR_6B4A0B, SchemeCostants.COLOR_790A14, SchemeCostants.COLOR_908342, SchemeCostants.COLOR_423E5C, SchemeCostants.COLOR_641345, SchemeCostants.COLOR_748A2F),
+	TRADITION6("Tradition6", "6b4a0b790a14908342423e5c641345748a2f"),
 	/**
 	 * Color scheme name "Travelogue6" - <span style="background-color:#b74d21; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a32323; border-style: solid;
@@ -1330,7 +1328,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bf7b1b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TRAVELOGUE6("Travelogue6", SchemeCostants.COLOR_B74D21, SchemeCostants.COLOR_A32323, SchemeCostants.COLOR_4576A3, SchemeCostants.COLOR_615D9A, SchemeCostants.COLOR_67924B, SchemeCostants.COLOR_BF7B1B),
+	TRAVELOGUE6("Travelogue6", "b74d21a323234576a3615d9a67924bbf7b1b"),
 	/**
 	 * Color scheme name "Trek6" - <span style="background-color:#f0a22e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a5644e; border-style: solid;
@@ -1341,7 +1339,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c17529; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TREK6("Trek6", SchemeCostants.COLOR_F0A22E, SchemeCostants.COLOR_A5644E, SchemeCostants.COLOR_B58B80, SchemeCostants.COLOR_C3986D, SchemeCostants.COLOR_A19574, SchemeCostants.COLOR_C17529),
+	TREK6("Trek6", "f0a22ea5644eb58b80c3986da19574c17529"),
 	/**
 	 * Color scheme name "Twilight6" - <span style="background-color:#e8bc4a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#83c1c6; border-style: solid;
@@ -1352,7 +1350,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cc5439; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TWILIGHT6("Twilight6", SchemeCostants.COLOR_E8BC4A, SchemeCostants.COLOR_83C1C6, SchemeCostants.COLOR_E78D35, SchemeCostants.COLOR_909CE1, SchemeCostants.COLOR_839C41, SchemeCostants.COLOR_CC5439),
+	TWILIGHT6("Twilight6", "e8bc4a83c1c6e78d35909ce1839c41cc5439"),
 	/**
 	 * Color scheme name "Urban6" - <span style="background-color:#53548a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#438086; border-style: solid;
@@ -1363,7 +1361,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5c92b5; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	URBAN6("Urban6", SchemeCostants.COLOR_53548A, SchemeCostants.COLOR_438086, SchemeCostants.COLOR_A04DA3, SchemeCostants.COLOR_C4652D, SchemeCostants.COLOR_8B5D3D, SchemeCostants.COLOR_5C92B5),
+	URBAN6("Urban6", "53548a438086a04da3c4652d8b5d3d5c92b5"),
 	/**
 	 * Color scheme name "UrbanPop6" - <span style="background-color:#86ce24; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#00a2e6; border-style: solid;
@@ -1374,7 +1372,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#958b8b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	URBAN_POP6("UrbanPop6", SchemeCostants.COLOR_86CE24, SchemeCostants.COLOR_00A2E6, SchemeCostants.COLOR_FAC810, SchemeCostants.COLOR_7D8F8C, SchemeCostants.COLOR_D06B20, SchemeCostants.COLOR_958B8B),
+	URBAN_POP6("UrbanPop6", "86ce2400a2e6fac8107d8f8cd06b20958b8b"),
 	/**
 	 * Color scheme name "VaporTrail6" - <span style="background-color:#df2e28; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fe801a; border-style: solid;
@@ -1385,7 +1383,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4a9bdc; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	VAPOR_TRAIL6("VaporTrail6", SchemeCostants.COLOR_DF2E28, SchemeCostants.COLOR_FE801A, SchemeCostants.COLOR_E9BF35, SchemeCostants.COLOR_81BB42, SchemeCostants.COLOR_32C7A9, SchemeCostants.COLOR_4A9BDC),
+	VAPOR_TRAIL6("VaporTrail6", "df2e28fe801ae9bf3581bb4232c7a94a9bdc"),
 	/**
 	 * Color scheme name "Venture6" - <span style="background-color:#9eb060; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d09a08; border-style: solid;
@@ -1396,7 +1394,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#553876; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	VENTURE6("Venture6", SchemeCostants.COLOR_9EB060, SchemeCostants.COLOR_D09A08, SchemeCostants.COLOR_F2EC86, SchemeCostants.COLOR_824F1C, SchemeCostants.COLOR_511818, SchemeCostants.COLOR_553876),
+	VENTURE6("Venture6", "9eb060d09a08f2ec86824f1c511818553876"),
 	/**
 	 * Color scheme name "Verve6" - <span style="background-color:#ff388c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e40059; border-style: solid;
@@ -1407,7 +1405,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#00349e; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	VERVE6("Verve6", SchemeCostants.COLOR_FF388C, SchemeCostants.COLOR_E40059, SchemeCostants.COLOR_9C007F, SchemeCostants.COLOR_68007F, SchemeCostants.COLOR_005BD3, SchemeCostants.COLOR_00349E),
+	VERVE6("Verve6", "ff388ce400599c007f68007f005bd300349e"),
 	/**
 	 * Color scheme name "View6" - <span style="background-color:#6f6f74; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#92a9b9; border-style: solid;
@@ -1418,7 +1416,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9b7362; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	VIEW6("View6", SchemeCostants.COLOR_6F6F74, SchemeCostants.COLOR_92A9B9, SchemeCostants.COLOR_A7B789, SchemeCostants.COLOR_B9A489, SchemeCostants.COLOR_8D6374, SchemeCostants.COLOR_9B7362),
+	VIEW6("View6", "6f6f7492a9b9a7b789b9a4898d63749b7362"),
 	/**
 	 * Color scheme name "Violet6" - <span style="background-color:#ad84c6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8784c7; border-style: solid;
@@ -1429,7 +1427,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6f8183; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	VIOLET6("Violet6", SchemeCostants.COLOR_AD84C6, SchemeCostants.COLOR_8784C7, SchemeCostants.COLOR_5D739A, SchemeCostants.COLOR_6997AF, SchemeCostants.COLOR_84ACB6, SchemeCostants.COLOR_6F8183),
+	VIOLET6("Violet6", "ad84c68784c75d739a6997af84acb66f8183"),
 	/**
 	 * Color scheme name "VioletII6" - <span style="background-color:#92278f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9b57d3; border-style: solid;
@@ -1440,7 +1438,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#5982db; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	VIOLET_II6("VioletII6", SchemeCostants.COLOR_92278F, SchemeCostants.COLOR_9B57D3, SchemeCostants.COLOR_755DD9, SchemeCostants.COLOR_665EB8, SchemeCostants.COLOR_45A5ED, SchemeCostants.COLOR_5982DB),
+	VIOLET_II6("VioletII6", "92278f9b57d3755dd9665eb845a5ed5982db"),
 	/**
 	 * Color scheme name "Waveform6" - <span style="background-color:#31b6fd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4584d3; border-style: solid;
@@ -1451,7 +1449,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#05e0db; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	WAVEFORM6("Waveform6", SchemeCostants.COLOR_31B6FD, SchemeCostants.COLOR_4584D3, SchemeCostants.COLOR_5BD078, SchemeCostants.COLOR_A5D028, SchemeCostants.COLOR_F5C040, SchemeCostants.COLOR_05E0DB),
+	WAVEFORM6("Waveform6", "31b6fd4584d35bd078a5d028f5c04005e0db"),
 	/**
 	 * Color scheme name "Wisp6" - <span style="background-color:#a53010; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#de7e18; border-style: solid;
@@ -1462,7 +1460,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6aac91; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	WISP6("Wisp6", SchemeCostants.COLOR_A53010, SchemeCostants.COLOR_DE7E18, SchemeCostants.COLOR_9F8351, SchemeCostants.COLOR_728653, SchemeCostants.COLOR_92AA4C, SchemeCostants.COLOR_6AAC91),
+	WISP6("Wisp6", "a53010de7e189f835172865392aa4c6aac91"),
 	/**
 	 * Color scheme name "WoodType6" - <span style="background-color:#d34817; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9b2d1f; border-style: solid;
@@ -1473,7 +1471,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#855d5d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	WOOD_TYPE6("WoodType6", SchemeCostants.COLOR_D34817, SchemeCostants.COLOR_9B2D1F, SchemeCostants.COLOR_A28E6A, SchemeCostants.COLOR_956251, SchemeCostants.COLOR_918485, SchemeCostants.COLOR_855D5D),
+	WOOD_TYPE6("WoodType6", "d348179b2d1fa28e6a956251918485855d5d"),
 	/**
 	 * Color scheme name "Yellow6" - <span style="background-color:#ffca08; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f8931d; border-style: solid;
@@ -1484,7 +1482,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9c6a6a; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YELLOW6("Yellow6", SchemeCostants.COLOR_FFCA08, SchemeCostants.COLOR_F8931D, SchemeCostants.COLOR_CE8D3E, SchemeCostants.COLOR_EC7016, SchemeCostants.COLOR_E64823, SchemeCostants.COLOR_9C6A6A),
+	YELLOW6("Yellow6", "ffca08f8931dce8d3eec7016e648239c6a6a"),
 	/**
 	 * Color scheme name "YellowOrange6" - <span style="background-color:#f0a22e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a5644e; border-style: solid;
@@ -1495,7 +1493,7 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c17529; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	YELLOW_ORANGE6("YellowOrange6", SchemeCostants.COLOR_F0A22E, SchemeCostants.COLOR_A5644E, SchemeCostants.COLOR_B58B80, SchemeCostants.COLOR_C3986D, SchemeCostants.COLOR_A19574, SchemeCostants.COLOR_C17529);
+	YELLOW_ORANGE6("YellowOrange6", "f0a22ea5644eb58b80c3986da19574c17529");
 
 	// Category name used to build the label to configure plugin.
 	private static final String CATEGORY = "office";
@@ -1503,18 +1501,15 @@ public enum OfficeScheme implements IsEnumeratedScheme
 	private final EnumeratedScheme scheme;
 
 	/**
-	 * Builds a scheme using argument as list of colors in HEX format.
+	 * Builds a scheme using argument as packed colors, 6 HEX digits (RRGGBB) for each color, which will be decoded only when
+	 * requested.
 	 *
 	 * @param value value of property name
-	 * @param hexColors list of colors in HEX format
-	 */
-	private OfficeScheme(String value, String... hexColors) {
-		scheme = new EnumeratedScheme(CATEGORY, value);
-		// scans all hex colors and creates ISCOLOR
-		for (String color : hexColors) {
-			// and adds them into the list
-			scheme.add(ColorBuilder.parse(color));
-		}
+	 * @param packedColors all colors of the scheme, 6 HEX digits (RRGGBB) for each color
+	 */
+	private OfficeScheme(String value, String packedColors) {
+		// colors are decoded when requested the first time
+		scheme = new EnumeratedScheme(CATEGORY, value, packedColors);
 	}
 
 	/*
@@ -15,7 +15,6 @@ limitations under the License.
 */
 package org.pepstock.charba.client.impl.plugins.enums;
 
-import org.pepstock.charba.client.colors.ColorBuilder;
 import org.pepstock.charba.client.impl.plugins.ColorScheme;
 import org.pepstock.charba.client.impl.plugins.ColorSchemes;
 
@@ -46,8 +45,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bab0ac; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TABLEAU10("Tableau10", SchemeCostants.COLOR_4E79A7, SchemeCostants.COLOR_F28E2B, SchemeCostants.COLOR_E15759, SchemeCostants.COLOR_76B7B2, SchemeCostants.COLOR_59A14F, SchemeCostants.COLOR_EDC948, SchemeCostants.COLOR_B07AA1,
-			SchemeCostants.COLOR_FF9DA7, SchemeCostants.COLOR_9C755F, SchemeCostants.COLOR_BAB0AC),
+	TABLEAU10("Tableau10", "4e79a7f28e2be1575976b7b259a14fedc948b07aa1ff9da79c755fbab0ac"),
 	/**
 	 * Color scheme name "Tableau20" - <span style="background-color:#4e79a7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a0cbe8; border-style: solid;
@@ -75,9 +73,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d7b5a6;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TABLEAU20("Tableau20", SchemeCostants.COLOR_4E79A7, SchemeCostants.COLOR_A0CBE8, SchemeCostants.COLOR_F28E2B, SchemeCostants.COLOR_FFBE7D, SchemeCostants.COLOR_59A14F, SchemeCostants.COLOR_8CD17D, SchemeCostants.COLOR_B6992D,
-			SchemeCostants.COLOR_F1CE63, SchemeCostants.COLOR_499894, SchemeCostants.COLOR_86BCB6, SchemeCostants.COLOR_E15759, SchemeCostants.COLOR_FF9D9A, SchemeCostants.COLOR_79706E, SchemeCostants.COLOR_BAB0AC, SchemeCostants.COLOR_D37295,
-			SchemeCostants.COLOR_FABFD2, SchemeCostants.COLOR_B07AA1, SchemeCostants.COLOR_D4A6C8, SchemeCostants.COLOR_9D7660, SchemeCostants.COLOR_D7B5A6),
+	TABLEAU20("Tableau20", "4e79a7a0cbe8f28e2bffbe7d59a14f8cd17db6992df1ce6349989486bcb6e15759ff9d9a79706ebab0acd37295fabfd2b07aa1d4a6c89d7660d7b5a6"),
 	/**
 	 * Color scheme name "ColorBlind10" - <span style="background-color:#1170aa; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fc7d0b; border-style: solid;
@@ -93,8 +89,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c8d0d9; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	COLOR_BLIND10("ColorBlind10", SchemeCostants.COLOR_1170AA, SchemeCostants.COLOR_FC7D0B, SchemeCostants.COLOR_A3ACB9, SchemeCostants.COLOR_57606C, SchemeCostants.COLOR_5FA2CE, SchemeCostants.COLOR_C85200, SchemeCostants.COLOR_7B848F,
-			SchemeCostants.COLOR_A3CCE9, SchemeCostants.COLOR_FFBC79, SchemeCostants.COLOR_C8D0D9),
+	COLOR_BLIND10("ColorBlind10", "1170aafc7d0ba3acb957606c5fa2cec852007b848fa3cce9ffbc79c8d0d9"),
 	/**
 	 * Color scheme name "SeattleGrays5" - <span style="background-color:#767f8b; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b3b7b8; border-style: solid;
@@ -103,7 +98,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#989ca3; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SEATTLE_GRAYS5("SeattleGrays5", SchemeCostants.COLOR_767F8B, SchemeCostants.COLOR_B3B7B8, SchemeCostants.COLOR_5C6068, SchemeCostants.COLOR_D3D3D3, SchemeCostants.COLOR_989CA3),
+	SEATTLE_GRAYS5("SeattleGrays5", "767f8bb3b7b85c6068d3d3d3989ca3"),
 	/**
 	 * Color scheme name "Traffic9" - <span style="background-color:#b60a1c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e39802; border-style: solid;
@@ -117,8 +112,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#8ace7e; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TRAFFIC9("Traffic9", SchemeCostants.COLOR_B60A1C, SchemeCostants.COLOR_E39802, SchemeCostants.COLOR_309143, SchemeCostants.COLOR_E03531, SchemeCostants.COLOR_F0BD27, SchemeCostants.COLOR_51B364, SchemeCostants.COLOR_FF684C,
-			SchemeCostants.COLOR_FFDA66, SchemeCostants.COLOR_8ACE7E),
+	TRAFFIC9("Traffic9", "b60a1ce39802309143e03531f0bd2751b364ff684cffda668ace7e"),
 	/**
 	 * Color scheme name "MillerStone11" - <span style="background-color:#4f6980; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#849db1; border-style: solid;
@@ -135,8 +129,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7e756d; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	MILLER_STONE11("MillerStone11", SchemeCostants.COLOR_4F6980, SchemeCostants.COLOR_849DB1, SchemeCostants.COLOR_A2CEAA, SchemeCostants.COLOR_638B66, SchemeCostants.COLOR_BFBB60, SchemeCostants.COLOR_F47942, SchemeCostants.COLOR_FBB04E,
-			SchemeCostants.COLOR_B66353, SchemeCostants.COLOR_D7CE9F, SchemeCostants.COLOR_B9AA97, SchemeCostants.COLOR_7E756D),
+	MILLER_STONE11("MillerStone11", "4f6980849db1a2ceaa638b66bfbb60f47942fbb04eb66353d7ce9fb9aa977e756d"),
 	/**
 	 * Color scheme name "SuperfishelStone10" - <span style="background-color:#6388b4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffae34; border-style: solid;
@@ -152,8 +145,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#767676; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SUPERFISHEL_STONE10("SuperfishelStone10", SchemeCostants.COLOR_6388B4, SchemeCostants.COLOR_FFAE34, SchemeCostants.COLOR_EF6F6A, SchemeCostants.COLOR_8CC2CA, SchemeCostants.COLOR_55AD89, SchemeCostants.COLOR_C3BC3F, SchemeCostants.COLOR_BB7693,
-			SchemeCostants.COLOR_BAA094, SchemeCostants.COLOR_A9B5AE, SchemeCostants.COLOR_767676),
+	SUPERFISHEL_STONE10("SuperfishelStone10", "6388b4ffae34ef6f6a8cc2ca55ad89c3bc3fbb7693baa094a9b5ae767676"),
 	/**
 	 * Color scheme name "NurielStone9" - <span style="background-color:#8175aa; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6fb899; border-style: solid;
@@ -167,8 +159,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#9f8f12; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	NURIEL_STONE9("NurielStone9", SchemeCostants.COLOR_8175AA, SchemeCostants.COLOR_6FB899, SchemeCostants.COLOR_31A1B3, SchemeCostants.COLOR_CCB22B, SchemeCostants.COLOR_A39FC9, SchemeCostants.COLOR_94D0C0, SchemeCostants.COLOR_959C9E,
-			SchemeCostants.COLOR_027B8E, SchemeCostants.COLOR_9F8F12),
+	NURIEL_STONE9("NurielStone9", "8175aa6fb89931a1b3ccb22ba39fc994d0c0959c9e027b8e9f8f12"),
 	/**
 	 * Color scheme name "JewelBright9" - <span style="background-color:#eb1e2c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fd6f30; border-style: solid;
@@ -182,8 +173,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#bbc9e5; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	JEWEL_BRIGHT9("JewelBright9", SchemeCostants.COLOR_EB1E2C, SchemeCostants.COLOR_FD6F30, SchemeCostants.COLOR_F9A729, SchemeCostants.COLOR_F9D23C, SchemeCostants.COLOR_5FBB68, SchemeCostants.COLOR_64CDCC, SchemeCostants.COLOR_91DCEA,
-			SchemeCostants.COLOR_A4A4D5, SchemeCostants.COLOR_BBC9E5),
+	JEWEL_BRIGHT9("JewelBright9", "eb1e2cfd6f30f9a729f9d23c5fbb6864cdcc91dceaa4a4d5bbc9e5"),
 	/**
 	 * Color scheme name "Summer8" - <span style="background-color:#bfb202; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b9ca5d; border-style: solid;
@@ -196,7 +186,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f7c480;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SUMMER8("Summer8", SchemeCostants.COLOR_BFB202, SchemeCostants.COLOR_B9CA5D, SchemeCostants.COLOR_CF3E53, SchemeCostants.COLOR_F1788D, SchemeCostants.COLOR_00A2B3, SchemeCostants.COLOR_97CFD0, SchemeCostants.COLOR_F3A546, SchemeCostants.COLOR_F7C480),
+	SUMMER8("Summer8", "bfb202b9ca5dcf3e53f1788d00a2b397cfd0f3a546f7c480"),
 	/**
 	 * Color scheme name "Winter10" - <span style="background-color:#90728f; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b9a0b4; border-style: solid;
@@ -212,8 +202,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dab6af; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	WINTER10("Winter10", SchemeCostants.COLOR_90728F, SchemeCostants.COLOR_B9A0B4, SchemeCostants.COLOR_9D983D, SchemeCostants.COLOR_CECB76, SchemeCostants.COLOR_E15759, SchemeCostants.COLOR_FF9888, SchemeCostants.COLOR_6B6B6B,
-			SchemeCostants.COLOR_BAB2AE, SchemeCostants.COLOR_AA8780, SchemeCostants.COLOR_DAB6AF),
+	WINTER10("Winter10", "90728fb9a0b49d983dcecb76e15759ff98886b6b6bbab2aeaa8780dab6af"),
 	/**
 	 * Color scheme name "GreenOrangeTeal12" - <span style="background-color:#4e9f50; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#87d180; border-style: solid;
@@ -231,8 +220,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#8dbfa8;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREEN_ORANGE_TEAL12("GreenOrangeTeal12", SchemeCostants.COLOR_4E9F50, SchemeCostants.COLOR_87D180, SchemeCostants.COLOR_EF8A0C, SchemeCostants.COLOR_FCC66D, SchemeCostants.COLOR_3CA8BC, SchemeCostants.COLOR_98D9E4, SchemeCostants.COLOR_94A323,
-			SchemeCostants.COLOR_C3CE3D, SchemeCostants.COLOR_A08400, SchemeCostants.COLOR_F7D42A, SchemeCostants.COLOR_26897E, SchemeCostants.COLOR_8DBFA8),
+	GREEN_ORANGE_TEAL12("GreenOrangeTeal12", "4e9f5087d180ef8a0cfcc66d3ca8bc98d9e494a323c3ce3da08400f7d42a26897e8dbfa8"),
 	/**
 	 * Color scheme name "RedBlueBrown12" - <span style="background-color:#466f9d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#91b3d7; border-style: solid;
@@ -250,8 +238,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ea8783;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_BLUE_BROWN12("RedBlueBrown12", SchemeCostants.COLOR_466F9D, SchemeCostants.COLOR_91B3D7, SchemeCostants.COLOR_ED444A, SchemeCostants.COLOR_FEB5A2, SchemeCostants.COLOR_9D7660, SchemeCostants.COLOR_D7B5A6, SchemeCostants.COLOR_3896C4,
-			SchemeCostants.COLOR_A0D4EE, SchemeCostants.COLOR_BA7E45, SchemeCostants.COLOR_39B87F, SchemeCostants.COLOR_C8133B, SchemeCostants.COLOR_EA8783),
+	RED_BLUE_BROWN12("RedBlueBrown12", "466f9d91b3d7ed444afeb5a29d7660d7b5a63896c4a0d4eeba7e4539b87fc8133bea8783"),
 	/**
 	 * Color scheme name "PurplePinkGray12" - <span style="background-color:#8074a8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c6c1f0; border-style: solid;
@@ -269,8 +256,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c799bc;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLE_PINK_GRAY12("PurplePinkGray12", SchemeCostants.COLOR_8074A8, SchemeCostants.COLOR_C6C1F0, SchemeCostants.COLOR_C46487, SchemeCostants.COLOR_FFBED1, SchemeCostants.COLOR_9C9290, SchemeCostants.COLOR_C5BFBE, SchemeCostants.COLOR_9B93C9,
-			SchemeCostants.COLOR_DDB5D5, SchemeCostants.COLOR_7C7270, SchemeCostants.COLOR_F498B6, SchemeCostants.COLOR_B173A0, SchemeCostants.COLOR_C799BC),
+	PURPLE_PINK_GRAY12("PurplePinkGray12", "8074a8c6c1f0c46487ffbed19c9290c5bfbe9b93c9ddb5d57c7270f498b6b173a0c799bc"),
 	/**
 	 * Color scheme name "HueCircle19" - <span style="background-color:#1ba3c6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2cb5c0; border-style: solid;
@@ -297,9 +283,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#4f7cba; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	HUE_CIRCLE19("HueCircle19", SchemeCostants.COLOR_1BA3C6, SchemeCostants.COLOR_2CB5C0, SchemeCostants.COLOR_30BCAD, SchemeCostants.COLOR_21B087, SchemeCostants.COLOR_33A65C, SchemeCostants.COLOR_57A337, SchemeCostants.COLOR_A2B627,
-			SchemeCostants.COLOR_D5BB21, SchemeCostants.COLOR_F8B620, SchemeCostants.COLOR_F89217, SchemeCostants.COLOR_F06719, SchemeCostants.COLOR_E03426, SchemeCostants.COLOR_F64971, SchemeCostants.COLOR_FC719E, SchemeCostants.COLOR_EB73B3,
-			SchemeCostants.COLOR_CE69BE, SchemeCostants.COLOR_A26DC2, SchemeCostants.COLOR_7873C0, SchemeCostants.COLOR_4F7CBA),
+	HUE_CIRCLE19("HueCircle19", "1ba3c62cb5c030bcad21b08733a65c57a337a2b627d5bb21f8b620f89217f06719e03426f64971fc719eeb73b3ce69bea26dc27873c04f7cba"),
 	/**
 	 * Color scheme name "OrangeBlue7" - <span style="background-color:#9e3d22; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d45b21; border-style: solid;
@@ -311,7 +295,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2b5c8a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE_BLUE7("OrangeBlue7", SchemeCostants.COLOR_9E3D22, SchemeCostants.COLOR_D45B21, SchemeCostants.COLOR_F69035, SchemeCostants.COLOR_D9D5C9, SchemeCostants.COLOR_77ACD3, SchemeCostants.COLOR_4F81AF, SchemeCostants.COLOR_2B5C8A),
+	ORANGE_BLUE7("OrangeBlue7", "9e3d22d45b21f69035d9d5c977acd34f81af2b5c8a"),
 	/**
 	 * Color scheme name "RedGreen7" - <span style="background-color:#a3123a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e33f43; border-style: solid;
@@ -323,7 +307,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#24693d; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_GREEN7("RedGreen7", SchemeCostants.COLOR_A3123A, SchemeCostants.COLOR_E33F43, SchemeCostants.COLOR_F8816B, SchemeCostants.COLOR_CED7C3, SchemeCostants.COLOR_73BA67, SchemeCostants.COLOR_44914E, SchemeCostants.COLOR_24693D),
+	RED_GREEN7("RedGreen7", "a3123ae33f43f8816bced7c373ba6744914e24693d"),
 	/**
 	 * Color scheme name "GreenBlue7" - <span style="background-color:#24693d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#45934d; border-style: solid;
@@ -335,7 +319,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2a5783; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREEN_BLUE7("GreenBlue7", SchemeCostants.COLOR_24693D, SchemeCostants.COLOR_45934D, SchemeCostants.COLOR_75BC69, SchemeCostants.COLOR_C9DAD2, SchemeCostants.COLOR_77A9CF, SchemeCostants.COLOR_4E7FAB, SchemeCostants.COLOR_2A5783),
+	GREEN_BLUE7("GreenBlue7", "24693d45934d75bc69c9dad277a9cf4e7fab2a5783"),
 	/**
 	 * Color scheme name "RedBlue7" - <span style="background-color:#a90c38; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e03b42; border-style: solid;
@@ -347,7 +331,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2e5a87; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_BLUE7("RedBlue7", SchemeCostants.COLOR_A90C38, SchemeCostants.COLOR_E03B42, SchemeCostants.COLOR_F87F69, SchemeCostants.COLOR_DFD4D1, SchemeCostants.COLOR_7EAED3, SchemeCostants.COLOR_5383AF, SchemeCostants.COLOR_2E5A87),
+	RED_BLUE7("RedBlue7", "a90c38e03b42f87f69dfd4d17eaed35383af2e5a87"),
 	/**
 	 * Color scheme name "RedBlack7" - <span style="background-color:#ae123a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e33e43; border-style: solid;
@@ -359,7 +343,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#49525e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_BLACK7("RedBlack7", SchemeCostants.COLOR_AE123A, SchemeCostants.COLOR_E33E43, SchemeCostants.COLOR_F8816B, SchemeCostants.COLOR_D9D9D9, SchemeCostants.COLOR_A0A7A8, SchemeCostants.COLOR_707C83, SchemeCostants.COLOR_49525E),
+	RED_BLACK7("RedBlack7", "ae123ae33e43f8816bd9d9d9a0a7a8707c8349525e"),
 	/**
 	 * Color scheme name "GoldPurple7" - <span style="background-color:#ad9024; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c1a33b; border-style: solid;
@@ -371,7 +355,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ac7299; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GOLD_PURPLE7("GoldPurple7", SchemeCostants.COLOR_AD9024, SchemeCostants.COLOR_C1A33B, SchemeCostants.COLOR_D4B95E, SchemeCostants.COLOR_E3D8CF, SchemeCostants.COLOR_D4A3C3, SchemeCostants.COLOR_C189B0, SchemeCostants.COLOR_AC7299),
+	GOLD_PURPLE7("GoldPurple7", "ad9024c1a33bd4b95ee3d8cfd4a3c3c189b0ac7299"),
 	/**
 	 * Color scheme name "RedGreenGold7" - <span style="background-color:#be2a3e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e25f48; border-style: solid;
@@ -383,7 +367,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#22763f; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_GREEN_GOLD7("RedGreenGold7", SchemeCostants.COLOR_BE2A3E, SchemeCostants.COLOR_E25F48, SchemeCostants.COLOR_F88F4D, SchemeCostants.COLOR_F4D166, SchemeCostants.COLOR_90B960, SchemeCostants.COLOR_4B9B5F, SchemeCostants.COLOR_22763F),
+	RED_GREEN_GOLD7("RedGreenGold7", "be2a3ee25f48f88f4df4d16690b9604b9b5f22763f"),
 	/**
 	 * Color scheme name "SunsetSunrise7" - <span style="background-color:#33608c; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9768a5; border-style: solid;
@@ -395,7 +379,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b81840; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	SUNSET_SUNRISE7("SunsetSunrise7", SchemeCostants.COLOR_33608C, SchemeCostants.COLOR_9768A5, SchemeCostants.COLOR_E7718A, SchemeCostants.COLOR_F6BA57, SchemeCostants.COLOR_ED7846, SchemeCostants.COLOR_D54C45, SchemeCostants.COLOR_B81840),
+	SUNSET_SUNRISE7("SunsetSunrise7", "33608c9768a5e7718af6ba57ed7846d54c45b81840"),
 	/**
 	 * Color scheme name "OrangeBlueWhite7" - <span style="background-color:#9e3d22; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e36621; border-style: solid;
@@ -407,7 +391,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2b5c8a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE_BLUE_WHITE7("OrangeBlueWhite7", SchemeCostants.COLOR_9E3D22, SchemeCostants.COLOR_E36621, SchemeCostants.COLOR_FCAD52, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_95C5E1, SchemeCostants.COLOR_5B8FBC, SchemeCostants.COLOR_2B5C8A),
+	ORANGE_BLUE_WHITE7("OrangeBlueWhite7", "9e3d22e36621fcad52ffffff95c5e15b8fbc2b5c8a"),
 	/**
 	 * Color scheme name "RedGreenWhite7" - <span style="background-color:#ae123a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ee574d; border-style: solid;
@@ -419,7 +403,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#24693d; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_GREEN_WHITE7("RedGreenWhite7", SchemeCostants.COLOR_AE123A, SchemeCostants.COLOR_EE574D, SchemeCostants.COLOR_FDAC9E, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_91D183, SchemeCostants.COLOR_539E52, SchemeCostants.COLOR_24693D),
+	RED_GREEN_WHITE7("RedGreenWhite7", "ae123aee574dfdac9effffff91d183539e5224693d"),
 	/**
 	 * Color scheme name "GreenBlueWhite7" - <span style="background-color:#24693d; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#529c51; border-style: solid;
@@ -431,7 +415,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2a5783; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREEN_BLUE_WHITE7("GreenBlueWhite7", SchemeCostants.COLOR_24693D, SchemeCostants.COLOR_529C51, SchemeCostants.COLOR_8FD180, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_95C1DD, SchemeCostants.COLOR_598AB5, SchemeCostants.COLOR_2A5783),
+	GREEN_BLUE_WHITE7("GreenBlueWhite7", "24693d529c518fd180ffffff95c1dd598ab52a5783"),
 	/**
 	 * Color scheme name "RedBlueWhite7" - <span style="background-color:#a90c38; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ec534b; border-style: solid;
@@ -443,7 +427,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2e5a87; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_BLUE_WHITE7("RedBlueWhite7", SchemeCostants.COLOR_A90C38, SchemeCostants.COLOR_EC534B, SchemeCostants.COLOR_FEAA9A, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_9AC4E1, SchemeCostants.COLOR_5C8DB8, SchemeCostants.COLOR_2E5A87),
+	RED_BLUE_WHITE7("RedBlueWhite7", "a90c38ec534bfeaa9affffff9ac4e15c8db82e5a87"),
 	/**
 	 * Color scheme name "RedBlackWhite7" - <span style="background-color:#ae123a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ee574d; border-style: solid;
@@ -455,7 +439,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#49525e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_BLACK_WHITE7("RedBlackWhite7", SchemeCostants.COLOR_AE123A, SchemeCostants.COLOR_EE574D, SchemeCostants.COLOR_FDAC9D, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_BDC0BF, SchemeCostants.COLOR_7D888D, SchemeCostants.COLOR_49525E),
+	RED_BLACK_WHITE7("RedBlackWhite7", "ae123aee574dfdac9dffffffbdc0bf7d888d49525e"),
 	/**
 	 * Color scheme name "OrangeBlueLight7" - <span style="background-color:#ffcc9e; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f9d4b6; border-style: solid;
@@ -467,7 +451,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c4d8f3; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE_BLUE_LIGHT7("OrangeBlueLight7", SchemeCostants.COLOR_FFCC9E, SchemeCostants.COLOR_F9D4B6, SchemeCostants.COLOR_F0DCCD, SchemeCostants.COLOR_E5E5E5, SchemeCostants.COLOR_DAE1EA, SchemeCostants.COLOR_CFDCEF, SchemeCostants.COLOR_C4D8F3),
+	ORANGE_BLUE_LIGHT7("OrangeBlueLight7", "ffcc9ef9d4b6f0dccde5e5e5dae1eacfdcefc4d8f3"),
 	/**
 	 * Color scheme name "Temperature7" - <span style="background-color:#529985; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6c9e6e; border-style: solid;
@@ -479,7 +463,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c26b51; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	TEMPERATURE7("Temperature7", SchemeCostants.COLOR_529985, SchemeCostants.COLOR_6C9E6E, SchemeCostants.COLOR_99B059, SchemeCostants.COLOR_DBCF47, SchemeCostants.COLOR_EBC24B, SchemeCostants.COLOR_E3A14F, SchemeCostants.COLOR_C26B51),
+	TEMPERATURE7("Temperature7", "5299856c9e6e99b059dbcf47ebc24be3a14fc26b51"),
 	/**
 	 * Color scheme name "BlueGreen7" - <span style="background-color:#feffd9; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f2fabf; border-style: solid;
@@ -491,7 +475,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#41b7c4; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE_GREEN7("BlueGreen7", SchemeCostants.COLOR_FEFFD9, SchemeCostants.COLOR_F2FABF, SchemeCostants.COLOR_DFF3B2, SchemeCostants.COLOR_C4EAB1, SchemeCostants.COLOR_94D6B7, SchemeCostants.COLOR_69C5BE, SchemeCostants.COLOR_41B7C4),
+	BLUE_GREEN7("BlueGreen7", "feffd9f2fabfdff3b2c4eab194d6b769c5be41b7c4"),
 	/**
 	 * Color scheme name "BlueLight7" - <span style="background-color:#e5e5e5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e0e3e8; border-style: solid;
@@ -503,7 +487,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c4d8f3; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE_LIGHT7("BlueLight7", SchemeCostants.COLOR_E5E5E5, SchemeCostants.COLOR_E0E3E8, SchemeCostants.COLOR_DBE1EA, SchemeCostants.COLOR_D5DFEC, SchemeCostants.COLOR_D0DCEF, SchemeCostants.COLOR_CADAF1, SchemeCostants.COLOR_C4D8F3),
+	BLUE_LIGHT7("BlueLight7", "e5e5e5e0e3e8dbe1ead5dfecd0dcefcadaf1c4d8f3"),
 	/**
 	 * Color scheme name "OrangeLight7" - <span style="background-color:#e5e5e5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ebe1d9; border-style: solid;
@@ -515,7 +499,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffcc9e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE_LIGHT7("OrangeLight7", SchemeCostants.COLOR_E5E5E5, SchemeCostants.COLOR_EBE1D9, SchemeCostants.COLOR_F0DDCD, SchemeCostants.COLOR_F5D9C2, SchemeCostants.COLOR_F9D4B6, SchemeCostants.COLOR_FDD0AA, SchemeCostants.COLOR_FFCC9E),
+	ORANGE_LIGHT7("OrangeLight7", "e5e5e5ebe1d9f0ddcdf5d9c2f9d4b6fdd0aaffcc9e"),
 	/**
 	 * Color scheme name "Blue20" - <span style="background-color:#b9ddf1; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#afd6ed; border-style: solid;
@@ -543,9 +527,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2a5783;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE20("Blue20", SchemeCostants.COLOR_B9DDF1, SchemeCostants.COLOR_AFD6ED, SchemeCostants.COLOR_A5CFE9, SchemeCostants.COLOR_9BC7E4, SchemeCostants.COLOR_92C0DF, SchemeCostants.COLOR_89B8DA, SchemeCostants.COLOR_80B0D5, SchemeCostants.COLOR_79AACF,
-			SchemeCostants.COLOR_72A3C9, SchemeCostants.COLOR_6A9BC3, SchemeCostants.COLOR_6394BE, SchemeCostants.COLOR_5B8CB8, SchemeCostants.COLOR_5485B2, SchemeCostants.COLOR_4E7FAC, SchemeCostants.COLOR_4878A6, SchemeCostants.COLOR_437A9F,
-			SchemeCostants.COLOR_3D6A98, SchemeCostants.COLOR_376491, SchemeCostants.COLOR_305D8A, SchemeCostants.COLOR_2A5783),
+	BLUE20("Blue20", "b9ddf1afd6eda5cfe99bc7e492c0df89b8da80b0d579aacf72a3c96a9bc36394be5b8cb85485b24e7fac4878a6437a9f3d6a98376491305d8a2a5783"),
 	/**
 	 * Color scheme name "Orange20" - <span style="background-color:#ffc685; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcbe75; border-style: solid;
@@ -573,9 +555,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9e3d22;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE20("Orange20", SchemeCostants.COLOR_FFC685, SchemeCostants.COLOR_FCBE75, SchemeCostants.COLOR_F9B665, SchemeCostants.COLOR_F7AE54, SchemeCostants.COLOR_F5A645, SchemeCostants.COLOR_F59C3C, SchemeCostants.COLOR_F49234,
-			SchemeCostants.COLOR_F2882D, SchemeCostants.COLOR_F07E27, SchemeCostants.COLOR_EE7422, SchemeCostants.COLOR_E96B20, SchemeCostants.COLOR_E36420, SchemeCostants.COLOR_DB5E20, SchemeCostants.COLOR_D25921, SchemeCostants.COLOR_CA5422,
-			SchemeCostants.COLOR_C14F22, SchemeCostants.COLOR_B84B23, SchemeCostants.COLOR_AF4623, SchemeCostants.COLOR_A64122, SchemeCostants.COLOR_9E3D22),
+	ORANGE20("Orange20", "ffc685fcbe75f9b665f7ae54f5a645f59c3cf49234f2882df07e27ee7422e96b20e36420db5e20d25921ca5422c14f22b84b23af4623a641229e3d22"),
 	/**
 	 * Color scheme name "Green20" - <span style="background-color:#b3e0a6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a5db96; border-style: solid;
@@ -603,9 +583,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#24693d;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREEN20("Green20", SchemeCostants.COLOR_B3E0A6, SchemeCostants.COLOR_A5DB96, SchemeCostants.COLOR_98D687, SchemeCostants.COLOR_8ED07F, SchemeCostants.COLOR_85CA77, SchemeCostants.COLOR_7DC370, SchemeCostants.COLOR_75BC69, SchemeCostants.COLOR_6EB663,
-			SchemeCostants.COLOR_67AF5C, SchemeCostants.COLOR_61A956, SchemeCostants.COLOR_59A253, SchemeCostants.COLOR_519C51, SchemeCostants.COLOR_49964F, SchemeCostants.COLOR_428F4D, SchemeCostants.COLOR_398949, SchemeCostants.COLOR_308344,
-			SchemeCostants.COLOR_2B7C40, SchemeCostants.COLOR_27763D, SchemeCostants.COLOR_256F3D, SchemeCostants.COLOR_24693D),
+	GREEN20("Green20", "b3e0a6a5db9698d6878ed07f85ca777dc37075bc696eb66367af5c61a95659a253519c5149964f428f4d3989493083442b7c4027763d256f3d24693d"),
 	/**
 	 * Color scheme name "Red20" - <span style="background-color:#ffbeb2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#feb4a6; border-style: solid;
@@ -633,9 +611,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ae123a;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED20("Red20", SchemeCostants.COLOR_FFBEB2, SchemeCostants.COLOR_FEB4A6, SchemeCostants.COLOR_FDAB9B, SchemeCostants.COLOR_FCA290, SchemeCostants.COLOR_FB9984, SchemeCostants.COLOR_FA8F79, SchemeCostants.COLOR_F9856E, SchemeCostants.COLOR_F77B66,
-			SchemeCostants.COLOR_F5715D, SchemeCostants.COLOR_F36754, SchemeCostants.COLOR_F05C4D, SchemeCostants.COLOR_EC5049, SchemeCostants.COLOR_E74545, SchemeCostants.COLOR_E13B42, SchemeCostants.COLOR_DA323F, SchemeCostants.COLOR_D3293D,
-			SchemeCostants.COLOR_CA223C, SchemeCostants.COLOR_C11A3B, SchemeCostants.COLOR_B8163A, SchemeCostants.COLOR_AE123A),
+	RED20("Red20", "ffbeb2feb4a6fdab9bfca290fb9984fa8f79f9856ef77b66f5715df36754f05c4dec5049e74545e13b42da323fd3293dca223cc11a3bb8163aae123a"),
 	/**
 	 * Color scheme name "Purple20" - <span style="background-color:#eec9e5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#eac1df; border-style: solid;
@@ -663,9 +639,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7c4d79;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	PURPLE20("Purple20", SchemeCostants.COLOR_EEC9E5, SchemeCostants.COLOR_EAC1DF, SchemeCostants.COLOR_E6B9D9, SchemeCostants.COLOR_E0B2D2, SchemeCostants.COLOR_DAABCB, SchemeCostants.COLOR_D5A4C4, SchemeCostants.COLOR_CF9DBE,
-			SchemeCostants.COLOR_CA96B8, SchemeCostants.COLOR_C48FB2, SchemeCostants.COLOR_BE89AC, SchemeCostants.COLOR_B882A6, SchemeCostants.COLOR_B27BA1, SchemeCostants.COLOR_AA759D, SchemeCostants.COLOR_A27099, SchemeCostants.COLOR_9A6A96,
-			SchemeCostants.COLOR_926591, SchemeCostants.COLOR_8C5F86, SchemeCostants.COLOR_865986, SchemeCostants.COLOR_81537F, SchemeCostants.COLOR_7C4D79),
+	PURPLE20("Purple20", "eec9e5eac1dfe6b9d9e0b2d2daabcbd5a4c4cf9dbeca96b8c48fb2be89acb882a6b27ba1aa759da270999a6a969265918c5f8686598681537f7c4d79"),
 	/**
 	 * Color scheme name "Brown20" - <span style="background-color:#eedbbd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ecd2ad; border-style: solid;
@@ -693,9 +667,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9f3632;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BROWN20("Brown20", SchemeCostants.COLOR_EEDBBD, SchemeCostants.COLOR_ECD2AD, SchemeCostants.COLOR_EBC994, SchemeCostants.COLOR_EAC085, SchemeCostants.COLOR_E8B777, SchemeCostants.COLOR_E5AE6C, SchemeCostants.COLOR_E2A562, SchemeCostants.COLOR_DE9D5A,
-			SchemeCostants.COLOR_D99455, SchemeCostants.COLOR_D38C54, SchemeCostants.COLOR_CE8451, SchemeCostants.COLOR_C9784D, SchemeCostants.COLOR_C47247, SchemeCostants.COLOR_C16941, SchemeCostants.COLOR_BD6036, SchemeCostants.COLOR_B85636,
-			SchemeCostants.COLOR_B34D34, SchemeCostants.COLOR_AD4433, SchemeCostants.COLOR_A63D32, SchemeCostants.COLOR_9F3632),
+	BROWN20("Brown20", "eedbbdecd2adebc994eac085e8b777e5ae6ce2a562de9d5ad99455d38c54ce8451c9784dc47247c16941bd6036b85636b34d34ad4433a63d329f3632"),
 	/**
 	 * Color scheme name "Gray20" - <span style="background-color:#d5d5d5; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cdcecd; border-style: solid;
@@ -723,9 +695,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#49525e;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GRAY20("Gray20", SchemeCostants.COLOR_D5D5D5, SchemeCostants.COLOR_CDCECD, SchemeCostants.COLOR_C5C7C6, SchemeCostants.COLOR_BCBFBE, SchemeCostants.COLOR_B4B7B7, SchemeCostants.COLOR_ACB0B1, SchemeCostants.COLOR_A4A9AB, SchemeCostants.COLOR_9CA3A4,
-			SchemeCostants.COLOR_939C9E, SchemeCostants.COLOR_8B9598, SchemeCostants.COLOR_848E93, SchemeCostants.COLOR_7C878D, SchemeCostants.COLOR_758087, SchemeCostants.COLOR_6E7A81, SchemeCostants.COLOR_67737C, SchemeCostants.COLOR_616C77,
-			SchemeCostants.COLOR_5B6570, SchemeCostants.COLOR_555F6A, SchemeCostants.COLOR_4F5864, SchemeCostants.COLOR_49525E),
+	GRAY20("Gray20", "d5d5d5cdcecdc5c7c6bcbfbeb4b7b7acb0b1a4a9ab9ca3a4939c9e8b9598848e937c878d7580876e7a8167737c616c775b6570555f6a4f586449525e"),
 	/**
 	 * Color scheme name "GrayWarm20" - <span style="background-color:#dcd4d0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d4ccc8; border-style: solid;
@@ -753,9 +723,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#59504e;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GRAY_WARM20("GrayWarm20", SchemeCostants.COLOR_DCD4D0, SchemeCostants.COLOR_D4CCC8, SchemeCostants.COLOR_CDC4C0, SchemeCostants.COLOR_C5BDB9, SchemeCostants.COLOR_BEB6B2, SchemeCostants.COLOR_B7AFAB, SchemeCostants.COLOR_B0A7A4,
-			SchemeCostants.COLOR_A9A09D, SchemeCostants.COLOR_A29996, SchemeCostants.COLOR_9B938F, SchemeCostants.COLOR_948C88, SchemeCostants.COLOR_8D8481, SchemeCostants.COLOR_867E7B, SchemeCostants.COLOR_807774, SchemeCostants.COLOR_79706E,
-			SchemeCostants.COLOR_736967, SchemeCostants.COLOR_6C6260, SchemeCostants.COLOR_665C51, SchemeCostants.COLOR_5F5654, SchemeCostants.COLOR_59504E),
+	GRAY_WARM20("GrayWarm20", "dcd4d0d4ccc8cdc4c0c5bdb9beb6b2b7afabb0a7a4a9a09da299969b938f948c888d8481867e7b80777479706e7369676c6260665c515f565459504e"),
 	/**
 	 * Color scheme name "BlueTeal20" - <span style="background-color:#bce4d8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#aedcd5; border-style: solid;
@@ -783,9 +751,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#2c5985;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	BLUE_TEAL20("BlueTeal20", SchemeCostants.COLOR_BCE4D8, SchemeCostants.COLOR_AEDCD5, SchemeCostants.COLOR_A1D5D2, SchemeCostants.COLOR_95CECF, SchemeCostants.COLOR_89C8CC, SchemeCostants.COLOR_7EC1CA, SchemeCostants.COLOR_72BAC6,
-			SchemeCostants.COLOR_66B2C2, SchemeCostants.COLOR_59ACBE, SchemeCostants.COLOR_4BA5BA, SchemeCostants.COLOR_419EB6, SchemeCostants.COLOR_3B96B2, SchemeCostants.COLOR_358EAD, SchemeCostants.COLOR_3586A7, SchemeCostants.COLOR_347EA1,
-			SchemeCostants.COLOR_32779B, SchemeCostants.COLOR_316F96, SchemeCostants.COLOR_2F6790, SchemeCostants.COLOR_2D608A, SchemeCostants.COLOR_2C5985),
+	BLUE_TEAL20("BlueTeal20", "bce4d8aedcd5a1d5d295cecf89c8cc7ec1ca72bac666b2c259acbe4ba5ba419eb63b96b2358ead3586a7347ea132779b316f962f67902d608a2c5985"),
 	/**
 	 * Color scheme name "OrangeGold20" - <span style="background-color:#f4d166; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f6c760; border-style: solid;
@@ -813,9 +779,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9e3a26;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	ORANGE_GOLD20("OrangeGold20", SchemeCostants.COLOR_F4D166, SchemeCostants.COLOR_F6C760, SchemeCostants.COLOR_F8BC58, SchemeCostants.COLOR_F8B252, SchemeCostants.COLOR_F7A84A, SchemeCostants.COLOR_F69E41, SchemeCostants.COLOR_F49538,
-			SchemeCostants.COLOR_F38B2F, SchemeCostants.COLOR_F28026, SchemeCostants.COLOR_F0751E, SchemeCostants.COLOR_EB6C1C, SchemeCostants.COLOR_E4641E, SchemeCostants.COLOR_DE5D1F, SchemeCostants.COLOR_D75521, SchemeCostants.COLOR_CF4F22,
-			SchemeCostants.COLOR_C64A22, SchemeCostants.COLOR_BC4623, SchemeCostants.COLOR_B24223, SchemeCostants.COLOR_A83E24, SchemeCostants.COLOR_9E3A26),
+	ORANGE_GOLD20("OrangeGold20", "f4d166f6c760f8bc58f8b252f7a84af69e41f49538f38b2ff28026f0751eeb6c1ce4641ede5d1fd75521cf4f22c64a22bc4623b24223a83e249e3a26"),
 	/**
 	 * Color scheme name "GreenGold20" - <span style="background-color:#f4d166; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e3cd62; border-style: solid;
@@ -843,9 +807,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#146c36;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	GREEN_GOLD20("GreenGold20", SchemeCostants.COLOR_F4D166, SchemeCostants.COLOR_E3CD62, SchemeCostants.COLOR_D3C95F, SchemeCostants.COLOR_C3C55D, SchemeCostants.COLOR_B2C25B, SchemeCostants.COLOR_A3BD5A, SchemeCostants.COLOR_93B958,
-			SchemeCostants.COLOR_84B457, SchemeCostants.COLOR_76AF56, SchemeCostants.COLOR_67A956, SchemeCostants.COLOR_5AA355, SchemeCostants.COLOR_4F9E53, SchemeCostants.COLOR_479751, SchemeCostants.COLOR_40914F, SchemeCostants.COLOR_3A8A4D,
-			SchemeCostants.COLOR_34844A, SchemeCostants.COLOR_2D7D45, SchemeCostants.COLOR_257740, SchemeCostants.COLOR_1C713B, SchemeCostants.COLOR_146C36),
+	GREEN_GOLD20("GreenGold20", "f4d166e3cd62d3c95fc3c55db2c25ba3bd5a93b95884b45776af5667a9565aa3554f9e5347975140914f3a8a4d34844a2d7d452577401c713b146c36"),
 	/**
 	 * Color scheme name "RedGold21" - <span style="background-color:#f4d166; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f5c75f; border-style: solid;
@@ -874,9 +836,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#b71d3e; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	RED_GOLD21("RedGold21", SchemeCostants.COLOR_F4D166, SchemeCostants.COLOR_F5C75F, SchemeCostants.COLOR_F6BC58, SchemeCostants.COLOR_F7B254, SchemeCostants.COLOR_F9A750, SchemeCostants.COLOR_FA9D4F, SchemeCostants.COLOR_FA9D4F,
-			SchemeCostants.COLOR_FB934D, SchemeCostants.COLOR_F7894B, SchemeCostants.COLOR_F47F4A, SchemeCostants.COLOR_F0774A, SchemeCostants.COLOR_EB6349, SchemeCostants.COLOR_E66549, SchemeCostants.COLOR_E15C48, SchemeCostants.COLOR_DC5447,
-			SchemeCostants.COLOR_D64C45, SchemeCostants.COLOR_D04344, SchemeCostants.COLOR_CA3A42, SchemeCostants.COLOR_C43141, SchemeCostants.COLOR_BD273F, SchemeCostants.COLOR_B71D3E),
+	RED_GOLD21("RedGold21", "f4d166f5c75ff6bc58f7b254f9a750fa9d4ffa9d4ffb934df7894bf47f4af0774aeb6349e66549e15c48dc5447d64c45d04344ca3a42c43141bd273fb71d3e"),
 	/**
 	 * Color scheme name "Classic10" - <span style="background-color:#1f77b4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ff7f0e; border-style: solid;
@@ -892,8 +852,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#17becf; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC10("Classic10", SchemeCostants.COLOR_1F77B4, SchemeCostants.COLOR_FF7F0E, SchemeCostants.COLOR_2CA02C, SchemeCostants.COLOR_D62728, SchemeCostants.COLOR_9467BD, SchemeCostants.COLOR_8C564B, SchemeCostants.COLOR_E377C2,
-			SchemeCostants.COLOR_7F7F7F, SchemeCostants.COLOR_BCBD22, SchemeCostants.COLOR_17BECF),
+	CLASSIC10("Classic10", "1f77b4ff7f0e2ca02cd627289467bd8c564be377c27f7f7fbcbd2217becf"),
 	/**
 	 * Color scheme name "ClassicMedium10" - <span style="background-color:#729ece; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ff9e4a; border-style: solid;
@@ -909,8 +868,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#6dccda; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_MEDIUM10("ClassicMedium10", SchemeCostants.COLOR_729ECE, SchemeCostants.COLOR_FF9E4A, SchemeCostants.COLOR_67BF5C, SchemeCostants.COLOR_ED665D, SchemeCostants.COLOR_AD8BC9, SchemeCostants.COLOR_A8786E, SchemeCostants.COLOR_ED97CA,
-			SchemeCostants.COLOR_A2A2A2, SchemeCostants.COLOR_CDCC5D, SchemeCostants.COLOR_6DCCDA),
+	CLASSIC_MEDIUM10("ClassicMedium10", "729eceff9e4a67bf5ced665dad8bc9a8786eed97caa2a2a2cdcc5d6dccda"),
 	/**
 	 * Color scheme name "ClassicLight10" - <span style="background-color:#aec7e8; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ffbb78; border-style: solid;
@@ -926,8 +884,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9edae5; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_LIGHT10("ClassicLight10", SchemeCostants.COLOR_AEC7E8, SchemeCostants.COLOR_FFBB78, SchemeCostants.COLOR_98DF8A, SchemeCostants.COLOR_FF9896, SchemeCostants.COLOR_C5B0D5, SchemeCostants.COLOR_C49C94, SchemeCostants.COLOR_F7B6D2,
-			SchemeCostants.COLOR_C7C7C7, SchemeCostants.COLOR_DBDB8D, SchemeCostants.COLOR_9EDAE5),
+	CLASSIC_LIGHT10("ClassicLight10", "aec7e8ffbb7898df8aff9896c5b0d5c49c94f7b6d2c7c7c7dbdb8d9edae5"),
 	/**
 	 * Color scheme name "Classic20" - <span style="background-color:#1f77b4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#aec7e8; border-style: solid;
@@ -955,9 +912,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#9edae5;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC20("Classic20", SchemeCostants.COLOR_1F77B4, SchemeCostants.COLOR_AEC7E8, SchemeCostants.COLOR_FF7F0E, SchemeCostants.COLOR_FFBB78, SchemeCostants.COLOR_2CA02C, SchemeCostants.COLOR_98DF8A, SchemeCostants.COLOR_D62728,
-			SchemeCostants.COLOR_FF9896, SchemeCostants.COLOR_9467BD, SchemeCostants.COLOR_C5B0D5, SchemeCostants.COLOR_8C564B, SchemeCostants.COLOR_C49C94, SchemeCostants.COLOR_E377C2, SchemeCostants.COLOR_F7B6D2, SchemeCostants.COLOR_7F7F7F,
-			SchemeCostants.COLOR_C7C7C7, SchemeCostants.COLOR_BCBD22, SchemeCostants.COLOR_DBDB8D, SchemeCostants.COLOR_17BECF, SchemeCostants.COLOR_9EDAE5),
+	CLASSIC20("Classic20", "1f77b4aec7e8ff7f0effbb782ca02c98df8ad62728ff98969467bdc5b0d58c564bc49c94e377c2f7b6d27f7f7fc7c7c7bcbd22dbdb8d17becf9edae5"),
 	/**
 	 * Color scheme name "ClassicGray5" - <span style="background-color:#60636a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a5acaf; border-style: solid;
@@ -966,7 +921,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#cfcfcf; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_GRAY5("ClassicGray5", SchemeCostants.COLOR_60636A, SchemeCostants.COLOR_A5ACAF, SchemeCostants.COLOR_414451, SchemeCostants.COLOR_8F8782, SchemeCostants.COLOR_CFCFCF),
+	CLASSIC_GRAY5("ClassicGray5", "60636aa5acaf4144518f8782cfcfcf"),
 	/**
 	 * Color scheme name "ClassicColorBlind10" - <span style="background-color:#006ba4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ff800e; border-style: solid;
@@ -982,8 +937,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#cfcfcf; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_COLOR_BLIND10("ClassicColorBlind10", SchemeCostants.COLOR_006BA4, SchemeCostants.COLOR_FF800E, SchemeCostants.COLOR_ABABAB, SchemeCostants.COLOR_595959, SchemeCostants.COLOR_5F9ED1, SchemeCostants.COLOR_C85200, SchemeCostants.COLOR_898989,
-			SchemeCostants.COLOR_A2C8EC, SchemeCostants.COLOR_FFBC79, SchemeCostants.COLOR_CFCFCF),
+	CLASSIC_COLOR_BLIND10("ClassicColorBlind10", "006ba4ff800eababab5959595f9ed1c85200898989a2c8ecffbc79cfcfcf"),
 	/**
 	 * Color scheme name "ClassicTrafficLight9" - <span style="background-color:#b10318; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dba13a; border-style: solid;
@@ -997,8 +951,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#9fcd99; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_TRAFFIC_LIGHT9("ClassicTrafficLight9", SchemeCostants.COLOR_B10318, SchemeCostants.COLOR_DBA13A, SchemeCostants.COLOR_309343, SchemeCostants.COLOR_D82526, SchemeCostants.COLOR_FFC156, SchemeCostants.COLOR_69B764, SchemeCostants.COLOR_F26C64,
-			SchemeCostants.COLOR_FFDD71, SchemeCostants.COLOR_9FCD99),
+	CLASSIC_TRAFFIC_LIGHT9("ClassicTrafficLight9", "b10318dba13a309343d82526ffc15669b764f26c64ffdd719fcd99"),
 	/**
 	 * Color scheme name "ClassicPurpleGray6" - <span style="background-color:#7b66d2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dc5fbd; border-style: solid;
@@ -1009,7 +962,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#d7d5c5; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_PURPLE_GRAY6("ClassicPurpleGray6", SchemeCostants.COLOR_7B66D2, SchemeCostants.COLOR_DC5FBD, SchemeCostants.COLOR_94917B, SchemeCostants.COLOR_995688, SchemeCostants.COLOR_D098EE, SchemeCostants.COLOR_D7D5C5),
+	CLASSIC_PURPLE_GRAY6("ClassicPurpleGray6", "7b66d2dc5fbd94917b995688d098eed7d5c5"),
 	/**
 	 * Color scheme name "ClassicPurpleGray12" - <span style="background-color:#7b66d2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a699e8; border-style: solid;
@@ -1027,8 +980,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#dbd4c5;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_PURPLE_GRAY12("ClassicPurpleGray12", SchemeCostants.COLOR_7B66D2, SchemeCostants.COLOR_A699E8, SchemeCostants.COLOR_DC5FBD, SchemeCostants.COLOR_FFC0DA, SchemeCostants.COLOR_5F5A41, SchemeCostants.COLOR_B4B19B, SchemeCostants.COLOR_995688,
-			SchemeCostants.COLOR_D898BA, SchemeCostants.COLOR_AB6AD5, SchemeCostants.COLOR_D098EE, SchemeCostants.COLOR_8B7C6E, SchemeCostants.COLOR_DBD4C5),
+	CLASSIC_PURPLE_GRAY12("ClassicPurpleGray12", "7b66d2a699e8dc5fbdffc0da5f5a41b4b19b995688d898baab6ad5d098ee8b7c6edbd4c5"),
 	/**
 	 * Color scheme name "ClassicGreenOrange6" - <span style="background-color:#32a251; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ff7f0f; border-style: solid;
@@ -1039,7 +991,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b85a0d; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_GREEN_ORANGE6("ClassicGreenOrange6", SchemeCostants.COLOR_32A251, SchemeCostants.COLOR_FF7F0F, SchemeCostants.COLOR_3CB7CC, SchemeCostants.COLOR_FFD94A, SchemeCostants.COLOR_39737C, SchemeCostants.COLOR_B85A0D),
+	CLASSIC_GREEN_ORANGE6("ClassicGreenOrange6", "32a251ff7f0f3cb7ccffd94a39737cb85a0d"),
 	/**
 	 * Color scheme name "ClassicGreenOrange12" - <span style="background-color:#32a251; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#acd98d; border-style: solid;
@@ -1057,8 +1009,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#ccc94d;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_GREEN_ORANGE12("ClassicGreenOrange12", SchemeCostants.COLOR_32A251, SchemeCostants.COLOR_ACD98D, SchemeCostants.COLOR_FF7F0F, SchemeCostants.COLOR_FFB977, SchemeCostants.COLOR_3CB7CC, SchemeCostants.COLOR_98D9E4, SchemeCostants.COLOR_B85A0D,
-			SchemeCostants.COLOR_FFD94A, SchemeCostants.COLOR_39737C, SchemeCostants.COLOR_86B4A9, SchemeCostants.COLOR_82853B, SchemeCostants.COLOR_CCC94D),
+	CLASSIC_GREEN_ORANGE12("ClassicGreenOrange12", "32a251acd98dff7f0fffb9773cb7cc98d9e4b85a0dffd94a39737c86b4a982853bccc94d"),
 	/**
 	 * Color scheme name "ClassicBlueRed6" - <span style="background-color:#2c69b0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f02720; border-style: solid;
@@ -1069,7 +1020,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#e9c39b; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_BLUE_RED6("ClassicBlueRed6", SchemeCostants.COLOR_2C69B0, SchemeCostants.COLOR_F02720, SchemeCostants.COLOR_AC613C, SchemeCostants.COLOR_6BA3D6, SchemeCostants.COLOR_EA6B73, SchemeCostants.COLOR_E9C39B),
+	CLASSIC_BLUE_RED6("ClassicBlueRed6", "2c69b0f02720ac613c6ba3d6ea6b73e9c39b"),
 	/**
 	 * Color scheme name "ClassicBlueRed12" - <span style="background-color:#2c69b0; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b5c8e2; border-style: solid;
@@ -1087,8 +1038,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f4737a;
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_BLUE_RED12("ClassicBlueRed12", SchemeCostants.COLOR_2C69B0, SchemeCostants.COLOR_B5C8E2, SchemeCostants.COLOR_F02720, SchemeCostants.COLOR_FFB6B0, SchemeCostants.COLOR_AC613C, SchemeCostants.COLOR_E9C39B, SchemeCostants.COLOR_6BA3D6,
-			SchemeCostants.COLOR_B5DFFD, SchemeCostants.COLOR_AC8763, SchemeCostants.COLOR_DDC9B4, SchemeCostants.COLOR_BD0A36, SchemeCostants.COLOR_F4737A),
+	CLASSIC_BLUE_RED12("ClassicBlueRed12", "2c69b0b5c8e2f02720ffb6b0ac613ce9c39b6ba3d6b5dffdac8763ddc9b4bd0a36f4737a"),
 	/**
 	 * Color scheme name "ClassicCyclic13" - <span style="background-color:#1f83b4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#12a2a8; border-style: solid;
@@ -1107,8 +1057,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#6f63bb; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_CYCLIC13("ClassicCyclic13", SchemeCostants.COLOR_1F83B4, SchemeCostants.COLOR_12A2A8, SchemeCostants.COLOR_2CA030, SchemeCostants.COLOR_78A641, SchemeCostants.COLOR_BCBD22, SchemeCostants.COLOR_FFBF50, SchemeCostants.COLOR_FFAA0E,
-			SchemeCostants.COLOR_FF7F0E, SchemeCostants.COLOR_D63A3A, SchemeCostants.COLOR_C7519C, SchemeCostants.COLOR_BA43B4, SchemeCostants.COLOR_8A60B0, SchemeCostants.COLOR_6F63BB),
+	CLASSIC_CYCLIC13("ClassicCyclic13", "1f83b412a2a82ca03078a641bcbd22ffbf50ffaa0eff7f0ed63a3ac7519cba43b48a60b06f63bb"),
 	/**
 	 * Color scheme name "ClassicGreen7" - <span style="background-color:#bccfb4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#94bb83; border-style: solid;
@@ -1120,7 +1069,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#09622a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_GREEN7("ClassicGreen7", SchemeCostants.COLOR_BCCFB4, SchemeCostants.COLOR_94BB83, SchemeCostants.COLOR_69A761, SchemeCostants.COLOR_339444, SchemeCostants.COLOR_27823B, SchemeCostants.COLOR_1A7232, SchemeCostants.COLOR_09622A),
+	CLASSIC_GREEN7("ClassicGreen7", "bccfb494bb8369a76133944427823b1a723209622a"),
 	/**
 	 * Color scheme name "ClassicGray13" - <span style="background-color:#c3c3c3; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b2b2b2; border-style: solid;
@@ -1139,8 +1088,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#1e1e1e; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_GRAY13("ClassicGray13", SchemeCostants.COLOR_C3C3C3, SchemeCostants.COLOR_B2B2B2, SchemeCostants.COLOR_A2A2A2, SchemeCostants.COLOR_929292, SchemeCostants.COLOR_838383, SchemeCostants.COLOR_747474, SchemeCostants.COLOR_666666,
-			SchemeCostants.COLOR_585858, SchemeCostants.COLOR_4B4B4B, SchemeCostants.COLOR_3F3F3F, SchemeCostants.COLOR_333333, SchemeCostants.COLOR_282828, SchemeCostants.COLOR_1E1E1E),
+	CLASSIC_GRAY13("ClassicGray13", "c3c3c3b2b2b2a2a2a29292928383837474746666665858584b4b4b3f3f3f3333332828281e1e1e"),
 	/**
 	 * Color scheme name "ClassicBlue7" - <span style="background-color:#b4d4da; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7bc8e2; border-style: solid;
@@ -1152,7 +1100,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#26456e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_BLUE7("ClassicBlue7", SchemeCostants.COLOR_B4D4DA, SchemeCostants.COLOR_7BC8E2, SchemeCostants.COLOR_67ADD4, SchemeCostants.COLOR_3A87B7, SchemeCostants.COLOR_1C73B1, SchemeCostants.COLOR_1C5998, SchemeCostants.COLOR_26456E),
+	CLASSIC_BLUE7("ClassicBlue7", "b4d4da7bc8e267add43a87b71c73b11c599826456e"),
 	/**
 	 * Color scheme name "ClassicRed9" - <span style="background-color:#eac0bd; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f89a90; border-style: solid;
@@ -1166,8 +1114,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#9c0824; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED9("ClassicRed9", SchemeCostants.COLOR_EAC0BD, SchemeCostants.COLOR_F89A90, SchemeCostants.COLOR_F57667, SchemeCostants.COLOR_E35745, SchemeCostants.COLOR_D8392C, SchemeCostants.COLOR_CF1719, SchemeCostants.COLOR_C21417,
-			SchemeCostants.COLOR_B10C1D, SchemeCostants.COLOR_9C0824),
+	CLASSIC_RED9("ClassicRed9", "eac0bdf89a90f57667e35745d8392ccf1719c21417b10c1d9c0824"),
 	/**
 	 * Color scheme name "ClassicOrange7" - <span style="background-color:#f0c294; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fdab67; border-style: solid;
@@ -1179,7 +1126,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#7b3014; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_ORANGE7("ClassicOrange7", SchemeCostants.COLOR_F0C294, SchemeCostants.COLOR_FDAB67, SchemeCostants.COLOR_FD8938, SchemeCostants.COLOR_F06511, SchemeCostants.COLOR_D74401, SchemeCostants.COLOR_A33202, SchemeCostants.COLOR_7B3014),
+	CLASSIC_ORANGE7("ClassicOrange7", "f0c294fdab67fd8938f06511d74401a332027b3014"),
 	/**
 	 * Color scheme name "ClassicAreaRed11" - <span style="background-color:#f5cac7; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fbb3ab; border-style: solid;
@@ -1196,8 +1143,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bd1100; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_AREA_RED11("ClassicAreaRed11", SchemeCostants.COLOR_F5CAC7, SchemeCostants.COLOR_FBB3AB, SchemeCostants.COLOR_FD9C8F, SchemeCostants.COLOR_FE8B7A, SchemeCostants.COLOR_FD7864, SchemeCostants.COLOR_F46B55, SchemeCostants.COLOR_EA5E45,
-			SchemeCostants.COLOR_E04E35, SchemeCostants.COLOR_D43E25, SchemeCostants.COLOR_C92B14, SchemeCostants.COLOR_BD1100),
+	CLASSIC_AREA_RED11("ClassicAreaRed11", "f5cac7fbb3abfd9c8ffe8b7afd7864f46b55ea5e45e04e35d43e25c92b14bd1100"),
 	/**
 	 * Color scheme name "ClassicAreaGreen11" - <span style="background-color:#dbe8b4; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c3e394; border-style: solid;
@@ -1214,8 +1160,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#3c8200; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_AREA_GREEN11("ClassicAreaGreen11", SchemeCostants.COLOR_DBE8B4, SchemeCostants.COLOR_C3E394, SchemeCostants.COLOR_ACDC7A, SchemeCostants.COLOR_9AD26D, SchemeCostants.COLOR_8AC765, SchemeCostants.COLOR_7ABC5F, SchemeCostants.COLOR_6CAE59,
-			SchemeCostants.COLOR_60A24D, SchemeCostants.COLOR_569735, SchemeCostants.COLOR_4A8C1C, SchemeCostants.COLOR_3C8200),
+	CLASSIC_AREA_GREEN11("ClassicAreaGreen11", "dbe8b4c3e394acdc7a9ad26d8ac7657abc5f6cae5960a24d5697354a8c1c3c8200"),
 	/**
 	 * Color scheme name "ClassicAreaBrown11" - <span style="background-color:#f3e0c2; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#f6d29c; border-style: solid;
@@ -1232,8 +1177,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bb5137; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_AREA_BROWN11("ClassicAreaBrown11", SchemeCostants.COLOR_F3E0C2, SchemeCostants.COLOR_F6D29C, SchemeCostants.COLOR_F7C577, SchemeCostants.COLOR_F0B763, SchemeCostants.COLOR_E4AA63, SchemeCostants.COLOR_D89C63, SchemeCostants.COLOR_CC8F63,
-			SchemeCostants.COLOR_C08262, SchemeCostants.COLOR_BB7359, SchemeCostants.COLOR_BB6348, SchemeCostants.COLOR_BB5137),
+	CLASSIC_AREA_BROWN11("ClassicAreaBrown11", "f3e0c2f6d29cf7c577f0b763e4aa63d89c63cc8f63c08262bb7359bb6348bb5137"),
 	/**
 	 * Color scheme name "ClassicRedGreen11" - <span style="background-color:#9c0824; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bd1316; border-style: solid;
@@ -1250,8 +1194,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#09622a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_GREEN11("ClassicRedGreen11", SchemeCostants.COLOR_9C0824, SchemeCostants.COLOR_BD1316, SchemeCostants.COLOR_D11719, SchemeCostants.COLOR_DF513F, SchemeCostants.COLOR_FC8375, SchemeCostants.COLOR_CACACA, SchemeCostants.COLOR_A2C18F,
-			SchemeCostants.COLOR_69A761, SchemeCostants.COLOR_2F8E41, SchemeCostants.COLOR_1E7735, SchemeCostants.COLOR_09622A),
+	CLASSIC_RED_GREEN11("ClassicRedGreen11", "9c0824bd1316d11719df513ffc8375cacacaa2c18f69a7612f8e411e773509622a"),
 	/**
 	 * Color scheme name "ClassicRedBlue11" - <span style="background-color:#9c0824; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bd1316; border-style: solid;
@@ -1268,8 +1211,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#26456e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_BLUE11("ClassicRedBlue11", SchemeCostants.COLOR_9C0824, SchemeCostants.COLOR_BD1316, SchemeCostants.COLOR_D11719, SchemeCostants.COLOR_DF513F, SchemeCostants.COLOR_FC8375, SchemeCostants.COLOR_CACACA, SchemeCostants.COLOR_67ADD4,
-			SchemeCostants.COLOR_3A87B7, SchemeCostants.COLOR_1C73B1, SchemeCostants.COLOR_1C5998, SchemeCostants.COLOR_26456E),
+	CLASSIC_RED_BLUE11("ClassicRedBlue11", "9c0824bd1316d11719df513ffc8375cacaca67add43a87b71c73b11c599826456e"),
 	/**
 	 * Color scheme name "ClassicRedBlack11" - <span style="background-color:#9c0824; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#bd1316; border-style: solid;
@@ -1286,8 +1228,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1e1e1e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_BLACK11("ClassicRedBlack11", SchemeCostants.COLOR_9C0824, SchemeCostants.COLOR_BD1316, SchemeCostants.COLOR_D11719, SchemeCostants.COLOR_DF513F, SchemeCostants.COLOR_FC8375, SchemeCostants.COLOR_CACACA, SchemeCostants.COLOR_9B9B9B,
-			SchemeCostants.COLOR_777777, SchemeCostants.COLOR_565656, SchemeCostants.COLOR_383838, SchemeCostants.COLOR_1E1E1E),
+	CLASSIC_RED_BLACK11("ClassicRedBlack11", "9c0824bd1316d11719df513ffc8375cacaca9b9b9b7777775656563838381e1e1e"),
 	/**
 	 * Color scheme name "ClassicAreaRedGreen21" - <span style="background-color:#bd1100; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c82912; border-style: solid;
@@ -1316,9 +1257,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#4a8c1c; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_AREA_RED_GREEN21("ClassicAreaRedGreen21", SchemeCostants.COLOR_BD1100, SchemeCostants.COLOR_C82912, SchemeCostants.COLOR_D23A21, SchemeCostants.COLOR_DC4930, SchemeCostants.COLOR_E6583E, SchemeCostants.COLOR_EF654D,
-			SchemeCostants.COLOR_F7705B, SchemeCostants.COLOR_FD7E6B, SchemeCostants.COLOR_FE8E7E, SchemeCostants.COLOR_FCA294, SchemeCostants.COLOR_E9DABE, SchemeCostants.COLOR_C7E298, SchemeCostants.COLOR_B1DE7F, SchemeCostants.COLOR_A0D571,
-			SchemeCostants.COLOR_90CB68, SchemeCostants.COLOR_82C162, SchemeCostants.COLOR_75B65D, SchemeCostants.COLOR_69AA56, SchemeCostants.COLOR_5EA049, SchemeCostants.COLOR_559633, SchemeCostants.COLOR_4A8C1C),
+	CLASSIC_AREA_RED_GREEN21("ClassicAreaRedGreen21", "bd1100c82912d23a21dc4930e6583eef654df7705bfd7e6bfe8e7efca294e9dabec7e298b1de7fa0d57190cb6882c16275b65d69aa565ea0495596334a8c1c"),
 	/**
 	 * Color scheme name "ClassicOrangeBlue13" - <span style="background-color:#7b3014; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a33202; border-style: solid;
@@ -1337,8 +1276,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style=
 	 * "background-color:#26456e; border-style: solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_ORANGE_BLUE13("ClassicOrangeBlue13", SchemeCostants.COLOR_7B3014, SchemeCostants.COLOR_A33202, SchemeCostants.COLOR_D74401, SchemeCostants.COLOR_F06511, SchemeCostants.COLOR_FD8938, SchemeCostants.COLOR_FDAB67, SchemeCostants.COLOR_CACACA,
-			SchemeCostants.COLOR_7BC8E2, SchemeCostants.COLOR_67ADD4, SchemeCostants.COLOR_3A87B7, SchemeCostants.COLOR_1C73B1, SchemeCostants.COLOR_1C5998, SchemeCostants.COLOR_26456E),
+	CLASSIC_ORANGE_BLUE13("ClassicOrangeBlue13", "7b3014a33202d74401f06511fd8938fdab67cacaca7bc8e267add43a87b71c73b11c599826456e"),
 	/**
 	 * Color scheme name "ClassicGreenBlue11" - <span style="background-color:#09622a; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1e7735; border-style: solid;
@@ -1355,8 +1293,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#26456e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_GREEN_BLUE11("ClassicGreenBlue11", SchemeCostants.COLOR_09622A, SchemeCostants.COLOR_1E7735, SchemeCostants.COLOR_2F8E41, SchemeCostants.COLOR_69A761, SchemeCostants.COLOR_A2C18F, SchemeCostants.COLOR_CACACA, SchemeCostants.COLOR_67ADD4,
-			SchemeCostants.COLOR_3A87B7, SchemeCostants.COLOR_1C73B1, SchemeCostants.COLOR_1C5998, SchemeCostants.COLOR_26456E),
+	CLASSIC_GREEN_BLUE11("ClassicGreenBlue11", "09622a1e77352f8e4169a761a2c18fcacaca67add43a87b71c73b11c599826456e"),
 	/**
 	 * Color scheme name "ClassicRedWhiteGreen11" - <span style="background-color:#9c0824; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b41f27; border-style: solid;
@@ -1373,8 +1310,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#09622a; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_WHITE_GREEN11("ClassicRedWhiteGreen11", SchemeCostants.COLOR_9C0824, SchemeCostants.COLOR_B41F27, SchemeCostants.COLOR_CC312B, SchemeCostants.COLOR_E86753, SchemeCostants.COLOR_FCB4A5, SchemeCostants.COLOR_FFFFFF,
-			SchemeCostants.COLOR_B9D7B7, SchemeCostants.COLOR_74AF72, SchemeCostants.COLOR_428F49, SchemeCostants.COLOR_297839, SchemeCostants.COLOR_09622A),
+	CLASSIC_RED_WHITE_GREEN11("ClassicRedWhiteGreen11", "9c0824b41f27cc312be86753fcb4a5ffffffb9d7b774af72428f4929783909622a"),
 	/**
 	 * Color scheme name "ClassicRedWhiteBlack11" - <span style="background-color:#9c0824; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b41f27; border-style: solid;
@@ -1391,8 +1327,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#1e1e1e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_WHITE_BLACK11("ClassicRedWhiteBlack11", SchemeCostants.COLOR_9C0824, SchemeCostants.COLOR_B41F27, SchemeCostants.COLOR_CC312B, SchemeCostants.COLOR_E86753, SchemeCostants.COLOR_FCB4A5, SchemeCostants.COLOR_FFFFFF,
-			SchemeCostants.COLOR_BFBFBF, SchemeCostants.COLOR_838383, SchemeCostants.COLOR_575757, SchemeCostants.COLOR_393939, SchemeCostants.COLOR_1E1E1E),
+	CLASSIC_RED_WHITE_BLACK11("ClassicRedWhiteBlack11", "9c0824b41f27cc312be86753fcb4a5ffffffbfbfbf8383835757573939391e1e1e"),
 	/**
 	 * Color scheme name "ClassicOrangeWhiteBlue11" - <span style="background-color:#7b3014; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#a84415; border-style: solid;
@@ -1409,8 +1344,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#26456e; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_ORANGE_WHITE_BLUE11("ClassicOrangeWhiteBlue11", SchemeCostants.COLOR_7B3014, SchemeCostants.COLOR_A84415, SchemeCostants.COLOR_D85A13, SchemeCostants.COLOR_FB8547, SchemeCostants.COLOR_FFC2A1, SchemeCostants.COLOR_FFFFFF,
-			SchemeCostants.COLOR_B7CDE2, SchemeCostants.COLOR_6A9EC5, SchemeCostants.COLOR_3679A8, SchemeCostants.COLOR_2E5F8A, SchemeCostants.COLOR_26456E),
+	CLASSIC_ORANGE_WHITE_BLUE11("ClassicOrangeWhiteBlue11", "7b3014a84415d85a13fb8547ffc2a1ffffffb7cde26a9ec53679a82e5f8a26456e"),
 	/**
 	 * Color scheme name "ClassicRedWhiteBlackLight10" -
 	 * <span style="background-color:#ffc2c5; border-style: solid; border-width:
@@ -1427,8 +1361,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c6c6c6; border-style: solid;
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_WHITE_BLACK_LIGHT10("ClassicRedWhiteBlackLight10", SchemeCostants.COLOR_FFC2C5, SchemeCostants.COLOR_FFD1D3, SchemeCostants.COLOR_FFE0E1, SchemeCostants.COLOR_FFF0F0, SchemeCostants.COLOR_FFFFFF, SchemeCostants.COLOR_F3F3F3,
-			SchemeCostants.COLOR_E8E8E8, SchemeCostants.COLOR_DDDDDD, SchemeCostants.COLOR_D1D1D1, SchemeCostants.COLOR_C6C6C6),
+	CLASSIC_RED_WHITE_BLACK_LIGHT10("ClassicRedWhiteBlackLight10", "ffc2c5ffd1d3ffe0e1fff0f0fffffff3f3f3e8e8e8ddddddd1d1d1c6c6c6"),
 	/**
 	 * Color scheme name "ClassicOrangeWhiteBlueLight11" -
 	 * <span style="background-color:#ffcc9e; border-style: solid; border-width:
@@ -1446,8 +1379,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#c4d8f3; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_ORANGE_WHITE_BLUE_LIGHT11("ClassicOrangeWhiteBlueLight11", SchemeCostants.COLOR_FFCC9E, SchemeCostants.COLOR_FFD6B1, SchemeCostants.COLOR_FFE0C5, SchemeCostants.COLOR_FFEAD8, SchemeCostants.COLOR_FFF5EB, SchemeCostants.COLOR_FFFFFF,
-			SchemeCostants.COLOR_F3F7FD, SchemeCostants.COLOR_E8EFFA, SchemeCostants.COLOR_DCE8F8, SchemeCostants.COLOR_D0E0F6, SchemeCostants.COLOR_C4D8F3),
+	CLASSIC_ORANGE_WHITE_BLUE_LIGHT11("ClassicOrangeWhiteBlueLight11", "ffcc9effd6b1ffe0c5ffead8fff5ebfffffff3f7fde8effadce8f8d0e0f6c4d8f3"),
 	/**
 	 * Color scheme name "ClassicRedWhiteGreenLight11" -
 	 * <span style="background-color:#ffb2b6; border-style: solid; border-width:
@@ -1465,8 +1397,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b7e6a7; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_WHITE_GREEN_LIGHT11("ClassicRedWhiteGreenLight11", SchemeCostants.COLOR_FFB2B6, SchemeCostants.COLOR_FFC2C5, SchemeCostants.COLOR_FFD1D3, SchemeCostants.COLOR_FFE0E1, SchemeCostants.COLOR_FFF0F0, SchemeCostants.COLOR_FFFFFF,
-			SchemeCostants.COLOR_F1FAED, SchemeCostants.COLOR_E3F5DB, SchemeCostants.COLOR_D5F0CA, SchemeCostants.COLOR_C6EBB8, SchemeCostants.COLOR_B7E6A7),
+	CLASSIC_RED_WHITE_GREEN_LIGHT11("ClassicRedWhiteGreenLight11", "ffb2b6ffc2c5ffd1d3ffe0e1fff0f0fffffff1faede3f5dbd5f0cac6ebb8b7e6a7"),
 	/**
 	 * Color scheme name "ClassicRedGreenLight11" - <span style="background-color:#ffb2b6; border-style: solid; border-width:
 	 * 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#fcbdc0; border-style: solid;
@@ -1483,8 +1414,7 @@ public enum TableauScheme implements IsEnumeratedScheme
 	 * border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span><span style="background-color:#b7e6a7; border-style:
 	 * solid; border-width: 1px;">&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;</span>
 	 */
-	CLASSIC_RED_GREEN_LIGHT11("ClassicRedGreenLight11", SchemeCostants.COLOR_FFB2B6, SchemeCostants.COLOR_FCBDC0, SchemeCostants.COLOR_F8C7C9, SchemeCostants.COLOR_F2D1D2, SchemeCostants.COLOR_ECDBDC, SchemeCostants.COLOR_E5E5E5,
-			SchemeCostants.COLOR_DDE6D9, SchemeCostants.COLOR_D4E6CC, SchemeCostants.COLOR_CAE6C0, SchemeCostants.COLOR_C1E6B4, SchemeCostants.COLOR_B7E6A7);
+	CLASSIC_RED_GREEN_LIGHT11("ClassicRedGreenLight11", "ffb2b6fcbdc0f8c7c9f2d1d2ecdbdce5e5e5dde6d9d4e6cccae6c0c1e6b4b7e6a7");
 
 	// Category name used to build the label to configure plugin.
 	private static final String CATEGORY = "tableau";
@@ -1492,18 +1422,15 @@ public enum TableauScheme implements IsEnumeratedScheme
 	private final EnumeratedScheme scheme;
 
 	/**
-	 * Builds a scheme using argument as list of colors in HEX format.
+	 * Builds a scheme using argument as packed colors, 6 HEX digits (RRGGBB) for each color, which will be decoded only when
+	 * requested.
 	 *
 	 * @param value value of property name
-	 * @param hexColors list of colors in HEX format
-	 */
-	private TableauScheme(String value, String... hexColors) {
-		scheme = new EnumeratedScheme(CATEGORY, value);
-		// scans all hex colors and creates ISCOLOR
-		for (String color : hexColors) {
-			// and adds them into the list
-			scheme.add(ColorBuilder.parse(color));
-		}
+	 * @param packedColors all colors of the scheme, 6 HEX digits (RRGGBB) for each color
+	 */
+	private TableauScheme(String value, String packedColors) {
+		// colors are decoded when requested the first time
+		scheme = new EnumeratedScheme(CATEGORY, value, packedColors);
 	}
 
 	/*
@@ -27,12 +27,19 @@ import org.pepstock.charba.client.events.ChartNativeEvent;
 
 /**
  * Wrapper of scales node of CHART.JS.<br>
- * This is a wrapper of scale node of Chart (of CHART.JS).
+ * This is a wrapper of scale node of Chart (of CHART.JS).<br>
+ * The scale items are created once, at first access, and they are indexed by scale id. Being the node cached by the chart
+ * until the next layout, the items are rebuilt only after the chart has been laid out.
  * 
  * @author Andrea "Stock" Stocchero
  */
 public final class ScalesNode extends NativeObjectContainer {
 
+	// cached scale items, by scale id
+	private Map<String, ScaleItem> items = null;
+	// cached scale items, as array to scan them without any allocation
+	private ScaleItem[] itemsArray = null;
+
 	/**
 	 * Creates the item using a native java script object which contains all properties.
 	 * 
@@ -48,20 +55,28 @@ public final class ScalesNode extends NativeObjectContainer {
 	 * @return a map with all defined axis. Key is the scale ID and value is scale item.
 	 */
 	public Map<String, ScaleItem> getItems() {
-		// creates result
-		Map<String, ScaleItem> result = new HashMap<>();
-		// gets all keys
-		List<Key> keys = keys();
-		// if keys are consistent
-		if (!keys.isEmpty()) {
-			// scans all keys
-			for (Key key : keys) {
-				// loads scale item
-				result.put(key.value(), new ScaleItem(getValue(key)));
-			}
+		// loads the items if needed
+		loadItems();
+		// returns the cached unmodifiable map
+		return items;
+	}
+
+	/**
+	 * Returns the scale item by its id, otherwise <code>null</code>.
+	 * 
+	 * @param id scale id
+	 * @return the scale item by its id, otherwise <code>null</code>
+	 */
+	public ScaleItem getScale(String id) {
+		// checks if argument is consistent
+		if (id != null) {
+			// loads the items if needed
+			loadItems();
+			// gets by id
+			return items.get(id);
 		}
-		// returns a unmodifiable map
-		return Collections.unmodifiableMap(result);
+		// if here, id is not consistent
+		return null;
 	}
 
 	/**
@@ -71,20 +86,14 @@ public final class ScalesNode extends NativeObjectContainer {
 	 * @return the scale item if the chart event is inside of one of scales, otherwise <code>null</code>
 	 */
 	public ScaleItem getScaleIsInside(ChartNativeEvent event) {
-		// gets all keys
-		List<Key> keys = keys();
-		// if keys are consistent
-		if (!keys.isEmpty()) {
-			// scans all keys
-			for (Key key : keys) {
-				// loads scale item
-				ScaleItem scaleItem = new ScaleItem(getValue(key));
-				// checks if event is inside
-				if (scaleItem.isInside(event)) {
-					// returns scale item
-					return scaleItem;
-				}
-
+		// loads the items if needed
+		loadItems();
+		// scans all cached items
+		for (ScaleItem scaleItem : itemsArray) {
+			// checks if event is inside
+			if (scaleItem.isInside(event)) {
+				// returns scale item
+				return scaleItem;
 			}
 		}
 		// if here not scales or event not inside of scale box
@@ -100,4 +109,32 @@ public final class ScalesNode extends NativeObjectContainer {
 	public boolean isInside(ChartNativeEvent event) {
 		return getScaleIsInside(event) != null;
 	}
+
+	/**
+	 * Creates the scale items, wrapping the scales of the native object, only if not already created.
+	 */
+	private void loadItems() {
+		// checks if items are already loaded
+		if (items != null) {
+			return;
+		}
+		// creates result
+		Map<String, ScaleItem> result = new HashMap<>();
+		// gets all keys
+		List<Key> keys = keys();
+		// creates the array
+		itemsArray = new ScaleItem[keys.size()];
+		// index of array
+		int index = 0;
+		// scans all keys
+		for (Key key : keys) {
+			// loads scale item
+			ScaleItem scaleItem = new ScaleItem(getValue(key));
+			result.put(key.value(), scaleItem);
+			itemsArray[index] = scaleItem;
+			index++;
+		}
+		// stores a unmodifiable map
+		items = Collections.unmodifiableMap(result);
+	}
 }
\ No newline at end of file
@@ -28,7 +28,10 @@ import org.pepstock.charba.client.commons.NativeObjectContainer;
  */
 public final class TooltipNode extends NativeObjectContainer {
 
-	private final TooltipModel model;
+	// wrapper of the last model read from the tooltip node
+	private TooltipModel model = null;
+	// native object of the last model read from the tooltip node
+	private NativeObject nativeModel = null;
 
 	/**
 	 * Name of properties of native object.
@@ -68,16 +71,24 @@ public final class TooltipNode extends NativeObjectContainer {
 	 */
 	public TooltipNode(NativeObject nativeObject) {
 		super(nativeObject);
-		// creates sub element
-		model = new TooltipModel(getValue(Property.MODEL));
 	}
 
 	/**
-	 * Returns the tooltip model
+	 * Returns the tooltip model.<br>
+	 * The model is read every time from the tooltip node because CHART.JS replaces it at every hovering, but the wrapper is
+	 * created again only when the model object has been replaced.
 	 * 
 	 * @return the model
 	 */
 	public TooltipModel getModel() {
+		// gets the current model
+		NativeObject currentModel = getValue(Property.MODEL);
+		// checks if the model has been replaced
+		if (model == null || currentModel != nativeModel) {
+			// stores the model and creates the wrapper
+			nativeModel = currentModel;
+			model = new TooltipModel(currentModel);
+		}
 		return model;
 	}
 
@@ -166,9 +166,9 @@ public final class LabelsOptions extends AbstractPluginCachedOptions {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the render function
-	private final CallbackProxy<ProxyRenderCallback> renderCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyRenderCallback> renderCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// callback proxy to invoke the font color function
-	private final CallbackProxy<ProxyFontColorCallback> fontColorCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyFontColorCallback> fontColorCallbackProxy = JsHelper.get().newCallbackProxy(1);
 	// render (string) callback instance
 	private RenderCallback renderCallback = null;
 	// font color callback instance
@@ -90,6 +90,12 @@ abstract class AbstractModel<P extends AbstractModel<?, ?>, D> extends NativeObj
 		this.childKey = childKey;
 		this.parent = parent;
 		this.defaultValues = defaultValues;
+		// checks if we are at root element
+		if (parent != null) {
+			// the changes of this element are counted
+			// as changes of the parent, until the root element
+			parent.trackChanges(this);
+		}
 	}
 
 	/**
@@ -112,6 +112,8 @@ public final class Plugins extends AbstractModel<Options, NoDefaults> {
 		} else {
 			// stores configuration
 			setValue(PluginIdChecker.key(pluginId), options);
+			// the changes of the plugin options are counted as changes of this element
+			trackChanges(options);
 		}
 		// checks if the node is already added to parent
 		checkAndAddToParent();
@@ -133,6 +135,10 @@ public final class Plugins extends AbstractModel<Options, NoDefaults> {
 		} else {
 			// stores configuration
 			setArrayValue(PluginIdChecker.key(pluginId), ArrayObject.fromOrNull(options));
+			// the changes of the plugin options are counted as changes of this element
+			for (T item : options) {
+				trackChanges(item);
+			}
 		}
 		// checks if the node is already added to parent
 		checkAndAddToParent();
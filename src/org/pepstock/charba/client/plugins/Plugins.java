@@ -114,6 +114,25 @@ public final class Plugins implements ConfigurationElement {
 		}
 	}
 
+	/**
+	 * Registers again the hooks implemented by the plugins, which can be changed after the chart is drawn.<br>
+	 * It is invoked before every update of the chart.
+	 * 
+	 * @param config configuration item. Added only to reduce visibility of public method.
+	 */
+	public void onChartUpdate(Configuration config) {
+		// checks if config is consistent
+		if (config == null) {
+			// otherwise do nothing
+			return;
+		}
+		// scans all plugins
+		for (WrapperPlugin entry : pluginsInstances) {
+			// registers the hooks
+			entry.registerHooks();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -133,6 +152,8 @@ public final class Plugins implements ConfigurationElement {
 			ArrayPlugin array = new ArrayPlugin();
 			// adds all java script object of the plugin wrapper
 			for (WrapperPlugin plugin : pluginsInstances) {
+				// the hooks could be changed after the plugin has been added
+				plugin.registerHooks();
 				array.push(plugin.getNativeObject());
 			}
 			// sets it to configuration object
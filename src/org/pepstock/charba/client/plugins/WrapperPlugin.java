@@ -15,8 +15,13 @@
 */
 package org.pepstock.charba.client.plugins;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.Plugin;
+import org.pepstock.charba.client.commons.JsHelper;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.items.DatasetPluginItem;
 import org.pepstock.charba.client.items.EventPluginItem;
 import org.pepstock.charba.client.items.SizeItem;
@@ -34,6 +39,8 @@ final class WrapperPlugin {
 	private final Plugin delegation;
 	// native object which will be added to chart.js
 	private final NativePlugin nativeObject;
+	// hooks currently registered to CHART.JS
+	private final Set<PluginHook> registeredHooks = EnumSet.allOf(PluginHook.class);
 
 	/**
 	 * Builds the object with plugin instance
@@ -46,6 +53,41 @@ final class WrapperPlugin {
 		// sets the plugin ID
 		nativeObject = new NativePlugin(this);
 		nativeObject.setId(delegation.getId());
+		// registers the hooks implemented by plugin
+		registerHooks();
+	}
+
+	/**
+	 * Registers to CHART.JS only the hooks implemented by the plugin, hiding the other methods of native object.<br>
+	 * It is invoked every time the chart is drawn or updated, therefore the plugin can change its hooks, and the native object is
+	 * changed only if the hooks are changed.
+	 */
+	void registerHooks() {
+		// gets the hooks implemented by plugin
+		Set<PluginHook> hooks = delegation.getHooks();
+		// checks if the hooks are already registered
+		// if not consistent, all hooks are registered
+		if (hooks == null ? registeredHooks.size() == PluginHook.values().length : registeredHooks.equals(hooks)) {
+			return;
+		}
+		// scans all hooks
+		for (PluginHook hook : PluginHook.values()) {
+			// checks if the hook is implemented
+			boolean implemented = hooks == null || hooks.contains(hook);
+			// checks if the hook is changed
+			if (implemented && !registeredHooks.contains(hook)) {
+				// shows the method of native object
+				// in this way CHART.JS finds it again
+				JsHelper.get().show(nativeObject, hook.value());
+				registeredHooks.add(hook);
+			} else if (!implemented && registeredHooks.contains(hook)) {
+				// hides the method of native object
+				// in this way CHART.JS does not find it
+				// and does not invoke it
+				JsHelper.get().hide(nativeObject, hook.value());
+				registeredHooks.remove(hook);
+			}
+		}
 	}
 
 	/**
@@ -70,7 +70,7 @@ public final class Positioner {
 	// -- CALLBACKS PROXIES ---
 	// ---------------------------
 	// callback proxy to invoke the render function
-	private final CallbackProxy<ProxyPositionerCallback> positionerCallbackProxy = JsHelper.get().newCallbackProxy();
+	private final CallbackProxy<ProxyPositionerCallback> positionerCallbackProxy = JsHelper.get().newCallbackProxy(2);
 
 	// all custom positioners
 	private final Map<String, TooltipPositioner> positioners = new HashMap<>();
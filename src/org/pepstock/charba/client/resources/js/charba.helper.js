@@ -44,6 +44,37 @@
     CharbaJsHelper.remove = function(obj, key) {
     	delete obj[key];
     }
+   /*
+	 Hides a property inherited by the prototype of a java script object, 
+	 setting an own property with the same name to undefined.
+	 
+	 @param object the object on which to hide the property.
+	 @param key the string name of the property to hide.
+    */
+    CharbaJsHelper.hide = function(obj, key) {
+    	obj[key] = undefined;
+    }
+   /*
+	 Shows a property inherited by the prototype of a java script object, previously hidden, 
+	 removing the own property with the same name.
+	 
+	 @param object the object on which to show the property.
+	 @param key the string name of the property to show.
+    */
+    CharbaJsHelper.show = function(obj, key) {
+    	delete obj[key];
+    }
+   /*
+	 Sets a property of a java script object by plain assignment, 
+	 much faster than defining it by a property descriptor.
+	 
+	 @param object the object on which to set the property.
+	 @param key the string name of the property to be set.
+	 @param value the value to be set.
+    */
+    CharbaJsHelper.setProperty = function(obj, key, value) {
+    	obj[key] = value;
+    }
     /*
 	 Returns the java script object type of a property.
 	  
@@ -64,6 +95,36 @@
     CharbaJsHelper.isArray = function(obj, key) {
 	    return Array.isArray(obj[key]);
     }    
+    /*
+	 Returns the value of an own property of java script object, only if its type is the expected one, 
+	 replacing the check of existence, the type of and the property descriptor by a single call.
+	 A property explicitly set to null returns null, unless the expected type is a primitive one (number or boolean).
+	  
+	 @param object the object on which to read the property.
+	 @param key the string name of the property to read.
+	 @param type the expected type, as returned by typeof, 'array' for arrays or 'date' for dates.
+	 @param defaultValue the value to return if the property does not exist or has got a different type.
+	 @return the value of the property or the default value
+    */
+    CharbaJsHelper.propertyByType = function(obj, key, type, defaultValue) {
+    	if (Object.prototype.hasOwnProperty.call(obj, key)) {
+    		var value = obj[key];
+    		if (value === null) {
+    			return type === 'number' || type === 'boolean' ? defaultValue : null;
+    		}
+    		var isArray = Array.isArray(value);
+    		if (type === 'array') {
+    			return isArray ? value : defaultValue;
+    		}
+    		if (type === 'date') {
+    			return value instanceof Date ? value : defaultValue;
+    		}
+    		if (!isArray && typeof value === type) {
+    			return value;
+    		}
+    	}
+    	return defaultValue;
+    }
     /*
 	 Returns a property of java script object as string.
 	  
@@ -94,6 +155,83 @@
     CharbaJsHelper.propertyAsInt = function(obj, key) {
     	return obj[key];
     }  
+    /*
+	 Returns a typed array with the numeric values of a property of all objects of an array.
+	 Dates are returned as epoch milliseconds and missing values as NaN.
+	  
+	 @param array the array of objects to read.
+	 @param key the string name of the property to read.
+	 @return a typed array of doubles
+    */
+    CharbaJsHelper.numbers = function(array, key) {
+    	var result = new Float64Array(array.length);
+    	for (var i = 0; i < array.length; i++) {
+    		var value = array[i] ? array[i][key] : undefined;
+    		result[i] = (value === null || value === undefined) ? NaN : +value;
+    	}
+    	return result;
+    }
+    /*
+	 Returns a new array with the elements of the passed array at the passed indexes.
+	  
+	 @param array the array of objects to read.
+	 @param indexes the indexes of elements to select.
+	 @param count the amount of indexes to use.
+	 @return a new array with the selected elements
+    */
+    CharbaJsHelper.select = function(array, indexes, count) {
+    	var result = new Array(count);
+    	for (var i = 0; i < count; i++) {
+    		result[i] = array[indexes[i]];
+    	}
+    	return result;
+    }
+    /*
+	 Returns a new array of objects, one for each couple of values.
+	  
+	 @param xValues the values to store by x key.
+	 @param xKey the string name of the property where to store the x values.
+	 @param yValues the values to store by y key.
+	 @param yKey the string name of the property where to store the y values.
+	 @param sort if true, the objects are sorted by x values.
+	 @return a new array of objects
+    */
+    CharbaJsHelper.points = function(xValues, xKey, yValues, yKey, sort) {
+    	var length = Math.min(xValues.length, yValues.length);
+    	var result = new Array(length);
+    	for (var i = 0; i < length; i++) {
+    		var item = {};
+    		item[xKey] = xValues[i];
+    		item[yKey] = yValues[i];
+    		result[i] = item;
+    	}
+    	if (sort) {
+    		result.sort(function(a, b) {
+    			return a[xKey] - b[xKey];
+    		});
+    	}
+    	return result;
+    }
+    /*
+	 Returns the element of an array at the given index, without creating any temporary array.
+	  
+	 @param array the array to read.
+	 @param index the index of the element to be retrieved.
+	 @return the element at the given index
+    */
+    CharbaJsHelper.getByIndex = function(array, index) {
+    	return array[index];
+    }
+    /*
+	 Sets the element of an array at the given index, without creating any temporary array.
+	  
+	 @param array the array to change.
+	 @param index the index of the element to be set.
+	 @param value the value to be stored.
+    */
+    CharbaJsHelper.setByIndex = function(array, index, value) {
+    	array[index] = value;
+    }
     /*
 	 Returns a chart native event from CHART.JS event.
 	  
@@ -134,10 +272,13 @@
     /*
 	 Creates new proxy for callback which will pass "this" environment of java script as first argument of callback
 	 method.
+	 If the amount of arguments passed by the caller is known (from 0 to 4), the proxy forwards "this" and the arguments
+	 directly, without creating any array. Otherwise it creates the arguments array at every call.
 	  
+	 @param arity amount of arguments passed by the caller, without "this". If undefined, any amount is forwarded.
 	 @return new proxy for callback.
     */
-    CharbaJsHelper.newCallbackProxy = function() {
+    CharbaJsHelper.newCallbackProxy = function(arity) {
     	/*
     		Creates an object with 2 properties.
     		CALLBACK: contains user callback implementation which must be called
@@ -147,27 +288,68 @@
 		// CALLBACK
     	obj.callback = null;
     	// PROXY
-    	obj.proxy = function() {
-    		// checks if callback is a function	
-        	if (obj.callback != null && typeof obj.callback === 'function'){
-        		// creates arguments for callbacks adding the "this" 
-				var args = Array.of(this).concat(Array.prototype.slice.call(arguments));
-				// calls CALLBACK
-				var result = obj.callback.apply(this, args);
-				if (result === null){
-					// do nothing console.log("null");
-				} else if (result === undefined){
-					//console.log("undefined");
-				} else {
-					//console.log(result);
-					return result;
-				}
-    		} else {
-    			//console.log("No caller");
-    		}
-		};
+    	// selects the proxy by the amount of arguments
+    	if (arity === 0) {
+    		obj.proxy = function() {
+    			// checks if callback is a function	
+    			if (typeof obj.callback === 'function'){
+    				return CharbaJsHelper.proxyResult(obj.callback.call(this, this));
+    			}
+    		};
+    	} else if (arity === 1) {
+    		obj.proxy = function(arg0) {
+    			// checks if callback is a function	
+    			if (typeof obj.callback === 'function'){
+    				return CharbaJsHelper.proxyResult(obj.callback.call(this, this, arg0));
+    			}
+    		};
+    	} else if (arity === 2) {
+    		obj.proxy = function(arg0, arg1) {
+    			// checks if callback is a function	
+    			if (typeof obj.callback === 'function'){
+    				return CharbaJsHelper.proxyResult(obj.callback.call(this, this, arg0, arg1));
+    			}
+    		};
+    	} else if (arity === 3) {
+    		obj.proxy = function(arg0, arg1, arg2) {
+    			// checks if callback is a function	
+    			if (typeof obj.callback === 'function'){
+    				return CharbaJsHelper.proxyResult(obj.callback.call(this, this, arg0, arg1, arg2));
+    			}
+    		};
+    	} else if (arity === 4) {
+    		obj.proxy = function(arg0, arg1, arg2, arg3) {
+    			// checks if callback is a function	
+    			if (typeof obj.callback === 'function'){
+    				return CharbaJsHelper.proxyResult(obj.callback.call(this, this, arg0, arg1, arg2, arg3));
+    			}
+    		};
+    	} else {
+	    	obj.proxy = function() {
+	    		// checks if callback is a function	
+	        	if (obj.callback != null && typeof obj.callback === 'function'){
+	        		// creates arguments for callbacks adding the "this" 
+					var args = Array.of(this).concat(Array.prototype.slice.call(arguments));
+					// calls CALLBACK
+					return CharbaJsHelper.proxyResult(obj.callback.apply(this, args));
+	    		}
+			};
+    	}
     	return obj;
     }
+    /*
+	 Returns the result of a callback to the caller of proxy. 
+	 A null result is returned as undefined.
+	  
+	 @param result the result of callback.
+	 @return the result of callback or undefined if null
+    */
+    CharbaJsHelper.proxyResult = function(result) {
+    	if (result === null){
+    		return undefined;
+    	}
+    	return result;
+    }
     /*
 		JSControllerHelper is an object with a set of static methods used as utility
 		and needed to improve JSINTEROP adoption for CHARBA controllers implementation.   